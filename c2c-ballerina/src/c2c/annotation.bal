@@ -57,7 +57,13 @@ public type PersistentVolumeClaims record {|
 public const annotation PersistentVolumeClaims PersistentVolumeClaim on source service, source function;
 
 # Resource Quota configuration for kubernetes.
+# + name - Name of the resource quota
+# + hard - Hard limits such as `limits.cpu` or `pods`. Defaults to the deployment resources times the maximum replicas
+# + limitRange - Generate a LimitRange with the deployment resources as container defaults
 public type ResourceQuotas record {|
+    string name?;
+    map<string> hard?;
+    boolean limitRange?;
 |};
 
 # @kubernetes:ResourcesQuotas annotation to configure Resource Quotas.
@@ -71,8 +77,32 @@ public type ScheduleConfig record {|
      string daysOfWeek;
 |};
 
+# Job configuration for kubernetes.
+# + schedule - Cron schedule of the job
+# + parallelism - Maximum number of pods running in parallel
+# + completions - Number of successful pods required to complete the job
+# + completionMode - `NonIndexed` or `Indexed`. Indexed pods receive their index via `JOB_COMPLETION_INDEX`
+# + backoffLimit - Number of retries before marking the job as failed
+# + activeDeadlineSeconds - Maximum duration in seconds the job may run
+# + ttlSecondsAfterFinished - Seconds after which a finished job is cleaned up
+# + concurrencyPolicy - `Allow`, `Forbid` or `Replace` overlapping runs of a scheduled task
+# + startingDeadlineSeconds - Deadline in seconds for starting a missed scheduled run
+# + successfulJobsHistoryLimit - Number of successful scheduled runs to retain
+# + failedJobsHistoryLimit - Number of failed scheduled runs to retain
+# + priorityClassName - Name of the PriorityClass assigned to the job pods
 public type TaskConfig record{|
     ScheduleConfig schedule?;
+    int parallelism?;
+    int completions?;
+    string completionMode?;
+    int backoffLimit?;
+    int activeDeadlineSeconds?;
+    int ttlSecondsAfterFinished?;
+    string concurrencyPolicy?;
+    int startingDeadlineSeconds?;
+    int successfulJobsHistoryLimit?;
+    int failedJobsHistoryLimit?;
+    string priorityClassName?;
 |};
 
 # @c2c:Task annotation to configure cron job.
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.test;
+
+import io.ballerina.c2c.KubernetesConstants;
+import io.ballerina.c2c.exceptions.KubernetesPluginException;
+import io.ballerina.c2c.test.utils.KubernetesTestUtils;
+import io.ballerina.c2c.utils.KubernetesUtils;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.Test;
+import org.yaml.snakeyaml.Yaml;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Test cases for config maps and secrets created from files listed in Ballerina.cloud.
+ */
+public class ConfigMapTest {
+    private static final Path SOURCE_DIR_PATH = Paths.get("src", "test", "resources", "config_map");
+    private static final Path TARGET_PATH = SOURCE_DIR_PATH.resolve("target");
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testImmutableConfigFiles() throws IOException, InterruptedException {
+        Assert.assertEquals(KubernetesTestUtils.compileBallerinaProject(SOURCE_DIR_PATH, true), 0);
+        List<Map<String, Object>> objects = loadObjects(TARGET_PATH.resolve(KubernetesConstants.KUBERNETES));
+        List<String> kinds = objects.stream().map(object -> String.valueOf(object.get("kind")))
+                .collect(Collectors.toList());
+        Assert.assertTrue(kinds.contains("ConfigMap"), "Generated kinds: " + kinds);
+        Assert.assertTrue(kinds.contains("Secret"), "Generated kinds: " + kinds);
+
+        Map<String, Object> configMap = objects.get(kinds.indexOf("ConfigMap"));
+        String configMapName = getName(configMap);
+        Assert.assertTrue(configMapName.matches("greeter-config-[0-9a-f]{10}"), configMapName);
+        Assert.assertEquals(configMap.get("immutable"), true);
+        Assert.assertEquals(((Map<String, Object>) configMap.get("data")).get("app.properties"),
+                "greeting=hello\n");
+
+        Map<String, Object> secret = objects.get(kinds.indexOf("Secret"));
+        String secretName = getName(secret);
+        Assert.assertTrue(secretName.matches("greeter-credentials-[0-9a-f]{10}"), secretName);
+        Assert.assertEquals(secret.get("immutable"), true);
+        String credentials = String.valueOf(((Map<String, Object>) secret.get("data")).get("credentials.txt"));
+        Assert.assertEquals(new String(Base64.getDecoder().decode(credentials), StandardCharsets.UTF_8),
+                "admin:changeit\n");
+
+        // The pod template follows the hashed names, so a change in a file rolls the deployment.
+        Map<String, Object> deployment = objects.get(kinds.indexOf("Deployment"));
+        Map<String, Object> podSpec = (Map<String, Object>) ((Map<String, Object>) ((Map<String, Object>)
+                deployment.get("spec")).get("template")).get("spec");
+        List<Map<String, Object>> volumes = (List<Map<String, Object>>) podSpec.get("volumes");
+        Map<String, Object> configVolume = getVolume(volumes, "greeter-config-volume");
+        Assert.assertEquals(((Map<String, Object>) configVolume.get("configMap")).get("name"), configMapName);
+        Map<String, Object> secretVolume = getVolume(volumes, "greeter-credentials-volume");
+        Assert.assertEquals(((Map<String, Object>) secretVolume.get("secret")).get("secretName"), secretName);
+
+        Map<String, Object> container = ((List<Map<String, Object>>) podSpec.get("containers")).get(0);
+        List<Map<String, Object>> mounts = (List<Map<String, Object>>) container.get("volumeMounts");
+        List<String> mountPaths = mounts.stream().map(mount -> String.valueOf(mount.get("mountPath")))
+                .collect(Collectors.toList());
+        Assert.assertTrue(mountPaths.contains("/home/ballerina/conf/app"), "Mount paths: " + mountPaths);
+        Assert.assertTrue(mountPaths.contains("/home/ballerina/conf/credentials"), "Mount paths: " + mountPaths);
+        Map<String, Object> env = ((List<Map<String, Object>>) container.get("env")).stream()
+                .filter(envVar -> "GREETING".equals(envVar.get("name"))).findFirst()
+                .orElseThrow(() -> new AssertionError("missing GREETING env in " + container));
+        Map<String, Object> keyRef = (Map<String, Object>) ((Map<String, Object>) env.get("valueFrom"))
+                .get("configMapKeyRef");
+        Assert.assertEquals(keyRef.get("name"), configMapName);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static String getName(Map<String, Object> object) {
+        return String.valueOf(((Map<String, Object>) object.get("metadata")).get("name"));
+    }
+
+    private static Map<String, Object> getVolume(List<Map<String, Object>> volumes, String name) {
+        return volumes.stream().filter(volume -> name.equals(volume.get("name"))).findFirst()
+                .orElseThrow(() -> new AssertionError("missing volume " + name + " in " + volumes));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Map<String, Object>> loadObjects(Path kubernetesDir) throws IOException {
+        List<Map<String, Object>> objects = new ArrayList<>();
+        try (Stream<Path> files = Files.walk(kubernetesDir)) {
+            for (Path file : files.filter(path -> path.toString().endsWith(".yaml")).collect(Collectors.toList())) {
+                for (Object document : new Yaml().loadAll(new String(Files.readAllBytes(file),
+                        StandardCharsets.UTF_8))) {
+                    if (document instanceof Map) {
+                        objects.add((Map<String, Object>) document);
+                    }
+                }
+            }
+        }
+        return objects;
+    }
+
+    @AfterClass
+    public void cleanUp() throws KubernetesPluginException {
+        KubernetesUtils.deleteDirectory(TARGET_PATH);
+    }
+}
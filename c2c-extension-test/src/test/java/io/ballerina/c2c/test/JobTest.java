@@ -18,9 +18,10 @@
 
 package io.ballerina.c2c.test;
 
-import com.github.dockerjava.api.command.InspectImageResponse;
 import io.ballerina.c2c.KubernetesConstants;
 import io.ballerina.c2c.exceptions.KubernetesPluginException;
+import io.ballerina.c2c.test.utils.DockerImageLayout;
+import io.ballerina.c2c.test.utils.KubernetesMockCluster;
 import io.ballerina.c2c.test.utils.KubernetesTestUtils;
 import io.ballerina.c2c.utils.KubernetesUtils;
 import io.fabric8.kubernetes.api.model.Container;
@@ -36,7 +37,6 @@ import java.nio.file.Paths;
 
 import static io.ballerina.c2c.KubernetesConstants.DOCKER;
 import static io.ballerina.c2c.KubernetesConstants.KUBERNETES;
-import static io.ballerina.c2c.test.utils.KubernetesTestUtils.getDockerImage;
 
 /**
  * Test cases for job resources.
@@ -53,8 +53,9 @@ public class JobTest {
 
         File dockerFile = DOCKER_TARGET_PATH.resolve("Dockerfile").toFile();
         Assert.assertTrue(dockerFile.exists());
-        InspectImageResponse imageInspect = getDockerImage(DOCKER_IMAGE_JOB);
-        Assert.assertNotNull(imageInspect.getConfig());
+        DockerImageLayout layout = DockerImageLayout.load(DOCKER_TARGET_PATH);
+        Assert.assertNotNull(layout.getCommand());
+        Assert.assertTrue(layout.getMissingSources().isEmpty(), "Missing sources: " + layout.getMissingSources());
 
         File jobYAML = KUBERNETES_TARGET_PATH.resolve("ballerina_job.yaml").toFile();
         Job job = KubernetesTestUtils.loadYaml(jobYAML);
@@ -66,12 +67,19 @@ public class JobTest {
         Assert.assertEquals(container.getImagePullPolicy(), KubernetesConstants.ImagePullPolicy.IfNotPresent.name());
         Assert.assertEquals(job.getSpec().getTemplate().getSpec()
                 .getRestartPolicy(), KubernetesConstants.RestartPolicy.OnFailure.name());
+
+        try (KubernetesMockCluster cluster = new KubernetesMockCluster()) {
+            cluster.apply(KUBERNETES_TARGET_PATH);
+            Job applied = cluster.getClient().batch().jobs().inNamespace("default").withName("ballerina-job-job").get();
+            Assert.assertNotNull(applied);
+            Assert.assertEquals(applied.getSpec().getTemplate().getSpec().getContainers().get(0).getImage(),
+                    DOCKER_IMAGE_JOB);
+        }
     }
 
     @AfterClass
     public void cleanUp() throws KubernetesPluginException {
         KubernetesUtils.deleteDirectory(KUBERNETES_TARGET_PATH);
         KubernetesUtils.deleteDirectory(DOCKER_TARGET_PATH);
-        KubernetesTestUtils.deleteDockerImage(DOCKER_IMAGE_JOB);
     }
 }
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.c2c.test;
+
+import io.ballerina.c2c.KubernetesConstants;
+import io.ballerina.c2c.exceptions.KubernetesPluginException;
+import io.ballerina.c2c.test.utils.KubernetesTestUtils;
+import io.ballerina.c2c.utils.KubernetesUtils;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.Test;
+import org.yaml.snakeyaml.Yaml;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Test cases for KEDA scaling of event driven listeners.
+ */
+public class KedaTest {
+    private static final Path SOURCE_DIR_PATH = Paths.get("src", "test", "resources", "keda");
+    private static final Path TARGET_PATH = SOURCE_DIR_PATH.resolve("target");
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testKafkaListenerScaledObject() throws IOException, InterruptedException {
+        Assert.assertEquals(KubernetesTestUtils.compileBallerinaProject(SOURCE_DIR_PATH, true), 0);
+        List<Map<String, Object>> objects = loadObjects(TARGET_PATH.resolve(KubernetesConstants.KUBERNETES));
+        List<String> kinds = objects.stream().map(object -> String.valueOf(object.get("kind")))
+                .collect(Collectors.toList());
+        // The kafka listener has no port, so no service is generated and KEDA replaces the HPA.
+        Assert.assertTrue(kinds.contains("Deployment"), "Generated kinds: " + kinds);
+        Assert.assertTrue(kinds.contains("ScaledObject"), "Generated kinds: " + kinds);
+        Assert.assertFalse(kinds.contains("Service"), "Generated kinds: " + kinds);
+        Assert.assertFalse(kinds.contains("HorizontalPodAutoscaler"), "Generated kinds: " + kinds);
+
+        Map<String, Object> scaledObject = objects.get(kinds.indexOf("ScaledObject"));
+        Map<String, Object> spec = (Map<String, Object>) scaledObject.get("spec");
+        Map<String, Object> trigger = ((List<Map<String, Object>>) spec.get("triggers")).get(0);
+        Assert.assertEquals(trigger.get("type"), "kafka");
+        Map<String, Object> metadata = (Map<String, Object>) trigger.get("metadata");
+        Assert.assertEquals(String.valueOf(metadata.get("lagThreshold")), "50");
+        Assert.assertEquals(metadata.get("topic"), "orders");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Map<String, Object>> loadObjects(Path kubernetesDir) throws IOException {
+        List<Map<String, Object>> objects = new ArrayList<>();
+        try (Stream<Path> files = Files.walk(kubernetesDir)) {
+            for (Path file : files.filter(path -> path.toString().endsWith(".yaml")).collect(Collectors.toList())) {
+                for (Object document : new Yaml().loadAll(new String(Files.readAllBytes(file),
+                        StandardCharsets.UTF_8))) {
+                    if (document instanceof Map) {
+                        objects.add((Map<String, Object>) document);
+                    }
+                }
+            }
+        }
+        return objects;
+    }
+
+    @AfterClass
+    public void cleanUp() throws KubernetesPluginException {
+        KubernetesUtils.deleteDirectory(TARGET_PATH);
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.test.benchmark;
+
+import io.ballerina.c2c.test.utils.KubernetesTestUtils;
+import io.ballerina.c2c.utils.PluginMetrics;
+import org.apache.commons.io.FileUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Compiles synthetic projects of growing size with the plugin and records wall time, plugin time, allocation rate
+ * and peak heap for each size. Run with the benchmark gradle task; the scales are given as
+ * modules:services:listeners:envs separated by commas in the benchmarkScales system property.
+ */
+public class PluginScalingBenchmark {
+    private static final Logger log = LoggerFactory.getLogger(PluginScalingBenchmark.class);
+    private static final String DEFAULT_SCALES = "1:1:1:10,4:4:2:100,16:4:2:400";
+    private static final String HEADER = "modules,services,listeners,envs,secrets,compile_ms,plugin_ms," +
+            "plugin_allocated_mb,allocation_rate_mb_per_s,peak_heap_mb,plugin_ms_per_service";
+    private static final double MB = 1024 * 1024;
+    private final List<String> rows = new ArrayList<>();
+    private final List<Path> projects = new ArrayList<>();
+
+    @DataProvider(name = "scales")
+    public Object[][] getScales() {
+        String[] scales = System.getProperty("benchmarkScales", DEFAULT_SCALES).split(",");
+        Object[][] data = new Object[scales.length][];
+        for (int i = 0; i < scales.length; i++) {
+            String[] size = scales[i].trim().split(":");
+            int envs = Integer.parseInt(size[3]);
+            data[i] = new Object[]{new SyntheticProjectGenerator()
+                    .setModules(Integer.parseInt(size[0]))
+                    .setServicesPerModule(Integer.parseInt(size[1]))
+                    .setListenersPerModule(Integer.parseInt(size[2]))
+                    .setEnvVars(envs)
+                    .setSecretEnvVars(envs / 4)};
+        }
+        return data;
+    }
+
+    @Test(dataProvider = "scales")
+    public void benchmark(SyntheticProjectGenerator generator) throws IOException, InterruptedException {
+        Path projectDir = Files.createTempDirectory("c2c-bench-");
+        projects.add(projectDir);
+        generator.generate(projectDir);
+        Path pluginReport = projectDir.resolve("plugin-metrics.csv");
+        Map<String, String> env = new HashMap<>();
+        env.put(PluginMetrics.BENCHMARK_REPORT_ENV, pluginReport.toAbsolutePath().toString());
+
+        long start = System.nanoTime();
+        Assert.assertEquals(KubernetesTestUtils.compileBallerinaProject(projectDir, true, env), 0);
+        double compileMillis = (System.nanoTime() - start) / 1_000_000.0;
+
+        Assert.assertTrue(Files.exists(pluginReport), "plugin metrics were not written");
+        double pluginMillis = 0;
+        long allocated = 0;
+        long peakHeap = 0;
+        for (String line : Files.readAllLines(pluginReport, StandardCharsets.UTF_8)) {
+            String[] columns = line.split(",");
+            pluginMillis += Double.parseDouble(columns[1]);
+            allocated += Long.parseLong(columns[2]);
+            peakHeap = Math.max(peakHeap, Long.parseLong(columns[3]));
+        }
+        int services = generator.getModules() * generator.getServicesPerModule();
+        String row = String.format(Locale.ROOT, "%d,%d,%d,%d,%d,%.1f,%.1f,%.1f,%.1f,%.1f,%.3f",
+                generator.getModules(), generator.getServicesPerModule(), generator.getListenersPerModule(),
+                generator.getEnvVars(), generator.getSecretEnvVars(), compileMillis, pluginMillis, allocated / MB,
+                pluginMillis > 0 ? allocated / MB / (pluginMillis / 1000) : 0, peakHeap / MB,
+                pluginMillis / services);
+        log.info("{}: {}", generator, row);
+        rows.add(row);
+    }
+
+    @AfterClass
+    public void writeReport() throws IOException {
+        Path report = Paths.get(System.getProperty("benchmarkReport", "c2c-benchmark.csv"));
+        if (report.getParent() != null) {
+            Files.createDirectories(report.getParent());
+        }
+        List<String> lines = new ArrayList<>();
+        lines.add(HEADER);
+        lines.addAll(rows);
+        Files.write(report, lines, StandardCharsets.UTF_8);
+        log.info("Benchmark report written to {}", report.toAbsolutePath());
+        for (Path project : projects) {
+            FileUtils.deleteQuietly(project.toFile());
+        }
+    }
+}
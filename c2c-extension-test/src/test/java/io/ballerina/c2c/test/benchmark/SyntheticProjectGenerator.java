@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.test.benchmark;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Writes synthetic Ballerina projects of a given size for measuring how the plugin scales.
+ */
+public class SyntheticProjectGenerator {
+    private static final int BASE_PORT = 9090;
+    private int modules = 1;
+    private int servicesPerModule = 1;
+    private int listenersPerModule = 1;
+    private int envVars = 0;
+    private int secretEnvVars = 0;
+
+    public SyntheticProjectGenerator setModules(int modules) {
+        this.modules = modules;
+        return this;
+    }
+
+    public SyntheticProjectGenerator setServicesPerModule(int servicesPerModule) {
+        this.servicesPerModule = servicesPerModule;
+        return this;
+    }
+
+    public SyntheticProjectGenerator setListenersPerModule(int listenersPerModule) {
+        this.listenersPerModule = listenersPerModule;
+        return this;
+    }
+
+    public SyntheticProjectGenerator setEnvVars(int envVars) {
+        this.envVars = envVars;
+        return this;
+    }
+
+    public SyntheticProjectGenerator setSecretEnvVars(int secretEnvVars) {
+        this.secretEnvVars = secretEnvVars;
+        return this;
+    }
+
+    public int getModules() {
+        return modules;
+    }
+
+    public int getServicesPerModule() {
+        return servicesPerModule;
+    }
+
+    public int getListenersPerModule() {
+        return listenersPerModule;
+    }
+
+    public int getEnvVars() {
+        return envVars;
+    }
+
+    public int getSecretEnvVars() {
+        return secretEnvVars;
+    }
+
+    /**
+     * Write the project into the given directory.
+     *
+     * @param projectDir project root, created if it does not exist
+     * @throws IOException if a file cannot be written
+     */
+    public void generate(Path projectDir) throws IOException {
+        Files.createDirectories(projectDir);
+        write(projectDir.resolve("Ballerina.toml"), "[project]\n" +
+                "org-name = \"c2c_bench\"\n" +
+                "version = \"0.0.1\"\n");
+        write(projectDir.resolve("Ballerina.cloud"), getBallerinaCloud());
+        for (int module = 0; module < modules; module++) {
+            Path moduleDir = projectDir.resolve("src").resolve("mod" + module);
+            Files.createDirectories(moduleDir);
+            write(moduleDir.resolve("services.bal"), getModuleSource(module));
+        }
+    }
+
+    private String getModuleSource(int module) {
+        StringBuilder source = new StringBuilder("import ballerina/http;\nimport ballerina/c2c as _;\n\n");
+        for (int listener = 0; listener < listenersPerModule; listener++) {
+            source.append("listener http:Listener ep").append(listener).append(" = new(")
+                    .append(BASE_PORT + listener).append(");\n");
+        }
+        for (int service = 0; service < servicesPerModule; service++) {
+            source.append("\n@http:ServiceConfig {\n    basePath: \"/svc").append(service).append("\"\n}\n")
+                    .append("service svc").append(service).append(" on ep").append(service % listenersPerModule)
+                    .append(" {\n")
+                    .append("    resource function hello(http:Caller caller, http:Request req) returns error? {\n")
+                    .append("        check caller->respond(\"hello from mod").append(module).append(" svc")
+                    .append(service).append("\");\n")
+                    .append("    }\n")
+                    .append("}\n");
+        }
+        return source.toString();
+    }
+
+    private String getBallerinaCloud() {
+        StringBuilder cloud = new StringBuilder();
+        cloud.append("[container.image]\n")
+                .append("repository = \"example.io\"\n")
+                .append("name = \"bench\"\n")
+                .append("tag = \"latest\"\n")
+                .append("build = false\n\n")
+                .append("[cloud.deployment]\n")
+                .append("min_memory = \"100Mi\"\n")
+                .append("max_memory = \"512Mi\"\n")
+                .append("min_cpu = \"200m\"\n")
+                .append("max_cpu = \"1000m\"\n\n")
+                .append("[cloud.deployment.autoscaling]\n")
+                .append("min_replicas = 2\n")
+                .append("max_replicas = 10\n")
+                .append("cpu = 60\n\n")
+                .append("[cloud.deployment.probes.readiness]\n")
+                .append("port = ").append(BASE_PORT).append("\n")
+                .append("path = \"/svc0/hello\"\n\n")
+                .append("[cloud.deployment.probes.liveness]\n")
+                .append("port = ").append(BASE_PORT).append("\n")
+                .append("path = \"/svc0/hello\"\n");
+        for (int env = 0; env < envVars; env++) {
+            cloud.append("\n[[cloud.config.envs]]\n")
+                    .append("name = \"BENCH_ENV_").append(env).append("\"\n")
+                    .append("key = \"bench.env.").append(env).append("\"\n")
+                    .append("config_name = \"bench-config-").append(env % 8).append("\"\n");
+        }
+        for (int env = 0; env < secretEnvVars; env++) {
+            cloud.append("\n[[cloud.config.envs]]\n")
+                    .append("name = \"BENCH_SECRET_").append(env).append("\"\n")
+                    .append("key = \"bench.secret.").append(env).append("\"\n")
+                    .append("config_name = \"bench-secrets\"\n");
+        }
+        return cloud.toString();
+    }
+
+    private static void write(Path file, String content) throws IOException {
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public String toString() {
+        return modules + " modules x " + servicesPerModule + " services x " + listenersPerModule + " listeners, " +
+                envVars + " envs, " + secretEnvVars + " secrets";
+    }
+}
@@ -20,7 +20,8 @@ package io.ballerina.c2c.test.samples;
 
 import io.ballerina.c2c.KubernetesConstants;
 import io.ballerina.c2c.exceptions.KubernetesPluginException;
-import io.ballerina.c2c.test.utils.DockerTestException;
+import io.ballerina.c2c.test.utils.DockerImageLayout;
+import io.ballerina.c2c.test.utils.KubernetesMockCluster;
 import io.ballerina.c2c.test.utils.KubernetesTestUtils;
 import io.ballerina.c2c.utils.KubernetesUtils;
 import io.fabric8.kubernetes.api.model.Container;
@@ -28,15 +29,12 @@ import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.HorizontalPodAutoscaler;
 import io.fabric8.kubernetes.api.model.Service;
 import io.fabric8.kubernetes.api.model.apps.Deployment;
-import io.fabric8.kubernetes.client.DefaultKubernetesClient;
-import io.fabric8.kubernetes.client.KubernetesClient;
 import org.testng.Assert;
 import org.testng.annotations.AfterClass;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -57,14 +55,15 @@ public class Sample1Test extends SampleTest {
     private Deployment deployment;
     private Service service;
     private HorizontalPodAutoscaler podAutoscaler;
+    private KubernetesMockCluster cluster;
 
     @BeforeClass
     public void compileSample() throws IOException, InterruptedException {
         Assert.assertEquals(KubernetesTestUtils.compileBallerinaFile(SOURCE_DIR_PATH, "hello_world.bal"), 0);
         File artifactYaml = KUBERNETES_TARGET_PATH.resolve("hello_world.yaml").toFile();
         Assert.assertTrue(artifactYaml.exists());
-        KubernetesClient client = new DefaultKubernetesClient();
-        List<HasMetadata> k8sItems = client.load(new FileInputStream(artifactYaml)).get();
+        cluster = new KubernetesMockCluster();
+        List<HasMetadata> k8sItems = cluster.apply(KUBERNETES_TARGET_PATH);
         for (HasMetadata data : k8sItems) {
             switch (data.getKind()) {
                 case "Deployment":
@@ -119,10 +118,27 @@ public class Sample1Test extends SampleTest {
     }
 
     @Test
-    public void validateDockerImage() throws DockerTestException, InterruptedException {
-        List<String> ports = KubernetesTestUtils.getExposedPorts(DOCKER_IMAGE);
+    public void validateDockerImage() throws IOException {
+        DockerImageLayout layout = DockerImageLayout.load(DOCKER_TARGET_PATH);
+        List<String> ports = layout.getExposedPorts();
         Assert.assertEquals(ports.size(), 1);
         Assert.assertEquals(ports.get(0), "9090/tcp");
+        Assert.assertEquals(layout.getUser(), "ballerina");
+        Assert.assertTrue(layout.getMissingSources().isEmpty(), "Missing sources: " + layout.getMissingSources());
+    }
+
+    @Test
+    public void validateAppliedResources() {
+        Deployment applied = cluster.getClient().apps().deployments().inNamespace("default")
+                .withName("hello-world-deployment").get();
+        Assert.assertNotNull(applied);
+        Assert.assertEquals(applied.getSpec().getTemplate().getSpec().getContainers().get(0).getImage(),
+                DOCKER_IMAGE);
+        Service appliedService = cluster.getClient().services().inNamespace("default").withName("helloworld-svc")
+                .get();
+        Assert.assertNotNull(appliedService);
+        Assert.assertEquals(appliedService.getSpec().getSelector(),
+                applied.getSpec().getTemplate().getMetadata().getLabels());
     }
 
     @Test(groups = {"integration"})
@@ -136,6 +152,8 @@ public class Sample1Test extends SampleTest {
     public void cleanUp() throws KubernetesPluginException {
         KubernetesUtils.deleteDirectory(KUBERNETES_TARGET_PATH);
         KubernetesUtils.deleteDirectory(DOCKER_TARGET_PATH);
-        KubernetesTestUtils.deleteDockerImage(DOCKER_IMAGE);
+        if (cluster != null) {
+            cluster.close();
+        }
     }
 }
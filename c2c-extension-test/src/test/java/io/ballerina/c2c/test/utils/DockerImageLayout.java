@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.test.utils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Image layout read from the generated Dockerfile and build context, used in place of inspecting a built image.
+ */
+public class DockerImageLayout {
+    private final Path contextDirectory;
+    private String baseImage;
+    private String user;
+    private String command;
+    private final List<String> exposedPorts = new ArrayList<>();
+    private final List<String> copySources = new ArrayList<>();
+
+    private DockerImageLayout(Path contextDirectory) {
+        this.contextDirectory = contextDirectory;
+    }
+
+    /**
+     * Parse the Dockerfile in a docker build context.
+     *
+     * @param contextDirectory Docker artifacts directory
+     * @return image layout
+     * @throws IOException if the Dockerfile cannot be read
+     */
+    public static DockerImageLayout load(Path contextDirectory) throws IOException {
+        DockerImageLayout layout = new DockerImageLayout(contextDirectory);
+        List<String> lines = Files.readAllLines(contextDirectory.resolve("Dockerfile"), StandardCharsets.UTF_8);
+        for (String line : lines) {
+            String[] instruction = line.trim().split("\\s+", 2);
+            if (instruction.length < 2) {
+                continue;
+            }
+            String arguments = instruction[1].trim();
+            switch (instruction[0].toUpperCase(Locale.getDefault())) {
+                case "FROM":
+                    layout.baseImage = arguments;
+                    break;
+                case "USER":
+                    layout.user = arguments;
+                    break;
+                case "CMD":
+                case "ENTRYPOINT":
+                    layout.command = arguments;
+                    break;
+                case "EXPOSE":
+                    for (String port : arguments.split("\\s+")) {
+                        layout.exposedPorts.add(port.contains("/") ? port : port + "/tcp");
+                    }
+                    break;
+                case "COPY":
+                case "ADD":
+                    String[] paths = arguments.split("\\s+");
+                    for (int i = 0; i < paths.length - 1; i++) {
+                        if (!paths[i].startsWith("--")) {
+                            layout.copySources.add(paths[i]);
+                        }
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+        return layout;
+    }
+
+    public String getBaseImage() {
+        return baseImage;
+    }
+
+    public String getUser() {
+        return user;
+    }
+
+    public String getCommand() {
+        return command;
+    }
+
+    /**
+     * Get the list of exposed ports in the same form as an inspected image, e.g. 9090/tcp.
+     *
+     * @return Exposed ports.
+     */
+    public List<String> getExposedPorts() {
+        return Collections.unmodifiableList(exposedPorts);
+    }
+
+    /**
+     * Get the COPY and ADD sources which are not present in the build context.
+     *
+     * @return Missing sources, empty if the image can be built from the context.
+     */
+    public List<String> getMissingSources() {
+        List<String> missing = new ArrayList<>();
+        for (String source : copySources) {
+            if (!Files.exists(contextDirectory.resolve(source))) {
+                missing.add(source);
+            }
+        }
+        return missing;
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.test.utils;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.server.mock.KubernetesServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * In-process Kubernetes API server backed by the fabric8 mock server in CRUD mode. Applied resources are stored in
+ * memory and can be read back through {@link #getClient()}, so manifests are exercised without a cluster.
+ */
+public class KubernetesMockCluster implements AutoCloseable {
+    private static final String DEFAULT_NAMESPACE = "default";
+    private final KubernetesServer server;
+
+    public KubernetesMockCluster() {
+        this.server = new KubernetesServer(true, true);
+        this.server.before();
+    }
+
+    public KubernetesClient getClient() {
+        return server.getClient();
+    }
+
+    /**
+     * Create or replace every resource of the yaml files in a given directory.
+     *
+     * @param artifactDirectory K8s artifacts directory
+     * @return applied resources as returned by the API server
+     * @throws IOException if a yaml file cannot be read
+     */
+    public List<HasMetadata> apply(Path artifactDirectory) throws IOException {
+        List<HasMetadata> applied = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(artifactDirectory, "*.yaml")) {
+            for (Path file : files) {
+                try (InputStream inputStream = Files.newInputStream(file)) {
+                    for (HasMetadata resource : getClient().load(inputStream).get()) {
+                        String namespace = resource.getMetadata().getNamespace() == null ? DEFAULT_NAMESPACE :
+                                resource.getMetadata().getNamespace();
+                        applied.add(getClient().resource(resource).inNamespace(namespace).createOrReplace());
+                    }
+                }
+            }
+        }
+        return applied;
+    }
+
+    @Override
+    public void close() {
+        server.after();
+    }
+}
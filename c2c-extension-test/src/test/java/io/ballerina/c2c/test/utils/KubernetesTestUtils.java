@@ -364,6 +364,21 @@ public class KubernetesTestUtils {
      */
     public static int compileBallerinaProject(Path sourceDirectory, boolean skipTests) throws InterruptedException,
             IOException {
+        return compileBallerinaProject(sourceDirectory, skipTests, new HashMap<>());
+    }
+
+    /**
+     * Compile a ballerina project in a given directory.
+     *
+     * @param sourceDirectory Ballerina source directory
+     * @param skipTests       skip the tests of the project
+     * @param envVar          environment variables required to compile the project
+     * @return Exit code
+     * @throws InterruptedException if an error occurs while compiling
+     * @throws IOException          if an error occurs while writing file
+     */
+    public static int compileBallerinaProject(Path sourceDirectory, boolean skipTests, Map<String, String> envVar)
+            throws InterruptedException, IOException {
         Path ballerinaInternalLog = Paths.get(sourceDirectory.toAbsolutePath().toString(), "ballerina-internal.log");
         if (ballerinaInternalLog.toFile().exists()) {
             log.warn("Deleting already existing ballerina-internal.log file.");
@@ -382,6 +397,7 @@ public class KubernetesTestUtils {
         pb.directory(sourceDirectory.toFile());
         Map<String, String> environment = pb.environment();
         addJavaAgents(environment);
+        environment.putAll(envVar);
 
         Process process = pb.start();
         int exitCode = process.waitFor();
@@ -19,17 +19,29 @@
 package io.ballerina.c2c;
 
 import io.ballerina.c2c.exceptions.KubernetesPluginException;
+import io.ballerina.c2c.handlers.CapacityReportHandler;
+import io.ballerina.c2c.handlers.ConfigMapHandler;
 import io.ballerina.c2c.handlers.DeploymentHandler;
 import io.ballerina.c2c.handlers.DockerHandler;
 import io.ballerina.c2c.handlers.HPAHandler;
+import io.ballerina.c2c.handlers.HelmChartHandler;
+import io.ballerina.c2c.handlers.IstioHandler;
 import io.ballerina.c2c.handlers.JobHandler;
+import io.ballerina.c2c.handlers.KedaHandler;
+import io.ballerina.c2c.handlers.KnativeHandler;
+import io.ballerina.c2c.handlers.KustomizeHandler;
+import io.ballerina.c2c.handlers.MetricsHandler;
 import io.ballerina.c2c.handlers.PersistentVolumeClaimHandler;
+import io.ballerina.c2c.handlers.ResourceQuotaHandler;
 import io.ballerina.c2c.handlers.SecretHandler;
 import io.ballerina.c2c.handlers.ServiceHandler;
+import io.ballerina.c2c.lint.ManifestLinter;
 import io.ballerina.c2c.models.DeploymentModel;
 import io.ballerina.c2c.models.KubernetesContext;
 import io.ballerina.c2c.models.KubernetesDataHolder;
+import io.ballerina.c2c.utils.KubernetesDeployer;
 import io.ballerina.c2c.utils.KubernetesUtils;
+import io.ballerina.c2c.utils.ManifestValidator;
 
 import java.io.PrintStream;
 import java.util.LinkedHashMap;
@@ -43,6 +55,7 @@ import static org.ballerinax.docker.generator.utils.DockerGenUtils.extractJarNam
 public class ArtifactManager {
     private static final Map<String, String> instructions = new LinkedHashMap<>();
     private static final PrintStream OUT = System.out;
+    private static final String DEPLOY_INSTRUCTION = "\tExecute the below command to deploy the Kubernetes artifacts: ";
     private KubernetesDataHolder kubernetesDataHolder;
 
     ArtifactManager() {
@@ -69,19 +82,90 @@ public class ArtifactManager {
         OUT.println("\nGenerating artifacts...");
         if (kubernetesDataHolder.getJobModel() != null) {
             new JobHandler().createArtifacts();
-            new DockerHandler().createArtifacts();
+        } else if (KnativeHandler.isEnabled(kubernetesDataHolder)) {
+            new SecretHandler().createArtifacts();
+            new ConfigMapHandler().createArtifacts();
+            new PersistentVolumeClaimHandler().createArtifacts();
+            new KnativeHandler().createArtifacts();
         } else {
             new ServiceHandler().createArtifacts();
+            new MetricsHandler().createArtifacts();
             new SecretHandler().createArtifacts();
+            new ConfigMapHandler().createArtifacts();
             new PersistentVolumeClaimHandler().createArtifacts();
             new DeploymentHandler().createArtifacts();
-            new HPAHandler().createArtifacts();
-            new DockerHandler().createArtifacts();
+            if (KedaHandler.isEnabled(kubernetesDataHolder)) {
+                new KedaHandler().createArtifacts();
+            } else {
+                new HPAHandler().createArtifacts();
+            }
+            new ResourceQuotaHandler().createArtifacts();
+            new IstioHandler().createArtifacts();
+        }
+        packageArtifacts();
+        if (KubernetesDeployer.isEnabled(kubernetesDataHolder.getBallerinaCloud())) {
+            KubernetesDeployer.fromToml(kubernetesDataHolder.getBallerinaCloud())
+                    .deploy(kubernetesDataHolder.getK8sArtifactOutputPath());
+            instructions.remove(DEPLOY_INSTRUCTION);
         }
 
         printInstructions();
     }
 
+    /**
+     * Check the generated manifests, package them as Helm and Kustomize output when enabled and build the image.
+     *
+     * @throws KubernetesPluginException if a check fails or an artifact cannot be generated
+     */
+    private void packageArtifacts() throws KubernetesPluginException {
+        validateArtifacts();
+        lintArtifacts();
+        reportCapacity();
+        if (HelmChartHandler.isEnabled(kubernetesDataHolder)) {
+            new HelmChartHandler().createArtifacts();
+        }
+        if (KustomizeHandler.isEnabled(kubernetesDataHolder)) {
+            new KustomizeHandler().createArtifacts();
+        }
+        new DockerHandler().createArtifacts();
+    }
+
+    /**
+     * Validate the generated manifests against the bundled Kubernetes schemas before the image is built.
+     *
+     * @throws KubernetesPluginException if a generated manifest is not valid for the target Kubernetes version
+     */
+    private void validateArtifacts() throws KubernetesPluginException {
+        if (!ManifestValidator.isEnabled(kubernetesDataHolder.getBallerinaCloud())) {
+            return;
+        }
+        String kubernetesVersion = ManifestValidator.getKubernetesVersion(kubernetesDataHolder.getBallerinaCloud());
+        new ManifestValidator(kubernetesVersion).validateDirectory(kubernetesDataHolder.getK8sArtifactOutputPath());
+    }
+
+    /**
+     * Run the performance lint rules over the generated manifests.
+     *
+     * @throws KubernetesPluginException if a rule configured as an error reports a finding
+     */
+    private void lintArtifacts() throws KubernetesPluginException {
+        if (ManifestLinter.isEnabled(kubernetesDataHolder.getBallerinaCloud())) {
+            new ManifestLinter(kubernetesDataHolder.getBallerinaCloud())
+                    .lintDirectory(kubernetesDataHolder.getK8sArtifactOutputPath());
+        }
+    }
+
+    /**
+     * Bin-pack the worst case demand of the workloads generated so far onto the declared node shapes.
+     *
+     * @throws KubernetesPluginException if a workload can never be scheduled and the build is configured to fail
+     */
+    private void reportCapacity() throws KubernetesPluginException {
+        if (CapacityReportHandler.isEnabled(kubernetesDataHolder)) {
+            new CapacityReportHandler().createArtifacts();
+        }
+    }
+
     private void printInstructions() {
         KubernetesUtils.printInstruction("");
         KubernetesUtils.printInstruction("");
@@ -113,8 +197,11 @@ public class ArtifactManager {
      * Set instructions for kubernetes and helm artifacts.
      */
     private void setDefaultKubernetesInstructions() {
-        instructions.put("\tExecute the below command to deploy the Kubernetes artifacts: ",
+        instructions.put(DEPLOY_INSTRUCTION,
                 "\tkubectl apply -f " + this.kubernetesDataHolder.getK8sArtifactOutputPath().toAbsolutePath());
+        if (KnativeHandler.isEnabled(kubernetesDataHolder)) {
+            return;
+        }
 
         instructions.put("\tExecute the below command to access service via NodePort: ",
                 "\tkubectl expose deployment " + this.kubernetesDataHolder.getDeploymentModel().getName() + " --type" +
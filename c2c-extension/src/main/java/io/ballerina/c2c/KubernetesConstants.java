@@ -18,6 +18,11 @@
 
 package io.ballerina.c2c;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
 /**
  * Constants used in kubernetes extension.
  */
@@ -30,11 +35,16 @@ public class KubernetesConstants {
     public static final String SVC_POSTFIX = "-svc";
     public static final String CONFIG_MAP_POSTFIX = "-config-map";
     public static final String SECRET_POSTFIX = "-secret";
+    public static final String CLOUD_CONFIG_IMMUTABLE = "cloud.config.immutable";
+    public static final String CLOUD_CONFIG_MAPS = "cloud.config.maps";
+    public static final String CLOUD_CONFIG_SECRETS = "cloud.config.secrets";
     public static final String DOCKER = "docker";
     public static final String EXECUTABLE_JAR = ".jar";
     public static final String DEPLOYMENT_POSTFIX = "-deployment";
     public static final String JOB_POSTFIX = "-job";
     public static final String HPA_POSTFIX = "-hpa";
+    public static final String RESOURCE_QUOTA_POSTFIX = "-quota";
+    public static final String LIMIT_RANGE_POSTFIX = "-limit-range";
     public static final String DEPLOYMENT_FILE_POSTFIX = "_deployment";
     public static final String JOB_FILE_POSTFIX = "_job";
     public static final String SVC_FILE_POSTFIX = "_svc";
@@ -43,6 +53,19 @@ public class KubernetesConstants {
     public static final String VOLUME_CLAIM_FILE_POSTFIX = "_volume_claim";
     public static final String RESOURCE_QUOTA_FILE_POSTFIX = "_resource_quota";
     public static final String HPA_FILE_POSTFIX = "_hpa";
+    public static final String KNATIVE_SVC_FILE_POSTFIX = "_knative_svc";
+    public static final String ISTIO_DESTINATION_RULE_FILE_POSTFIX = "_istio_destination_rule";
+    public static final String ISTIO_VIRTUAL_SERVICE_FILE_POSTFIX = "_istio_virtual_service";
+    public static final String DESTINATION_RULE_POSTFIX = "-dr";
+    public static final String VIRTUAL_SERVICE_POSTFIX = "-vs";
+    public static final String SERVICE_MONITOR_FILE_POSTFIX = "_service_monitor";
+    public static final String KEDA_SCALED_OBJECT_FILE_POSTFIX = "_keda_scaled_object";
+    public static final String KEDA_SCALED_JOB_FILE_POSTFIX = "_keda_scaled_job";
+    public static final String SCALED_OBJECT_POSTFIX = "-scaled-object";
+    public static final String SCALED_JOB_POSTFIX = "-scaled-job";
+    public static final String METRICS_SVC_POSTFIX = "-metrics-svc";
+    public static final String METRICS_PORT_NAME = "metrics";
+    public static final int DEFAULT_METRICS_PORT = 9797;
     public static final String YAML = ".yaml";
     public static final String DOCKER_LATEST_TAG = ":latest";
     public static final String BALLERINA_HOME = "/home/ballerina";
@@ -51,6 +74,18 @@ public class KubernetesConstants {
     public static final String BALLERINA_CONF_FILE_NAME = "ballerina.conf";
     public static final String DOCKER_HOST = "DOCKER_HOST";
     public static final String DOCKER_CERT_PATH = "DOCKER_CERT_PATH";
+    /**
+     * Modules of event driven listeners. These listeners consume from a broker and do not expose a port.
+     */
+    public static final Set<String> EVENT_LISTENER_MODULES = Collections.unmodifiableSet(new HashSet<>(
+            Arrays.asList("kafka", "rabbitmq", "nats", "stan")));
+    public static final String JOB_COMPLETION_INDEX_ENV = "JOB_COMPLETION_INDEX";
+    public static final String JOB_COMPLETIONS_ENV = "JOB_COMPLETIONS";
+    public static final String JOB_COMPLETION_INDEX_ANNOTATION = "batch.kubernetes.io/job-completion-index";
+    public static final String CLUSTER_IP_NONE = "None";
+    public static final String EPHEMERAL_STORAGE = "ephemeral-storage";
+    public static final String TOPOLOGY_ZONE_KEY = "topology.kubernetes.io/zone";
+    public static final String TOPOLOGY_HOSTNAME_KEY = "kubernetes.io/hostname";
 
     /**
      * Restart policy enum.
@@ -61,6 +96,47 @@ public class KubernetesConstants {
         OnFailure
     }
 
+    /**
+     * Job completion mode enum.
+     */
+    public enum CompletionMode {
+        NonIndexed,
+        Indexed
+    }
+
+    /**
+     * EmptyDir volume storage medium enum.
+     */
+    public enum EmptyDirMedium {
+        disk,
+        memory
+    }
+
+    /**
+     * Deployment strategy type enum.
+     */
+    public enum DeploymentStrategyType {
+        RollingUpdate,
+        Recreate
+    }
+
+    /**
+     * Pod quality of service class enum.
+     */
+    public enum QosClass {
+        guaranteed,
+        burstable
+    }
+
+    /**
+     * CronJob concurrency policy enum.
+     */
+    public enum ConcurrencyPolicy {
+        Allow,
+        Forbid,
+        Replace
+    }
+
     /**
      * ImagePullPolicy type enum.
      */
@@ -69,6 +145,14 @@ public class KubernetesConstants {
         Always
     }
 
+    /**
+     * Topology spread unsatisfiable action enum.
+     */
+    public enum UnsatisfiableAction {
+        DoNotSchedule,
+        ScheduleAnyway
+    }
+
     /**
      * Service type enum.
      */
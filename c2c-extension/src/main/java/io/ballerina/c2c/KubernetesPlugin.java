@@ -25,6 +25,7 @@ import io.ballerina.c2c.models.KubernetesDataHolder;
 import io.ballerina.c2c.processors.AnnotationProcessorFactory;
 import io.ballerina.c2c.processors.ServiceAnnotationProcessor;
 import io.ballerina.c2c.utils.KubernetesUtils;
+import io.ballerina.c2c.utils.PluginMetrics;
 import org.ballerinalang.compiler.JarResolver;
 import org.ballerinalang.compiler.plugins.AbstractCompilerPlugin;
 import org.ballerinalang.compiler.plugins.SupportedAnnotationPackages;
@@ -95,6 +96,19 @@ public class KubernetesPlugin extends AbstractCompilerPlugin {
 
     @Override
     public void process(PackageNode packageNode) {
+        PluginMetrics.Sample sample = PluginMetrics.start();
+        try {
+            processPackage(packageNode);
+        } finally {
+            KubernetesDataHolder dataHolder = KubernetesContext.getInstance()
+                    .getDataHolder(((BLangPackage) packageNode).packageID);
+            if (dataHolder != null) {
+                dataHolder.getPluginMetrics().stop(sample);
+            }
+        }
+    }
+
+    private void processPackage(PackageNode packageNode) {
         BLangPackage bPackage = (BLangPackage) packageNode;
         KubernetesContext.getInstance().addDataHolder(bPackage.packageID, sourceDirectory.getPath());
 
@@ -236,6 +250,19 @@ public class KubernetesPlugin extends AbstractCompilerPlugin {
 
     @Override
     public void codeGenerated(PackageID moduleID, Path executableJarFile) {
+        PluginMetrics.Sample sample = PluginMetrics.start();
+        try {
+            generateArtifacts(moduleID, executableJarFile);
+        } finally {
+            KubernetesDataHolder dataHolder = KubernetesContext.getInstance().getDataHolder(moduleID);
+            if (dataHolder != null) {
+                dataHolder.getPluginMetrics().stop(sample);
+                dataHolder.getPluginMetrics().report(moduleID.toString());
+            }
+        }
+    }
+
+    private void generateArtifacts(PackageID moduleID, Path executableJarFile) {
         KubernetesContext.getInstance().setCurrentPackage(moduleID);
         KubernetesDataHolder dataHolder = KubernetesContext.getInstance().getDataHolder();
         dataHolder.setPackageID(moduleID);
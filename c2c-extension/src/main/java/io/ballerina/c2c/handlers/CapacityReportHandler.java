@@ -0,0 +1,366 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.handlers;
+
+import com.moandjiezana.toml.Toml;
+import io.ballerina.c2c.ArtifactManager;
+import io.ballerina.c2c.KubernetesConstants;
+import io.ballerina.c2c.exceptions.KubernetesPluginException;
+import io.ballerina.c2c.models.DeploymentModel;
+import io.ballerina.c2c.models.JobModel;
+import io.ballerina.c2c.models.KubernetesContext;
+import io.ballerina.c2c.models.KubernetesDataHolder;
+import io.ballerina.c2c.utils.KubernetesUtils;
+import io.fabric8.kubernetes.api.model.Quantity;
+import io.fabric8.kubernetes.api.model.ResourceRequirements;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Aggregates the worst case demand of every generated workload, bin-packs the pods onto the node shapes declared
+ * under [[cloud.capacity.node_shapes]] in Ballerina.cloud and writes a capacity report. Pods which are larger than
+ * every node shape can never be scheduled; pods which do not fit into the declared node counts go Pending at peak.
+ */
+public class CapacityReportHandler extends AbstractArtifactHandler {
+
+    public static final String CLOUD_CAPACITY = "cloud.capacity";
+    static final String REPORT_FILE = "capacity-report.txt";
+    private static final int DEFAULT_MAX_PODS = 110;
+    private static final double MEBIBYTE = Math.pow(2, 20);
+
+    public static boolean isEnabled(KubernetesDataHolder dataHolder) {
+        Toml ballerinaCloud = dataHolder.getBallerinaCloud();
+        return ballerinaCloud != null && ballerinaCloud.getTable(CLOUD_CAPACITY) != null;
+    }
+
+    @Override
+    public void createArtifacts() throws KubernetesPluginException {
+        Toml capacityToml = dataHolder.getBallerinaCloud().getTable(CLOUD_CAPACITY);
+        List<NodeShape> shapes = getNodeShapes(capacityToml);
+        List<Workload> workloads = new ArrayList<>();
+        for (KubernetesDataHolder moduleDataHolder : KubernetesContext.getInstance().getDataHolders()) {
+            if (moduleDataHolder.getK8sArtifactOutputPath() != null) {
+                workloads.add(getWorkload(moduleDataHolder));
+            }
+        }
+        Packing packing = pack(workloads, shapes);
+        // a project writes one report for all modules next to the module directories.
+        Path outputDir = dataHolder.getK8sArtifactOutputPath();
+        if (outputDir.getParent() != null && outputDir.getParent().endsWith(KubernetesConstants.KUBERNETES)) {
+            outputDir = outputDir.getParent();
+        }
+        Path report = outputDir.resolve(REPORT_FILE);
+        try {
+            Files.createDirectories(outputDir);
+            Files.write(report, getReport(workloads, shapes, packing).getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new KubernetesPluginException("error while writing capacity report", e);
+        }
+        OUT.println();
+        OUT.print(String.format(Locale.ROOT, "\t@kubernetes:Capacity \t\t - %d pods on %d nodes, %d workloads " +
+                "pending, %d unschedulable", packing.placed, packing.getNodeCount(), packing.pending.size(),
+                packing.unschedulable.size()));
+        if (!packing.unschedulable.isEmpty() || !packing.pending.isEmpty()) {
+            ArtifactManager.getInstructions().put("\tCapacity shortfall, see the report: ",
+                    "\t" + report.toAbsolutePath());
+            if (capacityToml.getBoolean("fail_on_unschedulable", false) && !packing.unschedulable.isEmpty()) {
+                throw new KubernetesPluginException("workloads can never be scheduled on the declared node " +
+                        "shapes: " + String.join(", ", packing.unschedulable));
+            }
+        }
+    }
+
+    private static List<NodeShape> getNodeShapes(Toml capacityToml) throws KubernetesPluginException {
+        List<Toml> shapeTomls = capacityToml.getTables("node_shapes");
+        if (shapeTomls == null || shapeTomls.isEmpty()) {
+            throw new KubernetesPluginException("[[" + CLOUD_CAPACITY + ".node_shapes]] is required for the " +
+                    "capacity report");
+        }
+        List<NodeShape> shapes = new ArrayList<>();
+        for (Toml shapeToml : shapeTomls) {
+            String name = shapeToml.getString("name", "shape-" + shapes.size());
+            String cpu = shapeToml.getString("cpu");
+            String memory = shapeToml.getString("memory");
+            if (cpu == null || memory == null) {
+                throw new KubernetesPluginException("node shape '" + name + "' requires cpu and memory");
+            }
+            Long count = shapeToml.getLong("count");
+            int maxPods = Math.toIntExact(shapeToml.getLong("max_pods", (long) DEFAULT_MAX_PODS));
+            try {
+                double memoryBytes = KubernetesUtils.getBytes(new Quantity(memory));
+                shapes.add(new NodeShape(name, getCpuMillis(new Quantity(cpu)), memoryBytes, maxPods,
+                        count == null ? -1 : Math.toIntExact(count)));
+            } catch (NumberFormatException e) {
+                throw new KubernetesPluginException("invalid quantity in node shape '" + name + "': " +
+                        e.getMessage(), e);
+            }
+        }
+        return shapes;
+    }
+
+    private static Workload getWorkload(KubernetesDataHolder moduleDataHolder) throws KubernetesPluginException {
+        JobModel jobModel = moduleDataHolder.getJobModel();
+        if (jobModel != null) {
+            // jobs have no resource requirements, so they are reported with a zero request.
+            return new Workload(jobModel.getName(), Math.max(jobModel.getParallelism(), 1), null);
+        }
+        DeploymentModel deploymentModel = moduleDataHolder.getDeploymentModel();
+        int pods = ResourceQuotaHandler.getMaxPods(deploymentModel, moduleDataHolder);
+        try {
+            return new Workload(deploymentModel.getName(), pods, deploymentModel.getResourceRequirements());
+        } catch (NumberFormatException e) {
+            throw new KubernetesPluginException("invalid resource quantity in " + deploymentModel.getName() + ": " +
+                    e.getMessage(), e);
+        }
+    }
+
+    private static double getCpuMillis(Quantity cpu) {
+        return KubernetesUtils.getCpuCores(cpu) * 1000;
+    }
+
+    /**
+     * First fit decreasing over the node shapes in declaration order. A shape without a count grows as needed.
+     *
+     * @param workloads workloads with their worst case pod counts
+     * @param shapes    declared node shapes
+     * @return placement result
+     */
+    static Packing pack(List<Workload> workloads, List<NodeShape> shapes) {
+        Packing packing = new Packing(shapes);
+        List<Workload> pods = new ArrayList<>();
+        for (Workload workload : workloads) {
+            boolean fitsAnyShape = false;
+            for (NodeShape shape : shapes) {
+                fitsAnyShape |= workload.cpuRequestMillis <= shape.cpuMillis &&
+                        workload.memoryRequestBytes <= shape.memoryBytes;
+            }
+            if (!fitsAnyShape) {
+                packing.unschedulable.add(workload.name);
+                continue;
+            }
+            for (int i = 0; i < workload.pods; i++) {
+                pods.add(workload);
+            }
+        }
+        pods.sort(Comparator.comparingDouble((Workload w) -> w.cpuRequestMillis)
+                .thenComparingDouble(w -> w.memoryRequestBytes).reversed());
+        for (Workload pod : pods) {
+            if (packing.place(pod)) {
+                packing.placed++;
+            } else if (!packing.pending.contains(pod.name)) {
+                packing.pending.add(pod.name);
+            }
+        }
+        return packing;
+    }
+
+    private static String getReport(List<Workload> workloads, List<NodeShape> shapes, Packing packing) {
+        StringBuilder report = new StringBuilder("Worst case demand\n");
+        report.append(String.format(Locale.ROOT, "%-40s %6s %10s %10s %12s %12s %12s %12s%n", "workload", "pods",
+                "cpu/pod", "mem/pod", "requests.cpu", "requests.mem", "limits.cpu", "limits.mem"));
+        double cpu = 0;
+        double memory = 0;
+        double cpuLimit = 0;
+        double memoryLimit = 0;
+        for (Workload workload : workloads) {
+            report.append(String.format(Locale.ROOT, "%-40s %6d %9.0fm %8.0fMi %11.0fm %10.0fMi %11.0fm %10.0fMi%n",
+                    workload.name, workload.pods, workload.cpuRequestMillis, workload.memoryRequestBytes / MEBIBYTE,
+                    workload.cpuRequestMillis * workload.pods, workload.memoryRequestBytes * workload.pods / MEBIBYTE,
+                    workload.cpuLimitMillis * workload.pods, workload.memoryLimitBytes * workload.pods / MEBIBYTE));
+            cpu += workload.cpuRequestMillis * workload.pods;
+            memory += workload.memoryRequestBytes * workload.pods;
+            cpuLimit += workload.cpuLimitMillis * workload.pods;
+            memoryLimit += workload.memoryLimitBytes * workload.pods;
+        }
+        report.append(String.format(Locale.ROOT, "%-40s %6s %10s %10s %11.0fm %10.0fMi %11.0fm %10.0fMi%n%n",
+                "total", "", "", "", cpu, memory / MEBIBYTE, cpuLimit, memoryLimit / MEBIBYTE));
+
+        report.append("Node shapes\n");
+        for (int i = 0; i < shapes.size(); i++) {
+            NodeShape shape = shapes.get(i);
+            List<double[]> nodes = packing.nodes.get(i);
+            double usedCpu = 0;
+            double usedMemory = 0;
+            for (double[] node : nodes) {
+                usedCpu += node[0];
+                usedMemory += node[1];
+            }
+            report.append(String.format(Locale.ROOT, "%-20s %s nodes used of %s, cpu %.0f%%, memory %.0f%%%n",
+                    shape.name, nodes.size(), shape.count < 0 ? "unlimited" : String.valueOf(shape.count),
+                    nodes.isEmpty() ? 0 : 100 * usedCpu / (nodes.size() * shape.cpuMillis),
+                    nodes.isEmpty() ? 0 : 100 * usedMemory / (nodes.size() * shape.memoryBytes)));
+        }
+        report.append('\n');
+        for (String name : packing.unschedulable) {
+            report.append("UNSCHEDULABLE ").append(name).append(": a pod requests more than any node shape\n");
+        }
+        for (String name : packing.pending) {
+            report.append("PENDING ").append(name).append(": not all pods fit on the declared nodes at peak\n");
+        }
+        for (Workload workload : workloads) {
+            if (workload.cpuRequestMillis == 0 || workload.memoryRequestBytes == 0) {
+                report.append("WARNING ").append(workload.name)
+                        .append(": no cpu or memory request, the demand is not bounded\n");
+            }
+        }
+        return report.toString();
+    }
+
+    /**
+     * Worst case pod count and per pod resources of a workload.
+     */
+    static class Workload {
+        private final String name;
+        private final int pods;
+        private double cpuRequestMillis;
+        private double memoryRequestBytes;
+        private double cpuLimitMillis;
+        private double memoryLimitBytes;
+
+        Workload(String name, int pods, ResourceRequirements resources) {
+            this.name = name;
+            this.pods = pods;
+            if (resources == null) {
+                return;
+            }
+            Map<String, Quantity> requests = resources.getRequests();
+            Map<String, Quantity> limits = resources.getLimits();
+            if (limits != null) {
+                cpuLimitMillis = limits.containsKey("cpu") ? getCpuMillis(limits.get("cpu")) : 0;
+                memoryLimitBytes = limits.containsKey("memory") ? KubernetesUtils.getBytes(limits.get("memory")) : 0;
+            }
+            if (requests != null) {
+                // the scheduler defaults a missing request to the limit.
+                cpuRequestMillis = requests.containsKey("cpu") ? getCpuMillis(requests.get("cpu")) : cpuLimitMillis;
+                memoryRequestBytes = requests.containsKey("memory") ? KubernetesUtils.getBytes(requests.get("memory"))
+                        : memoryLimitBytes;
+            } else {
+                cpuRequestMillis = cpuLimitMillis;
+                memoryRequestBytes = memoryLimitBytes;
+            }
+        }
+    }
+
+    /**
+     * Allocatable resources of a node shape. A negative count means the pool grows as needed.
+     */
+    static class NodeShape {
+        private final String name;
+        private final double cpuMillis;
+        private final double memoryBytes;
+        private final int maxPods;
+        private final int count;
+
+        NodeShape(String name, double cpuMillis, double memoryBytes, int maxPods, int count) {
+            this.name = name;
+            this.cpuMillis = cpuMillis;
+            this.memoryBytes = memoryBytes;
+            this.maxPods = maxPods;
+            this.count = count;
+        }
+    }
+
+    /**
+     * Nodes opened for each shape, holding used cpu, memory and pod count, and the workloads which did not fit.
+     */
+    static class Packing {
+        private final List<NodeShape> shapes;
+        private final List<List<double[]>> nodes = new ArrayList<>();
+        private final List<String> unschedulable = new ArrayList<>();
+        private final List<String> pending = new ArrayList<>();
+        private int placed;
+
+        Packing(List<NodeShape> shapes) {
+            this.shapes = shapes;
+            for (int i = 0; i < shapes.size(); i++) {
+                nodes.add(new ArrayList<>());
+            }
+        }
+
+        private boolean place(Workload pod) {
+            for (int i = 0; i < shapes.size(); i++) {
+                NodeShape shape = shapes.get(i);
+                for (double[] node : nodes.get(i)) {
+                    if (fits(shape, node, pod)) {
+                        add(node, pod);
+                        return true;
+                    }
+                }
+            }
+            for (int i = 0; i < shapes.size(); i++) {
+                NodeShape shape = shapes.get(i);
+                double[] node = new double[3];
+                if ((shape.count < 0 || nodes.get(i).size() < shape.count) && fits(shape, node, pod)) {
+                    add(node, pod);
+                    nodes.get(i).add(node);
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static boolean fits(NodeShape shape, double[] node, Workload pod) {
+            return node[0] + pod.cpuRequestMillis <= shape.cpuMillis &&
+                    node[1] + pod.memoryRequestBytes <= shape.memoryBytes && node[2] + 1 <= shape.maxPods;
+        }
+
+        private static void add(double[] node, Workload pod) {
+            node[0] += pod.cpuRequestMillis;
+            node[1] += pod.memoryRequestBytes;
+            node[2]++;
+        }
+
+        int getNodeCount() {
+            int count = 0;
+            for (List<double[]> shapeNodes : nodes) {
+                count += shapeNodes.size();
+            }
+            return count;
+        }
+
+        int getNodeCount(String shape) {
+            for (int i = 0; i < shapes.size(); i++) {
+                if (shapes.get(i).name.equals(shape)) {
+                    return nodes.get(i).size();
+                }
+            }
+            return 0;
+        }
+
+        List<String> getUnschedulable() {
+            return unschedulable;
+        }
+
+        List<String> getPending() {
+            return pending;
+        }
+
+        int getPlaced() {
+            return placed;
+        }
+    }
+}
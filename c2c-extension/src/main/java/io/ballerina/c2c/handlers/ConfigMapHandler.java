@@ -18,6 +18,7 @@
 
 package io.ballerina.c2c.handlers;
 
+import com.moandjiezana.toml.Toml;
 import io.ballerina.c2c.KubernetesConstants;
 import io.ballerina.c2c.exceptions.KubernetesPluginException;
 import io.ballerina.c2c.models.ConfigMapModel;
@@ -28,7 +29,13 @@ import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
 import io.fabric8.kubernetes.client.internal.SerializationUtils;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import static io.ballerina.c2c.KubernetesConstants.CLOUD_CONFIG_MAPS;
 
 /**
  * Generates kubernetes Config Map.
@@ -38,11 +45,16 @@ public class ConfigMapHandler extends AbstractArtifactHandler {
     private void generate(ConfigMapModel configMapModel) throws KubernetesPluginException {
         ConfigMap configMap = new ConfigMapBuilder()
                 .withNewMetadata()
-                .withName(configMapModel.getName())
+                .withName(KubernetesUtils.getConfigObjectName(configMapModel.getName(), configMapModel.getData(),
+                        dataHolder.getBallerinaCloud()))
                 .withNamespace(dataHolder.getNamespace())
                 .endMetadata()
                 .withData(configMapModel.getData())
                 .build();
+        if (KubernetesUtils.isImmutableConfig(dataHolder.getBallerinaCloud())) {
+            // The name carries a hash of the data, so the object is never updated in place.
+            configMap.setAdditionalProperty("immutable", true);
+        }
         try {
             String configMapContent = SerializationUtils.dumpWithoutRuntimeStateAsYaml(configMap);
             KubernetesUtils.writeToFile(configMapContent,
@@ -53,9 +65,36 @@ public class ConfigMapHandler extends AbstractArtifactHandler {
         }
     }
 
+    /**
+     * Add a config map for each file listed under [[cloud.config.maps]] in Ballerina.cloud. The file name is the key
+     * of the data and the config map is mounted at mount_path.
+     *
+     * @throws KubernetesPluginException if an entry is incomplete or its file cannot be read
+     */
+    private void resolveToml() throws KubernetesPluginException {
+        Toml ballerinaCloud = dataHolder.getBallerinaCloud();
+        if (ballerinaCloud == null) {
+            return;
+        }
+        List<Toml> configMapTomls = ballerinaCloud.getTables(CLOUD_CONFIG_MAPS);
+        if (configMapTomls == null) {
+            return;
+        }
+        for (Toml configMapToml : configMapTomls) {
+            Path filePath = KubernetesUtils.getConfigFilePath(configMapToml, CLOUD_CONFIG_MAPS);
+            ConfigMapModel configMapModel = new ConfigMapModel();
+            configMapModel.setName(KubernetesUtils.getValidName(configMapToml.getString("name")));
+            configMapModel.setData(Collections.singletonMap(String.valueOf(filePath.getFileName()),
+                    new String(KubernetesUtils.readFileContent(filePath), StandardCharsets.UTF_8)));
+            configMapModel.setMountPath(configMapToml.getString("mount_path"));
+            dataHolder.addConfigMaps(Collections.singleton(configMapModel));
+        }
+    }
+
     @Override
     public void createArtifacts() throws KubernetesPluginException {
         //configMap
+        resolveToml();
         int count = 0;
         Collection<ConfigMapModel> configMapModels = dataHolder.getConfigMapModelSet();
         if (configMapModels.size() > 0) {
@@ -20,14 +20,18 @@ package io.ballerina.c2c.handlers;
 
 
 import com.moandjiezana.toml.Toml;
+import io.ballerina.c2c.KubernetesConstants;
 import io.ballerina.c2c.exceptions.KubernetesPluginException;
 import io.ballerina.c2c.models.ConfigMapModel;
 import io.ballerina.c2c.models.DeploymentModel;
+import io.ballerina.c2c.models.EmptyDirVolumeModel;
 import io.ballerina.c2c.models.KubernetesContext;
 import io.ballerina.c2c.models.KubernetesDataHolder;
 import io.ballerina.c2c.models.PersistentVolumeClaimModel;
+import io.ballerina.c2c.models.PodAutoscalerModel;
 import io.ballerina.c2c.models.SecretModel;
 import io.ballerina.c2c.utils.KubernetesUtils;
+import io.fabric8.kubernetes.api.model.Affinity;
 import io.fabric8.kubernetes.api.model.Container;
 import io.fabric8.kubernetes.api.model.ContainerBuilder;
 import io.fabric8.kubernetes.api.model.ContainerPort;
@@ -39,27 +43,35 @@ import io.fabric8.kubernetes.api.model.Lifecycle;
 import io.fabric8.kubernetes.api.model.LifecycleBuilder;
 import io.fabric8.kubernetes.api.model.LocalObjectReference;
 import io.fabric8.kubernetes.api.model.LocalObjectReferenceBuilder;
+import io.fabric8.kubernetes.api.model.NodeAffinity;
+import io.fabric8.kubernetes.api.model.PodAntiAffinityBuilder;
 import io.fabric8.kubernetes.api.model.Probe;
 import io.fabric8.kubernetes.api.model.ProbeBuilder;
 import io.fabric8.kubernetes.api.model.Quantity;
+import io.fabric8.kubernetes.api.model.TopologySpreadConstraint;
+import io.fabric8.kubernetes.api.model.TopologySpreadConstraintBuilder;
 import io.fabric8.kubernetes.api.model.Volume;
 import io.fabric8.kubernetes.api.model.VolumeBuilder;
 import io.fabric8.kubernetes.api.model.VolumeMount;
 import io.fabric8.kubernetes.api.model.VolumeMountBuilder;
 import io.fabric8.kubernetes.api.model.apps.Deployment;
 import io.fabric8.kubernetes.api.model.apps.DeploymentBuilder;
+import io.fabric8.kubernetes.api.model.apps.DeploymentStrategyBuilder;
 import io.fabric8.kubernetes.client.utils.Serialization;
 import org.ballerinax.docker.generator.models.DockerModel;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.stream.Collectors;
 
 import static io.ballerina.c2c.KubernetesConstants.DEPLOYMENT_FILE_POSTFIX;
 import static io.ballerina.c2c.KubernetesConstants.DEPLOYMENT_POSTFIX;
+import static io.ballerina.c2c.KubernetesConstants.EPHEMERAL_STORAGE;
 import static io.ballerina.c2c.KubernetesConstants.EXECUTABLE_JAR;
 import static io.ballerina.c2c.KubernetesConstants.YAML;
 import static org.ballerinax.docker.generator.DockerGenConstants.REGISTRY_SEPARATOR;
@@ -71,6 +83,7 @@ import static org.ballerinax.docker.generator.utils.DockerGenUtils.extractJarNam
 public class DeploymentHandler extends AbstractArtifactHandler {
 
     public static final String CLOUD_DEPLOYMENT = "cloud.deployment.";
+    private static final String CLOUD_DEPLOYMENT_STRATEGY = CLOUD_DEPLOYMENT + "strategy.";
 
     private List<VolumeMount> populateVolumeMounts(DeploymentModel deploymentModel) {
         List<VolumeMount> volumeMounts = new ArrayList<>();
@@ -100,11 +113,18 @@ public class DeploymentHandler extends AbstractArtifactHandler {
                     .build();
             volumeMounts.add(volumeMount);
         }
+        for (EmptyDirVolumeModel emptyDirVolumeModel : deploymentModel.getEmptyDirVolumeModels()) {
+            VolumeMount volumeMount = new VolumeMountBuilder()
+                    .withMountPath(emptyDirVolumeModel.getMountPath())
+                    .withName(emptyDirVolumeModel.getName() + "-volume")
+                    .build();
+            volumeMounts.add(volumeMount);
+        }
         return volumeMounts;
     }
 
 
-    private Container generateContainer(DeploymentModel deploymentModel, List<ContainerPort> containerPorts) {
+    protected Container generateContainer(DeploymentModel deploymentModel, List<ContainerPort> containerPorts) {
         String dockerRegistry = deploymentModel.getRegistry();
         String deploymentImageName = deploymentModel.getImage();
         if (null != dockerRegistry && !"".equals(dockerRegistry)) {
@@ -132,13 +152,16 @@ public class DeploymentHandler extends AbstractArtifactHandler {
                 .build();
     }
 
-    private List<Volume> populateVolume(DeploymentModel deploymentModel) {
+    protected List<Volume> populateVolume(DeploymentModel deploymentModel) throws KubernetesPluginException {
+        Toml ballerinaCloud = dataHolder.getBallerinaCloud();
         List<Volume> volumes = new ArrayList<>();
         for (SecretModel secretModel : deploymentModel.getSecretModels()) {
+            // Volume names stay stable, only the referenced object carries the content hash.
             Volume volume = new VolumeBuilder()
                     .withName(secretModel.getName() + "-volume")
                     .withNewSecret()
-                    .withSecretName(secretModel.getName())
+                    .withSecretName(KubernetesUtils.getConfigObjectName(secretModel.getName(), secretModel.getData(),
+                            ballerinaCloud))
                     .endSecret()
                     .build();
 
@@ -151,7 +174,8 @@ public class DeploymentHandler extends AbstractArtifactHandler {
             Volume volume = new VolumeBuilder()
                     .withName(configMapModel.getName() + "-volume")
                     .withNewConfigMap()
-                    .withName(configMapModel.getName())
+                    .withName(KubernetesUtils.getConfigObjectName(configMapModel.getName(),
+                            configMapModel.getData(), ballerinaCloud))
                     .endConfigMap()
                     .build();
 
@@ -169,11 +193,22 @@ public class DeploymentHandler extends AbstractArtifactHandler {
                     .build();
             volumes.add(volume);
         }
+        for (EmptyDirVolumeModel emptyDirVolumeModel : deploymentModel.getEmptyDirVolumeModels()) {
+            Volume volume = new VolumeBuilder()
+                    .withName(emptyDirVolumeModel.getName() + "-volume")
+                    .withNewEmptyDir()
+                    .withMedium(emptyDirVolumeModel.getMedium())
+                    .withSizeLimit(emptyDirVolumeModel.getSizeLimit() == null ? null :
+                            new Quantity(emptyDirVolumeModel.getSizeLimit()))
+                    .endEmptyDir()
+                    .build();
+            volumes.add(volume);
+        }
         return volumes;
     }
 
 
-    private List<LocalObjectReference> getImagePullSecrets(DeploymentModel deploymentModel) {
+    protected List<LocalObjectReference> getImagePullSecrets(DeploymentModel deploymentModel) {
         List<LocalObjectReference> imagePullSecrets = new ArrayList<>();
         for (String imagePullSecret : deploymentModel.getImagePullSecrets()) {
             imagePullSecrets.add(new LocalObjectReferenceBuilder().withName(imagePullSecret).build());
@@ -181,13 +216,27 @@ public class DeploymentHandler extends AbstractArtifactHandler {
         return imagePullSecrets;
     }
 
-    private void resolveToml() throws KubernetesPluginException {
+    protected void resolveToml() throws KubernetesPluginException {
         Toml ballerinaCloud = dataHolder.getBallerinaCloud();
         if (ballerinaCloud != null) {
             DeploymentModel deploymentModel = dataHolder.getDeploymentModel();
             deploymentModel.setReplicas(Math.toIntExact(ballerinaCloud.getLong(CLOUD_DEPLOYMENT + "replicas",
                     (long) deploymentModel.getReplicas())));
             resolveResources(deploymentModel, ballerinaCloud);
+            resolveQos(deploymentModel, ballerinaCloud.getString(CLOUD_DEPLOYMENT + "qos"));
+            deploymentModel.setPriorityClassName(ballerinaCloud.getString(CLOUD_DEPLOYMENT + "priority_class_name",
+                    deploymentModel.getPriorityClassName()));
+            NodeAffinity nodeAffinity = KubernetesUtils.getNodeAffinity(ballerinaCloud.getTable(CLOUD_DEPLOYMENT +
+                    "affinity"));
+            if (nodeAffinity != null) {
+                if (deploymentModel.getAffinity() == null) {
+                    deploymentModel.setAffinity(new Affinity());
+                }
+                deploymentModel.getAffinity().setNodeAffinity(nodeAffinity);
+            }
+            deploymentModel.getTolerations().addAll(KubernetesUtils.getTolerations(ballerinaCloud.getTables(
+                    CLOUD_DEPLOYMENT + "tolerations")));
+            resolveEmptyDirVolumes(deploymentModel, ballerinaCloud.getTables(CLOUD_DEPLOYMENT + "empty_dirs"));
             Toml probeToml = ballerinaCloud.getTable(CLOUD_DEPLOYMENT + "probes.readiness");
             if (probeToml != null) {
                 deploymentModel.setReadinessProbe(resolveProbeToml(probeToml));
@@ -198,18 +247,18 @@ public class DeploymentHandler extends AbstractArtifactHandler {
             }
             List<HashMap<String, String>> configToml = ballerinaCloud.getList("cloud.config.envs");
             if (configToml != null) {
-                configToml.forEach(env -> {
+                for (HashMap<String, String> env : configToml) {
                     EnvVar envVar = new EnvVarBuilder()
                             .withName(env.get("name"))
                             .withNewValueFrom()
                             .withNewConfigMapKeyRef()
                             .withKey(env.get("key"))
-                            .withName(env.get("config_name"))
+                            .withName(getConfigMapName(env.get("config_name")))
                             .endConfigMapKeyRef()
                             .endValueFrom()
                             .build();
                     deploymentModel.addEnv(envVar);
-                });
+                }
                 // Config files
 //                resolveConfigMap(deploymentModel, configToml);
             }
@@ -217,7 +266,25 @@ public class DeploymentHandler extends AbstractArtifactHandler {
 
     }
 
-    private void resolveResources(DeploymentModel deploymentModel, Toml deploymentToml) {
+    /**
+     * Resolve the name of a config map referenced from Ballerina.cloud, following the content hash of generated
+     * config maps.
+     *
+     * @param name config map name
+     * @return name of the generated config map, or the given name if it is not generated
+     * @throws KubernetesPluginException if the hash cannot be computed
+     */
+    private String getConfigMapName(String name) throws KubernetesPluginException {
+        for (ConfigMapModel configMapModel : dataHolder.getConfigMapModelSet()) {
+            if (configMapModel.getName().equals(name)) {
+                return KubernetesUtils.getConfigObjectName(name, configMapModel.getData(),
+                        dataHolder.getBallerinaCloud());
+            }
+        }
+        return name;
+    }
+
+    static void resolveResources(DeploymentModel deploymentModel, Toml deploymentToml) {
         Map<String, Quantity> requests = deploymentModel.getResourceRequirements().getRequests();
         String minMemory = deploymentToml.getString(CLOUD_DEPLOYMENT + "min_memory");
         String minCPU = deploymentToml.getString(CLOUD_DEPLOYMENT + "min_cpu");
@@ -236,10 +303,93 @@ public class DeploymentHandler extends AbstractArtifactHandler {
         if (maxCPU != null) {
             limits.put("cpu", new Quantity(maxCPU));
         }
+        String minEphemeralStorage = deploymentToml.getString(CLOUD_DEPLOYMENT + "min_ephemeral_storage");
+        String maxEphemeralStorage = deploymentToml.getString(CLOUD_DEPLOYMENT + "max_ephemeral_storage");
+        if (minEphemeralStorage != null) {
+            requests.put(EPHEMERAL_STORAGE, new Quantity(minEphemeralStorage));
+        }
+        if (maxEphemeralStorage != null) {
+            limits.put(EPHEMERAL_STORAGE, new Quantity(maxEphemeralStorage));
+        }
         deploymentModel.getResourceRequirements().setLimits(limits);
         deploymentModel.getResourceRequirements().setRequests(requests);
     }
 
+    /**
+     * Scratch volumes. Memory backed volumes are tmpfs mounts and count towards the container memory limit.
+     *
+     * @param deploymentModel Deployment model
+     * @param emptyDirTomls   emptyDir tables with name, mount_path, medium and size_limit
+     * @throws KubernetesPluginException If a volume definition is invalid
+     */
+    private void resolveEmptyDirVolumes(DeploymentModel deploymentModel, List<Toml> emptyDirTomls)
+            throws KubernetesPluginException {
+        if (emptyDirTomls == null) {
+            return;
+        }
+        for (Toml emptyDirToml : emptyDirTomls) {
+            String name = emptyDirToml.getString("name");
+            String mountPath = emptyDirToml.getString("mount_path");
+            if (KubernetesUtils.isBlank(name) || KubernetesUtils.isBlank(mountPath)) {
+                throw new KubernetesPluginException("name and mount_path are required for empty_dirs volumes");
+            }
+            String medium = emptyDirToml.getString("medium", KubernetesConstants.EmptyDirMedium.disk.name());
+            EmptyDirVolumeModel emptyDirVolumeModel = new EmptyDirVolumeModel();
+            emptyDirVolumeModel.setName(KubernetesUtils.getValidName(name));
+            emptyDirVolumeModel.setMountPath(mountPath);
+            try {
+                if (KubernetesConstants.EmptyDirMedium.valueOf(medium.toLowerCase(Locale.getDefault())) ==
+                        KubernetesConstants.EmptyDirMedium.memory) {
+                    emptyDirVolumeModel.setMedium("Memory");
+                }
+            } catch (IllegalArgumentException e) {
+                throw new KubernetesPluginException("invalid emptyDir medium '" + medium + "' for volume " + name +
+                        ". Allowed values are disk and memory");
+            }
+            emptyDirVolumeModel.setSizeLimit(emptyDirToml.getString("size_limit"));
+            deploymentModel.getEmptyDirVolumeModels().add(emptyDirVolumeModel);
+        }
+    }
+
+    /**
+     * Guaranteed pods get requests equal to limits with whole cores so that the static cpu manager can pin them.
+     *
+     * @param deploymentModel Deployment model
+     * @param qos             Requested quality of service class
+     * @throws KubernetesPluginException If the quality of service class is unknown or the cpu is not a quantity
+     */
+    static void resolveQos(DeploymentModel deploymentModel, String qos) throws KubernetesPluginException {
+        if (qos == null) {
+            return;
+        }
+        KubernetesConstants.QosClass qosClass;
+        try {
+            qosClass = KubernetesConstants.QosClass.valueOf(qos.toLowerCase(Locale.getDefault()));
+        } catch (IllegalArgumentException e) {
+            throw new KubernetesPluginException("invalid qos '" + qos + "'. Allowed values are guaranteed and " +
+                    "burstable");
+        }
+        if (qosClass != KubernetesConstants.QosClass.guaranteed) {
+            return;
+        }
+        Map<String, Quantity> requests = deploymentModel.getResourceRequirements().getRequests();
+        Map<String, Quantity> limits = deploymentModel.getResourceRequirements().getLimits();
+        Quantity cpu = limits.getOrDefault("cpu", requests.get("cpu"));
+        long cores;
+        try {
+            cores = Math.max(1, (long) Math.ceil(KubernetesUtils.getCpuCores(cpu)));
+        } catch (NumberFormatException e) {
+            // the quantity may be split into amount and format, so the message carries the full value.
+            throw new KubernetesPluginException("guaranteed qos needs a cpu quantity such as 500m or 2 in max_cpu " +
+                    "or min_cpu, " + e.getMessage());
+        }
+        Quantity memory = limits.getOrDefault("memory", requests.get("memory"));
+        limits.put("cpu", new Quantity(String.valueOf(cores)));
+        requests.put("cpu", new Quantity(String.valueOf(cores)));
+        limits.put("memory", memory);
+        requests.put("memory", memory);
+    }
+
 //    private void resolveConfigMap(DeploymentModel deploymentModel, Toml envVars) throws KubernetesPluginException {
 //        Toml configFiles = envVars.getTable("files");
 //        if (configFiles != null) {
@@ -319,6 +469,193 @@ public class DeploymentHandler extends AbstractArtifactHandler {
 //        return configMapModel;
 //    }
 
+    /**
+     * Spread replicas across zones and nodes. Enabled by default when the deployment has or can scale to more than
+     * one replica.
+     *
+     * @param deploymentModel Deployment model
+     * @throws KubernetesPluginException If the spread configuration is invalid
+     */
+    private void resolveSpread(DeploymentModel deploymentModel) throws KubernetesPluginException {
+        Toml spreadToml = null;
+        if (dataHolder.getBallerinaCloud() != null) {
+            spreadToml = dataHolder.getBallerinaCloud().getTable(CLOUD_DEPLOYMENT + "spread");
+        }
+        if (spreadToml == null) {
+            spreadToml = new Toml();
+        }
+        if (!spreadToml.getBoolean("enable", getMaxReplicas(deploymentModel) > 1)) {
+            return;
+        }
+        if (deploymentModel.getTopologySpreadConstraints().isEmpty()) {
+            int maxSkew = getSpreadInt(spreadToml, "max_skew", 1, Integer.MAX_VALUE);
+            String whenUnsatisfiable = spreadToml.getString("when_unsatisfiable",
+                    KubernetesConstants.UnsatisfiableAction.ScheduleAnyway.name());
+            try {
+                KubernetesConstants.UnsatisfiableAction.valueOf(whenUnsatisfiable);
+            } catch (IllegalArgumentException e) {
+                throw new KubernetesPluginException("invalid when_unsatisfiable '" + whenUnsatisfiable +
+                        "'. Allowed values are DoNotSchedule and ScheduleAnyway");
+            }
+            List<String> topologyKeys = spreadToml.getList("topology_keys",
+                    Arrays.asList(KubernetesConstants.TOPOLOGY_ZONE_KEY, KubernetesConstants.TOPOLOGY_HOSTNAME_KEY));
+            for (String topologyKey : topologyKeys) {
+                TopologySpreadConstraint constraint = new TopologySpreadConstraintBuilder()
+                        .withMaxSkew(maxSkew)
+                        .withTopologyKey(topologyKey)
+                        .withWhenUnsatisfiable(whenUnsatisfiable)
+                        .withNewLabelSelector()
+                        .withMatchLabels(deploymentModel.getLabels())
+                        .endLabelSelector()
+                        .build();
+                deploymentModel.addTopologySpreadConstraint(constraint);
+            }
+        }
+        Affinity affinity = deploymentModel.getAffinity();
+        if ((affinity == null || affinity.getPodAntiAffinity() == null) &&
+                spreadToml.getBoolean("anti_affinity", true)) {
+            if (affinity == null) {
+                affinity = new Affinity();
+                deploymentModel.setAffinity(affinity);
+            }
+            affinity.setPodAntiAffinity(new PodAntiAffinityBuilder()
+                    .addNewPreferredDuringSchedulingIgnoredDuringExecution()
+                    .withWeight(getSpreadInt(spreadToml, "anti_affinity_weight", 100, 100))
+                    .withNewPodAffinityTerm()
+                    .withTopologyKey(KubernetesConstants.TOPOLOGY_HOSTNAME_KEY)
+                    .withNewLabelSelector()
+                    .withMatchLabels(deploymentModel.getLabels())
+                    .endLabelSelector()
+                    .endPodAffinityTerm()
+                    .endPreferredDuringSchedulingIgnoredDuringExecution()
+                    .build());
+        }
+    }
+
+    private int getMaxReplicas(DeploymentModel deploymentModel) {
+        int replicas = deploymentModel.getReplicas();
+        PodAutoscalerModel podAutoscalerModel = dataHolder.getPodAutoscalerModel();
+        if (podAutoscalerModel != null) {
+            replicas = Math.max(replicas, podAutoscalerModel.getMaxReplicas());
+        }
+        if (dataHolder.getBallerinaCloud() != null) {
+            replicas = Math.max(replicas, Math.toIntExact(dataHolder.getBallerinaCloud().getLong(CLOUD_DEPLOYMENT +
+                    "autoscaling.max_replicas", 0L)));
+        }
+        return replicas;
+    }
+
+    private static int getSpreadInt(Toml spreadToml, String key, int defaultValue, int max)
+            throws KubernetesPluginException {
+        long value = spreadToml.getLong(key, (long) defaultValue);
+        if (value < 1 || value > max) {
+            throw new KubernetesPluginException(key + " must be between 1 and " + max + ". Found " + value);
+        }
+        return (int) value;
+    }
+
+    /**
+     * Resolve the rolling update strategy. Unless configured, no pod is taken down before its replacement is ready
+     * and larger deployments surge by a quarter of their replicas so that rollouts finish in a few steps.
+     *
+     * @param deploymentModel Deployment model
+     * @throws KubernetesPluginException If the strategy configuration is invalid
+     */
+    private void resolveStrategy(DeploymentModel deploymentModel) throws KubernetesPluginException {
+        Toml strategyToml = null;
+        int replicas = deploymentModel.getReplicas();
+        if (dataHolder.getBallerinaCloud() != null) {
+            strategyToml = dataHolder.getBallerinaCloud().getTable(CLOUD_DEPLOYMENT + "strategy");
+            replicas = Math.max(replicas, Math.toIntExact(dataHolder.getBallerinaCloud().getLong(CLOUD_DEPLOYMENT +
+                    "autoscaling.min_replicas", 0L)));
+        }
+        PodAutoscalerModel podAutoscalerModel = dataHolder.getPodAutoscalerModel();
+        if (podAutoscalerModel != null) {
+            replicas = Math.max(replicas, podAutoscalerModel.getMinReplicas());
+        }
+        if (strategyToml == null) {
+            strategyToml = new Toml();
+        }
+        String type = strategyToml.getString("type", KubernetesConstants.DeploymentStrategyType.RollingUpdate.name());
+        if (KubernetesConstants.DeploymentStrategyType.Recreate.name().equals(type)) {
+            deploymentModel.setStrategy(new DeploymentStrategyBuilder().withType(type).build());
+        } else if (KubernetesConstants.DeploymentStrategyType.RollingUpdate.name().equals(type)) {
+            IntOrString maxSurge = getIntOrString(strategyToml, "max_surge",
+                    replicas < 4 ? new IntOrString(1) : new IntOrString("25%"));
+            IntOrString maxUnavailable = getIntOrString(strategyToml, "max_unavailable", new IntOrString(0));
+            if (isZero(maxSurge) && isZero(maxUnavailable)) {
+                throw new KubernetesPluginException(CLOUD_DEPLOYMENT_STRATEGY + "max_surge and max_unavailable " +
+                        "cannot both be 0");
+            }
+            deploymentModel.setStrategy(new DeploymentStrategyBuilder()
+                    .withType(type)
+                    .withNewRollingUpdate()
+                    .withMaxSurge(maxSurge)
+                    .withMaxUnavailable(maxUnavailable)
+                    .endRollingUpdate()
+                    .build());
+        } else {
+            throw new KubernetesPluginException("invalid deployment strategy type '" + type + "'. Allowed values " +
+                    "are RollingUpdate and Recreate");
+        }
+        deploymentModel.setMinReadySeconds(getOptionalInt(strategyToml, "min_ready_seconds",
+                deploymentModel.getMinReadySeconds()));
+        deploymentModel.setProgressDeadlineSeconds(getOptionalInt(strategyToml, "progress_deadline_seconds",
+                deploymentModel.getProgressDeadlineSeconds()));
+        deploymentModel.setRevisionHistoryLimit(getOptionalInt(strategyToml, "revision_history_limit",
+                deploymentModel.getRevisionHistoryLimit()));
+    }
+
+    private static IntOrString getIntOrString(Toml toml, String key, IntOrString defaultValue)
+            throws KubernetesPluginException {
+        Object value = toml.toMap().get(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        if (value instanceof Long) {
+            return new IntOrString(toNonNegativeInt((Long) value, key));
+        }
+        if (value instanceof String && ((String) value).matches("\\d{1,3}%")) {
+            String percentage = (String) value;
+            if (Integer.parseInt(percentage.substring(0, percentage.length() - 1)) > 100) {
+                throw new KubernetesPluginException(CLOUD_DEPLOYMENT_STRATEGY + key + " cannot be more than 100%. " +
+                        "Found " + value);
+            }
+            return new IntOrString(percentage);
+        }
+        throw new KubernetesPluginException(CLOUD_DEPLOYMENT_STRATEGY + key + " must be a non-negative integer or " +
+                "a percentage. Found " + value);
+    }
+
+    private static int toNonNegativeInt(long value, String key) throws KubernetesPluginException {
+        if (value < 0 || value > Integer.MAX_VALUE) {
+            throw new KubernetesPluginException(CLOUD_DEPLOYMENT_STRATEGY + key + " must be between 0 and " +
+                    Integer.MAX_VALUE + ". Found " + value);
+        }
+        return (int) value;
+    }
+
+    private static boolean isZero(IntOrString value) {
+        if (value.getStrVal() != null) {
+            String percentage = value.getStrVal();
+            return Integer.parseInt(percentage.substring(0, percentage.length() - 1)) == 0;
+        }
+        return Integer.valueOf(0).equals(value.getIntVal());
+    }
+
+    private static Integer getOptionalInt(Toml toml, String key, Integer defaultValue)
+            throws KubernetesPluginException {
+        Object value = toml.toMap().get(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        if (!(value instanceof Long)) {
+            throw new KubernetesPluginException(CLOUD_DEPLOYMENT_STRATEGY + key + " must be a non-negative integer. " +
+                    "Found " + value);
+        }
+        return toNonNegativeInt((Long) value, key);
+    }
+
     private Probe resolveProbeToml(Toml probeToml) {
         //Resolve Probe.
         Probe probe = new ProbeBuilder().build();
@@ -341,8 +678,10 @@ public class DeploymentHandler extends AbstractArtifactHandler {
      * @param deploymentModel @{@link DeploymentModel} definition
      * @throws KubernetesPluginException If an error occurs while generating artifact.
      */
-    private void generate(DeploymentModel deploymentModel) throws KubernetesPluginException {
+    protected void generate(DeploymentModel deploymentModel) throws KubernetesPluginException {
         resolveToml();
+        resolveSpread(deploymentModel);
+        resolveStrategy(deploymentModel);
         List<ContainerPort> containerPorts = null;
         if (deploymentModel.getPorts() != null) {
             containerPorts = deploymentModel.getPorts();
@@ -360,6 +699,9 @@ public class DeploymentHandler extends AbstractArtifactHandler {
                 .withMatchLabels(deploymentModel.getLabels())
                 .endSelector()
                 .withStrategy(deploymentModel.getStrategy())
+                .withMinReadySeconds(deploymentModel.getMinReadySeconds())
+                .withProgressDeadlineSeconds(deploymentModel.getProgressDeadlineSeconds())
+                .withRevisionHistoryLimit(deploymentModel.getRevisionHistoryLimit())
                 .withReplicas(deploymentModel.getReplicas())
                 .withNewTemplate()
                 .withNewMetadata()
@@ -371,6 +713,10 @@ public class DeploymentHandler extends AbstractArtifactHandler {
                 .withImagePullSecrets(getImagePullSecrets(deploymentModel))
                 .withVolumes(populateVolume(deploymentModel))
                 .withNodeSelector(deploymentModel.getNodeSelector())
+                .withTopologySpreadConstraints(deploymentModel.getTopologySpreadConstraints())
+                .withAffinity(deploymentModel.getAffinity())
+                .withPriorityClassName(deploymentModel.getPriorityClassName())
+                .withTolerations(deploymentModel.getTolerations())
                 .endSpec()
                 .endTemplate()
                 .endSpec()
@@ -385,7 +731,7 @@ public class DeploymentHandler extends AbstractArtifactHandler {
         }
     }
 
-    private void resolveDockerToml(DeploymentModel deploymentModel) {
+    protected void resolveDockerToml(DeploymentModel deploymentModel) {
         final String containerImage = "container.image";
         Toml toml = dataHolder.getBallerinaCloud();
         if (toml != null) {
@@ -395,6 +741,7 @@ public class DeploymentHandler extends AbstractArtifactHandler {
             dockerModel.setRegistry(toml.getString(containerImage + ".repository", dockerModel.getRegistry()));
             dockerModel.setTag(toml.getString(containerImage + ".tag", dockerModel.getTag()));
             dockerModel.setBaseImage(toml.getString(containerImage + ".base", dockerModel.getBaseImage()));
+            deploymentModel.setBuildImage(toml.getBoolean(containerImage + ".build", deploymentModel.isBuildImage()));
             dataHolder.getDeploymentModel().setImage
                     (dockerModel.getRegistry() + "/" + dockerModel.getName() + ":" + dockerModel.getTag());
         }
@@ -441,7 +788,7 @@ public class DeploymentHandler extends AbstractArtifactHandler {
      *
      * @param deploymentModel Deployment model
      */
-    private DockerModel getDockerModel(DeploymentModel deploymentModel) {
+    protected DockerModel getDockerModel(DeploymentModel deploymentModel) {
         final KubernetesDataHolder dataHolder = KubernetesContext.getInstance().getDataHolder();
         DockerModel dockerModel = dataHolder.getDockerModel();
         String dockerImage = deploymentModel.getImage();
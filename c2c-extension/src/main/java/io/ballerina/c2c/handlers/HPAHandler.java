@@ -41,8 +41,8 @@ import static org.ballerinax.docker.generator.utils.DockerGenUtils.extractJarNam
  */
 public class HPAHandler extends AbstractArtifactHandler {
 
-    private void generate(PodAutoscalerModel podAutoscalerModel) throws KubernetesPluginException {
-        HorizontalPodAutoscaler horizontalPodAutoscaler = new HorizontalPodAutoscalerBuilder()
+    HorizontalPodAutoscaler getHorizontalPodAutoscaler(PodAutoscalerModel podAutoscalerModel) {
+        return new HorizontalPodAutoscalerBuilder()
                 .withNewMetadata()
                 .withName(podAutoscalerModel.getName())
                 .withNamespace(dataHolder.getNamespace())
@@ -55,6 +55,10 @@ public class HPAHandler extends AbstractArtifactHandler {
                 .withNewScaleTargetRef("apps/v1", "Deployment", podAutoscalerModel.getDeployment())
                 .endSpec()
                 .build();
+    }
+
+    private void generate(PodAutoscalerModel podAutoscalerModel) throws KubernetesPluginException {
+        HorizontalPodAutoscaler horizontalPodAutoscaler = getHorizontalPodAutoscaler(podAutoscalerModel);
         try {
             String serviceContent = SerializationUtils.dumpWithoutRuntimeStateAsYaml(horizontalPodAutoscaler);
             KubernetesUtils.writeToFile(serviceContent,
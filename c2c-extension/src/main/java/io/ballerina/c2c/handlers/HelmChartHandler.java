@@ -0,0 +1,292 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.handlers;
+
+import com.moandjiezana.toml.Toml;
+import io.ballerina.c2c.ArtifactManager;
+import io.ballerina.c2c.exceptions.KubernetesPluginException;
+import io.ballerina.c2c.models.KubernetesDataHolder;
+import io.ballerina.c2c.utils.KubernetesUtils;
+import io.fabric8.kubernetes.client.utils.Serialization;
+import org.yaml.snakeyaml.Yaml;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static io.ballerina.c2c.KubernetesConstants.EPHEMERAL_STORAGE;
+import static io.ballerina.c2c.KubernetesConstants.YAML;
+import static org.ballerinax.docker.generator.utils.DockerGenUtils.extractJarName;
+
+/**
+ * Generates a Helm chart from the kubernetes artifacts, lifting replicas, resources, autoscaling bounds, JVM options
+ * and probe timings into values.yaml.
+ */
+public class HelmChartHandler extends AbstractArtifactHandler {
+
+    public static final String CLOUD_HELM = "cloud.helm";
+    private static final String JVM_OPTIONS_ENV = "JAVA_TOOL_OPTIONS";
+    private static final String[] PROBE_FIELDS = {"initialDelaySeconds", "periodSeconds", "timeoutSeconds",
+            "failureThreshold", "successThreshold"};
+    private static final String[] JOB_FIELDS = {"parallelism", "completions", "backoffLimit", "activeDeadlineSeconds"};
+    private static final String KNATIVE_API_GROUP = "serving.knative.dev/";
+    private static final String KNATIVE_AUTOSCALING = "autoscaling.knative.dev/";
+
+    /**
+     * Values are replaced with a marker while the manifest is a tree, and the marker is turned into a template
+     * expression once the manifest is serialized.
+     */
+    private static final String MARKER_PREFIX = "HELM_VALUE:";
+    private static final Pattern MARKER = Pattern.compile("['\"]?" + MARKER_PREFIX + "([A-Za-z0-9.]+):(quote)?['\"]?");
+    private static final Pattern TEMPLATE_DELIMITER = Pattern.compile("\\{\\{|}}");
+
+    private final Map<String, Object> values = new LinkedHashMap<>();
+
+    public static boolean isEnabled(KubernetesDataHolder dataHolder) {
+        Toml ballerinaCloud = dataHolder.getBallerinaCloud();
+        if (ballerinaCloud == null) {
+            return false;
+        }
+        Toml helmToml = ballerinaCloud.getTable(CLOUD_HELM);
+        return helmToml != null && helmToml.getBoolean("enable", true);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void putValue(String valuePath, Object value) {
+        String[] keys = valuePath.split("\\.");
+        Map<String, Object> current = values;
+        for (int i = 0; i < keys.length - 1; i++) {
+            current = (Map<String, Object>) current.computeIfAbsent(keys[i], k -> new LinkedHashMap<>());
+        }
+        current.put(keys[keys.length - 1], value);
+    }
+
+    /**
+     * Move a value of the manifest into values.yaml and leave a reference to it in the template.
+     *
+     * @param parent    map holding the value
+     * @param key       key of the value
+     * @param valuePath dot separated path of the value in values.yaml
+     */
+    @SuppressWarnings("unchecked")
+    private void lift(Object parent, String key, String valuePath) {
+        if (!(parent instanceof Map) || ((Map<String, Object>) parent).get(key) == null) {
+            return;
+        }
+        Map<String, Object> map = (Map<String, Object>) parent;
+        Object value = map.get(key);
+        putValue(valuePath, value);
+        map.put(key, MARKER_PREFIX + valuePath + ":" + (value instanceof String ? "quote" : ""));
+    }
+
+    /**
+     * Move a numeric annotation into values.yaml as a number. The template quotes it, since annotation values
+     * must be strings.
+     *
+     * @param annotations annotations of the resource
+     * @param key         annotation key
+     * @param valuePath   dot separated path of the value in values.yaml
+     */
+    @SuppressWarnings("unchecked")
+    private void liftAnnotation(Object annotations, String key, String valuePath) {
+        if (!(annotations instanceof Map) || ((Map<String, Object>) annotations).get(key) == null) {
+            return;
+        }
+        Map<String, Object> map = (Map<String, Object>) annotations;
+        String value = String.valueOf(map.get(key));
+        putValue(valuePath, value.matches("\\d+") ? (Object) Long.valueOf(value) : value);
+        map.put(key, MARKER_PREFIX + valuePath + ":quote");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object get(Object node, String... keys) {
+        Object current = node;
+        for (String key : keys) {
+            if (!(current instanceof Map)) {
+                return null;
+            }
+            current = ((Map<String, Object>) current).get(key);
+        }
+        return current;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void liftPodSpec(Object podSpec) {
+        Object containers = get(podSpec, "containers");
+        if (!(containers instanceof List) || ((List<Object>) containers).isEmpty()) {
+            return;
+        }
+        Map<String, Object> container = (Map<String, Object>) ((List<Object>) containers).get(0);
+        lift(container, "image", "image");
+        for (String type : new String[]{"requests", "limits"}) {
+            Object resources = get(container, "resources", type);
+            if (resources instanceof Map) {
+                for (Object resource : new ArrayList<>(((Map<String, Object>) resources).keySet())) {
+                    // template paths cannot contain '-', so ephemeral-storage becomes ephemeralStorage.
+                    String valueKey = String.valueOf(resource).equals(EPHEMERAL_STORAGE) ? "ephemeralStorage" :
+                            String.valueOf(resource);
+                    lift(resources, String.valueOf(resource), "resources." + type + "." + valueKey);
+                }
+            }
+        }
+        for (String probe : new String[]{"liveness", "readiness"}) {
+            Object probeSpec = container.get(probe + "Probe");
+            for (String field : PROBE_FIELDS) {
+                lift(probeSpec, field, "probes." + probe + "." + field);
+            }
+        }
+        List<Object> env = container.get("env") instanceof List ? (List<Object>) container.get("env") :
+                new ArrayList<>();
+        Map<String, Object> jvmOptions = new LinkedHashMap<>();
+        jvmOptions.put("name", JVM_OPTIONS_ENV);
+        jvmOptions.put("value", dataHolder.getBallerinaCloud().getTable(CLOUD_HELM).getString("jvm_options", ""));
+        env.add(jvmOptions);
+        container.put("env", env);
+        lift(jvmOptions, "value", "jvmOptions");
+    }
+
+    private void liftJobSpec(Object jobSpec) {
+        for (String field : JOB_FIELDS) {
+            lift(jobSpec, field, "job." + field);
+        }
+        liftPodSpec(get(jobSpec, "template", "spec"));
+    }
+
+    private void liftKnativeService(Object spec) {
+        Object annotations = get(spec, "template", "metadata", "annotations");
+        liftAnnotation(annotations, KNATIVE_AUTOSCALING + "minScale", "autoscaling.minReplicas");
+        liftAnnotation(annotations, KNATIVE_AUTOSCALING + "maxScale", "autoscaling.maxReplicas");
+        liftAnnotation(annotations, KNATIVE_AUTOSCALING + "target", "autoscaling.target");
+        lift(get(spec, "template", "spec"), "containerConcurrency", "containerConcurrency");
+        liftPodSpec(get(spec, "template", "spec"));
+    }
+
+    private void liftValues(Map<String, Object> resource) {
+        Object spec = resource.get("spec");
+        switch (String.valueOf(resource.get("kind"))) {
+            case "Service":
+                // a knative service carries the pod template and autoscaling bounds in place of a deployment.
+                if (String.valueOf(resource.get("apiVersion")).startsWith(KNATIVE_API_GROUP)) {
+                    liftKnativeService(spec);
+                }
+                break;
+            case "Deployment":
+                lift(spec, "replicas", "replicaCount");
+                liftPodSpec(get(spec, "template", "spec"));
+                break;
+            case "HorizontalPodAutoscaler":
+                lift(spec, "minReplicas", "autoscaling.minReplicas");
+                lift(spec, "maxReplicas", "autoscaling.maxReplicas");
+                Object metrics = get(spec, "metrics");
+                if (metrics instanceof List && ((List<?>) metrics).size() == 1) {
+                    lift(get(((List<?>) metrics).get(0), "resource", "target"), "averageUtilization",
+                            "autoscaling.targetCPUUtilizationPercentage");
+                }
+                break;
+            case "Job":
+                liftJobSpec(spec);
+                break;
+            case "CronJob":
+                lift(spec, "schedule", "job.schedule");
+                liftJobSpec(get(spec, "jobTemplate", "spec"));
+                break;
+            default:
+                break;
+        }
+    }
+
+    private static String toTemplate(String yaml) {
+        // braces already in the manifests must reach the rendered output as they are, not as template actions.
+        Matcher delimiterMatcher = TEMPLATE_DELIMITER.matcher(yaml);
+        StringBuffer escaped = new StringBuffer();
+        while (delimiterMatcher.find()) {
+            delimiterMatcher.appendReplacement(escaped,
+                    Matcher.quoteReplacement("{{ \"" + delimiterMatcher.group() + "\" }}"));
+        }
+        delimiterMatcher.appendTail(escaped);
+        Matcher matcher = MARKER.matcher(escaped);
+        StringBuffer template = new StringBuffer();
+        while (matcher.find()) {
+            String expression = "{{ .Values." + matcher.group(1) + (matcher.group(2) == null ? "" : " | quote") + " }}";
+            matcher.appendReplacement(template, Matcher.quoteReplacement(expression));
+        }
+        matcher.appendTail(template);
+        return template.toString();
+    }
+
+    private String getChart(String name, String version) {
+        String image = dataHolder.getDeploymentModel().getImage();
+        if (dataHolder.getJobModel() != null) {
+            image = dataHolder.getJobModel().getImage();
+        }
+        String appVersion = image != null && image.lastIndexOf(':') > image.lastIndexOf('/') ?
+                image.substring(image.lastIndexOf(':') + 1) : "latest";
+        return "apiVersion: v2\n" +
+                "name: " + name + "\n" +
+                "description: Helm chart for the " + name + " Ballerina module\n" +
+                "type: application\n" +
+                "version: " + version + "\n" +
+                "appVersion: \"" + appVersion + "\"\n";
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void createArtifacts() throws KubernetesPluginException {
+        Toml helmToml = dataHolder.getBallerinaCloud().getTable(CLOUD_HELM);
+        String name = helmToml.getString("name", KubernetesUtils.getValidName(extractJarName(dataHolder.getJarPath())));
+        Path artifactDir = dataHolder.getK8sArtifactOutputPath();
+        Path chartDir = artifactDir.resolve(name);
+        Path templatesDir = chartDir.resolve("templates");
+        KubernetesUtils.deleteDirectory(chartDir);
+        int count = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(artifactDir, "*" + YAML)) {
+            Files.createDirectories(templatesDir);
+            for (Path file : files) {
+                StringBuilder template = new StringBuilder();
+                String content = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+                for (Object document : new Yaml().loadAll(content)) {
+                    if (document instanceof Map) {
+                        liftValues((Map<String, Object>) document);
+                        template.append(Serialization.asYaml(document));
+                    }
+                }
+                Files.write(templatesDir.resolve(file.getFileName()),
+                        toTemplate(template.toString()).getBytes(StandardCharsets.UTF_8));
+                count++;
+            }
+            Files.write(chartDir.resolve("values.yaml"), Serialization.asYaml(values).getBytes(StandardCharsets.UTF_8));
+            Files.write(chartDir.resolve("Chart.yaml"), getChart(name, helmToml.getString("version", "0.1.0"))
+                    .getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new KubernetesPluginException("error while generating helm chart: " + name, e);
+        }
+        ArtifactManager.getInstructions().put("\tExecute the below command to install the Helm chart: ",
+                "\thelm install " + name + " " + chartDir.toAbsolutePath());
+        OUT.println();
+        OUT.print("\t@kubernetes:Helm \t\t\t - complete " + count + "/" + count);
+    }
+}
@@ -0,0 +1,251 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.handlers;
+
+import com.moandjiezana.toml.Toml;
+import io.ballerina.c2c.KubernetesConstants;
+import io.ballerina.c2c.exceptions.KubernetesPluginException;
+import io.ballerina.c2c.models.DestinationRuleModel;
+import io.ballerina.c2c.models.ServiceModel;
+import io.ballerina.c2c.models.VirtualServiceModel;
+import io.ballerina.c2c.utils.KubernetesUtils;
+import io.fabric8.kubernetes.client.internal.SerializationUtils;
+import me.snowdrop.istio.api.Duration;
+import me.snowdrop.istio.api.DurationBuilder;
+import me.snowdrop.istio.api.networking.v1alpha3.DestinationRule;
+import me.snowdrop.istio.api.networking.v1alpha3.DestinationRuleBuilder;
+import me.snowdrop.istio.api.networking.v1alpha3.HTTPRoute;
+import me.snowdrop.istio.api.networking.v1alpha3.HTTPRouteBuilder;
+import me.snowdrop.istio.api.networking.v1alpha3.PortSelectorBuilder;
+import me.snowdrop.istio.api.networking.v1alpha3.SimpleLB;
+import me.snowdrop.istio.api.networking.v1alpha3.TrafficPolicy;
+import me.snowdrop.istio.api.networking.v1alpha3.TrafficPolicyBuilder;
+import me.snowdrop.istio.api.networking.v1alpha3.VirtualService;
+import me.snowdrop.istio.api.networking.v1alpha3.VirtualServiceBuilder;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static io.ballerina.c2c.KubernetesConstants.ISTIO_DESTINATION_RULE_FILE_POSTFIX;
+import static io.ballerina.c2c.KubernetesConstants.ISTIO_VIRTUAL_SERVICE_FILE_POSTFIX;
+import static io.ballerina.c2c.KubernetesConstants.YAML;
+import static org.ballerinax.docker.generator.utils.DockerGenUtils.extractJarName;
+
+/**
+ * Generates istio destination rules and virtual services for the kubernetes services.
+ */
+public class IstioHandler extends AbstractArtifactHandler {
+
+    public static final String CLOUD_ISTIO = "cloud.istio.";
+
+    private void generate(DestinationRuleModel destinationRuleModel) throws KubernetesPluginException {
+        TrafficPolicyBuilder trafficPolicyBuilder = new TrafficPolicyBuilder()
+                .withNewConnectionPool()
+                .withNewHttp()
+                .withHttp1MaxPendingRequests(destinationRuleModel.getHttp1MaxPendingRequests())
+                .withHttp2MaxRequests(destinationRuleModel.getHttp2MaxRequests())
+                .withMaxRequestsPerConnection(destinationRuleModel.getMaxRequestsPerConnection())
+                .endHttp()
+                .withNewTcp()
+                .withMaxConnections(destinationRuleModel.getMaxConnections())
+                .endTcp()
+                .endConnectionPool();
+        if (destinationRuleModel.getConsecutiveErrors() != null) {
+            trafficPolicyBuilder.withNewOutlierDetection()
+                    .withConsecutiveErrors(destinationRuleModel.getConsecutiveErrors())
+                    .withInterval(toDuration(destinationRuleModel.getIntervalSeconds()))
+                    .withBaseEjectionTime(toDuration(destinationRuleModel.getBaseEjectionTimeSeconds()))
+                    .withMaxEjectionPercent(destinationRuleModel.getMaxEjectionPercent())
+                    .endOutlierDetection();
+        }
+        if (!KubernetesUtils.isBlank(destinationRuleModel.getLoadBalancer())) {
+            trafficPolicyBuilder.withNewLoadBalancer()
+                    .withNewSimpleLbPolicy()
+                    .withSimple(SimpleLB.valueOf(destinationRuleModel.getLoadBalancer()))
+                    .endSimpleLbPolicy()
+                    .endLoadBalancer();
+        }
+        TrafficPolicy trafficPolicy = trafficPolicyBuilder.build();
+        DestinationRule destinationRule = new DestinationRuleBuilder()
+                .withNewMetadata()
+                .withName(destinationRuleModel.getName())
+                .withNamespace(dataHolder.getNamespace())
+                .withLabels(destinationRuleModel.getLabels())
+                .endMetadata()
+                .withNewSpec()
+                .withHost(destinationRuleModel.getHost())
+                .withTrafficPolicy(trafficPolicy)
+                .endSpec()
+                .build();
+        try {
+            String drContent = SerializationUtils.dumpWithoutRuntimeStateAsYaml(destinationRule);
+            KubernetesUtils.writeToFile(drContent, ISTIO_DESTINATION_RULE_FILE_POSTFIX + YAML);
+        } catch (IOException e) {
+            String errorMessage = "error while generating yaml file for istio destination rule: " +
+                    destinationRuleModel.getName();
+            throw new KubernetesPluginException(errorMessage, e);
+        }
+    }
+
+    private void generate(VirtualServiceModel virtualServiceModel) throws KubernetesPluginException {
+        List<HTTPRoute> httpRoutes = new ArrayList<>();
+        for (Integer port : virtualServiceModel.getPorts()) {
+            HTTPRouteBuilder httpRouteBuilder = new HTTPRouteBuilder();
+            if (virtualServiceModel.getPorts().size() > 1) {
+                // A multi-port service gets a route per port so that traffic stays on the port it arrived on.
+                httpRouteBuilder.addNewMatch()
+                        .withPort(port)
+                        .endMatch();
+            }
+            httpRouteBuilder.addNewRoute()
+                    .withNewDestination()
+                    .withHost(virtualServiceModel.getHost())
+                    .withPort(new PortSelectorBuilder().withNewNumberPort(port).build())
+                    .endDestination()
+                    .endRoute()
+                    .withTimeout(toDuration(virtualServiceModel.getTimeoutSeconds()));
+            if (virtualServiceModel.getRetryAttempts() != null) {
+                httpRouteBuilder.withNewRetries()
+                        .withAttempts(virtualServiceModel.getRetryAttempts())
+                        .withPerTryTimeout(toDuration(virtualServiceModel.getPerTryTimeoutSeconds()))
+                        .withRetryOn(virtualServiceModel.getRetryOn())
+                        .endRetries();
+            }
+            httpRoutes.add(httpRouteBuilder.build());
+        }
+        VirtualService virtualService = new VirtualServiceBuilder()
+                .withNewMetadata()
+                .withName(virtualServiceModel.getName())
+                .withNamespace(dataHolder.getNamespace())
+                .withLabels(virtualServiceModel.getLabels())
+                .endMetadata()
+                .withNewSpec()
+                .withHosts(virtualServiceModel.getHost())
+                .withHttp(httpRoutes)
+                .endSpec()
+                .build();
+        try {
+            String vsContent = SerializationUtils.dumpWithoutRuntimeStateAsYaml(virtualService);
+            KubernetesUtils.writeToFile(vsContent, ISTIO_VIRTUAL_SERVICE_FILE_POSTFIX + YAML);
+        } catch (IOException e) {
+            String errorMessage = "error while generating yaml file for istio virtual service: " +
+                    virtualServiceModel.getName();
+            throw new KubernetesPluginException(errorMessage, e);
+        }
+    }
+
+    private Duration toDuration(Long seconds) {
+        if (seconds == null) {
+            return null;
+        }
+        return new DurationBuilder().withSeconds(seconds).build();
+    }
+
+    private static Integer getInteger(Toml toml, String key) {
+        Long value = toml.getLong(key);
+        return value == null ? null : Math.toIntExact(value);
+    }
+
+    private DestinationRuleModel resolveDestinationRule(ServiceModel serviceModel, Toml drToml)
+            throws KubernetesPluginException {
+        DestinationRuleModel destinationRuleModel = new DestinationRuleModel();
+        destinationRuleModel.setName(serviceModel.getName() + KubernetesConstants.DESTINATION_RULE_POSTFIX);
+        destinationRuleModel.setLabels(serviceModel.getLabels());
+        destinationRuleModel.setHost(serviceModel.getName());
+        destinationRuleModel.setHttp1MaxPendingRequests(getInteger(drToml, "http1_max_pending_requests"));
+        destinationRuleModel.setHttp2MaxRequests(getInteger(drToml, "http2_max_requests"));
+        destinationRuleModel.setMaxRequestsPerConnection(getInteger(drToml, "max_requests_per_connection"));
+        destinationRuleModel.setMaxConnections(getInteger(drToml, "max_connections"));
+        String loadBalancer = drToml.getString("load_balancer");
+        if (!KubernetesUtils.isBlank(loadBalancer)) {
+            try {
+                loadBalancer = SimpleLB.valueOf(loadBalancer.toUpperCase(Locale.ROOT)).name();
+            } catch (IllegalArgumentException e) {
+                throw new KubernetesPluginException("invalid load_balancer '" + loadBalancer + "'. Allowed values " +
+                        "are " + Arrays.stream(SimpleLB.values()).map(lb -> lb.name().toLowerCase(Locale.ROOT))
+                        .collect(Collectors.joining(", ")));
+            }
+        }
+        destinationRuleModel.setLoadBalancer(loadBalancer);
+        Toml outlierToml = drToml.getTable("outlier_detection");
+        if (outlierToml != null) {
+            destinationRuleModel.setConsecutiveErrors(Math.toIntExact(outlierToml.getLong("consecutive_errors",
+                    5L)));
+            destinationRuleModel.setIntervalSeconds(outlierToml.getLong("interval", 10L));
+            destinationRuleModel.setBaseEjectionTimeSeconds(outlierToml.getLong("base_ejection_time", 30L));
+            destinationRuleModel.setMaxEjectionPercent(getInteger(outlierToml, "max_ejection_percent"));
+        }
+        return destinationRuleModel;
+    }
+
+    private VirtualServiceModel resolveVirtualService(List<ServiceModel> serviceModels, Toml vsToml) {
+        ServiceModel serviceModel = serviceModels.get(0);
+        VirtualServiceModel virtualServiceModel = new VirtualServiceModel();
+        virtualServiceModel.setName(serviceModel.getName() + KubernetesConstants.VIRTUAL_SERVICE_POSTFIX);
+        virtualServiceModel.setLabels(serviceModel.getLabels());
+        virtualServiceModel.setHost(serviceModel.getName());
+        for (ServiceModel listener : serviceModels) {
+            virtualServiceModel.getPorts().add(listener.getPort());
+        }
+        virtualServiceModel.setTimeoutSeconds(vsToml.getLong("timeout"));
+        virtualServiceModel.setRetryAttempts(getInteger(vsToml, "retries"));
+        virtualServiceModel.setPerTryTimeoutSeconds(vsToml.getLong("per_try_timeout"));
+        virtualServiceModel.setRetryOn(vsToml.getString("retry_on", "5xx,connect-failure,reset"));
+        return virtualServiceModel;
+    }
+
+    @Override
+    public void createArtifacts() throws KubernetesPluginException {
+        Toml ballerinaCloud = dataHolder.getBallerinaCloud();
+        if (ballerinaCloud == null) {
+            return;
+        }
+        Toml drToml = ballerinaCloud.getTable(CLOUD_ISTIO + "destination_rule");
+        Toml vsToml = ballerinaCloud.getTable(CLOUD_ISTIO + "virtual_service");
+        if (drToml == null && vsToml == null) {
+            return;
+        }
+        String balxFileName = extractJarName(dataHolder.getJarPath());
+        // Listeners grouped into one kubernetes service share its name and get a single rule and virtual service.
+        Map<String, List<ServiceModel>> services = new LinkedHashMap<>();
+        for (ServiceModel serviceModel : dataHolder.getBListenerToK8sServiceMap().values()) {
+            services.computeIfAbsent(serviceModel.getName(), k -> new ArrayList<>()).add(serviceModel);
+        }
+        int count = 0;
+        for (List<ServiceModel> serviceModels : services.values()) {
+            count++;
+            ServiceModel serviceModel = serviceModels.get(0);
+            serviceModel.addLabel(KubernetesConstants.KUBERNETES_SELECTOR_KEY, balxFileName);
+            if (drToml != null) {
+                generate(resolveDestinationRule(serviceModel, drToml));
+            }
+            if (vsToml != null) {
+                generate(resolveVirtualService(serviceModels, vsToml));
+            }
+            OUT.println();
+            OUT.print("\t@kubernetes:Istio \t\t\t - complete " + count + "/" + services.size() + "\r");
+        }
+    }
+}
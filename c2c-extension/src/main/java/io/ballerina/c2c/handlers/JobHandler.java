@@ -15,20 +15,26 @@
 
 package io.ballerina.c2c.handlers;
 
+import com.moandjiezana.toml.Toml;
 import io.ballerina.c2c.KubernetesConstants;
 import io.ballerina.c2c.exceptions.KubernetesPluginException;
+import io.ballerina.c2c.models.EnvVarValueModel;
 import io.ballerina.c2c.models.JobModel;
 import io.ballerina.c2c.models.KubernetesContext;
 import io.ballerina.c2c.models.KubernetesDataHolder;
 import io.ballerina.c2c.utils.KubernetesUtils;
+import io.fabric8.kubernetes.api.model.AffinityBuilder;
 import io.fabric8.kubernetes.api.model.Container;
 import io.fabric8.kubernetes.api.model.ContainerBuilder;
 import io.fabric8.kubernetes.api.model.LocalObjectReference;
 import io.fabric8.kubernetes.api.model.LocalObjectReferenceBuilder;
+import io.fabric8.kubernetes.api.model.NodeAffinity;
 import io.fabric8.kubernetes.api.model.batch.CronJob;
 import io.fabric8.kubernetes.api.model.batch.CronJobBuilder;
 import io.fabric8.kubernetes.api.model.batch.Job;
 import io.fabric8.kubernetes.api.model.batch.JobBuilder;
+import io.fabric8.kubernetes.api.model.batch.JobSpec;
+import io.fabric8.kubernetes.api.model.batch.JobSpecBuilder;
 import io.fabric8.kubernetes.client.internal.SerializationUtils;
 import org.ballerinax.docker.generator.exceptions.DockerGenException;
 import org.ballerinax.docker.generator.models.DockerModel;
@@ -44,9 +50,18 @@ import static org.ballerinax.docker.generator.utils.DockerGenUtils.extractJarNam
  */
 public class JobHandler extends AbstractArtifactHandler {
 
+    public static final String CLOUD_JOB = "cloud.job.";
 
     private void generate(JobModel jobModel) throws KubernetesPluginException {
         try {
+            if (KedaHandler.isEnabled(dataHolder)) {
+                if (!KubernetesUtils.isBlank(jobModel.getSchedule())) {
+                    throw new KubernetesPluginException("KEDA scaled jobs cannot be combined with a task schedule");
+                }
+                // KEDA creates the jobs from the ScaledJob template, so no standalone job is emitted.
+                new KedaHandler().generateScaledJob(jobModel, getJobSpec(jobModel));
+                return;
+            }
             String jobContent;
             if (KubernetesUtils.isBlank(jobModel.getSchedule())) {
                 jobContent = SerializationUtils.dumpWithoutRuntimeStateAsYaml(getJob(jobModel));
@@ -71,23 +86,108 @@ public class JobHandler extends AbstractArtifactHandler {
                 .build();
     }
 
-    private Job getJob(JobModel jobModel) {
-        JobBuilder jobBuilder = new JobBuilder()
-                .withNewMetadata()
-                .withName(jobModel.getName())
-                .withNamespace(dataHolder.getNamespace())
-                .endMetadata()
-                .withNewSpec()
+    private static Integer positiveOrNull(int value) {
+        return value > 0 ? value : null;
+    }
+
+    private static Integer nonNegativeOrNull(int value) {
+        return value >= 0 ? value : null;
+    }
+
+    private JobSpec getJobSpec(JobModel jobModel) {
+        JobSpec jobSpec = new JobSpecBuilder()
+                .withParallelism(positiveOrNull(jobModel.getParallelism()))
+                .withCompletions(positiveOrNull(jobModel.getCompletions()))
+                .withBackoffLimit(nonNegativeOrNull(jobModel.getBackoffLimit()))
+                .withActiveDeadlineSeconds(jobModel.getActiveDeadlineSeconds() > 0 ?
+                        (long) jobModel.getActiveDeadlineSeconds() : null)
+                .withTtlSecondsAfterFinished(nonNegativeOrNull(jobModel.getTtlSecondsAfterFinished()))
                 .withNewTemplate()
                 .withNewSpec()
                 .withRestartPolicy(jobModel.getRestartPolicy())
                 .withContainers(generateContainer(jobModel))
                 .withImagePullSecrets(getImagePullSecrets(jobModel))
                 .withNodeSelector(jobModel.getNodeSelector())
+                .withPriorityClassName(jobModel.getPriorityClassName())
+                .withAffinity(jobModel.getAffinity())
+                .withTolerations(jobModel.getTolerations())
                 .endSpec()
                 .endTemplate()
-                .endSpec();
-        return jobBuilder.build();
+                .build();
+        if (jobModel.isIndexed()) {
+            // completionMode is newer than the fabric8 model in use.
+            jobSpec.setAdditionalProperty("completionMode", jobModel.getCompletionMode());
+        }
+        return jobSpec;
+    }
+
+    private Job getJob(JobModel jobModel) {
+        return new JobBuilder()
+                .withNewMetadata()
+                .withName(jobModel.getName())
+                .withNamespace(dataHolder.getNamespace())
+                .endMetadata()
+                .withSpec(getJobSpec(jobModel))
+                .build();
+    }
+
+    private void resolveToml(JobModel jobModel) throws KubernetesPluginException {
+        Toml ballerinaCloud = dataHolder.getBallerinaCloud();
+        if (ballerinaCloud != null) {
+            jobModel.setParallelism(Math.toIntExact(ballerinaCloud.getLong(CLOUD_JOB + "parallelism",
+                    (long) jobModel.getParallelism())));
+            jobModel.setCompletions(Math.toIntExact(ballerinaCloud.getLong(CLOUD_JOB + "completions",
+                    (long) jobModel.getCompletions())));
+            jobModel.setBackoffLimit(Math.toIntExact(ballerinaCloud.getLong(CLOUD_JOB + "backoff_limit",
+                    (long) jobModel.getBackoffLimit())));
+            jobModel.setActiveDeadlineSeconds(Math.toIntExact(ballerinaCloud.getLong(CLOUD_JOB +
+                    "active_deadline_seconds", (long) jobModel.getActiveDeadlineSeconds())));
+            jobModel.setCompletionMode(ballerinaCloud.getString(CLOUD_JOB + "completion_mode",
+                    jobModel.getCompletionMode()));
+            jobModel.setTtlSecondsAfterFinished(Math.toIntExact(ballerinaCloud.getLong(CLOUD_JOB +
+                    "ttl_seconds_after_finished", (long) jobModel.getTtlSecondsAfterFinished())));
+            jobModel.setConcurrencyPolicy(ballerinaCloud.getString(CLOUD_JOB + "concurrency_policy",
+                    jobModel.getConcurrencyPolicy()));
+            jobModel.setStartingDeadlineSeconds(Math.toIntExact(ballerinaCloud.getLong(CLOUD_JOB +
+                    "starting_deadline_seconds", (long) jobModel.getStartingDeadlineSeconds())));
+            jobModel.setSuccessfulJobsHistoryLimit(Math.toIntExact(ballerinaCloud.getLong(CLOUD_JOB +
+                    "successful_jobs_history_limit", (long) jobModel.getSuccessfulJobsHistoryLimit())));
+            jobModel.setFailedJobsHistoryLimit(Math.toIntExact(ballerinaCloud.getLong(CLOUD_JOB +
+                    "failed_jobs_history_limit", (long) jobModel.getFailedJobsHistoryLimit())));
+            jobModel.setPriorityClassName(ballerinaCloud.getString(CLOUD_JOB + "priority_class_name",
+                    jobModel.getPriorityClassName()));
+            NodeAffinity nodeAffinity = KubernetesUtils.getNodeAffinity(ballerinaCloud.getTable(CLOUD_JOB +
+                    "affinity"));
+            if (nodeAffinity != null) {
+                jobModel.setAffinity(new AffinityBuilder().withNodeAffinity(nodeAffinity).build());
+            }
+            jobModel.getTolerations().addAll(KubernetesUtils.getTolerations(ballerinaCloud.getTables(CLOUD_JOB +
+                    "tolerations")));
+            jobModel.setBuildImage(ballerinaCloud.getBoolean("container.image.build", jobModel.isBuildImage()));
+        }
+        try {
+            KubernetesConstants.ConcurrencyPolicy.valueOf(jobModel.getConcurrencyPolicy());
+        } catch (IllegalArgumentException e) {
+            throw new KubernetesPluginException("invalid concurrency policy '" + jobModel.getConcurrencyPolicy()
+                    + "'. Allowed values are Allow, Forbid and Replace");
+        }
+        try {
+            KubernetesConstants.CompletionMode.valueOf(jobModel.getCompletionMode());
+        } catch (IllegalArgumentException e) {
+            throw new KubernetesPluginException("invalid completion mode '" + jobModel.getCompletionMode()
+                    + "'. Allowed values are NonIndexed and Indexed");
+        }
+        if (jobModel.isIndexed()) {
+            if (jobModel.getCompletions() <= 0) {
+                throw new KubernetesPluginException("completions must be set for an indexed job");
+            }
+            EnvVarValueModel.FieldRef indexRef = new EnvVarValueModel.FieldRef();
+            indexRef.setFieldPath("metadata.annotations['" +
+                    KubernetesConstants.JOB_COMPLETION_INDEX_ANNOTATION + "']");
+            jobModel.addEnv(KubernetesConstants.JOB_COMPLETION_INDEX_ENV, new EnvVarValueModel(indexRef));
+            jobModel.addEnv(KubernetesConstants.JOB_COMPLETIONS_ENV,
+                    new EnvVarValueModel(String.valueOf(jobModel.getCompletions())));
+        }
     }
 
     private List<LocalObjectReference> getImagePullSecrets(JobModel jobModel) {
@@ -102,24 +202,25 @@ public class JobHandler extends AbstractArtifactHandler {
         return new CronJobBuilder()
                 .withNewMetadata()
                 .withName(jobModel.getName())
+                .withNamespace(dataHolder.getNamespace())
                 .endMetadata()
                 .withNewSpec()
                 .withSchedule(jobModel.getSchedule())
+                .withConcurrencyPolicy(jobModel.getConcurrencyPolicy())
+                .withStartingDeadlineSeconds(jobModel.getStartingDeadlineSeconds() > 0 ?
+                        (long) jobModel.getStartingDeadlineSeconds() : null)
+                .withSuccessfulJobsHistoryLimit(nonNegativeOrNull(jobModel.getSuccessfulJobsHistoryLimit()))
+                .withFailedJobsHistoryLimit(nonNegativeOrNull(jobModel.getFailedJobsHistoryLimit()))
                 .withNewJobTemplate()
-                .withNewSpec()
-                .withNewTemplate()
-                .withNewSpec()
-                .withRestartPolicy(jobModel.getRestartPolicy())
-                .withContainers(generateContainer(jobModel))
-                .endSpec()
-                .endTemplate()
-                .endSpec()
+                .withNewMetadata()
+                .withLabels(jobModel.getLabels())
+                .endMetadata()
+                .withSpec(getJobSpec(jobModel))
                 .endJobTemplate()
                 .endSpec()
                 .build();
     }
 
-
     @Override
     public void createArtifacts() throws KubernetesPluginException {
         try {
@@ -132,6 +233,7 @@ public class JobHandler extends AbstractArtifactHandler {
                 jobModel.setImage(balxFileName + KubernetesConstants.DOCKER_LATEST_TAG);
             }
             jobModel.addLabel(KubernetesConstants.KUBERNETES_SELECTOR_KEY, balxFileName);
+            resolveToml(jobModel);
             generate(jobModel);
             //generate dockerfile and docker image
             dataHolder.setDockerModel(getDockerModel(jobModel));
@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.handlers;
+
+import com.moandjiezana.toml.Toml;
+import io.ballerina.c2c.KubernetesConstants;
+import io.ballerina.c2c.exceptions.KubernetesPluginException;
+import io.ballerina.c2c.models.DeploymentModel;
+import io.ballerina.c2c.models.JobModel;
+import io.ballerina.c2c.models.KubernetesDataHolder;
+import io.ballerina.c2c.models.PodAutoscalerModel;
+import io.ballerina.c2c.utils.KubernetesUtils;
+import io.fabric8.kubernetes.api.model.batch.JobSpec;
+import io.fabric8.kubernetes.client.utils.Serialization;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static io.ballerina.c2c.KubernetesConstants.YAML;
+import static io.ballerina.c2c.handlers.DeploymentHandler.CLOUD_DEPLOYMENT;
+
+/**
+ * Generates KEDA scaled objects and scaled jobs for event driven listeners.
+ */
+public class KedaHandler extends AbstractArtifactHandler {
+
+    public static final String CLOUD_KEDA = "cloud.keda";
+    private static final String KEDA_API_VERSION = "keda.sh/v1alpha1";
+
+    /**
+     * KEDA scaler and the metadata key holding its backlog threshold, keyed by listener module. The keys match
+     * {@link KubernetesConstants#EVENT_LISTENER_MODULES}.
+     */
+    private static final Map<String, String[]> SCALERS = new HashMap<>();
+
+    static {
+        SCALERS.put("kafka", new String[]{"kafka", "lagThreshold"});
+        SCALERS.put("rabbitmq", new String[]{"rabbitmq", "value"});
+        SCALERS.put("nats", new String[]{"nats-jetstream", "lagThreshold"});
+        SCALERS.put("stan", new String[]{"stan", "lagThreshold"});
+    }
+
+    public static boolean isEnabled(KubernetesDataHolder dataHolder) {
+        Toml ballerinaCloud = dataHolder.getBallerinaCloud();
+        if (ballerinaCloud == null) {
+            return false;
+        }
+        Toml kedaToml = ballerinaCloud.getTable(CLOUD_KEDA);
+        return kedaToml != null && kedaToml.getBoolean("enable", true);
+    }
+
+    private String resolveScalerType(Toml kedaToml) throws KubernetesPluginException {
+        String type = kedaToml.getString("type");
+        if (!KubernetesUtils.isBlank(type)) {
+            return type;
+        }
+        for (String module : dataHolder.getBListenerToModuleMap().values()) {
+            String[] scaler = SCALERS.get(module);
+            if (scaler != null) {
+                return scaler[0];
+            }
+        }
+        throw new KubernetesPluginException("unable to detect a KEDA scaler from the listeners. " +
+                "Set 'type' under [" + CLOUD_KEDA + "] in Ballerina.cloud");
+    }
+
+    private Map<String, Object> getTrigger(Toml kedaToml) throws KubernetesPluginException {
+        String type = resolveScalerType(kedaToml);
+        Map<String, String> metadata = new LinkedHashMap<>();
+        Long threshold = kedaToml.getLong("threshold");
+        if (threshold != null) {
+            for (String[] scaler : SCALERS.values()) {
+                if (scaler[0].equals(type)) {
+                    if ("rabbitmq".equals(type)) {
+                        metadata.put("mode", "QueueLength");
+                    }
+                    metadata.put(scaler[1], String.valueOf(threshold));
+                }
+            }
+        }
+        Toml metadataToml = kedaToml.getTable("metadata");
+        if (metadataToml != null) {
+            for (Map.Entry<String, Object> entry : metadataToml.toMap().entrySet()) {
+                metadata.put(entry.getKey(), String.valueOf(entry.getValue()));
+            }
+        }
+        Map<String, Object> trigger = new LinkedHashMap<>();
+        trigger.put("type", type);
+        trigger.put("metadata", metadata);
+        String authenticationRef = kedaToml.getString("authentication_ref");
+        if (!KubernetesUtils.isBlank(authenticationRef)) {
+            trigger.put("authenticationRef", Collections.singletonMap("name", authenticationRef));
+        }
+        return trigger;
+    }
+
+    private Map<String, Object> getMetadata(String name, Map<String, String> labels) {
+        Map<String, Object> metadata = new LinkedHashMap<>();
+        metadata.put("name", name);
+        if (dataHolder.getNamespace() != null) {
+            metadata.put("namespace", dataHolder.getNamespace());
+        }
+        metadata.put("labels", labels);
+        return metadata;
+    }
+
+    private void write(Map<String, Object> resource, String name, String filePostfix)
+            throws KubernetesPluginException {
+        try {
+            KubernetesUtils.writeToFile(Serialization.asYaml(resource), filePostfix + YAML);
+        } catch (IOException e) {
+            String errorMessage = "error while generating yaml file for keda resource: " + name;
+            throw new KubernetesPluginException(errorMessage, e);
+        }
+    }
+
+    /**
+     * Generate a ScaledJob which runs the given job spec for each batch of pending events.
+     *
+     * @param jobModel job model
+     * @param jobSpec  job spec used as the ScaledJob template
+     * @throws KubernetesPluginException if an error occurs while writing the ScaledJob
+     */
+    public void generateScaledJob(JobModel jobModel, JobSpec jobSpec) throws KubernetesPluginException {
+        Toml kedaToml = dataHolder.getBallerinaCloud().getTable(CLOUD_KEDA);
+        String name = jobModel.getName().replace(KubernetesConstants.JOB_POSTFIX, "") +
+                KubernetesConstants.SCALED_JOB_POSTFIX;
+        Map<String, Object> spec = new LinkedHashMap<>();
+        spec.put("jobTargetRef", jobSpec);
+        spec.put("pollingInterval", kedaToml.getLong("polling_interval", 30L));
+        spec.put("maxReplicaCount", kedaToml.getLong("max_replicas", 100L));
+        if (jobModel.getSuccessfulJobsHistoryLimit() >= 0) {
+            spec.put("successfulJobsHistoryLimit", jobModel.getSuccessfulJobsHistoryLimit());
+        }
+        if (jobModel.getFailedJobsHistoryLimit() >= 0) {
+            spec.put("failedJobsHistoryLimit", jobModel.getFailedJobsHistoryLimit());
+        }
+        spec.put("triggers", Collections.singletonList(getTrigger(kedaToml)));
+        Map<String, Object> scaledJob = new LinkedHashMap<>();
+        scaledJob.put("apiVersion", KEDA_API_VERSION);
+        scaledJob.put("kind", "ScaledJob");
+        scaledJob.put("metadata", getMetadata(name, jobModel.getLabels()));
+        scaledJob.put("spec", spec);
+        write(scaledJob, name, KubernetesConstants.KEDA_SCALED_JOB_FILE_POSTFIX);
+    }
+
+    @Override
+    public void createArtifacts() throws KubernetesPluginException {
+        Toml kedaToml = dataHolder.getBallerinaCloud().getTable(CLOUD_KEDA);
+        DeploymentModel deploymentModel = dataHolder.getDeploymentModel();
+        PodAutoscalerModel podAutoscalerModel = deploymentModel.getPodAutoscalerModel();
+        long maxReplicas = podAutoscalerModel != null && podAutoscalerModel.getMaxReplicas() > 0 ?
+                podAutoscalerModel.getMaxReplicas() : deploymentModel.getReplicas() + 1;
+        maxReplicas = dataHolder.getBallerinaCloud().getLong(CLOUD_DEPLOYMENT + "autoscaling.max_replicas",
+                maxReplicas);
+        String name = deploymentModel.getName().replace(KubernetesConstants.DEPLOYMENT_POSTFIX, "") +
+                KubernetesConstants.SCALED_OBJECT_POSTFIX;
+
+        Map<String, Object> spec = new LinkedHashMap<>();
+        spec.put("scaleTargetRef", Collections.singletonMap("name", deploymentModel.getName()));
+        spec.put("pollingInterval", kedaToml.getLong("polling_interval", 30L));
+        spec.put("cooldownPeriod", kedaToml.getLong("cooldown_period", 300L));
+        // Consumers with no backlog are scaled to zero unless a minimum is configured.
+        spec.put("minReplicaCount", kedaToml.getLong("min_replicas", 0L));
+        spec.put("maxReplicaCount", kedaToml.getLong("max_replicas", maxReplicas));
+        spec.put("triggers", Collections.singletonList(getTrigger(kedaToml)));
+        Map<String, Object> scaledObject = new LinkedHashMap<>();
+        scaledObject.put("apiVersion", KEDA_API_VERSION);
+        scaledObject.put("kind", "ScaledObject");
+        scaledObject.put("metadata", getMetadata(name, deploymentModel.getLabels()));
+        scaledObject.put("spec", spec);
+        write(scaledObject, name, KubernetesConstants.KEDA_SCALED_OBJECT_FILE_POSTFIX);
+        OUT.println();
+        OUT.print("\t@kubernetes:KEDA \t\t\t - complete 1/1");
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.handlers;
+
+import com.moandjiezana.toml.Toml;
+import io.ballerina.c2c.exceptions.KubernetesPluginException;
+import io.ballerina.c2c.models.DeploymentModel;
+import io.ballerina.c2c.models.KubernetesDataHolder;
+import io.ballerina.c2c.models.PodAutoscalerModel;
+import io.ballerina.c2c.models.ServiceModel;
+import io.ballerina.c2c.utils.KubernetesUtils;
+import io.fabric8.knative.serving.v1.RevisionSpec;
+import io.fabric8.knative.serving.v1.Service;
+import io.fabric8.knative.serving.v1.ServiceBuilder;
+import io.fabric8.kubernetes.api.model.Container;
+import io.fabric8.kubernetes.api.model.ContainerPortBuilder;
+import io.fabric8.kubernetes.api.model.Probe;
+import io.fabric8.kubernetes.client.utils.Serialization;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static io.ballerina.c2c.KubernetesConstants.DEPLOYMENT_POSTFIX;
+import static io.ballerina.c2c.KubernetesConstants.KNATIVE_SVC_FILE_POSTFIX;
+import static io.ballerina.c2c.KubernetesConstants.YAML;
+
+/**
+ * Generates a knative service in place of the deployment, service and autoscaler.
+ */
+public class KnativeHandler extends DeploymentHandler {
+
+    public static final String CLOUD_KNATIVE = CLOUD_DEPLOYMENT + "knative";
+    private static final String AUTOSCALING = "autoscaling.knative.dev/";
+
+    /**
+     * Check whether knative output is enabled in Ballerina.cloud.
+     *
+     * @param dataHolder data holder of the module
+     * @return true if knative services should be generated
+     */
+    public static boolean isEnabled(KubernetesDataHolder dataHolder) {
+        Toml ballerinaCloud = dataHolder.getBallerinaCloud();
+        if (ballerinaCloud == null) {
+            return false;
+        }
+        Toml knativeToml = ballerinaCloud.getTable(CLOUD_KNATIVE);
+        return knativeToml != null && knativeToml.getBoolean("enable", true);
+    }
+
+    private Map<String, String> resolveAutoscaling(DeploymentModel deploymentModel, Toml knativeToml) {
+        long containerConcurrency = knativeToml.getLong("container_concurrency", 0L);
+        // Aim below the hard concurrency limit so that new pods are requested before requests queue up.
+        long defaultTarget = containerConcurrency > 0 ? Math.max(1, Math.round(containerConcurrency * 0.7)) : 100;
+        PodAutoscalerModel podAutoscalerModel = dataHolder.getPodAutoscalerModel();
+        long minScale = podAutoscalerModel != null && podAutoscalerModel.getMinReplicas() > 0 ?
+                podAutoscalerModel.getMinReplicas() : deploymentModel.getReplicas();
+        // Knative does not bound the number of pods unless a maximum is configured.
+        Long maxScale = podAutoscalerModel != null && podAutoscalerModel.getMaxReplicas() > 0 ?
+                Long.valueOf(podAutoscalerModel.getMaxReplicas()) : null;
+        Toml ballerinaCloud = dataHolder.getBallerinaCloud();
+        Long configuredMinScale = ballerinaCloud.getLong(CLOUD_DEPLOYMENT + "autoscaling.min_replicas");
+        boolean hasMinReplicas = configuredMinScale != null ||
+                (podAutoscalerModel != null && podAutoscalerModel.getMinReplicas() > 0);
+        if (configuredMinScale != null) {
+            minScale = configuredMinScale;
+        }
+        maxScale = ballerinaCloud.getLong(CLOUD_DEPLOYMENT + "autoscaling.max_replicas", maxScale);
+        // Scale to zero by default, unless a minimum number of replicas is configured.
+        if (knativeToml.getBoolean("scale_to_zero", !hasMinReplicas)) {
+            minScale = 0;
+        }
+
+        Map<String, String> annotations = new LinkedHashMap<>();
+        annotations.put(AUTOSCALING + "class", "kpa.autoscaling.knative.dev");
+        annotations.put(AUTOSCALING + "metric", knativeToml.getString("metric", "concurrency"));
+        annotations.put(AUTOSCALING + "target", String.valueOf(knativeToml.getLong("target", defaultTarget)));
+        annotations.put(AUTOSCALING + "minScale", String.valueOf(minScale));
+        if (maxScale != null) {
+            annotations.put(AUTOSCALING + "maxScale", String.valueOf(maxScale));
+        }
+        String retention = knativeToml.getString("scale_to_zero_grace_period");
+        if (retention != null) {
+            annotations.put(AUTOSCALING + "scale-to-zero-pod-retention-period", retention);
+        }
+        if (deploymentModel.getPodAnnotations() != null) {
+            annotations.putAll(deploymentModel.getPodAnnotations());
+        }
+        return annotations;
+    }
+
+    /**
+     * Knative owns the port used by probes and does not allow lifecycle hooks on the user container.
+     *
+     * @param container container generated for the deployment
+     */
+    private void adaptContainer(Container container) {
+        container.setLifecycle(null);
+        for (Probe probe : new Probe[]{container.getLivenessProbe(), container.getReadinessProbe()}) {
+            if (probe != null && probe.getHttpGet() != null) {
+                probe.getHttpGet().setPort(null);
+            }
+        }
+    }
+
+    /**
+     * Carry the scheduling constraints of the deployment to the revision. Knative only accepts them when the
+     * matching kubernetes.podspec-* feature flags are enabled in the config-features config map.
+     *
+     * @param deploymentModel deployment model
+     * @param revisionSpec    spec of the revision template
+     */
+    private void addScheduling(DeploymentModel deploymentModel, RevisionSpec revisionSpec) {
+        List<String> flags = new ArrayList<>();
+        if (deploymentModel.getAffinity() != null) {
+            revisionSpec.setAdditionalProperty("affinity", deploymentModel.getAffinity());
+            flags.add("kubernetes.podspec-affinity");
+        }
+        if (deploymentModel.getTolerations() != null && !deploymentModel.getTolerations().isEmpty()) {
+            revisionSpec.setAdditionalProperty("tolerations", deploymentModel.getTolerations());
+            flags.add("kubernetes.podspec-tolerations");
+        }
+        if (deploymentModel.getPriorityClassName() != null) {
+            revisionSpec.setAdditionalProperty("priorityClassName", deploymentModel.getPriorityClassName());
+            flags.add("kubernetes.podspec-priorityclassname");
+        }
+        if (!flags.isEmpty()) {
+            KubernetesUtils.printWarning("the knative service uses " + String.join(", ", flags) +
+                    ". Enable these features in the knative-serving config-features config map");
+        }
+    }
+
+    @Override
+    protected void generate(DeploymentModel deploymentModel) throws KubernetesPluginException {
+        resolveToml();
+        Toml knativeToml = dataHolder.getBallerinaCloud().getTable(CLOUD_KNATIVE);
+        Container container = generateContainer(deploymentModel, deploymentModel.getPorts());
+        adaptContainer(container);
+        Service service = new ServiceBuilder()
+                .withNewMetadata()
+                .withName(deploymentModel.getName().replace(DEPLOYMENT_POSTFIX, ""))
+                .withLabels(deploymentModel.getLabels())
+                .withAnnotations(deploymentModel.getAnnotations())
+                .withNamespace(dataHolder.getNamespace())
+                .endMetadata()
+                .withNewSpec()
+                .withNewTemplate()
+                .withNewMetadata()
+                .addToLabels(deploymentModel.getLabels())
+                .addToAnnotations(resolveAutoscaling(deploymentModel, knativeToml))
+                .endMetadata()
+                .withNewSpec()
+                .withContainerConcurrency(knativeToml.getLong("container_concurrency", 0L))
+                .withTimeoutSeconds(knativeToml.getLong("timeout"))
+                .withContainers(container)
+                .withVolumes(populateVolume(deploymentModel))
+                .endSpec()
+                .endTemplate()
+                .endSpec()
+                .build();
+        addScheduling(deploymentModel, service.getSpec().getTemplate().getSpec());
+        try {
+            String serviceContent = Serialization.asYaml(service);
+            KubernetesUtils.writeToFile(serviceContent, KNATIVE_SVC_FILE_POSTFIX + YAML);
+        } catch (IOException e) {
+            String errorMessage = "error while generating yaml file for knative service: " + service.getMetadata()
+                    .getName();
+            throw new KubernetesPluginException(errorMessage, e);
+        }
+    }
+
+    @Override
+    public void createArtifacts() throws KubernetesPluginException {
+        DeploymentModel deploymentModel = dataHolder.getDeploymentModel();
+        Collection<ServiceModel> serviceModels = dataHolder.getBListenerToK8sServiceMap().values();
+        if (serviceModels.size() > 1) {
+            throw new KubernetesPluginException("knative services support a single listener, found " +
+                    serviceModels.size());
+        }
+        for (ServiceModel serviceModel : serviceModels) {
+            boolean h2c = "grpc".equals(serviceModel.getProtocol()) || "http2".equals(serviceModel.getProtocol());
+            deploymentModel.addPort(new ContainerPortBuilder()
+                    .withName(h2c ? "h2c" : "http1")
+                    .withContainerPort(serviceModel.getTargetPort())
+                    .build());
+        }
+        deploymentModel.setPodAutoscalerModel(dataHolder.getPodAutoscalerModel());
+        deploymentModel.setSecretModels(dataHolder.getSecretModelSet());
+        deploymentModel.setConfigMapModels(dataHolder.getConfigMapModelSet());
+        deploymentModel.setVolumeClaimModels(dataHolder.getVolumeClaimModelSet());
+        resolveDockerToml(deploymentModel);
+        generate(deploymentModel);
+        OUT.println();
+        OUT.print("\t@kubernetes:KnativeService \t\t - complete 1/1");
+        dataHolder.setDockerModel(getDockerModel(deploymentModel));
+    }
+}
@@ -0,0 +1,272 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.handlers;
+
+import com.moandjiezana.toml.Toml;
+import com.moandjiezana.toml.TomlWriter;
+import io.ballerina.c2c.ArtifactManager;
+import io.ballerina.c2c.KubernetesConstants;
+import io.ballerina.c2c.exceptions.KubernetesPluginException;
+import io.ballerina.c2c.models.DeploymentModel;
+import io.ballerina.c2c.models.KubernetesDataHolder;
+import io.ballerina.c2c.models.PodAutoscalerModel;
+import io.ballerina.c2c.utils.KubernetesUtils;
+import io.fabric8.kubernetes.api.model.Quantity;
+import io.fabric8.kubernetes.client.internal.SerializationUtils;
+import io.fabric8.kubernetes.client.utils.Serialization;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static io.ballerina.c2c.KubernetesConstants.YAML;
+import static io.ballerina.c2c.handlers.DeploymentHandler.CLOUD_DEPLOYMENT;
+
+/**
+ * Generates a Kustomize base from the kubernetes artifacts and an overlay for each [profile.&lt;name&gt;] section of
+ * Ballerina.cloud. A profile mirrors the base file, e.g. [profile.prod.cloud.deployment], and is merged over it.
+ */
+public class KustomizeHandler extends AbstractArtifactHandler {
+
+    public static final String PROFILE = "profile";
+    private static final String KUSTOMIZE = "kustomize";
+    private static final String KUSTOMIZATION = "kustomization" + YAML;
+    private static final String DEPLOYMENT_PATCH = "deployment_patch" + YAML;
+    private static final String HPA_PATCH = "hpa_patch" + YAML;
+    private static final String HPA_RESOURCE = "hpa" + YAML;
+    private static final String[] RESOURCE_KEYS = {"min_cpu", "max_cpu", "min_memory", "max_memory",
+            "min_ephemeral_storage", "max_ephemeral_storage", "qos"};
+    private static final String AUTOSCALING = CLOUD_DEPLOYMENT + "autoscaling";
+
+    public static boolean isEnabled(KubernetesDataHolder dataHolder) {
+        Toml ballerinaCloud = dataHolder.getBallerinaCloud();
+        return ballerinaCloud != null && ballerinaCloud.getTable(PROFILE) != null;
+    }
+
+    /**
+     * Merge a profile over the base Ballerina.cloud. Tables are merged key by key, other values are replaced.
+     *
+     * @param ballerinaCloud base Ballerina.cloud
+     * @param profile        name of the profile
+     * @return merged Ballerina.cloud
+     * @throws KubernetesPluginException if the profile does not exist
+     */
+    public static Toml getProfile(Toml ballerinaCloud, String profile) throws KubernetesPluginException {
+        Toml profileToml = ballerinaCloud.getTable(PROFILE + "." + profile);
+        if (profileToml == null) {
+            throw new KubernetesPluginException("profile '" + profile + "' is not defined in Ballerina.cloud");
+        }
+        Map<String, Object> merged = new LinkedHashMap<>(ballerinaCloud.toMap());
+        merged.remove(PROFILE);
+        merge(merged, profileToml.toMap());
+        return new Toml().read(new TomlWriter().write(merged));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void merge(Map<String, Object> base, Map<String, Object> overrides) {
+        for (Map.Entry<String, Object> override : overrides.entrySet()) {
+            Object baseValue = base.get(override.getKey());
+            if (baseValue instanceof Map && override.getValue() instanceof Map) {
+                Map<String, Object> mergedValue = new LinkedHashMap<>((Map<String, Object>) baseValue);
+                merge(mergedValue, (Map<String, Object>) override.getValue());
+                base.put(override.getKey(), mergedValue);
+            } else {
+                base.put(override.getKey(), override.getValue());
+            }
+        }
+    }
+
+    private static boolean containsAny(Toml toml, String table, String... keys) {
+        Toml tableToml = toml.getTable(table);
+        if (tableToml == null) {
+            return false;
+        }
+        for (String key : keys) {
+            if (tableToml.contains(key)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Map<String, Object> getDeploymentPatch(DeploymentModel deploymentModel, Toml profileToml,
+                                                   Toml mergedToml) throws KubernetesPluginException {
+        Map<String, Object> spec = new LinkedHashMap<>();
+        if (containsAny(profileToml, "cloud.deployment", "replicas")) {
+            spec.put("replicas", mergedToml.getLong(CLOUD_DEPLOYMENT + "replicas"));
+        }
+        if (containsAny(profileToml, "cloud.deployment", RESOURCE_KEYS)) {
+            // resolve the profile resources from the defaults, as the merged toml already holds the base values.
+            DeploymentModel profileModel = new DeploymentModel();
+            DeploymentHandler.resolveResources(profileModel, mergedToml);
+            DeploymentHandler.resolveQos(profileModel, mergedToml.getString(CLOUD_DEPLOYMENT + "qos"));
+            Map<String, Object> resources = new LinkedHashMap<>();
+            resources.put("requests", toStrings(profileModel.getResourceRequirements().getRequests()));
+            resources.put("limits", toStrings(profileModel.getResourceRequirements().getLimits()));
+            Map<String, Object> container = new LinkedHashMap<>();
+            container.put("name", deploymentModel.getName());
+            container.put("resources", resources);
+            spec.put("template", Collections.singletonMap("spec",
+                    Collections.singletonMap("containers", Collections.singletonList(container))));
+        }
+        if (spec.isEmpty()) {
+            return null;
+        }
+        Map<String, Object> patch = new LinkedHashMap<>();
+        patch.put("apiVersion", "apps/v1");
+        patch.put("kind", "Deployment");
+        patch.put("metadata", Collections.singletonMap("name", deploymentModel.getName()));
+        patch.put("spec", spec);
+        return patch;
+    }
+
+    private static Map<String, String> toStrings(Map<String, Quantity> quantities) {
+        Map<String, String> values = new LinkedHashMap<>();
+        for (Map.Entry<String, Quantity> quantity : quantities.entrySet()) {
+            values.put(quantity.getKey(), quantity.getValue().getAmount() +
+                    (quantity.getValue().getFormat() == null ? "" : quantity.getValue().getFormat()));
+        }
+        return values;
+    }
+
+    private PodAutoscalerModel getPodAutoscaler(DeploymentModel deploymentModel, PodAutoscalerModel base,
+                                                Toml mergedToml) {
+        PodAutoscalerModel podAutoscalerModel = new PodAutoscalerModel();
+        if (base != null) {
+            podAutoscalerModel.setName(base.getName());
+            podAutoscalerModel.setLabels(base.getLabels());
+            podAutoscalerModel.setMinReplicas(base.getMinReplicas());
+            podAutoscalerModel.setMaxReplicas(base.getMaxReplicas());
+            podAutoscalerModel.setCpuPercentage(base.getCpuPercentage());
+        } else {
+            String balxFileName = deploymentModel.getName().replace(KubernetesConstants.DEPLOYMENT_POSTFIX, "");
+            podAutoscalerModel.setName(balxFileName + KubernetesConstants.HPA_POSTFIX);
+            podAutoscalerModel.addLabel(KubernetesConstants.KUBERNETES_SELECTOR_KEY, balxFileName);
+            podAutoscalerModel.setMinReplicas(deploymentModel.getReplicas());
+            podAutoscalerModel.setMaxReplicas(deploymentModel.getReplicas() + 1);
+        }
+        podAutoscalerModel.setDeployment(deploymentModel.getName());
+        podAutoscalerModel.setMinReplicas(Math.toIntExact(mergedToml.getLong(AUTOSCALING + ".min_replicas",
+                (long) podAutoscalerModel.getMinReplicas())));
+        podAutoscalerModel.setMaxReplicas(Math.toIntExact(mergedToml.getLong(AUTOSCALING + ".max_replicas",
+                (long) podAutoscalerModel.getMaxReplicas())));
+        podAutoscalerModel.setCpuPercentage(Math.toIntExact(mergedToml.getLong(AUTOSCALING + ".cpu",
+                (long) podAutoscalerModel.getCpuPercentage())));
+        return podAutoscalerModel;
+    }
+
+    private List<String> writeBase(Path artifactDir, Path baseDir) throws IOException {
+        List<String> resources = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(artifactDir, "*" + YAML)) {
+            for (Path file : files) {
+                Files.copy(file, baseDir.resolve(file.getFileName()));
+                resources.add(String.valueOf(file.getFileName()));
+            }
+        }
+        Collections.sort(resources);
+        Map<String, Object> kustomization = new LinkedHashMap<>();
+        kustomization.put("apiVersion", "kustomize.config.k8s.io/v1beta1");
+        kustomization.put("kind", "Kustomization");
+        kustomization.put("resources", resources);
+        Files.write(baseDir.resolve(KUSTOMIZATION), Serialization.asYaml(kustomization)
+                .getBytes(StandardCharsets.UTF_8));
+        return resources;
+    }
+
+    private void writeOverlay(Path overlayDir, String profile) throws IOException, KubernetesPluginException {
+        Toml ballerinaCloud = dataHolder.getBallerinaCloud();
+        Toml profileToml = ballerinaCloud.getTable(PROFILE + "." + profile);
+        Toml mergedToml = getProfile(ballerinaCloud, profile);
+        DeploymentModel deploymentModel = dataHolder.getDeploymentModel();
+        List<String> resources = new ArrayList<>();
+        resources.add("../../base");
+        List<String> patches = new ArrayList<>();
+        Files.createDirectories(overlayDir);
+
+        // jobs and knative services have no deployment, so only the namespace and labels are overlaid for them.
+        boolean hasDeployment = dataHolder.getJobModel() == null && !KnativeHandler.isEnabled(dataHolder);
+        Map<String, Object> deploymentPatch = hasDeployment ?
+                getDeploymentPatch(deploymentModel, profileToml, mergedToml) : null;
+        if (deploymentPatch != null) {
+            Files.write(overlayDir.resolve(DEPLOYMENT_PATCH), Serialization.asYaml(deploymentPatch)
+                    .getBytes(StandardCharsets.UTF_8));
+            patches.add(DEPLOYMENT_PATCH);
+        }
+        if (hasDeployment && !KedaHandler.isEnabled(dataHolder) && profileToml.getTable(AUTOSCALING) != null &&
+                profileToml.getTable(AUTOSCALING).getBoolean("enable", true)) {
+            PodAutoscalerModel base = deploymentModel.getPodAutoscalerModel();
+            String hpaContent = SerializationUtils.dumpWithoutRuntimeStateAsYaml(new HPAHandler()
+                    .getHorizontalPodAutoscaler(getPodAutoscaler(deploymentModel, base, mergedToml)));
+            // an autoscaler enabled only for this profile is added as a resource, otherwise the base is patched.
+            String fileName = base == null ? HPA_RESOURCE : HPA_PATCH;
+            Files.write(overlayDir.resolve(fileName), hpaContent.getBytes(StandardCharsets.UTF_8));
+            if (base == null) {
+                resources.add(fileName);
+            } else {
+                patches.add(fileName);
+            }
+        }
+
+        Map<String, Object> kustomization = new LinkedHashMap<>();
+        kustomization.put("apiVersion", "kustomize.config.k8s.io/v1beta1");
+        kustomization.put("kind", "Kustomization");
+        String namespace = profileToml.getString("namespace");
+        if (!KubernetesUtils.isBlank(namespace)) {
+            kustomization.put("namespace", namespace);
+        }
+        kustomization.put("resources", resources);
+        if (!patches.isEmpty()) {
+            kustomization.put("patchesStrategicMerge", patches);
+        }
+        kustomization.put("commonLabels", Collections.singletonMap("profile", profile));
+        Files.write(overlayDir.resolve(KUSTOMIZATION), Serialization.asYaml(kustomization)
+                .getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void createArtifacts() throws KubernetesPluginException {
+        Path artifactDir = dataHolder.getK8sArtifactOutputPath();
+        Path kustomizeDir = artifactDir.resolve(KUSTOMIZE);
+        KubernetesUtils.deleteDirectory(kustomizeDir);
+        List<String> profiles = new ArrayList<>(dataHolder.getBallerinaCloud().getTable(PROFILE).toMap().keySet());
+        Collections.sort(profiles);
+        try {
+            Path baseDir = kustomizeDir.resolve("base");
+            Files.createDirectories(baseDir);
+            writeBase(artifactDir, baseDir);
+            for (String profile : profiles) {
+                writeOverlay(kustomizeDir.resolve("overlays").resolve(profile), profile);
+                ArtifactManager.getInstructions().put("\tExecute the below command to deploy the " + profile +
+                        " profile: ", "\tkubectl apply -k " + kustomizeDir.resolve("overlays").resolve(profile)
+                        .toAbsolutePath());
+            }
+        } catch (IOException e) {
+            throw new KubernetesPluginException("error while generating kustomize overlays", e);
+        }
+        OUT.println();
+        OUT.print("\t@kubernetes:Kustomize \t\t\t - complete " + profiles.size() + "/" + profiles.size());
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.handlers;
+
+import com.moandjiezana.toml.Toml;
+import io.ballerina.c2c.KubernetesConstants;
+import io.ballerina.c2c.exceptions.KubernetesPluginException;
+import io.ballerina.c2c.models.DeploymentModel;
+import io.ballerina.c2c.utils.KubernetesUtils;
+import io.fabric8.kubernetes.api.model.ContainerPortBuilder;
+import io.fabric8.kubernetes.api.model.Service;
+import io.fabric8.kubernetes.api.model.ServiceBuilder;
+import io.fabric8.kubernetes.client.internal.SerializationUtils;
+import io.fabric8.kubernetes.client.utils.Serialization;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static io.ballerina.c2c.KubernetesConstants.METRICS_PORT_NAME;
+import static io.ballerina.c2c.handlers.DeploymentHandler.CLOUD_DEPLOYMENT;
+import static org.ballerinax.docker.generator.utils.DockerGenUtils.extractJarName;
+
+/**
+ * Enables the Ballerina Prometheus metrics endpoint and wires it for scraping.
+ */
+public class MetricsHandler extends AbstractArtifactHandler {
+
+    private void generateServiceMonitor(DeploymentModel deploymentModel, int port, String path, String interval)
+            throws KubernetesPluginException {
+        String balxFileName = extractJarName(dataHolder.getJarPath());
+        String name = KubernetesUtils.getValidName(balxFileName);
+        Service service = new ServiceBuilder()
+                .withNewMetadata()
+                .withName(name + KubernetesConstants.METRICS_SVC_POSTFIX)
+                .withNamespace(dataHolder.getNamespace())
+                .addToLabels(deploymentModel.getLabels())
+                .addToLabels(METRICS_PORT_NAME, "true")
+                .endMetadata()
+                .withNewSpec()
+                .addNewPort()
+                .withName(METRICS_PORT_NAME)
+                .withProtocol(KubernetesConstants.KUBERNETES_SVC_PROTOCOL)
+                .withPort(port)
+                .withNewTargetPort(port)
+                .endPort()
+                .addToSelector(KubernetesConstants.KUBERNETES_SELECTOR_KEY, balxFileName)
+                .endSpec()
+                .build();
+
+        // prometheus-operator has no model in the fabric8 client, so the monitor is built as a plain map.
+        Map<String, Object> metadata = new LinkedHashMap<>();
+        metadata.put("name", name + "-monitor");
+        if (dataHolder.getNamespace() != null) {
+            metadata.put("namespace", dataHolder.getNamespace());
+        }
+        metadata.put("labels", deploymentModel.getLabels());
+        Map<String, Object> endpoint = new LinkedHashMap<>();
+        endpoint.put("port", METRICS_PORT_NAME);
+        endpoint.put("path", path);
+        endpoint.put("interval", interval);
+        Map<String, String> matchLabels = new LinkedHashMap<>();
+        matchLabels.put(KubernetesConstants.KUBERNETES_SELECTOR_KEY, balxFileName);
+        matchLabels.put(METRICS_PORT_NAME, "true");
+        Map<String, Object> spec = new LinkedHashMap<>();
+        spec.put("selector", Collections.singletonMap("matchLabels", matchLabels));
+        spec.put("endpoints", Collections.singletonList(endpoint));
+        Map<String, Object> serviceMonitor = new LinkedHashMap<>();
+        serviceMonitor.put("apiVersion", "monitoring.coreos.com/v1");
+        serviceMonitor.put("kind", "ServiceMonitor");
+        serviceMonitor.put("metadata", metadata);
+        serviceMonitor.put("spec", spec);
+        try {
+            String serviceContent = SerializationUtils.dumpWithoutRuntimeStateAsYaml(service);
+            KubernetesUtils.writeToFile(serviceContent, KubernetesConstants.SVC_FILE_POSTFIX +
+                    KubernetesConstants.YAML);
+            String monitorContent = Serialization.asYaml(serviceMonitor);
+            KubernetesUtils.writeToFile(monitorContent, KubernetesConstants.SERVICE_MONITOR_FILE_POSTFIX +
+                    KubernetesConstants.YAML);
+        } catch (IOException e) {
+            String errorMessage = "error while generating yaml file for service monitor: " + name;
+            throw new KubernetesPluginException(errorMessage, e);
+        }
+    }
+
+    @Override
+    public void createArtifacts() throws KubernetesPluginException {
+        Toml ballerinaCloud = dataHolder.getBallerinaCloud();
+        if (ballerinaCloud == null) {
+            return;
+        }
+        Toml metricsToml = ballerinaCloud.getTable(CLOUD_DEPLOYMENT + "metrics");
+        if (metricsToml == null || !metricsToml.getBoolean("enable", true)) {
+            return;
+        }
+        DeploymentModel deploymentModel = dataHolder.getDeploymentModel();
+        int port = Math.toIntExact(metricsToml.getLong("port", (long) KubernetesConstants.DEFAULT_METRICS_PORT));
+        String path = metricsToml.getString("path", "/metrics");
+        deploymentModel.setCommandArgs(deploymentModel.getCommandArgs() +
+                " --b7a.observability.metrics.enabled=true" +
+                " --b7a.observability.metrics.reporter=prometheus" +
+                " --b7a.observability.metrics.prometheus.host=0.0.0.0" +
+                " --b7a.observability.metrics.prometheus.port=" + port);
+        deploymentModel.addPort(new ContainerPortBuilder()
+                .withName(METRICS_PORT_NAME)
+                .withContainerPort(port)
+                .withProtocol(KubernetesConstants.KUBERNETES_SVC_PROTOCOL)
+                .build());
+        deploymentModel.addPodAnnotation("prometheus.io/scrape", "true");
+        deploymentModel.addPodAnnotation("prometheus.io/port", String.valueOf(port));
+        deploymentModel.addPodAnnotation("prometheus.io/path", path);
+        if (metricsToml.getBoolean("service_monitor", false)) {
+            generateServiceMonitor(deploymentModel, port, path, metricsToml.getString("interval", "30s"));
+        }
+        OUT.println();
+        OUT.print("\t@kubernetes:Metrics \t\t\t - complete 1/1");
+    }
+}
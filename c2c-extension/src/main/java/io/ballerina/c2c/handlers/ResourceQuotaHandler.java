@@ -0,0 +1,239 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.handlers;
+
+import com.moandjiezana.toml.Toml;
+import io.ballerina.c2c.KubernetesConstants;
+import io.ballerina.c2c.exceptions.KubernetesPluginException;
+import io.ballerina.c2c.models.DeploymentModel;
+import io.ballerina.c2c.models.KubernetesDataHolder;
+import io.ballerina.c2c.models.PodAutoscalerModel;
+import io.ballerina.c2c.models.ResourceQuotaModel;
+import io.ballerina.c2c.utils.KubernetesUtils;
+import io.fabric8.kubernetes.api.model.IntOrString;
+import io.fabric8.kubernetes.api.model.LimitRange;
+import io.fabric8.kubernetes.api.model.LimitRangeBuilder;
+import io.fabric8.kubernetes.api.model.LimitRangeItemBuilder;
+import io.fabric8.kubernetes.api.model.Quantity;
+import io.fabric8.kubernetes.api.model.ResourceQuota;
+import io.fabric8.kubernetes.api.model.ResourceQuotaBuilder;
+import io.fabric8.kubernetes.client.internal.SerializationUtils;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static io.ballerina.c2c.KubernetesConstants.EPHEMERAL_STORAGE;
+import static io.ballerina.c2c.handlers.DeploymentHandler.CLOUD_DEPLOYMENT;
+import static org.ballerinax.docker.generator.utils.DockerGenUtils.extractJarName;
+
+/**
+ * Generates kubernetes resource quota and limit range for the namespace of the deployment.
+ */
+public class ResourceQuotaHandler extends AbstractArtifactHandler {
+
+    public static final String CLOUD_RESOURCE_QUOTA = "cloud.resource_quota";
+
+    private void generate(ResourceQuotaModel resourceQuotaModel, Map<String, Quantity> hard)
+            throws KubernetesPluginException {
+        ResourceQuota resourceQuota = new ResourceQuotaBuilder()
+                .withNewMetadata()
+                .withName(resourceQuotaModel.getName())
+                .withNamespace(dataHolder.getNamespace())
+                .withLabels(resourceQuotaModel.getLabels())
+                .endMetadata()
+                .withNewSpec()
+                .withHard(hard)
+                .endSpec()
+                .build();
+        try {
+            String resourceQuotaContent = SerializationUtils.dumpWithoutRuntimeStateAsYaml(resourceQuota);
+            KubernetesUtils.writeToFile(resourceQuotaContent,
+                    KubernetesConstants.RESOURCE_QUOTA_FILE_POSTFIX + KubernetesConstants.YAML);
+        } catch (IOException e) {
+            String errorMessage = "error while generating yaml file for resource quota: " +
+                    resourceQuotaModel.getName();
+            throw new KubernetesPluginException(errorMessage, e);
+        }
+    }
+
+    private void generateLimitRange(ResourceQuotaModel resourceQuotaModel, DeploymentModel deploymentModel)
+            throws KubernetesPluginException {
+        String name = resourceQuotaModel.getName().replace(KubernetesConstants.RESOURCE_QUOTA_POSTFIX, "") +
+                KubernetesConstants.LIMIT_RANGE_POSTFIX;
+        LimitRange limitRange = new LimitRangeBuilder()
+                .withNewMetadata()
+                .withName(name)
+                .withNamespace(dataHolder.getNamespace())
+                .withLabels(resourceQuotaModel.getLabels())
+                .endMetadata()
+                .withNewSpec()
+                .withLimits(new LimitRangeItemBuilder()
+                        .withType("Container")
+                        .withDefault(deploymentModel.getResourceRequirements().getLimits())
+                        .withDefaultRequest(deploymentModel.getResourceRequirements().getRequests())
+                        .build())
+                .endSpec()
+                .build();
+        try {
+            String limitRangeContent = SerializationUtils.dumpWithoutRuntimeStateAsYaml(limitRange);
+            KubernetesUtils.writeToFile(limitRangeContent,
+                    KubernetesConstants.RESOURCE_QUOTA_FILE_POSTFIX + KubernetesConstants.YAML);
+        } catch (IOException e) {
+            throw new KubernetesPluginException("error while generating yaml file for limit range: " + name, e);
+        }
+    }
+
+    /**
+     * Returns the number of pods the deployment can run at once, which is the maximum replica count of the
+     * autoscaler plus the pods added by the rolling update surge.
+     *
+     * @param deploymentModel deployment model
+     * @param dataHolder      data holder of the module
+     * @return maximum number of pods
+     * @throws KubernetesPluginException if the surge percentage is invalid
+     */
+    static int getMaxPods(DeploymentModel deploymentModel, KubernetesDataHolder dataHolder)
+            throws KubernetesPluginException {
+        int maxReplicas = deploymentModel.getReplicas();
+        PodAutoscalerModel podAutoscalerModel = deploymentModel.getPodAutoscalerModel();
+        if (podAutoscalerModel != null) {
+            maxReplicas = Math.max(maxReplicas, podAutoscalerModel.getMaxReplicas());
+        }
+        Toml ballerinaCloud = dataHolder.getBallerinaCloud();
+        if (ballerinaCloud != null) {
+            maxReplicas = Math.max(maxReplicas, Math.toIntExact(ballerinaCloud.getLong(CLOUD_DEPLOYMENT +
+                    "autoscaling.max_replicas", 0L)));
+            if (KedaHandler.isEnabled(dataHolder)) {
+                maxReplicas = Math.max(maxReplicas, Math.toIntExact(ballerinaCloud.getLong(KedaHandler.CLOUD_KEDA +
+                        ".max_replicas", 0L)));
+            }
+        }
+        int surge = 0;
+        if (deploymentModel.getStrategy() != null && deploymentModel.getStrategy().getRollingUpdate() != null) {
+            IntOrString maxSurge = deploymentModel.getStrategy().getRollingUpdate().getMaxSurge();
+            if (maxSurge != null && maxSurge.getIntVal() != null) {
+                surge = maxSurge.getIntVal();
+            } else if (maxSurge != null && maxSurge.getStrVal() != null) {
+                String percentage = maxSurge.getStrVal();
+                if (!percentage.matches("\\d+%")) {
+                    throw new KubernetesPluginException("max_surge must be an integer or a percentage. Found " +
+                            percentage);
+                }
+                surge = (int) Math.ceil(maxReplicas * Integer.parseInt(percentage.substring(0,
+                        percentage.length() - 1)) / 100.0);
+            }
+        }
+        return Math.max(maxReplicas, 1) + surge;
+    }
+
+    /**
+     * Derive the hard limits from the resources of a single pod multiplied by the maximum number of pods.
+     *
+     * @param deploymentModel deployment model
+     * @return hard limits of the quota
+     * @throws KubernetesPluginException if the surge or a resource quantity is invalid
+     */
+    private Map<String, Quantity> getDefaultHard(DeploymentModel deploymentModel) throws KubernetesPluginException {
+        int pods = getMaxPods(deploymentModel, dataHolder);
+        Map<String, Quantity> hard = new LinkedHashMap<>();
+        hard.put("pods", new Quantity(String.valueOf(pods)));
+        if (deploymentModel.getResourceRequirements() == null) {
+            return hard;
+        }
+        addTotals(hard, "requests.", deploymentModel.getResourceRequirements().getRequests(), pods);
+        addTotals(hard, "limits.", deploymentModel.getResourceRequirements().getLimits(), pods);
+        return hard;
+    }
+
+    private void addTotals(Map<String, Quantity> hard, String prefix, Map<String, Quantity> resources, int pods)
+            throws KubernetesPluginException {
+        if (resources == null) {
+            return;
+        }
+        for (Map.Entry<String, Quantity> resource : resources.entrySet()) {
+            try {
+                if ("cpu".equals(resource.getKey())) {
+                    long millis = (long) Math.ceil(KubernetesUtils.getCpuCores(resource.getValue()) * 1000 * pods);
+                    hard.put(prefix + "cpu", new Quantity(millis + "m"));
+                } else if ("memory".equals(resource.getKey()) || EPHEMERAL_STORAGE.equals(resource.getKey())) {
+                    long mebibytes = (long) Math.ceil(KubernetesUtils.getBytes(resource.getValue()) * pods /
+                            Math.pow(2, 20));
+                    hard.put(prefix + resource.getKey(), new Quantity(mebibytes + "Mi"));
+                }
+            } catch (NumberFormatException e) {
+                throw new KubernetesPluginException("invalid " + resource.getKey() + " quantity for resource quota: " +
+                        e.getMessage(), e);
+            }
+        }
+    }
+
+    private void resolveToml(ResourceQuotaModel resourceQuotaModel) {
+        Toml ballerinaCloud = dataHolder.getBallerinaCloud();
+        if (ballerinaCloud == null || ballerinaCloud.getTable(CLOUD_RESOURCE_QUOTA) == null) {
+            return;
+        }
+        Toml resourceQuotaToml = ballerinaCloud.getTable(CLOUD_RESOURCE_QUOTA);
+        resourceQuotaModel.setName(resourceQuotaToml.getString("name", resourceQuotaModel.getName()));
+        resourceQuotaModel.setLimitRange(resourceQuotaToml.getBoolean("limit_range",
+                resourceQuotaModel.isLimitRange()));
+        Toml hardToml = resourceQuotaToml.getTable("hard");
+        if (hardToml != null) {
+            for (Map.Entry<String, Object> entry : hardToml.toMap().entrySet()) {
+                // dotted resource names such as "limits.cpu" are quoted keys in toml.
+                String key = entry.getKey().replaceAll("^\"(.*)\"$", "$1");
+                resourceQuotaModel.getHard().put(key, String.valueOf(entry.getValue()));
+            }
+        }
+    }
+
+    @Override
+    public void createArtifacts() throws KubernetesPluginException {
+        ResourceQuotaModel resourceQuotaModel = dataHolder.getResourceQuotaModel();
+        Toml ballerinaCloud = dataHolder.getBallerinaCloud();
+        if (resourceQuotaModel == null && ballerinaCloud != null &&
+                ballerinaCloud.getTable(CLOUD_RESOURCE_QUOTA) != null &&
+                ballerinaCloud.getBoolean(CLOUD_RESOURCE_QUOTA + ".enable", true)) {
+            resourceQuotaModel = new ResourceQuotaModel();
+        }
+        if (resourceQuotaModel == null) {
+            return;
+        }
+        DeploymentModel deploymentModel = dataHolder.getDeploymentModel();
+        String balxFileName = extractJarName(dataHolder.getJarPath());
+        resourceQuotaModel.addLabel(KubernetesConstants.KUBERNETES_SELECTOR_KEY, balxFileName);
+        if (KubernetesUtils.isBlank(resourceQuotaModel.getName())) {
+            resourceQuotaModel.setName(KubernetesUtils.getValidName(balxFileName) +
+                    KubernetesConstants.RESOURCE_QUOTA_POSTFIX);
+        }
+        resolveToml(resourceQuotaModel);
+        Map<String, Quantity> hard = getDefaultHard(deploymentModel);
+        for (Map.Entry<String, String> entry : resourceQuotaModel.getHard().entrySet()) {
+            hard.put(entry.getKey(), new Quantity(entry.getValue()));
+        }
+        generate(resourceQuotaModel, hard);
+        int count = 1;
+        if (resourceQuotaModel.isLimitRange() && deploymentModel.getResourceRequirements() != null) {
+            generateLimitRange(resourceQuotaModel, deploymentModel);
+            count++;
+        }
+        OUT.println();
+        OUT.print("\t@kubernetes:ResourceQuota \t\t - complete " + count + "/" + count);
+    }
+}
@@ -18,6 +18,7 @@
 
 package io.ballerina.c2c.handlers;
 
+import com.moandjiezana.toml.Toml;
 import io.ballerina.c2c.KubernetesConstants;
 import io.ballerina.c2c.exceptions.KubernetesPluginException;
 import io.ballerina.c2c.models.DeploymentModel;
@@ -28,7 +29,13 @@ import io.fabric8.kubernetes.api.model.SecretBuilder;
 import io.fabric8.kubernetes.client.internal.SerializationUtils;
 
 import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Base64;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import static io.ballerina.c2c.KubernetesConstants.CLOUD_CONFIG_SECRETS;
 
 /**
  * Generates kubernetes secret.
@@ -40,10 +47,14 @@ public class SecretHandler extends AbstractArtifactHandler {
         Secret secret = new SecretBuilder()
                 .withNewMetadata()
                 .withNamespace(dataHolder.getNamespace())
-                .withName(secretModel.getName())
+                .withName(KubernetesUtils.getConfigObjectName(secretModel.getName(), secretModel.getData(),
+                        dataHolder.getBallerinaCloud()))
                 .endMetadata()
                 .withData(secretModel.getData())
                 .build();
+        if (KubernetesUtils.isImmutableConfig(dataHolder.getBallerinaCloud())) {
+            secret.setAdditionalProperty("immutable", true);
+        }
         try {
             String secretContent = SerializationUtils.dumpWithoutRuntimeStateAsYaml(secret);
             KubernetesUtils.writeToFile(secretContent, KubernetesConstants.SECRET_FILE_POSTFIX +
@@ -54,9 +65,36 @@ public class SecretHandler extends AbstractArtifactHandler {
         }
     }
 
+    /**
+     * Add a secret for each file listed under [[cloud.config.secrets]] in Ballerina.cloud. The file name is the key
+     * of the base64 encoded data and the secret is mounted at mount_path.
+     *
+     * @throws KubernetesPluginException if an entry is incomplete or its file cannot be read
+     */
+    private void resolveToml() throws KubernetesPluginException {
+        Toml ballerinaCloud = dataHolder.getBallerinaCloud();
+        if (ballerinaCloud == null) {
+            return;
+        }
+        List<Toml> secretTomls = ballerinaCloud.getTables(CLOUD_CONFIG_SECRETS);
+        if (secretTomls == null) {
+            return;
+        }
+        for (Toml secretToml : secretTomls) {
+            Path filePath = KubernetesUtils.getConfigFilePath(secretToml, CLOUD_CONFIG_SECRETS);
+            SecretModel secretModel = new SecretModel();
+            secretModel.setName(KubernetesUtils.getValidName(secretToml.getString("name")));
+            secretModel.setData(Collections.singletonMap(String.valueOf(filePath.getFileName()),
+                    Base64.getEncoder().encodeToString(KubernetesUtils.readFileContent(filePath))));
+            secretModel.setMountPath(secretToml.getString("mount_path"));
+            dataHolder.addSecrets(Collections.singleton(secretModel));
+        }
+    }
+
     @Override
     public void createArtifacts() throws KubernetesPluginException {
         //secret
+        resolveToml();
         int count = 0;
         Collection<SecretModel> secretModels = dataHolder.getSecretModelSet();
         if (secretModels.size() > 0) {
@@ -18,6 +18,7 @@
 
 package io.ballerina.c2c.handlers;
 
+import com.moandjiezana.toml.Toml;
 import io.ballerina.c2c.KubernetesConstants;
 import io.ballerina.c2c.exceptions.KubernetesPluginException;
 import io.ballerina.c2c.models.DeploymentModel;
@@ -28,11 +29,18 @@ import io.fabric8.kubernetes.api.model.ContainerPort;
 import io.fabric8.kubernetes.api.model.ContainerPortBuilder;
 import io.fabric8.kubernetes.api.model.Service;
 import io.fabric8.kubernetes.api.model.ServiceBuilder;
+import io.fabric8.kubernetes.api.model.ServicePort;
 import io.fabric8.kubernetes.api.model.ServicePortBuilder;
 import io.fabric8.kubernetes.client.internal.SerializationUtils;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import static org.ballerinax.docker.generator.utils.DockerGenUtils.extractJarName;
 
@@ -42,69 +50,172 @@ import static org.ballerinax.docker.generator.utils.DockerGenUtils.extractJarNam
  */
 public class ServiceHandler extends AbstractArtifactHandler {
 
+    public static final String CLOUD_SERVICE = "cloud.service";
+
     /**
-     * Generate kubernetes service definition from annotation.
+     * Generate a kubernetes service exposing the given listeners. All listeners share the service type, session
+     * affinity and cluster ip of the first listener.
      *
+     * @param name          Name of the kubernetes service
+     * @param serviceModels Listeners exposed by the service
      * @throws KubernetesPluginException If an error occurs while generating artifact.
      */
-    private void generate(ServiceModel serviceModel) throws KubernetesPluginException {
-        if (null == serviceModel.getPortName()) {
-            serviceModel.setPortName(KubernetesUtils.getValidName(serviceModel.getProtocol()
-                    + "-" + serviceModel.getName()));
-        }
-        ServicePortBuilder servicePortBuilder = new ServicePortBuilder()
-                .withName(serviceModel.getPortName())
-                .withProtocol(KubernetesConstants.KUBERNETES_SVC_PROTOCOL)
-                .withPort(serviceModel.getPort())
-                .withNewTargetPort(serviceModel.getTargetPort());
+    private void generate(String name, List<ServiceModel> serviceModels) throws KubernetesPluginException {
+        ServiceModel primary = serviceModels.get(0);
+        List<ServicePort> servicePorts = new ArrayList<>();
+        Set<String> portNames = new HashSet<>();
+        Set<Integer> ports = new HashSet<>();
+        for (ServiceModel serviceModel : serviceModels) {
+            if (!ports.add(serviceModel.getPort())) {
+                throw new KubernetesPluginException("listeners exposed by service " + name + " share the port " +
+                        serviceModel.getPort());
+            }
+            if (null == serviceModel.getPortName()) {
+                serviceModel.setPortName(KubernetesUtils.getValidName(serviceModel.getProtocol()
+                        + "-" + serviceModel.getName()));
+            }
+            if (!portNames.add(serviceModel.getPortName())) {
+                // Port names are truncated and may clash when grouped. The port number keeps them unique.
+                serviceModel.setPortName(KubernetesUtils.getValidName(serviceModel.getProtocol() + "-" +
+                        serviceModel.getPort()));
+                portNames.add(serviceModel.getPortName());
+            }
+            ServicePortBuilder servicePortBuilder = new ServicePortBuilder()
+                    .withName(serviceModel.getPortName())
+                    .withProtocol(KubernetesConstants.KUBERNETES_SVC_PROTOCOL)
+                    .withPort(serviceModel.getPort())
+                    .withNewTargetPort(serviceModel.getTargetPort());
 
-        if (serviceModel.getNodePort() > 0) {
-            servicePortBuilder.withNodePort(serviceModel.getNodePort());
+            if (serviceModel.getNodePort() > 0) {
+                servicePortBuilder.withNodePort(serviceModel.getNodePort());
+            }
+            ServicePort servicePort = servicePortBuilder.build();
+            if (serviceModel.getAppProtocol() != null) {
+                // appProtocol is newer than the fabric8 model in use.
+                servicePort.setAdditionalProperty("appProtocol", serviceModel.getAppProtocol());
+            }
+            servicePorts.add(servicePort);
         }
         Service service = new ServiceBuilder()
                 .withNewMetadata()
-                .withName(serviceModel.getName())
+                .withName(name)
                 .withNamespace(dataHolder.getNamespace())
-                .addToLabels(serviceModel.getLabels())
+                .addToLabels(primary.getLabels())
                 .endMetadata()
                 .withNewSpec()
-                .withPorts(servicePortBuilder.build())
-                .addToSelector(KubernetesConstants.KUBERNETES_SELECTOR_KEY, serviceModel.getSelector())
-                .withSessionAffinity(serviceModel.getSessionAffinity())
-                .withType(serviceModel.getServiceType())
+                .withPorts(servicePorts)
+                .withClusterIP(primary.isHeadless() ? KubernetesConstants.CLUSTER_IP_NONE : null)
+                .addToSelector(KubernetesConstants.KUBERNETES_SELECTOR_KEY, primary.getSelector())
+                .withSessionAffinity(primary.getSessionAffinity())
+                .withType(primary.getServiceType())
                 .endSpec()
                 .build();
         try {
             String serviceYAML = SerializationUtils.dumpWithoutRuntimeStateAsYaml(service);
             KubernetesUtils.writeToFile(serviceYAML, KubernetesConstants.SVC_FILE_POSTFIX + KubernetesConstants.YAML);
         } catch (IOException e) {
-            String errorMessage = "error while generating yaml file for service: " + serviceModel.getName();
+            String errorMessage = "error while generating yaml file for service: " + name;
             throw new KubernetesPluginException(errorMessage, e);
         }
 
     }
 
+    /**
+     * Group listeners which can be exposed through the same kubernetes service. Listeners are kept apart only when
+     * they need a different service type, session affinity or cluster ip, or when splitting is requested.
+     *
+     * @param serviceModels Listener service models
+     * @param split         Whether each listener gets its own service
+     * @return Listener groups keyed by kubernetes service name
+     */
+    private Map<String, List<ServiceModel>> groupServices(Collection<ServiceModel> serviceModels, boolean split) {
+        Map<String, List<ServiceModel>> groups = new LinkedHashMap<>();
+        for (ServiceModel serviceModel : serviceModels) {
+            String key = split ? serviceModel.getName() : serviceModel.getServiceType() + "|" +
+                    serviceModel.getSessionAffinity() + "|" + serviceModel.isHeadless();
+            groups.computeIfAbsent(key, k -> new ArrayList<>()).add(serviceModel);
+        }
+        String baseName = KubernetesUtils.getValidName(extractJarName(dataHolder.getJarPath()));
+        Map<String, List<ServiceModel>> services = new LinkedHashMap<>();
+        for (List<ServiceModel> group : groups.values()) {
+            String name = group.get(0).getName();
+            if (group.size() > 1) {
+                name = baseName + KubernetesConstants.SVC_POSTFIX;
+                if (services.containsKey(name)) {
+                    name = baseName + "-" + services.size() + KubernetesConstants.SVC_POSTFIX;
+                }
+            }
+            services.put(name, group);
+        }
+        return services;
+    }
+
+    /**
+     * Long lived grpc and http2 connections are pinned to a single pod by kube-proxy. Such services advertise their
+     * application protocol and can be made headless so that clients balance requests across all pods.
+     *
+     * @param serviceModel Service model
+     * @throws KubernetesPluginException If a headless service is requested for a NodePort service
+     */
+    private void resolveToml(ServiceModel serviceModel) throws KubernetesPluginException {
+        String appProtocol = null;
+        if ("grpc".equals(serviceModel.getProtocol())) {
+            appProtocol = "grpc";
+        } else if ("http2".equals(serviceModel.getProtocol())) {
+            appProtocol = "h2c";
+        }
+        if (appProtocol == null) {
+            return;
+        }
+        Toml serviceToml = null;
+        if (dataHolder.getBallerinaCloud() != null) {
+            serviceToml = dataHolder.getBallerinaCloud().getTable(CLOUD_SERVICE);
+        }
+        if (serviceToml == null) {
+            serviceToml = new Toml();
+        }
+        if (serviceToml.getBoolean("app_protocol", true)) {
+            serviceModel.setAppProtocol(appProtocol);
+        }
+        if (serviceToml.getBoolean("headless", false)) {
+            if (!KubernetesConstants.ServiceType.ClusterIP.name().equals(serviceModel.getServiceType())) {
+                throw new KubernetesPluginException("headless service cannot be created for service type " +
+                        serviceModel.getServiceType() + " of " + serviceModel.getName());
+            }
+            serviceModel.setHeadless(true);
+        }
+    }
+
     @Override
     public void createArtifacts() throws KubernetesPluginException {
         // Service
         DeploymentModel deploymentModel = dataHolder.getDeploymentModel();
         Map<String, ServiceModel> serviceModels = dataHolder.getBListenerToK8sServiceMap();
-        int count = 0;
+        String balxFileName = extractJarName(KubernetesContext.getInstance().getDataHolder().getJarPath());
         for (ServiceModel serviceModel : serviceModels.values()) {
-            count++;
-            String balxFileName = extractJarName(KubernetesContext.getInstance().getDataHolder()
-                    .getJarPath());
             serviceModel.addLabel(KubernetesConstants.KUBERNETES_SELECTOR_KEY, balxFileName);
             serviceModel.setSelector(balxFileName);
-            generate(serviceModel);
-            ContainerPort containerPort = new ContainerPortBuilder()
-                    .withName(serviceModel.getPortName())
-                    .withContainerPort(serviceModel.getTargetPort())
-                    .withProtocol(KubernetesConstants.KUBERNETES_SVC_PROTOCOL)
-                    .build();
-            deploymentModel.addPort(containerPort);
+            resolveToml(serviceModel);
+        }
+        boolean split = dataHolder.getBallerinaCloud() != null &&
+                dataHolder.getBallerinaCloud().getBoolean(CLOUD_SERVICE + ".split", false);
+        Map<String, List<ServiceModel>> services = groupServices(serviceModels.values(), split);
+        int count = 0;
+        for (Map.Entry<String, List<ServiceModel>> service : services.entrySet()) {
+            count++;
+            generate(service.getKey(), service.getValue());
+            for (ServiceModel serviceModel : service.getValue()) {
+                // Other handlers refer to the kubernetes service that exposes the listener.
+                serviceModel.setName(service.getKey());
+                ContainerPort containerPort = new ContainerPortBuilder()
+                        .withName(serviceModel.getPortName())
+                        .withContainerPort(serviceModel.getTargetPort())
+                        .withProtocol(KubernetesConstants.KUBERNETES_SVC_PROTOCOL)
+                        .build();
+                deploymentModel.addPort(containerPort);
+            }
             OUT.println();
-            OUT.print("\t@kubernetes:Service \t\t\t - complete " + count + "/" + serviceModels.size() + "\r");
+            OUT.print("\t@kubernetes:Service \t\t\t - complete " + count + "/" + services.size() + "\r");
         }
     }
 
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.lint;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Base class for lint rules with helpers to navigate objects parsed from yaml.
+ */
+public abstract class AbstractLintRule implements LintRule {
+
+    @SuppressWarnings("unchecked")
+    protected static Map<String, Object> getMap(Map<String, Object> map, String... path) {
+        Map<String, Object> current = map;
+        for (String key : path) {
+            if (current == null || !(current.get(key) instanceof Map)) {
+                return null;
+            }
+            current = (Map<String, Object>) current.get(key);
+        }
+        return current;
+    }
+
+    @SuppressWarnings("unchecked")
+    protected static List<Map<String, Object>> getList(Map<String, Object> map, String key) {
+        if (map == null || !(map.get(key) instanceof List)) {
+            return Collections.emptyList();
+        }
+        return (List<Map<String, Object>>) map.get(key);
+    }
+
+    protected static int getInt(Map<String, Object> map, String key, int defaultValue) {
+        Object value = map == null ? null : map.get(key);
+        return value instanceof Number ? ((Number) value).intValue() : defaultValue;
+    }
+
+    protected static String getKind(Map<String, Object> object) {
+        return String.valueOf(object.get("kind"));
+    }
+
+    protected static String getName(Map<String, Object> object) {
+        Map<String, Object> metadata = getMap(object, "metadata");
+        return metadata == null ? null : String.valueOf(metadata.get("name"));
+    }
+
+    protected static String describe(Map<String, Object> object) {
+        return getKind(object) + " '" + getName(object) + "'";
+    }
+
+    /**
+     * Returns the pod spec of a workload such as a Deployment, Job, CronJob or Knative Service.
+     *
+     * @param object kubernetes object
+     * @return pod spec, null if the object does not run pods
+     */
+    protected static Map<String, Object> getPodSpec(Map<String, Object> object) {
+        Map<String, Object> podSpec = getMap(object, "spec", "template", "spec");
+        if (podSpec == null) {
+            podSpec = getMap(object, "spec", "jobTemplate", "spec", "template", "spec");
+        }
+        return podSpec;
+    }
+
+    protected static List<Map<String, Object>> getContainers(Map<String, Object> object) {
+        return getList(getPodSpec(object), "containers");
+    }
+
+    protected static boolean isJob(Map<String, Object> object) {
+        return "Job".equals(getKind(object)) || "CronJob".equals(getKind(object));
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.lint;
+
+import com.moandjiezana.toml.Toml;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Flags autoscalers with a cpu utilization target whose workload has containers without a cpu request. Utilization
+ * is computed against the request, so the autoscaler cannot compute a recommendation and never scales.
+ */
+public class HpaCpuWithoutRequestRule extends AbstractLintRule {
+
+    @Override
+    public String getId() {
+        return "hpa_cpu_without_request";
+    }
+
+    @Override
+    public Severity getDefaultSeverity() {
+        return Severity.error;
+    }
+
+    @Override
+    public List<String> check(List<Map<String, Object>> objects, Toml config) {
+        List<String> findings = new ArrayList<>();
+        for (Map<String, Object> hpa : objects) {
+            if (!"HorizontalPodAutoscaler".equals(getKind(hpa)) || !hasCpuTarget(getMap(hpa, "spec"))) {
+                continue;
+            }
+            Map<String, Object> target = getMap(hpa, "spec", "scaleTargetRef");
+            if (target == null) {
+                continue;
+            }
+            for (Map<String, Object> object : objects) {
+                if (!String.valueOf(target.get("kind")).equals(getKind(object)) ||
+                        !String.valueOf(target.get("name")).equals(getName(object))) {
+                    continue;
+                }
+                for (Map<String, Object> container : getContainers(object)) {
+                    Map<String, Object> requests = getMap(container, "resources", "requests");
+                    if (requests == null || requests.get("cpu") == null) {
+                        findings.add(describe(hpa) + ": scales on cpu utilization but container '" +
+                                container.get("name") + "' of " + describe(object) + " has no cpu request");
+                    }
+                }
+            }
+        }
+        return findings;
+    }
+
+    private static boolean hasCpuTarget(Map<String, Object> spec) {
+        if (spec == null) {
+            return false;
+        }
+        if (spec.get("targetCPUUtilizationPercentage") != null) {
+            return true;
+        }
+        for (Map<String, Object> metric : getList(spec, "metrics")) {
+            Map<String, Object> resource = getMap(metric, "resource");
+            if (resource != null && "cpu".equals(resource.get("name"))) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.lint;
+
+import com.moandjiezana.toml.Toml;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Flags autoscalers whose minimum and maximum replica counts are equal. Such an autoscaler never scales and only
+ * adds metric polling load.
+ */
+public class HpaFixedReplicasRule extends AbstractLintRule {
+
+    @Override
+    public String getId() {
+        return "hpa_fixed_replicas";
+    }
+
+    @Override
+    public Severity getDefaultSeverity() {
+        return Severity.warning;
+    }
+
+    @Override
+    public List<String> check(List<Map<String, Object>> objects, Toml config) {
+        List<String> findings = new ArrayList<>();
+        for (Map<String, Object> object : objects) {
+            Map<String, Object> spec = getMap(object, "spec");
+            int min;
+            int max;
+            if ("HorizontalPodAutoscaler".equals(getKind(object))) {
+                min = getInt(spec, "minReplicas", 1);
+                max = getInt(spec, "maxReplicas", -1);
+            } else if ("ScaledObject".equals(getKind(object))) {
+                min = getInt(spec, "minReplicaCount", 0);
+                max = getInt(spec, "maxReplicaCount", 100);
+            } else {
+                continue;
+            }
+            if (min == max) {
+                findings.add(describe(object) + ": minimum and maximum replicas are both " + min +
+                        ", so the workload never scales");
+            }
+        }
+        return findings;
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.lint;
+
+import com.moandjiezana.toml.Toml;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Flags containers that use the latest tag with the IfNotPresent pull policy. Nodes keep running whichever image
+ * they pulled first, so replicas drift apart and new builds are never picked up.
+ */
+public class LatestImageRule extends AbstractLintRule {
+
+    @Override
+    public String getId() {
+        return "latest_if_not_present";
+    }
+
+    @Override
+    public Severity getDefaultSeverity() {
+        return Severity.warning;
+    }
+
+    @Override
+    public List<String> check(List<Map<String, Object>> objects, Toml config) {
+        List<String> findings = new ArrayList<>();
+        for (Map<String, Object> object : objects) {
+            for (Map<String, Object> container : getContainers(object)) {
+                String image = String.valueOf(container.get("image"));
+                if ("IfNotPresent".equals(container.get("imagePullPolicy")) && isLatest(image)) {
+                    findings.add(describe(object) + ": container '" + container.get("name") + "' uses image '" +
+                            image + "' with the IfNotPresent pull policy. Use a versioned tag");
+                }
+            }
+        }
+        return findings;
+    }
+
+    static boolean isLatest(String image) {
+        if (image.contains("@")) {
+            return false;
+        }
+        String name = image.substring(image.lastIndexOf('/') + 1);
+        int tagIndex = name.indexOf(':');
+        return tagIndex < 0 || "latest".equals(name.substring(tagIndex + 1));
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.lint;
+
+import com.moandjiezana.toml.Toml;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A performance lint rule over the generated manifests. Rules are configured under [cloud.lint.rules.&lt;id&gt;] in
+ * Ballerina.cloud, where severity can be set to off, warning or error. Additional rules can be plugged in by listing
+ * the implementation in META-INF/services/io.ballerina.c2c.lint.LintRule.
+ */
+public interface LintRule {
+
+    /**
+     * Severity of a finding.
+     */
+    enum Severity {
+        off,
+        warning,
+        error
+    }
+
+    /**
+     * Returns the id used to configure the rule in Ballerina.cloud.
+     *
+     * @return rule id
+     */
+    String getId();
+
+    /**
+     * Returns the severity used when Ballerina.cloud does not configure one.
+     *
+     * @return default severity
+     */
+    Severity getDefaultSeverity();
+
+    /**
+     * Check the generated objects of a module.
+     *
+     * @param objects kubernetes objects as parsed from yaml
+     * @param config  [cloud.lint.rules.&lt;id&gt;] table, empty if it is not configured
+     * @return findings, empty if the objects follow the rule
+     */
+    List<String> check(List<Map<String, Object>> objects, Toml config);
+}
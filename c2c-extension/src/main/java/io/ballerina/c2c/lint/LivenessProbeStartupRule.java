@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.lint;
+
+import com.moandjiezana.toml.Toml;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Flags liveness probes that give up before the application has started. Such pods are restarted in a loop under
+ * slow starts, which happens exactly when the cluster is busy. Containers with a startup probe are skipped since the
+ * liveness probe only starts after the startup probe succeeds.
+ */
+public class LivenessProbeStartupRule extends AbstractLintRule {
+
+    private static final long DEFAULT_STARTUP_SECONDS = 30;
+    private static final int DEFAULT_PERIOD_SECONDS = 10;
+    private static final int DEFAULT_FAILURE_THRESHOLD = 3;
+
+    @Override
+    public String getId() {
+        return "liveness_before_startup";
+    }
+
+    @Override
+    public Severity getDefaultSeverity() {
+        return Severity.warning;
+    }
+
+    @Override
+    public List<String> check(List<Map<String, Object>> objects, Toml config) {
+        long startupSeconds = config.getLong("startup_seconds", DEFAULT_STARTUP_SECONDS);
+        List<String> findings = new ArrayList<>();
+        for (Map<String, Object> object : objects) {
+            for (Map<String, Object> container : getContainers(object)) {
+                Map<String, Object> probe = getMap(container, "livenessProbe");
+                if (probe == null || container.get("startupProbe") != null) {
+                    continue;
+                }
+                int tolerance = getInt(probe, "initialDelaySeconds", 0) +
+                        getInt(probe, "periodSeconds", DEFAULT_PERIOD_SECONDS) *
+                                getInt(probe, "failureThreshold", DEFAULT_FAILURE_THRESHOLD);
+                if (tolerance < startupSeconds) {
+                    findings.add(describe(object) + ": liveness probe of container '" + container.get("name") +
+                            "' fails after " + tolerance + "s, before the expected startup time of " +
+                            startupSeconds + "s. Increase initialDelaySeconds or add a startup probe");
+                }
+            }
+        }
+        return findings;
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.lint;
+
+import com.moandjiezana.toml.Toml;
+import io.ballerina.c2c.exceptions.KubernetesPluginException;
+import io.ballerina.c2c.utils.KubernetesUtils;
+import org.yaml.snakeyaml.Yaml;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.ServiceLoader;
+
+/**
+ * Runs performance lint rules over the generated manifests. Findings of rules with warning severity are printed,
+ * findings of rules with error severity fail the build. Rules are configured in Ballerina.cloud:
+ * <pre>
+ * [cloud.lint]
+ * enable = true
+ * fail_on_warning = false
+ *
+ * [cloud.lint.rules.request_limit_ratio]
+ * severity = "error"
+ * max_ratio = 2.0
+ * </pre>
+ */
+public class ManifestLinter {
+
+    public static final String CLOUD_LINT = "cloud.lint";
+    private static final Toml EMPTY = new Toml();
+
+    private final List<LintRule> rules;
+    private final Toml lintToml;
+
+    public ManifestLinter(Toml ballerinaCloud) {
+        this(ballerinaCloud, getRules());
+    }
+
+    public ManifestLinter(Toml ballerinaCloud, List<LintRule> rules) {
+        this.rules = rules;
+        Toml table = ballerinaCloud == null ? null : ballerinaCloud.getTable(CLOUD_LINT);
+        this.lintToml = table == null ? EMPTY : table;
+    }
+
+    /**
+     * Returns true unless linting is disabled under [cloud.lint] in Ballerina.cloud.
+     *
+     * @param ballerinaCloud Ballerina.cloud toml, may be null
+     * @return true if generated manifests should be linted
+     */
+    public static boolean isEnabled(Toml ballerinaCloud) {
+        if (ballerinaCloud == null || ballerinaCloud.getTable(CLOUD_LINT) == null) {
+            return true;
+        }
+        return ballerinaCloud.getTable(CLOUD_LINT).getBoolean("enable", true);
+    }
+
+    /**
+     * Returns the built-in rules followed by the rules registered through {@link ServiceLoader}.
+     *
+     * @return lint rules
+     */
+    public static List<LintRule> getRules() {
+        List<LintRule> rules = new ArrayList<>(Arrays.asList(
+                new MissingLimitsRule(),
+                new RequestLimitRatioRule(),
+                new HpaFixedReplicasRule(),
+                new HpaCpuWithoutRequestRule(),
+                new LivenessProbeStartupRule(),
+                new SingleReplicaRule(),
+                new LatestImageRule(),
+                new PreStopSleepRule()));
+        for (LintRule rule : ServiceLoader.load(LintRule.class, ManifestLinter.class.getClassLoader())) {
+            rules.add(rule);
+        }
+        return rules;
+    }
+
+    /**
+     * Lint every yaml file in the given directory.
+     *
+     * @param artifactDir directory holding the generated manifests
+     * @throws KubernetesPluginException if a rule with error severity reports a finding
+     */
+    public void lintDirectory(Path artifactDir) throws KubernetesPluginException {
+        if (!Files.isDirectory(artifactDir)) {
+            return;
+        }
+        List<Map<String, Object>> objects = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(artifactDir, "*.yaml")) {
+            for (Path file : files) {
+                objects.addAll(parse(new String(Files.readAllBytes(file), StandardCharsets.UTF_8)));
+            }
+        } catch (IOException e) {
+            throw new KubernetesPluginException("error while reading generated manifests for linting", e);
+        }
+        lint(objects);
+    }
+
+    /**
+     * Lint the given objects, printing warnings.
+     *
+     * @param objects kubernetes objects as parsed from yaml
+     * @return findings that fail the build, empty if there are none
+     * @throws KubernetesPluginException if the severity of a rule is invalid
+     */
+    public List<String> check(List<Map<String, Object>> objects) throws KubernetesPluginException {
+        boolean failOnWarning = lintToml.getBoolean("fail_on_warning", false);
+        List<String> errors = new ArrayList<>();
+        for (LintRule rule : rules) {
+            Toml ruleToml = lintToml.getTable("rules." + rule.getId());
+            if (ruleToml == null) {
+                ruleToml = EMPTY;
+            }
+            LintRule.Severity severity = getSeverity(rule, ruleToml);
+            if (severity == LintRule.Severity.off) {
+                continue;
+            }
+            for (String finding : rule.check(objects, ruleToml)) {
+                String message = "[" + rule.getId() + "] " + finding;
+                if (severity == LintRule.Severity.error || failOnWarning) {
+                    errors.add(message);
+                } else {
+                    KubernetesUtils.printWarning(message);
+                }
+            }
+        }
+        return errors;
+    }
+
+    private void lint(List<Map<String, Object>> objects) throws KubernetesPluginException {
+        List<String> errors = check(objects);
+        if (!errors.isEmpty()) {
+            throw new KubernetesPluginException("generated manifests failed performance lint rules:\n\t" +
+                    String.join("\n\t", errors));
+        }
+    }
+
+    private static LintRule.Severity getSeverity(LintRule rule, Toml ruleToml) throws KubernetesPluginException {
+        String severity = ruleToml.getString("severity");
+        if (severity == null) {
+            return rule.getDefaultSeverity();
+        }
+        try {
+            return LintRule.Severity.valueOf(severity.toLowerCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new KubernetesPluginException("invalid severity '" + severity + "' for lint rule " +
+                    rule.getId() + ". Use one of off, warning or error");
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    static List<Map<String, Object>> parse(String content) {
+        List<Map<String, Object>> objects = new ArrayList<>();
+        for (Object document : new Yaml().loadAll(content)) {
+            if (document instanceof Map) {
+                objects.add((Map<String, Object>) document);
+            }
+        }
+        return objects;
+    }
+}
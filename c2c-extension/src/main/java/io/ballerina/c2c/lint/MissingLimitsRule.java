@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.lint;
+
+import com.moandjiezana.toml.Toml;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Flags containers without cpu or memory limits, which lets a single pod starve its neighbours on the node.
+ */
+public class MissingLimitsRule extends AbstractLintRule {
+
+    @Override
+    public String getId() {
+        return "missing_limits";
+    }
+
+    @Override
+    public Severity getDefaultSeverity() {
+        return Severity.warning;
+    }
+
+    @Override
+    public List<String> check(List<Map<String, Object>> objects, Toml config) {
+        List<String> findings = new ArrayList<>();
+        for (Map<String, Object> object : objects) {
+            for (Map<String, Object> container : getContainers(object)) {
+                Map<String, Object> limits = getMap(container, "resources", "limits");
+                for (String resource : new String[]{"cpu", "memory"}) {
+                    if (limits == null || limits.get(resource) == null) {
+                        findings.add(describe(object) + ": container '" + container.get("name") + "' has no " +
+                                resource + " limit");
+                    }
+                }
+            }
+        }
+        return findings;
+    }
+}
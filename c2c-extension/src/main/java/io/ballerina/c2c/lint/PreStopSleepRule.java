@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.lint;
+
+import com.moandjiezana.toml.Toml;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Flags preStop hooks that sleep for as long as the termination grace period or longer. The grace period includes
+ * the hook, so the container is killed before it can drain in-flight requests.
+ */
+public class PreStopSleepRule extends AbstractLintRule {
+
+    private static final int DEFAULT_GRACE_PERIOD_SECONDS = 30;
+    private static final Pattern SLEEP = Pattern.compile("sleep\\s+(\\d+)");
+
+    @Override
+    public String getId() {
+        return "prestop_exceeds_grace";
+    }
+
+    @Override
+    public Severity getDefaultSeverity() {
+        return Severity.error;
+    }
+
+    @Override
+    public List<String> check(List<Map<String, Object>> objects, Toml config) {
+        List<String> findings = new ArrayList<>();
+        for (Map<String, Object> object : objects) {
+            Map<String, Object> podSpec = getPodSpec(object);
+            int gracePeriod = getInt(podSpec, "terminationGracePeriodSeconds", DEFAULT_GRACE_PERIOD_SECONDS);
+            for (Map<String, Object> container : getContainers(object)) {
+                Map<String, Object> exec = getMap(container, "lifecycle", "preStop", "exec");
+                if (exec == null || exec.get("command") == null) {
+                    continue;
+                }
+                Matcher matcher = SLEEP.matcher(String.join(" ", toStrings(exec.get("command"))));
+                if (matcher.find() && Integer.parseInt(matcher.group(1)) >= gracePeriod) {
+                    findings.add(describe(object) + ": preStop hook of container '" + container.get("name") +
+                            "' sleeps " + matcher.group(1) + "s, which is not shorter than the termination grace " +
+                            "period of " + gracePeriod + "s");
+                }
+            }
+        }
+        return findings;
+    }
+
+    private static List<String> toStrings(Object command) {
+        List<String> parts = new ArrayList<>();
+        if (command instanceof List) {
+            for (Object part : (List<?>) command) {
+                parts.add(String.valueOf(part));
+            }
+        } else {
+            parts.add(String.valueOf(command));
+        }
+        return parts;
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.lint;
+
+import com.moandjiezana.toml.Toml;
+import io.ballerina.c2c.utils.KubernetesUtils;
+import io.fabric8.kubernetes.api.model.Quantity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Flags containers whose limit is far above the request. The scheduler packs pods by request, so a large ratio
+ * overcommits the node and leads to cpu throttling or OOM kills under load.
+ */
+public class RequestLimitRatioRule extends AbstractLintRule {
+
+    private static final double DEFAULT_MAX_RATIO = 4.0;
+
+    @Override
+    public String getId() {
+        return "request_limit_ratio";
+    }
+
+    @Override
+    public Severity getDefaultSeverity() {
+        return Severity.warning;
+    }
+
+    @Override
+    public List<String> check(List<Map<String, Object>> objects, Toml config) {
+        double maxRatio = config.getDouble("max_ratio", DEFAULT_MAX_RATIO);
+        List<String> findings = new ArrayList<>();
+        for (Map<String, Object> object : objects) {
+            for (Map<String, Object> container : getContainers(object)) {
+                Map<String, Object> requests = getMap(container, "resources", "requests");
+                Map<String, Object> limits = getMap(container, "resources", "limits");
+                if (requests == null || limits == null) {
+                    continue;
+                }
+                for (String resource : new String[]{"cpu", "memory"}) {
+                    if (requests.get(resource) == null || limits.get(resource) == null) {
+                        continue;
+                    }
+                    double request;
+                    double limit;
+                    try {
+                        request = toNumber(resource, requests.get(resource));
+                        limit = toNumber(resource, limits.get(resource));
+                    } catch (NumberFormatException e) {
+                        // malformed quantities are reported by manifest validation.
+                        continue;
+                    }
+                    if (request > 0 && limit / request > maxRatio) {
+                        findings.add(String.format(Locale.ROOT, "%s: container '%s' has a %s limit/request ratio " +
+                                        "of %.1f, above %.1f", describe(object), container.get("name"), resource,
+                                limit / request, maxRatio));
+                    }
+                }
+            }
+        }
+        return findings;
+    }
+
+    private static double toNumber(String resource, Object value) {
+        Quantity quantity = new Quantity(String.valueOf(value));
+        return "cpu".equals(resource) ? KubernetesUtils.getCpuCores(quantity) : KubernetesUtils.getBytes(quantity);
+    }
+}
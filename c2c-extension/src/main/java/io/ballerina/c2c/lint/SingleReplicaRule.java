@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.lint;
+
+import com.moandjiezana.toml.Toml;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Flags deployments that run a single replica without an autoscaler targeting them or a disruption budget selecting
+ * their pods. Every rollout or node drain takes such a service down and no capacity is added under load.
+ */
+public class SingleReplicaRule extends AbstractLintRule {
+
+    @Override
+    public String getId() {
+        return "single_replica";
+    }
+
+    @Override
+    public Severity getDefaultSeverity() {
+        return Severity.warning;
+    }
+
+    @Override
+    public List<String> check(List<Map<String, Object>> objects, Toml config) {
+        Set<String> scaledTargets = new HashSet<>();
+        List<Map<String, Object>> disruptionBudgetSelectors = new ArrayList<>();
+        for (Map<String, Object> object : objects) {
+            Map<String, Object> target = getMap(object, "spec", "scaleTargetRef");
+            if (target != null) {
+                scaledTargets.add(target.get("kind") + "/" + target.get("name"));
+            }
+            Map<String, Object> selector = getMap(object, "spec", "selector");
+            if ("PodDisruptionBudget".equals(getKind(object)) && selector != null) {
+                disruptionBudgetSelectors.add(selector);
+            }
+        }
+        List<String> findings = new ArrayList<>();
+        for (Map<String, Object> object : objects) {
+            if (!"Deployment".equals(getKind(object)) || getInt(getMap(object, "spec"), "replicas", 1) > 1 ||
+                    scaledTargets.contains(getKind(object) + "/" + getName(object))) {
+                continue;
+            }
+            Map<String, Object> labels = getMap(object, "spec", "template", "metadata", "labels");
+            boolean budgeted = false;
+            for (Map<String, Object> selector : disruptionBudgetSelectors) {
+                budgeted = budgeted || matches(selector, labels == null ? Collections.emptyMap() : labels);
+            }
+            if (!budgeted) {
+                findings.add(describe(object) + ": runs a single replica without an autoscaler or a " +
+                        "disruption budget");
+            }
+        }
+        return findings;
+    }
+
+    /**
+     * Returns true if a label selector selects pods with the given labels.
+     *
+     * @param selector label selector with matchLabels and matchExpressions
+     * @param labels   pod labels
+     * @return true if every label and expression of the selector is satisfied
+     */
+    private static boolean matches(Map<String, Object> selector, Map<String, Object> labels) {
+        Map<String, Object> matchLabels = getMap(selector, "matchLabels");
+        if (matchLabels != null) {
+            for (Map.Entry<String, Object> label : matchLabels.entrySet()) {
+                if (!String.valueOf(label.getValue()).equals(String.valueOf(labels.get(label.getKey())))) {
+                    return false;
+                }
+            }
+        }
+        for (Map<String, Object> expression : getList(selector, "matchExpressions")) {
+            String key = String.valueOf(expression.get("key"));
+            Object values = expression.get("values");
+            boolean inValues = values instanceof List && labels.containsKey(key) &&
+                    ((List<?>) values).contains(String.valueOf(labels.get(key)));
+            switch (String.valueOf(expression.get("operator"))) {
+                case "In":
+                    if (!inValues) {
+                        return false;
+                    }
+                    break;
+                case "NotIn":
+                    if (inValues) {
+                        return false;
+                    }
+                    break;
+                case "Exists":
+                    if (!labels.containsKey(key)) {
+                        return false;
+                    }
+                    break;
+                case "DoesNotExist":
+                    if (labels.containsKey(key)) {
+                        return false;
+                    }
+                    break;
+                default:
+                    return false;
+            }
+        }
+        return true;
+    }
+}
@@ -18,12 +18,15 @@
 package io.ballerina.c2c.models;
 
 import io.ballerina.c2c.KubernetesConstants;
+import io.fabric8.kubernetes.api.model.Affinity;
 import io.fabric8.kubernetes.api.model.ContainerPort;
 import io.fabric8.kubernetes.api.model.EnvVar;
 import io.fabric8.kubernetes.api.model.Probe;
 import io.fabric8.kubernetes.api.model.Quantity;
 import io.fabric8.kubernetes.api.model.ResourceRequirements;
 import io.fabric8.kubernetes.api.model.ResourceRequirementsBuilder;
+import io.fabric8.kubernetes.api.model.Toleration;
+import io.fabric8.kubernetes.api.model.TopologySpreadConstraint;
 import io.fabric8.kubernetes.api.model.apps.DeploymentStrategy;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
@@ -65,15 +68,23 @@ public class DeploymentModel extends KubernetesModel {
     private Set<SecretModel> secretModels;
     private Set<ConfigMapModel> configMapModels;
     private Set<PersistentVolumeClaimModel> volumeClaimModels;
+    private List<EmptyDirVolumeModel> emptyDirVolumeModels;
     private Set<String> imagePullSecrets;
     private String commandArgs;
     private boolean singleYAML;
     private String registry;
     private DeploymentStrategy strategy;
+    private Integer minReadySeconds;
+    private Integer progressDeadlineSeconds;
+    private Integer revisionHistoryLimit;
     private Map<String, String> nodeSelector;
     private boolean uberJar;
     private String dockerConfigPath;
     private ResourceRequirements resourceRequirements;
+    private List<TopologySpreadConstraint> topologySpreadConstraints;
+    private Affinity affinity;
+    private String priorityClassName;
+    private List<Toleration> tolerations;
 
     public DeploymentModel() {
         // Initialize with default values.
@@ -89,11 +100,14 @@ public class DeploymentModel extends KubernetesModel {
         this.secretModels = new HashSet<>();
         this.configMapModels = new HashSet<>();
         this.volumeClaimModels = new HashSet<>();
+        this.emptyDirVolumeModels = new ArrayList<>();
         this.imagePullSecrets = new HashSet<>();
         this.singleYAML = true;
         this.commandArgs = "";
         this.registry = "";
         this.uberJar = false;
+        this.topologySpreadConstraints = new ArrayList<>();
+        this.tolerations = new ArrayList<>();
         Map<String, Quantity> limit = new HashMap<>();
         limit.put("cpu", new Quantity("500m"));
         limit.put("memory", new Quantity("256Mi"));
@@ -127,10 +141,21 @@ public class DeploymentModel extends KubernetesModel {
         this.labels.put(key, value);
     }
 
+    public void addPodAnnotation(String key, String value) {
+        if (this.podAnnotations == null) {
+            this.podAnnotations = new LinkedHashMap<>();
+        }
+        this.podAnnotations.put(key, value);
+    }
+
     public void addEnv(EnvVar envVar) {
         envVars.add(envVar);
     }
 
+    public void addTopologySpreadConstraint(TopologySpreadConstraint constraint) {
+        topologySpreadConstraints.add(constraint);
+    }
+
     @Override
     public String toString() {
         return "DeploymentModel{" +
@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.c2c.models;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+import java.util.HashMap;
+
+/**
+ * Model class to hold istio destination rule traffic policy.
+ */
+@EqualsAndHashCode(callSuper = true)
+@Data
+public class DestinationRuleModel extends KubernetesModel {
+    private String host;
+    private Integer http1MaxPendingRequests;
+    private Integer http2MaxRequests;
+    private Integer maxRequestsPerConnection;
+    private Integer maxConnections;
+    private String loadBalancer;
+    private Integer consecutiveErrors;
+    private Long intervalSeconds;
+    private Long baseEjectionTimeSeconds;
+    private Integer maxEjectionPercent;
+
+    public DestinationRuleModel() {
+        this.labels = new HashMap<>();
+    }
+}
@@ -19,13 +19,17 @@
 package io.ballerina.c2c.models;
 
 import io.ballerina.c2c.KubernetesConstants;
+import io.fabric8.kubernetes.api.model.Affinity;
+import io.fabric8.kubernetes.api.model.Toleration;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import org.ballerinax.docker.generator.models.CopyFileModel;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -41,7 +45,15 @@ public class JobModel extends KubernetesModel {
     private String restartPolicy;
     private int backoffLimit;
     private int activeDeadlineSeconds;
+    private int parallelism;
+    private int completions;
+    private String completionMode;
     private String schedule;
+    private String concurrencyPolicy;
+    private int startingDeadlineSeconds;
+    private int successfulJobsHistoryLimit;
+    private int failedJobsHistoryLimit;
+    private int ttlSecondsAfterFinished;
     private Map<String, EnvVarValueModel> env;
     private String imagePullPolicy;
     private String image;
@@ -59,6 +71,9 @@ public class JobModel extends KubernetesModel {
     private String registry;
     private boolean uberJar;
     private String dockerConfigPath;
+    private String priorityClassName;
+    private Affinity affinity;
+    private List<Toleration> tolerations;
 
     public JobModel() {
         this.labels = new HashMap<>();
@@ -72,8 +87,16 @@ public class JobModel extends KubernetesModel {
         this.setEnv(new HashMap<>());
         this.setImagePullPolicy("IfNotPresent");
 
-        this.activeDeadlineSeconds = 20;
+        this.activeDeadlineSeconds = 0;
+        this.backoffLimit = -1;
+        this.completionMode = KubernetesConstants.CompletionMode.NonIndexed.name();
+        this.concurrencyPolicy = KubernetesConstants.ConcurrencyPolicy.Allow.name();
+        this.startingDeadlineSeconds = 0;
+        this.successfulJobsHistoryLimit = -1;
+        this.failedJobsHistoryLimit = -1;
+        this.ttlSecondsAfterFinished = -1;
         this.imagePullSecrets = new HashSet<>();
+        this.tolerations = new ArrayList<>();
         this.singleYAML = true;
         this.uberJar = false;
     }
@@ -81,4 +104,12 @@ public class JobModel extends KubernetesModel {
     public void addLabel(String key, String value) {
         this.labels.put(key, value);
     }
+
+    public void addEnv(String key, EnvVarValueModel value) {
+        this.env.put(key, value);
+    }
+
+    public boolean isIndexed() {
+        return KubernetesConstants.CompletionMode.Indexed.name().equals(completionMode);
+    }
 }
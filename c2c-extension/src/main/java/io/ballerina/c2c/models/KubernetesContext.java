@@ -24,6 +24,7 @@ import org.wso2.ballerinalang.compiler.util.CompilerContext;
 import org.wso2.ballerinalang.compiler.util.Names;
 
 import java.nio.file.Path;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -66,6 +67,10 @@ public class KubernetesContext {
         return this.packageIDtoDataHolderMap.get(packageID);
     }
 
+    public Collection<KubernetesDataHolder> getDataHolders() {
+        return this.packageIDtoDataHolderMap.values();
+    }
+
     public String getServiceName(String dependsOn) throws KubernetesPluginException {
         String packageName = dependsOn.substring(0, dependsOn.indexOf(Names.VERSION_SEPARATOR.value));
         String listener = dependsOn.substring(dependsOn.indexOf(Names.VERSION_SEPARATOR.value) + 1);
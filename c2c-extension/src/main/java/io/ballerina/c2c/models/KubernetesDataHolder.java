@@ -19,6 +19,7 @@
 package io.ballerina.c2c.models;
 
 import com.moandjiezana.toml.Toml;
+import io.ballerina.c2c.utils.PluginMetrics;
 import lombok.Data;
 import org.ballerinalang.model.elements.PackageID;
 import org.ballerinax.docker.generator.models.DockerModel;
@@ -26,6 +27,7 @@ import org.ballerinax.docker.generator.models.DockerModel;
 import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
 
@@ -38,7 +40,9 @@ public class KubernetesDataHolder {
     private DeploymentModel deploymentModel;
     private DockerModel dockerModel;
     private PodAutoscalerModel podAutoscalerModel;
+    private ResourceQuotaModel resourceQuotaModel;
     private Map<String, ServiceModel> bListenerToK8sServiceMap;
+    private Map<String, String> bListenerToModuleMap;
     private Map<String, Set<SecretModel>> bListenerToSecretMap;
     private Set<SecretModel> secretModelSet;
     private Set<ConfigMapModel> configMapModelSet;
@@ -51,10 +55,12 @@ public class KubernetesDataHolder {
     private Path sourceRoot;
     private PackageID packageID;
     private Toml ballerinaCloud;
+    private PluginMetrics pluginMetrics;
 
     KubernetesDataHolder(Path sourceRoot) {
         this.sourceRoot = sourceRoot;
-        this.bListenerToK8sServiceMap = new HashMap<>();
+        this.bListenerToK8sServiceMap = new LinkedHashMap<>();
+        this.bListenerToModuleMap = new LinkedHashMap<>();
         this.bListenerToSecretMap = new HashMap<>();
         this.secretModelSet = new HashSet<>();
         this.configMapModelSet = new HashSet<>();
@@ -62,6 +68,7 @@ public class KubernetesDataHolder {
         this.deploymentModel = new DeploymentModel();
         this.dockerModel = new DockerModel();
         this.ballerinaCloud = null;
+        this.pluginMetrics = new PluginMetrics();
     }
 
     public void addSecrets(Set<SecretModel> secrets) {
@@ -80,4 +87,8 @@ public class KubernetesDataHolder {
         this.bListenerToK8sServiceMap.put(listenerName, serviceModel);
     }
 
+    public void addBListenerToModuleMap(String listenerName, String moduleName) {
+        this.bListenerToModuleMap.put(listenerName, moduleName);
+    }
+
 }
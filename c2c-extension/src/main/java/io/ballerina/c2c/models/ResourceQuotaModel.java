@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.models;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Model class to hold kubernetes resource quota and limit range.
+ */
+public class ResourceQuotaModel extends KubernetesModel {
+    private Map<String, String> hard;
+    private boolean limitRange;
+
+    public ResourceQuotaModel() {
+        this.hard = new LinkedHashMap<>();
+        this.limitRange = true;
+        labels = new HashMap<>();
+    }
+
+    public Map<String, String> getHard() {
+        return hard;
+    }
+
+    public void setHard(Map<String, String> hard) {
+        this.hard = hard;
+    }
+
+    public boolean isLimitRange() {
+        return limitRange;
+    }
+
+    public void setLimitRange(boolean limitRange) {
+        this.limitRange = limitRange;
+    }
+
+    public void addLabel(String key, String value) {
+        this.labels.put(key, value);
+    }
+}
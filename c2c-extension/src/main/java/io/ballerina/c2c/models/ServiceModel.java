@@ -37,6 +37,8 @@ public class ServiceModel extends KubernetesModel {
     private String sessionAffinity;
     private String portName;
     private String protocol;
+    private String appProtocol;
+    private boolean headless;
 
     public ServiceModel() {
         serviceType = KubernetesConstants.ServiceType.ClusterIP.name();
@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.c2c.models;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * Model class to hold istio virtual service routing for a kubernetes service.
+ */
+@EqualsAndHashCode(callSuper = true)
+@Data
+public class VirtualServiceModel extends KubernetesModel {
+    private String host;
+    private List<Integer> ports;
+    private Long timeoutSeconds;
+    private Integer retryAttempts;
+    private Long perTryTimeoutSeconds;
+    private String retryOn;
+
+    public VirtualServiceModel() {
+        this.labels = new HashMap<>();
+        this.ports = new ArrayList<>();
+    }
+}
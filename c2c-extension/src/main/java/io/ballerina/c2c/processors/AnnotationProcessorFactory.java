@@ -40,6 +40,8 @@ public class AnnotationProcessorFactory {
             case Task:
             case Job:
                 return new JobAnnotationProcessor();
+            case ResourceQuota:
+                return new ResourceQuotaAnnotationProcessor();
             default:
                 KubernetesContext.getInstance().getDataHolder().setCanProcess(false);
                 throw new KubernetesPluginException("error while getting annotation processor for type: " + type);
@@ -51,6 +53,7 @@ public class AnnotationProcessorFactory {
         HPA,
         Deployment,
         Task,
-        Job
+        Job,
+        ResourceQuota
     }
 }
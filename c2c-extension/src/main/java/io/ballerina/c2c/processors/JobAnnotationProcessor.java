@@ -46,35 +46,45 @@ public class JobAnnotationProcessor extends AbstractAnnotationProcessor {
         for (BLangRecordLiteral.BLangRecordKeyValueField keyValue : keyValues) {
             JobConfiguration jobConfiguration =
                     JobConfiguration.valueOf(keyValue.getKey().toString());
-            if (jobConfiguration == JobConfiguration.schedule) {
-                String minutes = null, hours = null, dayOfMonth = null, monthOfYear = null, daysOfWeek = null;
-                for (RecordLiteralNode.RecordField recordField :
-                        ((BLangRecordLiteral) keyValue.getValue()).getFields()) {
-                    BLangRecordLiteral.BLangRecordKeyValueField schedule =
-                            (BLangRecordLiteral.BLangRecordKeyValueField) recordField;
-                    ScheduleConfig scheduleConfig = ScheduleConfig.valueOf(schedule.getKey().toString());
-                    switch (scheduleConfig) {
-                        case minutes:
-                            minutes = KubernetesUtils.getStringValue(schedule.getValue());
-                            break;
-                        case hours:
-                            hours = KubernetesUtils.getStringValue(schedule.getValue());
-                            break;
-                        case dayOfMonth:
-                            dayOfMonth = KubernetesUtils.getStringValue(schedule.getValue());
-                            break;
-                        case monthOfYear:
-                            monthOfYear = KubernetesUtils.getStringValue(schedule.getValue());
-                            break;
-                        case daysOfWeek:
-                            daysOfWeek = KubernetesUtils.getStringValue(schedule.getValue());
-                            break;
-                        default:
-                            break;
-                    }
-                }
-                jobModel.setSchedule(minutes + " " + hours + " " + dayOfMonth + " "
-                        + monthOfYear + " " + daysOfWeek);
+            switch (jobConfiguration) {
+                case schedule:
+                    jobModel.setSchedule(getSchedule(keyValue));
+                    break;
+                case parallelism:
+                    jobModel.setParallelism(KubernetesUtils.getIntValue(keyValue.getValue()));
+                    break;
+                case completions:
+                    jobModel.setCompletions(KubernetesUtils.getIntValue(keyValue.getValue()));
+                    break;
+                case completionMode:
+                    jobModel.setCompletionMode(KubernetesUtils.getStringValue(keyValue.getValue()));
+                    break;
+                case backoffLimit:
+                    jobModel.setBackoffLimit(KubernetesUtils.getIntValue(keyValue.getValue()));
+                    break;
+                case activeDeadlineSeconds:
+                    jobModel.setActiveDeadlineSeconds(KubernetesUtils.getIntValue(keyValue.getValue()));
+                    break;
+                case ttlSecondsAfterFinished:
+                    jobModel.setTtlSecondsAfterFinished(KubernetesUtils.getIntValue(keyValue.getValue()));
+                    break;
+                case concurrencyPolicy:
+                    jobModel.setConcurrencyPolicy(KubernetesUtils.getStringValue(keyValue.getValue()));
+                    break;
+                case startingDeadlineSeconds:
+                    jobModel.setStartingDeadlineSeconds(KubernetesUtils.getIntValue(keyValue.getValue()));
+                    break;
+                case successfulJobsHistoryLimit:
+                    jobModel.setSuccessfulJobsHistoryLimit(KubernetesUtils.getIntValue(keyValue.getValue()));
+                    break;
+                case failedJobsHistoryLimit:
+                    jobModel.setFailedJobsHistoryLimit(KubernetesUtils.getIntValue(keyValue.getValue()));
+                    break;
+                case priorityClassName:
+                    jobModel.setPriorityClassName(KubernetesUtils.getStringValue(keyValue.getValue()));
+                    break;
+                default:
+                    break;
             }
         }
         String dockerHost = System.getenv(DOCKER_HOST);
@@ -88,12 +98,53 @@ public class JobAnnotationProcessor extends AbstractAnnotationProcessor {
         KubernetesContext.getInstance().getDataHolder().setJobModel(jobModel);
     }
 
+    private String getSchedule(BLangRecordLiteral.BLangRecordKeyValueField keyValue)
+            throws KubernetesPluginException {
+        String minutes = null, hours = null, dayOfMonth = null, monthOfYear = null, daysOfWeek = null;
+        for (RecordLiteralNode.RecordField recordField :
+                ((BLangRecordLiteral) keyValue.getValue()).getFields()) {
+            BLangRecordLiteral.BLangRecordKeyValueField schedule =
+                    (BLangRecordLiteral.BLangRecordKeyValueField) recordField;
+            ScheduleConfig scheduleConfig = ScheduleConfig.valueOf(schedule.getKey().toString());
+            switch (scheduleConfig) {
+                case minutes:
+                    minutes = KubernetesUtils.getStringValue(schedule.getValue());
+                    break;
+                case hours:
+                    hours = KubernetesUtils.getStringValue(schedule.getValue());
+                    break;
+                case dayOfMonth:
+                    dayOfMonth = KubernetesUtils.getStringValue(schedule.getValue());
+                    break;
+                case monthOfYear:
+                    monthOfYear = KubernetesUtils.getStringValue(schedule.getValue());
+                    break;
+                case daysOfWeek:
+                    daysOfWeek = KubernetesUtils.getStringValue(schedule.getValue());
+                    break;
+                default:
+                    break;
+            }
+        }
+        return minutes + " " + hours + " " + dayOfMonth + " " + monthOfYear + " " + daysOfWeek;
+    }
 
     /**
      * Enum class for JobConfiguration.
      */
     private enum JobConfiguration {
         schedule,
+        parallelism,
+        completions,
+        completionMode,
+        backoffLimit,
+        activeDeadlineSeconds,
+        ttlSecondsAfterFinished,
+        concurrencyPolicy,
+        startingDeadlineSeconds,
+        successfulJobsHistoryLimit,
+        failedJobsHistoryLimit,
+        priorityClassName
     }
 
     private enum ScheduleConfig {
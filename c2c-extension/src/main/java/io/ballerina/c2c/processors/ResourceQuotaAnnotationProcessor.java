@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.processors;
+
+import io.ballerina.c2c.exceptions.KubernetesPluginException;
+import io.ballerina.c2c.models.KubernetesContext;
+import io.ballerina.c2c.models.ResourceQuotaModel;
+import io.ballerina.c2c.utils.KubernetesUtils;
+import org.ballerinalang.model.tree.AnnotationAttachmentNode;
+import org.ballerinalang.model.tree.FunctionNode;
+import org.ballerinalang.model.tree.ServiceNode;
+import org.wso2.ballerinalang.compiler.tree.BLangAnnotationAttachment;
+import org.wso2.ballerinalang.compiler.tree.expressions.BLangRecordLiteral;
+
+import java.util.List;
+
+import static io.ballerina.c2c.KubernetesConstants.MAIN_FUNCTION_NAME;
+import static io.ballerina.c2c.utils.KubernetesUtils.convertRecordFields;
+
+/**
+ * Resource quota annotation processor.
+ */
+public class ResourceQuotaAnnotationProcessor extends AbstractAnnotationProcessor {
+
+    @Override
+    public void processAnnotation(ServiceNode serviceNode, AnnotationAttachmentNode attachmentNode) throws
+            KubernetesPluginException {
+        processResourceQuota(attachmentNode);
+    }
+
+    @Override
+    public void processAnnotation(FunctionNode functionNode, AnnotationAttachmentNode attachmentNode) throws
+            KubernetesPluginException {
+        if (!MAIN_FUNCTION_NAME.equals(functionNode.getName().getValue())) {
+            throw new KubernetesPluginException("@c2c:ResourceQuota{} annotation cannot be attached to a non main " +
+                    "function.");
+        }
+        processResourceQuota(attachmentNode);
+    }
+
+    private void processResourceQuota(AnnotationAttachmentNode attachmentNode) throws KubernetesPluginException {
+        ResourceQuotaModel resourceQuotaModel = new ResourceQuotaModel();
+        BLangRecordLiteral recordLiteral = (BLangRecordLiteral) ((BLangAnnotationAttachment) attachmentNode).expr;
+        if (recordLiteral != null) {
+            List<BLangRecordLiteral.BLangRecordKeyValueField> keyValues =
+                    convertRecordFields(recordLiteral.getFields());
+            for (BLangRecordLiteral.BLangRecordKeyValueField keyValue : keyValues) {
+                ResourceQuotaConfiguration resourceQuotaConfiguration =
+                        ResourceQuotaConfiguration.valueOf(keyValue.getKey().toString());
+                switch (resourceQuotaConfiguration) {
+                    case name:
+                        resourceQuotaModel.setName(KubernetesUtils.getStringValue(keyValue.getValue()));
+                        break;
+                    case hard:
+                        resourceQuotaModel.setHard(KubernetesUtils.getMap(keyValue.getValue()));
+                        break;
+                    case limitRange:
+                        resourceQuotaModel.setLimitRange(KubernetesUtils.getBooleanValue(keyValue.getValue()));
+                        break;
+                    default:
+                        break;
+                }
+            }
+        }
+        KubernetesContext.getInstance().getDataHolder().setResourceQuotaModel(resourceQuotaModel);
+    }
+
+    /**
+     * Enum class for ResourceQuotaConfiguration.
+     */
+    private enum ResourceQuotaConfiguration {
+        name,
+        hard,
+        limitRange
+    }
+}
@@ -36,6 +36,7 @@ import org.wso2.ballerinalang.compiler.tree.types.BLangUserDefinedType;
 
 import java.util.List;
 
+import static io.ballerina.c2c.KubernetesConstants.EVENT_LISTENER_MODULES;
 import static io.ballerina.c2c.KubernetesConstants.SVC_POSTFIX;
 import static io.ballerina.c2c.utils.KubernetesUtils.convertRecordFields;
 
@@ -55,12 +56,14 @@ public class ServiceAnnotationProcessor extends AbstractAnnotationProcessor {
                         "supported when the service has an anonymous listener");
             }
         }
+        BLangTypeInit bListener = (BLangTypeInit) bService.getAttachedExprs().get(0);
+        if (isEventListener(serviceNode.getName().getValue(), bListener)) {
+            return;
+        }
         ServiceModel serviceModel = new ServiceModel();
         if (KubernetesUtils.isBlank(serviceModel.getName())) {
             serviceModel.setName(KubernetesUtils.getValidName(serviceNode.getName().getValue()) + SVC_POSTFIX);
         }
-
-        BLangTypeInit bListener = (BLangTypeInit) bService.getAttachedExprs().get(0);
         validatePorts(serviceModel, bListener);
 
         KubernetesContext.getInstance().getDataHolder().addBListenerToK8sServiceMap(serviceNode.getName().getValue(),
@@ -92,12 +95,14 @@ public class ServiceAnnotationProcessor extends AbstractAnnotationProcessor {
     @Override
     public void processAnnotation(SimpleVariableNode variableNode, AnnotationAttachmentNode attachmentNode)
             throws KubernetesPluginException {
+        BLangTypeInit bListener = (BLangTypeInit) ((BLangSimpleVariable) variableNode).expr;
+        if (isEventListener(variableNode.getName().getValue(), bListener)) {
+            return;
+        }
         ServiceModel serviceModel = new ServiceModel();
         if (KubernetesUtils.isBlank(serviceModel.getName())) {
             serviceModel.setName(KubernetesUtils.getValidName(variableNode.getName().getValue()) + SVC_POSTFIX);
         }
-
-        BLangTypeInit bListener = (BLangTypeInit) ((BLangSimpleVariable) variableNode).expr;
         validatePorts(serviceModel, bListener);
         KubernetesContext.getInstance().getDataHolder().addBListenerToK8sServiceMap(variableNode.getName().getValue()
                 , serviceModel);
@@ -125,15 +130,40 @@ public class ServiceAnnotationProcessor extends AbstractAnnotationProcessor {
         }
     }
 
-    private void setServiceProtocol(ServiceModel serviceModel, BLangTypeInit bListener) {
+    /**
+     * Record the module of the listener and check whether it is an event driven listener. Event driven listeners
+     * consume from a broker, so they have no port and no kubernetes service is generated for them.
+     *
+     * @param listenerName name of the listener or service
+     * @param bListener    listener initialization
+     * @return true if the listener is event driven
+     */
+    private boolean isEventListener(String listenerName, BLangTypeInit bListener) {
+        String module = getListenerModule(bListener);
+        KubernetesContext.getInstance().getDataHolder().addBListenerToModuleMap(listenerName, module);
+        return EVENT_LISTENER_MODULES.contains(module);
+    }
+
+    private String getListenerModule(BLangTypeInit bListener) {
+        if (bListener.type != null && bListener.type.tsymbol != null && bListener.type.tsymbol.pkgID != null) {
+            return bListener.type.tsymbol.pkgID.name.getValue();
+        }
+        return getPackageAlias(bListener);
+    }
+
+    private String getPackageAlias(BLangTypeInit bListener) {
         if (null != bListener.userDefinedType) {
             BLangUserDefinedType userDefinedType = (BLangUserDefinedType) bListener.userDefinedType;
-            serviceModel.setProtocol(userDefinedType.getPackageAlias().getValue());
-        } else {
-            BLangIdentifier packageAlias =
-                    ((BLangUserDefinedType) ((BLangSimpleVariable) bListener.parent).typeNode).getPackageAlias();
-            serviceModel.setProtocol(packageAlias.getValue());
+            return userDefinedType.getPackageAlias().getValue();
         }
+        BLangIdentifier packageAlias =
+                ((BLangUserDefinedType) ((BLangSimpleVariable) bListener.parent).typeNode).getPackageAlias();
+        return packageAlias.getValue();
+    }
+
+    private void setServiceProtocol(ServiceModel serviceModel, BLangTypeInit bListener)
+            throws KubernetesPluginException {
+        serviceModel.setProtocol(getPackageAlias(bListener));
         if ("http".equals(serviceModel.getProtocol())) {
             // Add http config
             if (bListener.argsExpr.size() == 2) {
@@ -141,12 +171,26 @@ public class ServiceAnnotationProcessor extends AbstractAnnotationProcessor {
                     BLangRecordLiteral bConfigRecordLiteral = (BLangRecordLiteral) bListener.argsExpr.get(1);
                     List<BLangRecordLiteral.BLangRecordKeyValueField> listenerConfig =
                             convertRecordFields(bConfigRecordLiteral.getFields());
-                    serviceModel.setProtocol(isHTTPS(listenerConfig) ? "https" : "http");
+                    if (isHTTPS(listenerConfig)) {
+                        serviceModel.setProtocol("https");
+                    } else if (isHTTP2(listenerConfig)) {
+                        serviceModel.setProtocol("http2");
+                    }
                 }
             }
         }
     }
 
+    private boolean isHTTP2(List<BLangRecordLiteral.BLangRecordKeyValueField> listenerConfig)
+            throws KubernetesPluginException {
+        for (BLangRecordLiteral.BLangRecordKeyValueField keyValue : listenerConfig) {
+            if ("httpVersion".equals(keyValue.getKey().toString())) {
+                return "2.0".equals(KubernetesUtils.getStringValue(keyValue.getValue()));
+            }
+        }
+        return false;
+    }
+
     private boolean isHTTPS(List<BLangRecordLiteral.BLangRecordKeyValueField> listenerConfig) {
         for (BLangRecordLiteral.BLangRecordKeyValueField keyValue : listenerConfig) {
             String key = keyValue.getKey().toString();
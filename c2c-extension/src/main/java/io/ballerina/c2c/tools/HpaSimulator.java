@@ -0,0 +1,633 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.tools;
+
+import io.ballerina.c2c.exceptions.KubernetesPluginException;
+import io.ballerina.c2c.utils.KubernetesUtils;
+import io.fabric8.kubernetes.api.model.Quantity;
+import org.yaml.snakeyaml.Yaml;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Offline tool that replays a recorded load trace against a generated HorizontalPodAutoscaler and reports replica
+ * counts over time, seconds in which pods were saturated and the pod-hours spent. The control loop follows the
+ * Kubernetes HPA algorithm: a 15s sync period, a 10% tolerance, not-ready pods counted as idle when scaling up,
+ * stabilization windows and scale up/down rate policies.
+ * <p>
+ * Usage: java -cp c2c-extension.jar io.ballerina.c2c.tools.HpaSimulator --manifest target/kubernetes/hello/hello.yaml
+ * --trace load.csv --pod-capacity 120 [--cpu-per-request 4] [--base-cpu 20] [--cpu-request 500m] [--startup 30]
+ * [--min-replicas 2] [--max-replicas 10] [--cpu 60] [--output hpa-simulation.csv]
+ * <p>
+ * The trace is a csv of seconds,requests per second. Each rate holds until the next row.
+ */
+public class HpaSimulator {
+    private static final PrintStream OUT = System.out;
+    private static final int SYNC_PERIOD = 15;
+    private static final double TOLERANCE = 0.1;
+    private static final int MAX_TRACE_SECONDS = 7 * 24 * 3600;
+
+    private final Map<String, String> options;
+
+    HpaSimulator(Map<String, String> options) {
+        this.options = options;
+    }
+
+    public static void main(String[] args) {
+        try {
+            new HpaSimulator(parseArgs(args)).execute();
+        } catch (KubernetesPluginException e) {
+            KubernetesUtils.printError(e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    static Map<String, String> parseArgs(String[] args) throws KubernetesPluginException {
+        Map<String, String> options = new HashMap<>();
+        options.put("cpu-per-request", "1");
+        options.put("base-cpu", "0");
+        options.put("startup", "30");
+        options.put("output", "hpa-simulation.csv");
+        for (int i = 0; i < args.length; i += 2) {
+            if (!args[i].startsWith("--") || i + 1 >= args.length) {
+                throw new KubernetesPluginException("invalid argument: " + args[i]);
+            }
+            options.put(args[i].substring(2), args[i + 1]);
+        }
+        for (String required : new String[]{"manifest", "trace", "pod-capacity"}) {
+            if (!options.containsKey(required)) {
+                throw new KubernetesPluginException("--" + required + " is required");
+            }
+        }
+        for (String option : new String[]{"min-replicas", "max-replicas", "cpu"}) {
+            if (options.containsKey(option)) {
+                getIntOption(options, option, 1);
+            }
+        }
+        if (options.containsKey("min-replicas") && options.containsKey("max-replicas") &&
+                getIntOption(options, "min-replicas", 1) > getIntOption(options, "max-replicas", 1)) {
+            throw new KubernetesPluginException("--min-replicas must not be greater than --max-replicas");
+        }
+        getIntOption(options, "startup", 1);
+        getDoubleOption(options, "pod-capacity", true);
+        getDoubleOption(options, "cpu-per-request", false);
+        getDoubleOption(options, "base-cpu", false);
+        if (options.containsKey("cpu-request")) {
+            getCpuRequestMillis(options);
+        }
+        return options;
+    }
+
+    private static int getIntOption(Map<String, String> options, String option, int min)
+            throws KubernetesPluginException {
+        String value = options.get(option);
+        try {
+            int number = Integer.parseInt(value);
+            if (number >= min) {
+                return number;
+            }
+        } catch (NumberFormatException e) {
+            // reported below.
+        }
+        throw new KubernetesPluginException("--" + option + " must be an integer of at least " + min + ". Found " +
+                value);
+    }
+
+    private static double getDoubleOption(Map<String, String> options, String option, boolean positive)
+            throws KubernetesPluginException {
+        String value = options.get(option);
+        try {
+            double number = Double.parseDouble(value);
+            if (!Double.isInfinite(number) && (positive ? number > 0 : number >= 0)) {
+                return number;
+            }
+        } catch (NumberFormatException e) {
+            // reported below.
+        }
+        throw new KubernetesPluginException("--" + option + " must be a " + (positive ? "positive" : "non-negative") +
+                " number. Found " + value);
+    }
+
+    private static double getCpuRequestMillis(Map<String, String> options) throws KubernetesPluginException {
+        String value = options.get("cpu-request");
+        try {
+            double millis = KubernetesUtils.getCpuCores(new Quantity(value)) * 1000;
+            if (millis > 0 && !Double.isInfinite(millis)) {
+                return millis;
+            }
+        } catch (NumberFormatException e) {
+            // reported below.
+        }
+        throw new KubernetesPluginException("--cpu-request must be a positive cpu quantity such as 500m. Found " +
+                value);
+    }
+
+    private void execute() throws KubernetesPluginException {
+        Path manifest = Paths.get(options.get("manifest"));
+        Path trace = Paths.get(options.get("trace"));
+        Autoscaler autoscaler;
+        double[] load;
+        try {
+            autoscaler = Autoscaler.parse(new String(Files.readAllBytes(manifest), StandardCharsets.UTF_8));
+            load = parseTrace(Files.readAllLines(trace, StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new KubernetesPluginException("unable to read simulation input", e);
+        }
+        if (options.containsKey("min-replicas")) {
+            autoscaler.minReplicas = getIntOption(options, "min-replicas", 1);
+        }
+        if (options.containsKey("max-replicas")) {
+            autoscaler.maxReplicas = getIntOption(options, "max-replicas", 1);
+        }
+        if (options.containsKey("cpu")) {
+            autoscaler.cpuTarget = getIntOption(options, "cpu", 1);
+        }
+        if (options.containsKey("cpu-request")) {
+            autoscaler.cpuRequestMillis = getCpuRequestMillis(options);
+        }
+        if (autoscaler.cpuRequestMillis <= 0) {
+            throw new KubernetesPluginException("the deployment has no cpu request, set min_cpu or --cpu-request");
+        }
+        if (autoscaler.minReplicas < 1 || autoscaler.cpuTarget < 1) {
+            throw new KubernetesPluginException("the autoscaler needs at least 1 replica and a cpu target above 0, " +
+                    "set --min-replicas and --cpu");
+        }
+        if (autoscaler.minReplicas > autoscaler.maxReplicas) {
+            throw new KubernetesPluginException("min replicas " + autoscaler.minReplicas + " is greater than max " +
+                    "replicas " + autoscaler.maxReplicas + ", check --min-replicas and --max-replicas");
+        }
+        CapacityModel capacity = new CapacityModel(getDoubleOption(options, "pod-capacity", true),
+                getDoubleOption(options, "cpu-per-request", false), getDoubleOption(options, "base-cpu", false),
+                getIntOption(options, "startup", 1));
+        Result result = simulate(autoscaler, capacity, load);
+        Path output = Paths.get(options.get("output"));
+        try {
+            Files.write(output, result.toCsv().getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new KubernetesPluginException("unable to write simulation: " + output, e);
+        }
+        OUT.println(String.format(Locale.ROOT, "replicas %d-%d at %d%% cpu of %.0fm: peak %d replicas, %d scale " +
+                        "events, %.2f pod-hours, SLO violated for %ds (%.2f%%)", autoscaler.minReplicas,
+                autoscaler.maxReplicas, autoscaler.cpuTarget, autoscaler.cpuRequestMillis, result.peakReplicas,
+                result.scaleEvents, result.podHours, result.violationSeconds,
+                100.0 * result.violationSeconds / load.length));
+        OUT.println("replica timeline written to " + output.toAbsolutePath());
+    }
+
+    /**
+     * Expand a trace of seconds,requests per second rows into one rate per second.
+     *
+     * @param lines csv lines, a non numeric first line is treated as a header
+     * @return requests per second for each second of the trace
+     * @throws KubernetesPluginException if the trace is empty or a row is malformed or out of range
+     */
+    static double[] parseTrace(List<String> lines) throws KubernetesPluginException {
+        List<double[]> rows = new ArrayList<>();
+        boolean header = true;
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i).trim();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            String[] columns = line.split("\\s*,\\s*");
+            double seconds;
+            double rate;
+            try {
+                if (columns.length != 2) {
+                    throw new NumberFormatException(line);
+                }
+                seconds = Double.parseDouble(columns[0]);
+                rate = Double.parseDouble(columns[1]);
+            } catch (NumberFormatException e) {
+                if (header) {
+                    header = false;
+                    continue;
+                }
+                throw new KubernetesPluginException("invalid trace line " + (i + 1) + ": " + line +
+                        ". Expected seconds,requests per second");
+            }
+            header = false;
+            if (!(seconds >= 0 && seconds <= MAX_TRACE_SECONDS) || !(rate >= 0) || Double.isInfinite(rate)) {
+                throw new KubernetesPluginException("invalid trace line " + (i + 1) + ": " + line + ". Seconds " +
+                        "must be between 0 and " + MAX_TRACE_SECONDS + " and the rate must not be negative");
+            }
+            rows.add(new double[]{seconds, rate});
+        }
+        if (rows.isEmpty()) {
+            throw new KubernetesPluginException("load trace is empty");
+        }
+        rows.sort((a, b) -> Double.compare(a[0], b[0]));
+        double[] load = new double[(int) rows.get(rows.size() - 1)[0] + 1];
+        int row = 0;
+        for (int second = 0; second < load.length; second++) {
+            while (row + 1 < rows.size() && rows.get(row + 1)[0] <= second) {
+                row++;
+            }
+            load[second] = rows.get(row)[0] <= second ? rows.get(row)[1] : 0;
+        }
+        return load;
+    }
+
+    /**
+     * Run the HPA control loop over the load, one step per second.
+     *
+     * @param autoscaler autoscaler spec
+     * @param capacity   per pod capacity model
+     * @param load       requests per second for each second
+     * @return replica timeline and totals
+     */
+    static Result simulate(Autoscaler autoscaler, CapacityModel capacity, double[] load) {
+        Result result = new Result();
+        // start time of each pod, a pod is ready startup seconds after it started.
+        List<Integer> pods = new ArrayList<>();
+        for (int i = 0; i < autoscaler.minReplicas; i++) {
+            pods.add(-capacity.startupSeconds);
+        }
+        Deque<int[]> recommendations = new ArrayDeque<>();
+        Deque<int[]> scaleEvents = new ArrayDeque<>();
+        for (int second = 0; second < load.length; second++) {
+            int ready = countReady(pods, second, capacity.startupSeconds);
+            double perPod = ready == 0 ? Double.POSITIVE_INFINITY : load[second] / ready;
+            boolean violated = load[second] > 0 && perPod > capacity.maxRequestsPerPod;
+            double utilization = ready == 0 ? 0 : 100 * capacity.getCpuMillis(perPod) / autoscaler.cpuRequestMillis;
+            if (violated) {
+                result.violationSeconds++;
+            }
+            result.podHours += pods.size() / 3600.0;
+            if (second % SYNC_PERIOD == 0) {
+                int current = pods.size();
+                int desired = getDesiredReplicas(autoscaler, current, ready, utilization);
+                recommendations.addLast(new int[]{second, desired});
+                int stabilized = stabilize(autoscaler, recommendations, second, current);
+                int next = limitRate(autoscaler, scaleEvents, second, current, stabilized);
+                if (next > current) {
+                    for (int i = current; i < next; i++) {
+                        pods.add(second);
+                    }
+                } else if (next < current) {
+                    // the replica set removes pods which are not ready and then the newest pods first.
+                    pods.sort(Collections.reverseOrder());
+                    pods.subList(0, current - next).clear();
+                }
+                if (next != current) {
+                    scaleEvents.addLast(new int[]{second, next - current});
+                    result.scaleEvents++;
+                }
+                result.peakReplicas = Math.max(result.peakReplicas, next);
+                result.timeline.add(String.format(Locale.ROOT, "%d,%.1f,%d,%d,%.1f,%s", second, load[second],
+                        next, ready, utilization, violated));
+            }
+        }
+        return result;
+    }
+
+    private static int countReady(List<Integer> pods, int second, int startupSeconds) {
+        int ready = 0;
+        for (int start : pods) {
+            if (second - start >= startupSeconds) {
+                ready++;
+            }
+        }
+        return ready;
+    }
+
+    private static int getDesiredReplicas(Autoscaler autoscaler, int current, int ready, double utilization) {
+        if (ready == 0) {
+            return Math.max(current, autoscaler.minReplicas);
+        }
+        double ratio = utilization / autoscaler.cpuTarget;
+        double usage = utilization * ready;
+        int desired = current;
+        if (ratio < 1 - TOLERANCE) {
+            desired = (int) Math.ceil(usage / autoscaler.cpuTarget);
+        } else if (ratio > 1 + TOLERANCE && usage / current / autoscaler.cpuTarget > 1 + TOLERANCE) {
+            // pods which are not ready yet are counted as idle, which damps scale up while they start.
+            desired = (int) Math.ceil(usage / autoscaler.cpuTarget);
+        }
+        return Math.max(autoscaler.minReplicas, Math.min(autoscaler.maxReplicas, desired));
+    }
+
+    private static int stabilize(Autoscaler autoscaler, Deque<int[]> recommendations, int second, int current) {
+        int longestWindow = Math.max(autoscaler.scaleUp.stabilizationSeconds,
+                autoscaler.scaleDown.stabilizationSeconds);
+        while (!recommendations.isEmpty() && recommendations.peekFirst()[0] < second - longestWindow) {
+            recommendations.removeFirst();
+        }
+        int up = Integer.MAX_VALUE;
+        int down = Integer.MIN_VALUE;
+        for (int[] recommendation : recommendations) {
+            if (recommendation[0] >= second - autoscaler.scaleUp.stabilizationSeconds) {
+                up = Math.min(up, recommendation[1]);
+            }
+            if (recommendation[0] >= second - autoscaler.scaleDown.stabilizationSeconds) {
+                down = Math.max(down, recommendation[1]);
+            }
+        }
+        int stabilized = current;
+        if (stabilized < up) {
+            stabilized = up;
+        }
+        if (stabilized > down) {
+            stabilized = down;
+        }
+        return stabilized;
+    }
+
+    private static int limitRate(Autoscaler autoscaler, Deque<int[]> scaleEvents, int second, int current,
+                                 int desired) {
+        if (desired == current) {
+            return current;
+        }
+        Rules rules = desired > current ? autoscaler.scaleUp : autoscaler.scaleDown;
+        if ("Disabled".equals(rules.selectPolicy)) {
+            return current;
+        }
+        Iterator<int[]> expired = scaleEvents.iterator();
+        while (expired.hasNext()) {
+            if (expired.next()[0] < second - 1800) {
+                expired.remove();
+            }
+        }
+        Integer limit = null;
+        for (Policy policy : rules.policies) {
+            int changed = 0;
+            for (int[] event : scaleEvents) {
+                if (event[0] > second - policy.periodSeconds && (event[1] > 0) == (desired > current)) {
+                    changed += event[1];
+                }
+            }
+            int periodStart = current - changed;
+            int policyLimit;
+            if (desired > current) {
+                policyLimit = "Pods".equals(policy.type) ? periodStart + policy.value :
+                        (int) Math.ceil(periodStart * (1 + policy.value / 100.0));
+            } else {
+                policyLimit = "Pods".equals(policy.type) ? periodStart - policy.value :
+                        (int) Math.floor(periodStart * (1 - policy.value / 100.0));
+            }
+            // Max selects the policy which allows the most change, Min the one which allows the least.
+            boolean pickLarger = (desired > current) == !"Min".equals(rules.selectPolicy);
+            if (limit == null || (pickLarger ? policyLimit > limit : policyLimit < limit)) {
+                limit = policyLimit;
+            }
+        }
+        if (limit == null) {
+            return desired;
+        }
+        return desired > current ? Math.min(desired, Math.max(current, limit)) :
+                Math.max(desired, Math.min(current, limit));
+    }
+
+    /**
+     * Per pod capacity model. A pod serves up to maxRequestsPerPod requests per second within the SLO and uses
+     * baseCpuMillis plus cpuMillisPerRequest for each request per second.
+     */
+    static class CapacityModel {
+        private final double maxRequestsPerPod;
+        private final double cpuMillisPerRequest;
+        private final double baseCpuMillis;
+        private final int startupSeconds;
+
+        CapacityModel(double maxRequestsPerPod, double cpuMillisPerRequest, double baseCpuMillis,
+                      int startupSeconds) {
+            this.maxRequestsPerPod = maxRequestsPerPod;
+            this.cpuMillisPerRequest = cpuMillisPerRequest;
+            this.baseCpuMillis = baseCpuMillis;
+            this.startupSeconds = startupSeconds;
+        }
+
+        double getCpuMillis(double requestsPerSecond) {
+            return baseCpuMillis + cpuMillisPerRequest * Math.min(requestsPerSecond, maxRequestsPerPod);
+        }
+    }
+
+    /**
+     * Scaling policy of an HPA behavior.
+     */
+    static class Policy {
+        private final String type;
+        private final int value;
+        private final int periodSeconds;
+
+        Policy(String type, int value, int periodSeconds) {
+            this.type = type;
+            this.value = value;
+            this.periodSeconds = periodSeconds;
+        }
+    }
+
+    /**
+     * Scale up or scale down rules of an HPA behavior.
+     */
+    static class Rules {
+        private int stabilizationSeconds;
+        private String selectPolicy = "Max";
+        private final List<Policy> policies = new ArrayList<>();
+    }
+
+    /**
+     * The parts of a HorizontalPodAutoscaler and its Deployment that drive the control loop.
+     */
+    static class Autoscaler {
+        private int minReplicas = 1;
+        private int maxReplicas = 1;
+        private int cpuTarget = 80;
+        private double cpuRequestMillis;
+        private final Rules scaleUp = new Rules();
+        private final Rules scaleDown = new Rules();
+
+        Autoscaler() {
+            scaleUp.policies.add(new Policy("Percent", 100, 15));
+            scaleUp.policies.add(new Policy("Pods", 4, 15));
+            scaleDown.stabilizationSeconds = 300;
+            scaleDown.policies.add(new Policy("Percent", 100, 15));
+        }
+
+        /**
+         * Read the autoscaler and the cpu request of its target from a multi document manifest.
+         *
+         * @param manifest generated yaml
+         * @return autoscaler with Kubernetes defaults for the fields which are not set
+         * @throws KubernetesPluginException if there is no HorizontalPodAutoscaler or it uses other metrics
+         */
+        @SuppressWarnings("unchecked")
+        static Autoscaler parse(String manifest) throws KubernetesPluginException {
+            Autoscaler autoscaler = null;
+            double cpuRequestMillis = 0;
+            for (Object document : new Yaml().loadAll(manifest)) {
+                if (!(document instanceof Map)) {
+                    continue;
+                }
+                Map<String, Object> object = (Map<String, Object>) document;
+                Map<String, Object> spec = (Map<String, Object>) object.get("spec");
+                if (spec == null) {
+                    continue;
+                }
+                if ("HorizontalPodAutoscaler".equals(object.get("kind"))) {
+                    autoscaler = fromSpec(spec);
+                } else if ("Deployment".equals(object.get("kind"))) {
+                    cpuRequestMillis = getCpuRequestMillis(spec);
+                }
+            }
+            if (autoscaler == null) {
+                throw new KubernetesPluginException("no HorizontalPodAutoscaler found in the manifest");
+            }
+            autoscaler.cpuRequestMillis = cpuRequestMillis;
+            return autoscaler;
+        }
+
+        @SuppressWarnings("unchecked")
+        private static Autoscaler fromSpec(Map<String, Object> spec) throws KubernetesPluginException {
+            Autoscaler autoscaler = new Autoscaler();
+            autoscaler.minReplicas = getInt(spec, "minReplicas", 1);
+            autoscaler.maxReplicas = getInt(spec, "maxReplicas", autoscaler.minReplicas);
+            if (spec.containsKey("targetCPUUtilizationPercentage")) {
+                autoscaler.cpuTarget = getInt(spec, "targetCPUUtilizationPercentage", autoscaler.cpuTarget);
+            }
+            List<Map<String, Object>> metrics = (List<Map<String, Object>>) spec.get("metrics");
+            if (metrics != null) {
+                for (Map<String, Object> metric : metrics) {
+                    Map<String, Object> resource = (Map<String, Object>) metric.get("resource");
+                    if (!"Resource".equals(metric.get("type")) || resource == null ||
+                            !"cpu".equals(resource.get("name"))) {
+                        throw new KubernetesPluginException("only cpu utilization metrics can be simulated");
+                    }
+                    Map<String, Object> target = (Map<String, Object>) resource.get("target");
+                    if (target != null) {
+                        autoscaler.cpuTarget = getInt(target, "averageUtilization", autoscaler.cpuTarget);
+                    } else {
+                        autoscaler.cpuTarget = getInt(resource, "targetAverageUtilization", autoscaler.cpuTarget);
+                    }
+                }
+            }
+            Map<String, Object> behavior = (Map<String, Object>) spec.get("behavior");
+            if (behavior != null) {
+                readRules((Map<String, Object>) behavior.get("scaleUp"), autoscaler.scaleUp);
+                readRules((Map<String, Object>) behavior.get("scaleDown"), autoscaler.scaleDown);
+            }
+            return autoscaler;
+        }
+
+        @SuppressWarnings("unchecked")
+        private static void readRules(Map<String, Object> rulesSpec, Rules rules) {
+            if (rulesSpec == null) {
+                return;
+            }
+            rules.stabilizationSeconds = getInt(rulesSpec, "stabilizationWindowSeconds", rules.stabilizationSeconds);
+            if (rulesSpec.get("selectPolicy") != null) {
+                rules.selectPolicy = String.valueOf(rulesSpec.get("selectPolicy"));
+            }
+            List<Map<String, Object>> policies = (List<Map<String, Object>>) rulesSpec.get("policies");
+            if (policies != null) {
+                rules.policies.clear();
+                for (Map<String, Object> policy : policies) {
+                    rules.policies.add(new Policy(String.valueOf(policy.get("type")), getInt(policy, "value", 0),
+                            getInt(policy, "periodSeconds", SYNC_PERIOD)));
+                }
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private static double getCpuRequestMillis(Map<String, Object> deploymentSpec) {
+            Map<String, Object> template = (Map<String, Object>) deploymentSpec.get("template");
+            Map<String, Object> podSpec = template == null ? null : (Map<String, Object>) template.get("spec");
+            List<Map<String, Object>> containers = podSpec == null ? null :
+                    (List<Map<String, Object>>) podSpec.get("containers");
+            if (containers == null || containers.isEmpty()) {
+                return 0;
+            }
+            Map<String, Object> resources = (Map<String, Object>) containers.get(0).get("resources");
+            Map<String, Object> requests = resources == null ? null : (Map<String, Object>) resources.get("requests");
+            if (requests == null || requests.get("cpu") == null) {
+                return 0;
+            }
+            return KubernetesUtils.getCpuCores(new Quantity(String.valueOf(requests.get("cpu")))) * 1000;
+        }
+
+        private static int getInt(Map<String, Object> map, String key, int defaultValue) {
+            Object value = map.get(key);
+            return value instanceof Number ? ((Number) value).intValue() : defaultValue;
+        }
+
+        int getMinReplicas() {
+            return minReplicas;
+        }
+
+        int getMaxReplicas() {
+            return maxReplicas;
+        }
+
+        int getCpuTarget() {
+            return cpuTarget;
+        }
+
+        double getCpuRequestMillis() {
+            return cpuRequestMillis;
+        }
+    }
+
+    /**
+     * Replica timeline at each sync period and totals of a simulation.
+     */
+    static class Result {
+        private final List<String> timeline = new ArrayList<>();
+        private int peakReplicas;
+        private int scaleEvents;
+        private int violationSeconds;
+        private double podHours;
+
+        int getPeakReplicas() {
+            return peakReplicas;
+        }
+
+        int getScaleEvents() {
+            return scaleEvents;
+        }
+
+        int getViolationSeconds() {
+            return violationSeconds;
+        }
+
+        double getPodHours() {
+            return podHours;
+        }
+
+        String toCsv() {
+            StringBuilder csv = new StringBuilder("second,rps,replicas,ready,cpu_utilization,slo_violated\n");
+            for (String row : timeline) {
+                csv.append(row).append('\n');
+            }
+            return csv.toString();
+        }
+    }
+}
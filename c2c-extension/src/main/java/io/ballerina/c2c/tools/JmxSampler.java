@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.tools;
+
+import io.ballerina.c2c.exceptions.KubernetesPluginException;
+
+import javax.management.MBeanServerConnection;
+import javax.management.remote.JMXConnector;
+import javax.management.remote.JMXConnectorFactory;
+import javax.management.remote.JMXServiceURL;
+
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+/**
+ * Samples CPU, resident memory and GC time of a local JVM through a remote JMX connection.
+ */
+public class JmxSampler implements AutoCloseable {
+    private final JMXConnector connector;
+    private final com.sun.management.OperatingSystemMXBean osBean;
+    private final MemoryMXBean memoryBean;
+    private final List<GarbageCollectorMXBean> gcBeans;
+    private final long pid;
+    private long lastCpuTimeNanos;
+    private long lastGcTimeMillis;
+    private long lastSampleNanos;
+
+    public JmxSampler(int jmxPort, long pid) throws KubernetesPluginException {
+        this.pid = pid;
+        try {
+            JMXServiceURL url = new JMXServiceURL("service:jmx:rmi:///jndi/rmi://127.0.0.1:" + jmxPort + "/jmxrmi");
+            this.connector = JMXConnectorFactory.connect(url);
+            MBeanServerConnection connection = connector.getMBeanServerConnection();
+            this.osBean = ManagementFactory.newPlatformMXBeanProxy(connection,
+                    ManagementFactory.OPERATING_SYSTEM_MXBEAN_NAME, com.sun.management.OperatingSystemMXBean.class);
+            this.memoryBean = ManagementFactory.newPlatformMXBeanProxy(connection,
+                    ManagementFactory.MEMORY_MXBEAN_NAME, MemoryMXBean.class);
+            this.gcBeans = ManagementFactory.getPlatformMXBeans(connection, GarbageCollectorMXBean.class);
+        } catch (IOException e) {
+            throw new KubernetesPluginException("unable to connect to JMX port " + jmxPort, e);
+        }
+        reset();
+    }
+
+    /**
+     * Start a new measurement window.
+     */
+    public void reset() {
+        lastCpuTimeNanos = osBean.getProcessCpuTime();
+        lastGcTimeMillis = totalGcTime();
+        lastSampleNanos = System.nanoTime();
+    }
+
+    /**
+     * CPU cores consumed since the previous sample.
+     *
+     * @return average number of busy cores in the window
+     */
+    public double sampleCpuCores() {
+        long cpuTime = osBean.getProcessCpuTime();
+        long now = System.nanoTime();
+        double cores = (double) (cpuTime - lastCpuTimeNanos) / Math.max(1, now - lastSampleNanos);
+        lastCpuTimeNanos = cpuTime;
+        lastSampleNanos = now;
+        return cores;
+    }
+
+    /**
+     * Fraction of wall time spent in GC since the window was reset.
+     *
+     * @param windowMillis length of the window
+     * @return gc time ratio
+     */
+    public double gcTimeRatio(long windowMillis) {
+        return (double) (totalGcTime() - lastGcTimeMillis) / Math.max(1, windowMillis);
+    }
+
+    /**
+     * Resident set size of the process. Falls back to committed heap and non heap memory when procfs is not
+     * available.
+     *
+     * @return memory in bytes
+     */
+    public long sampleRssBytes() {
+        Path status = Paths.get("/proc", String.valueOf(pid), "status");
+        if (Files.exists(status)) {
+            try {
+                for (String line : Files.readAllLines(status, StandardCharsets.UTF_8)) {
+                    if (line.startsWith("VmRSS:")) {
+                        String kb = line.substring("VmRSS:".length()).replace("kB", "").trim();
+                        return Long.parseLong(kb) * 1024;
+                    }
+                }
+            } catch (IOException | NumberFormatException ignored) {
+                // fall back to JVM committed memory
+            }
+        }
+        return memoryBean.getHeapMemoryUsage().getCommitted() + memoryBean.getNonHeapMemoryUsage().getCommitted();
+    }
+
+    private long totalGcTime() {
+        long total = 0;
+        for (GarbageCollectorMXBean gcBean : gcBeans) {
+            total += Math.max(0, gcBean.getCollectionTime());
+        }
+        return total;
+    }
+
+    @Override
+    public void close() throws IOException {
+        connector.close();
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.tools;
+
+import lombok.Data;
+
+/**
+ * Measurements collected while the service runs under one concurrency step.
+ */
+@Data
+public class LoadStepResult {
+    private int concurrency;
+    private long requests;
+    private long errors;
+    private double throughput;
+    private double p50LatencyMillis;
+    private double p99LatencyMillis;
+    private double avgCpuCores;
+    private double peakCpuCores;
+    private long peakRssBytes;
+    private double gcTimeRatio;
+
+    public LoadStepResult(int concurrency) {
+        this.concurrency = concurrency;
+    }
+
+    public double getErrorRatio() {
+        return requests == 0 ? 1 : (double) errors / requests;
+    }
+}
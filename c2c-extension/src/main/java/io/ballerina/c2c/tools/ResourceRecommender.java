@@ -0,0 +1,370 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.tools;
+
+import io.ballerina.c2c.exceptions.KubernetesPluginException;
+import io.ballerina.c2c.utils.KubernetesUtils;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Offline tool that runs a built module jar under stepped synthetic load and proposes resource requests, limits and
+ * autoscaling targets for Ballerina.cloud.
+ * <p>
+ * Usage: java -cp c2c-extension.jar io.ballerina.c2c.tools.ResourceRecommender --jar target/bin/hello.jar
+ * [--port 9090] [--path /] [--steps 1,2,4,8,16,32] [--step-duration 30] [--warmup 15] [--slo-p99 500]
+ * [--peak-rps 0] [--jmx-port 9010] [--output Ballerina.cloud.proposal]
+ */
+public class ResourceRecommender {
+    private static final PrintStream OUT = System.out;
+    private static final double MAX_ERROR_RATIO = 0.01;
+    private static final double LIMIT_HEADROOM = 1.25;
+    private static final int DEFAULT_CPU_TARGET = 80;
+    private static final long MEBIBYTE = 1024 * 1024;
+
+    private final Map<String, String> options;
+
+    ResourceRecommender(Map<String, String> options) {
+        this.options = options;
+    }
+
+    public static void main(String[] args) {
+        try {
+            ResourceRecommender recommender = new ResourceRecommender(parseArgs(args));
+            recommender.execute();
+        } catch (KubernetesPluginException e) {
+            KubernetesUtils.printError(e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    static Map<String, String> parseArgs(String[] args) throws KubernetesPluginException {
+        Map<String, String> options = new HashMap<>();
+        options.put("port", "9090");
+        options.put("path", "/");
+        options.put("steps", "1,2,4,8,16,32");
+        options.put("step-duration", "30");
+        options.put("warmup", "15");
+        options.put("slo-p99", "500");
+        options.put("peak-rps", "0");
+        options.put("jmx-port", "9010");
+        options.put("output", "Ballerina.cloud.proposal");
+        for (int i = 0; i < args.length; i += 2) {
+            if (!args[i].startsWith("--") || i + 1 >= args.length) {
+                throw new KubernetesPluginException("invalid argument: " + args[i]);
+            }
+            options.put(args[i].substring(2), args[i + 1]);
+        }
+        if (!options.containsKey("jar")) {
+            throw new KubernetesPluginException("--jar <module jar> is required");
+        }
+        checkInt(options, "port", 1, 65535);
+        checkInt(options, "jmx-port", 1, 65535);
+        checkInt(options, "step-duration", 1, Integer.MAX_VALUE);
+        checkInt(options, "warmup", 0, Integer.MAX_VALUE);
+        for (String step : options.get("steps").split(",", -1)) {
+            try {
+                if (Integer.parseInt(step.trim()) < 1) {
+                    throw new NumberFormatException(step);
+                }
+            } catch (NumberFormatException e) {
+                throw new KubernetesPluginException("--steps must be a comma separated list of positive " +
+                        "concurrency levels. Found " + options.get("steps"));
+            }
+        }
+        if (checkDouble(options, "slo-p99") <= 0) {
+            throw new KubernetesPluginException("--slo-p99 must be greater than 0. Found " + options.get("slo-p99"));
+        }
+        checkDouble(options, "peak-rps");
+        return options;
+    }
+
+    private static void checkInt(Map<String, String> options, String option, int min, int max)
+            throws KubernetesPluginException {
+        String value = options.get(option);
+        try {
+            int number = Integer.parseInt(value);
+            if (number >= min && number <= max) {
+                return;
+            }
+        } catch (NumberFormatException e) {
+            // reported below.
+        }
+        throw new KubernetesPluginException("--" + option + " must be an integer between " + min + " and " + max +
+                ". Found " + value);
+    }
+
+    private static double checkDouble(Map<String, String> options, String option) throws KubernetesPluginException {
+        String value = options.get(option);
+        try {
+            double number = Double.parseDouble(value.trim());
+            if (number >= 0 && !Double.isInfinite(number)) {
+                return number;
+            }
+        } catch (NumberFormatException e) {
+            // reported below.
+        }
+        throw new KubernetesPluginException("--" + option + " must be a non-negative number. Found " + value);
+    }
+
+    private void execute() throws KubernetesPluginException {
+        Path jar = Paths.get(options.get("jar")).toAbsolutePath();
+        if (!Files.exists(jar)) {
+            throw new KubernetesPluginException("module jar not found: " + jar);
+        }
+        int jmxPort = Integer.parseInt(options.get("jmx-port"));
+        URI target = URI.create("http://127.0.0.1:" + options.get("port") + options.get("path"));
+        LoadGenerator loadGenerator = new LoadGenerator(target, Duration.ofSeconds(10));
+        Process service = startService(jar, jmxPort);
+        List<LoadStepResult> results = new ArrayList<>();
+        try (JmxSampler sampler = connect(service, jmxPort, loadGenerator)) {
+            OUT.println("warming up for " + options.get("warmup") + "s");
+            loadGenerator.run(1, Duration.ofSeconds(Long.parseLong(options.get("warmup"))),
+                    new LoadStepResult(1));
+            for (String step : options.get("steps").split(",", -1)) {
+                LoadStepResult result = runStep(Integer.parseInt(step.trim()), loadGenerator, sampler);
+                results.add(result);
+                OUT.println(String.format(Locale.ROOT, "concurrency %3d: %8.1f req/s p99 %7.1f ms cpu %.2f " +
+                                "rss %dMi gc %.1f%%", result.getConcurrency(), result.getThroughput(),
+                        result.getP99LatencyMillis(), result.getAvgCpuCores(), result.getPeakRssBytes() / MEBIBYTE,
+                        result.getGcTimeRatio() * 100));
+            }
+        } catch (IOException e) {
+            throw new KubernetesPluginException("error while sampling service metrics", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new KubernetesPluginException("load test interrupted", e);
+        } finally {
+            stop(service);
+        }
+        Recommendation recommendation = recommend(results, Double.parseDouble(options.get("slo-p99")),
+                Double.parseDouble(options.get("peak-rps")));
+        Path output = Paths.get(options.get("output"));
+        try {
+            Files.write(output, recommendation.toToml().getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new KubernetesPluginException("unable to write proposal: " + output, e);
+        }
+        OUT.println("\nproposal written to " + output.toAbsolutePath());
+    }
+
+    private Process startService(Path jar, int jmxPort) throws KubernetesPluginException {
+        String java = Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+        ProcessBuilder processBuilder = new ProcessBuilder(java,
+                "-Dcom.sun.management.jmxremote.port=" + jmxPort,
+                "-Dcom.sun.management.jmxremote.rmi.port=" + jmxPort,
+                "-Dcom.sun.management.jmxremote.authenticate=false",
+                "-Dcom.sun.management.jmxremote.ssl=false",
+                "-Dcom.sun.management.jmxremote.local.only=true",
+                "-Djava.rmi.server.hostname=127.0.0.1",
+                "-jar", jar.toString());
+        processBuilder.redirectErrorStream(true);
+        processBuilder.redirectOutput(jar.resolveSibling(jar.getFileName() + ".recommender.log").toFile());
+        try {
+            return processBuilder.start();
+        } catch (IOException e) {
+            throw new KubernetesPluginException("unable to start service: " + jar, e);
+        }
+    }
+
+    /**
+     * Stop the service and wait for it to exit so that its port is free when the tool returns.
+     *
+     * @param service service process
+     */
+    private static void stop(Process service) {
+        service.destroy();
+        try {
+            if (!service.waitFor(10, TimeUnit.SECONDS)) {
+                service.destroyForcibly().waitFor(10, TimeUnit.SECONDS);
+            }
+        } catch (InterruptedException e) {
+            service.destroyForcibly();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private JmxSampler connect(Process service, int jmxPort, LoadGenerator loadGenerator)
+            throws KubernetesPluginException, InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(60);
+        while (!loadGenerator.isReachable()) {
+            if (!service.isAlive() || System.nanoTime() > deadline) {
+                throw new KubernetesPluginException("service did not start listening on port " +
+                        options.get("port"));
+            }
+            Thread.sleep(500);
+        }
+        return new JmxSampler(jmxPort, service.pid());
+    }
+
+    private LoadStepResult runStep(int concurrency, LoadGenerator loadGenerator, JmxSampler sampler)
+            throws InterruptedException {
+        LoadStepResult result = new LoadStepResult(concurrency);
+        Duration duration = Duration.ofSeconds(Long.parseLong(options.get("step-duration")));
+        List<Double> cpuSamples = new ArrayList<>();
+        long[] peakRss = {0};
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        sampler.reset();
+        scheduler.scheduleAtFixedRate(() -> {
+            cpuSamples.add(sampler.sampleCpuCores());
+            peakRss[0] = Math.max(peakRss[0], sampler.sampleRssBytes());
+        }, 1, 1, TimeUnit.SECONDS);
+        loadGenerator.run(concurrency, duration, result);
+        scheduler.shutdown();
+        scheduler.awaitTermination(5, TimeUnit.SECONDS);
+        result.setAvgCpuCores(cpuSamples.stream().mapToDouble(Double::doubleValue).average().orElse(0));
+        result.setPeakCpuCores(cpuSamples.stream().mapToDouble(Double::doubleValue).max().orElse(0));
+        result.setPeakRssBytes(peakRss[0]);
+        result.setGcTimeRatio(sampler.gcTimeRatio(duration.toMillis()));
+        return result;
+    }
+
+    /**
+     * Derive resources from the highest concurrency step that still meets the latency SLO without errors.
+     * Requests cover the sustained usage at that step and limits add headroom over the peak observed in any
+     * sustainable step. The HPA target scales out at the usage of the step below the knee.
+     *
+     * @param results     measured steps in increasing concurrency
+     * @param sloP99      p99 latency objective in milliseconds
+     * @param peakRps     expected peak request rate across all replicas, 0 if unknown
+     * @return recommendation
+     * @throws KubernetesPluginException if no steps were measured or no step meets the latency objective
+     */
+    static Recommendation recommend(List<LoadStepResult> results, double sloP99, double peakRps)
+            throws KubernetesPluginException {
+        if (results.isEmpty()) {
+            throw new KubernetesPluginException("no load steps were measured");
+        }
+        List<LoadStepResult> sustainable = new ArrayList<>();
+        for (LoadStepResult result : results) {
+            if (result.getErrorRatio() <= MAX_ERROR_RATIO && result.getP99LatencyMillis() <= sloP99) {
+                sustainable.add(result);
+            }
+        }
+        if (sustainable.isEmpty()) {
+            LoadStepResult lowest = results.get(0);
+            throw new KubernetesPluginException(String.format(Locale.ROOT, "no load step meets the p99 objective " +
+                    "of %.1f ms with at most %.0f%% errors. The lowest step, concurrency %d, had p99 %.1f ms and " +
+                    "%.1f%% errors", sloP99, MAX_ERROR_RATIO * 100, lowest.getConcurrency(),
+                    lowest.getP99LatencyMillis(), lowest.getErrorRatio() * 100));
+        }
+        LoadStepResult knee = sustainable.get(sustainable.size() - 1);
+        double peakCpu = 0;
+        for (LoadStepResult result : sustainable) {
+            peakCpu = Math.max(peakCpu, result.getPeakCpuCores());
+        }
+        long peakRss = 0;
+        for (LoadStepResult result : results) {
+            peakRss = Math.max(peakRss, result.getPeakRssBytes());
+        }
+
+        Recommendation recommendation = new Recommendation();
+        recommendation.knee = knee;
+        recommendation.minCpuMillis = roundUp(knee.getAvgCpuCores() * 1000, 50);
+        recommendation.maxCpuMillis = Math.max(recommendation.minCpuMillis,
+                roundUp(peakCpu * LIMIT_HEADROOM * 1000, 50));
+        recommendation.minMemoryMi = roundUp((double) knee.getPeakRssBytes() / MEBIBYTE, 16);
+        recommendation.maxMemoryMi = Math.max(recommendation.minMemoryMi,
+                roundUp(peakRss * LIMIT_HEADROOM / MEBIBYTE, 16));
+        recommendation.cpuTarget = DEFAULT_CPU_TARGET;
+        if (sustainable.size() > 1) {
+            LoadStepResult belowKnee = sustainable.get(sustainable.size() - 2);
+            int target = (int) Math.round(100 * belowKnee.getAvgCpuCores() * 1000 / recommendation.minCpuMillis);
+            recommendation.cpuTarget = Math.max(50, Math.min(90, target));
+        }
+        if (peakRps > 0 && knee.getThroughput() > 0) {
+            recommendation.maxReplicas = (int) Math.ceil(peakRps / knee.getThroughput());
+        }
+        return recommendation;
+    }
+
+    private static long roundUp(double value, long step) {
+        return Math.max(step, (long) Math.ceil(value / step) * step);
+    }
+
+    /**
+     * Recommended Ballerina.cloud values.
+     */
+    static class Recommendation {
+        private LoadStepResult knee;
+        private long minCpuMillis;
+        private long maxCpuMillis;
+        private long minMemoryMi;
+        private long maxMemoryMi;
+        private int cpuTarget;
+        private int maxReplicas;
+
+        long getMinCpuMillis() {
+            return minCpuMillis;
+        }
+
+        long getMaxCpuMillis() {
+            return maxCpuMillis;
+        }
+
+        long getMinMemoryMi() {
+            return minMemoryMi;
+        }
+
+        long getMaxMemoryMi() {
+            return maxMemoryMi;
+        }
+
+        int getCpuTarget() {
+            return cpuTarget;
+        }
+
+        int getMaxReplicas() {
+            return maxReplicas;
+        }
+
+        String toToml() {
+            StringBuilder toml = new StringBuilder();
+            toml.append(String.format(Locale.ROOT, "# sustainable concurrency %d: %.1f req/s per pod, p99 %.1f ms%n",
+                    knee.getConcurrency(), knee.getThroughput(), knee.getP99LatencyMillis()));
+            toml.append("[cloud.deployment]\n");
+            toml.append("min_memory=\"").append(minMemoryMi).append("Mi\"\n");
+            toml.append("max_memory=\"").append(maxMemoryMi).append("Mi\"\n");
+            toml.append("min_cpu=\"").append(minCpuMillis).append("m\"\n");
+            toml.append("max_cpu=\"").append(maxCpuMillis).append("m\"\n");
+            toml.append("    [cloud.deployment.autoscaling]\n");
+            if (maxReplicas > 0) {
+                toml.append("        min_replicas=1\n");
+                toml.append("        max_replicas=").append(Math.max(1, maxReplicas)).append("\n");
+            }
+            toml.append("        cpu=").append(cpuTarget).append("\n");
+            return toml.toString();
+        }
+    }
+}
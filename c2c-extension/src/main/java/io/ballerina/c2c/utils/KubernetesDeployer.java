@@ -0,0 +1,404 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.utils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.moandjiezana.toml.Toml;
+import io.ballerina.c2c.exceptions.KubernetesPluginException;
+import io.fabric8.kubernetes.client.Config;
+import io.fabric8.kubernetes.client.utils.HttpClientUtils;
+import io.fabric8.kubernetes.client.utils.Serialization;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import org.yaml.snakeyaml.Yaml;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Deploys the generated manifests with Kubernetes server-side apply. Objects are submitted in phases so that
+ * configuration and storage exist before the workloads which mount them, and autoscalers are applied last. Objects
+ * within a phase are independent and are submitted in parallel. An object whose live copy carries the same content
+ * hash is not sent again.
+ */
+public class KubernetesDeployer {
+
+    public static final String CLOUD_DEPLOY = "cloud.deploy";
+    public static final String FIELD_MANAGER = "ballerina-c2c";
+    public static final String HASH_ANNOTATION = "c2c.ballerina.io/applied-hash";
+    private static final String DEFAULT_NAMESPACE = "default";
+    private static final long DEFAULT_TIMEOUT_SECONDS = 300;
+    private static final int DEFAULT_PARALLELISM = 4;
+    private static final long POLL_INTERVAL_MILLIS = 1000;
+    private static final MediaType APPLY_PATCH = MediaType.parse("application/apply-patch+yaml");
+    private static final PrintStream OUT = System.out;
+    private static final Map<String, Integer> PHASES = new HashMap<>();
+    private static final Map<String, String> PLURALS = new HashMap<>();
+    private static final Set<String> CLUSTER_SCOPED_KINDS = new HashSet<>(Arrays.asList("Namespace", "Node",
+            "PersistentVolume", "StorageClass", "ClusterRole", "ClusterRoleBinding", "CustomResourceDefinition",
+            "PriorityClass", "IngressClass", "RuntimeClass", "PodSecurityPolicy", "CSIDriver", "VolumeAttachment",
+            "MutatingWebhookConfiguration", "ValidatingWebhookConfiguration", "APIService"));
+
+    static {
+        for (String kind : new String[]{"Namespace", "ResourceQuota", "LimitRange", "ServiceAccount", "ConfigMap",
+                "Secret", "PersistentVolumeClaim"}) {
+            PHASES.put(kind, 0);
+        }
+        PHASES.put("Service", 1);
+        for (String kind : new String[]{"HorizontalPodAutoscaler", "ScaledObject", "ScaledJob"}) {
+            PHASES.put(kind, 3);
+        }
+        PLURALS.put("Ingress", "ingresses");
+        PLURALS.put("LimitRange", "limitranges");
+        PLURALS.put("NetworkPolicy", "networkpolicies");
+        PLURALS.put("PodDisruptionBudget", "poddisruptionbudgets");
+    }
+
+    private final OkHttpClient httpClient;
+    private final String masterUrl;
+    private final String namespace;
+    private final long timeoutMillis;
+    private final int parallelism;
+    private final ObjectMapper mapper = Serialization.jsonMapper();
+    private final AtomicInteger applied = new AtomicInteger();
+    private final AtomicInteger unchanged = new AtomicInteger();
+
+    public KubernetesDeployer(Config config, String namespace, long timeoutSeconds, int parallelism)
+            throws KubernetesPluginException {
+        if (parallelism < 1) {
+            throw new KubernetesPluginException("parallelism in [" + CLOUD_DEPLOY + "] must be at least 1. Found " +
+                    parallelism);
+        }
+        this.httpClient = HttpClientUtils.createHttpClient(config);
+        this.masterUrl = config.getMasterUrl().endsWith("/") ? config.getMasterUrl() : config.getMasterUrl() + "/";
+        this.namespace = namespace;
+        this.timeoutMillis = TimeUnit.SECONDS.toMillis(timeoutSeconds);
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Returns true if direct deploy is enabled under [cloud.deploy] in Ballerina.cloud.
+     *
+     * @param ballerinaCloud Ballerina.cloud toml, may be null
+     * @return true if generated manifests should be applied to the cluster
+     */
+    public static boolean isEnabled(Toml ballerinaCloud) {
+        return ballerinaCloud != null && ballerinaCloud.getTable(CLOUD_DEPLOY) != null &&
+                ballerinaCloud.getTable(CLOUD_DEPLOY).getBoolean("enable", false);
+    }
+
+    /**
+     * Create a deployer for the cluster in the current kubeconfig, or the context given in [cloud.deploy].
+     *
+     * @param ballerinaCloud Ballerina.cloud toml
+     * @return deployer
+     * @throws KubernetesPluginException if the deploy configuration is invalid
+     */
+    public static KubernetesDeployer fromToml(Toml ballerinaCloud) throws KubernetesPluginException {
+        Toml deployToml = ballerinaCloud.getTable(CLOUD_DEPLOY);
+        Config config = Config.autoConfigure(deployToml.getString("context"));
+        String namespace = deployToml.getString("namespace", config.getNamespace());
+        return new KubernetesDeployer(config, namespace == null ? DEFAULT_NAMESPACE : namespace,
+                deployToml.getLong("timeout", DEFAULT_TIMEOUT_SECONDS),
+                deployToml.getLong("parallelism", (long) DEFAULT_PARALLELISM).intValue());
+    }
+
+    /**
+     * Apply every object in the yaml files of the given directory and wait for the deployments to roll out.
+     *
+     * @param artifactDir directory holding the generated manifests
+     * @throws KubernetesPluginException if an object is rejected or a rollout does not complete in time
+     */
+    public void deploy(Path artifactDir) throws KubernetesPluginException {
+        List<List<Map<String, Object>>> phases = getPhases(artifactDir);
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        try {
+            for (List<Map<String, Object>> phase : phases) {
+                List<Future<Void>> futures = new ArrayList<>();
+                for (Map<String, Object> object : phase) {
+                    futures.add(executor.submit(() -> {
+                        apply(object);
+                        return null;
+                    }));
+                }
+                await(futures);
+            }
+            List<Future<Void>> rollouts = new ArrayList<>();
+            for (List<Map<String, Object>> phase : phases) {
+                for (Map<String, Object> object : phase) {
+                    if ("Deployment".equals(object.get("kind"))) {
+                        rollouts.add(executor.submit(() -> {
+                            waitForRollout(object);
+                            return null;
+                        }));
+                    }
+                }
+            }
+            await(rollouts);
+        } finally {
+            executor.shutdownNow();
+        }
+        OUT.println("\tDeploy \t\t\t\t\t - applied " + applied.get() + ", unchanged " + unchanged.get());
+    }
+
+    /**
+     * Read the manifests in the given directory and group them into ordered phases.
+     *
+     * @param artifactDir directory holding the generated manifests
+     * @return objects grouped by phase, in submission order
+     * @throws KubernetesPluginException if a manifest cannot be read
+     */
+    List<List<Map<String, Object>>> getPhases(Path artifactDir) throws KubernetesPluginException {
+        Map<Integer, List<Map<String, Object>>> phases = new TreeMap<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(artifactDir, "*.yaml")) {
+            for (Path file : files) {
+                String content = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+                for (Object document : new Yaml().loadAll(content)) {
+                    if (!(document instanceof Map)) {
+                        continue;
+                    }
+                    @SuppressWarnings("unchecked")
+                    Map<String, Object> object = (Map<String, Object>) document;
+                    int phase = PHASES.getOrDefault(String.valueOf(object.get("kind")), 2);
+                    phases.computeIfAbsent(phase, k -> new ArrayList<>()).add(object);
+                }
+            }
+        } catch (IOException e) {
+            throw new KubernetesPluginException("error while reading generated manifests for deploy", e);
+        }
+        return new ArrayList<>(phases.values());
+    }
+
+    private void apply(Map<String, Object> object) throws KubernetesPluginException {
+        String url = getUrl(object);
+        String hash = getHash(object);
+        Map<String, Object> live = get(url);
+        if (live != null && hash.equals(getAnnotations(live).get(HASH_ANNOTATION))) {
+            unchanged.incrementAndGet();
+            return;
+        }
+        Map<String, Object> desired = new LinkedHashMap<>(object);
+        @SuppressWarnings("unchecked")
+        Map<String, Object> metadata = new LinkedHashMap<>((Map<String, Object>) object.get("metadata"));
+        Map<String, Object> annotations = new LinkedHashMap<>(getAnnotations(object));
+        annotations.put(HASH_ANNOTATION, hash);
+        metadata.put("annotations", annotations);
+        desired.put("metadata", metadata);
+        try {
+            Request request = new Request.Builder()
+                    .url(url + "?fieldManager=" + FIELD_MANAGER + "&force=true")
+                    .patch(RequestBody.create(APPLY_PATCH, mapper.writeValueAsBytes(desired)))
+                    .build();
+            try (Response response = httpClient.newCall(request).execute()) {
+                if (!response.isSuccessful()) {
+                    throw new KubernetesPluginException("unable to apply " + object.get("kind") + " '" +
+                            getName(object) + "': " + response.code() + " " + getBody(response));
+                }
+            }
+        } catch (IOException e) {
+            throw new KubernetesPluginException("unable to apply " + object.get("kind") + " '" + getName(object) +
+                    "'", e);
+        }
+        applied.incrementAndGet();
+    }
+
+    private void waitForRollout(Map<String, Object> deployment) throws KubernetesPluginException {
+        String url = getUrl(deployment);
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        while (true) {
+            Map<String, Object> live = get(url);
+            if (live != null && isRolledOut(live)) {
+                return;
+            }
+            if (System.currentTimeMillis() > deadline) {
+                throw new KubernetesPluginException("timed out waiting for deployment '" + getName(deployment) +
+                        "' to roll out");
+            }
+            try {
+                Thread.sleep(POLL_INTERVAL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new KubernetesPluginException("interrupted while waiting for deployment '" +
+                        getName(deployment) + "' to roll out", e);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    static boolean isRolledOut(Map<String, Object> deployment) {
+        Map<String, Object> metadata = (Map<String, Object>) deployment.getOrDefault("metadata",
+                Collections.emptyMap());
+        Map<String, Object> spec = (Map<String, Object>) deployment.getOrDefault("spec", Collections.emptyMap());
+        Map<String, Object> status = (Map<String, Object>) deployment.get("status");
+        if (status == null) {
+            return false;
+        }
+        long replicas = getLong(spec, "replicas", 1);
+        return getLong(status, "observedGeneration", 0) >= getLong(metadata, "generation", 0) &&
+                getLong(status, "updatedReplicas", 0) >= replicas &&
+                getLong(status, "availableReplicas", 0) >= replicas &&
+                getLong(status, "replicas", 0) <= replicas;
+    }
+
+    private static long getLong(Map<String, Object> map, String key, long defaultValue) {
+        Object value = map.get(key);
+        return value instanceof Number ? ((Number) value).longValue() : defaultValue;
+    }
+
+    private Map<String, Object> get(String url) throws KubernetesPluginException {
+        Request request = new Request.Builder().url(url).get().build();
+        try (Response response = httpClient.newCall(request).execute()) {
+            if (response.code() == 404) {
+                return null;
+            }
+            if (!response.isSuccessful()) {
+                throw new KubernetesPluginException("unable to read " + url + ": " + response.code() + " " +
+                        getBody(response));
+            }
+            @SuppressWarnings("unchecked")
+            Map<String, Object> live = mapper.readValue(getBody(response), Map.class);
+            return live;
+        } catch (IOException e) {
+            throw new KubernetesPluginException("unable to read " + url, e);
+        }
+    }
+
+    private static String getBody(Response response) throws IOException {
+        ResponseBody body = response.body();
+        return body == null ? "" : body.string();
+    }
+
+    /**
+     * Get the REST path of an object, e.g. apis/apps/v1/namespaces/default/deployments/hello-deployment. Cluster
+     * scoped objects such as namespaces have no namespace segment.
+     *
+     * @param object kubernetes object
+     * @return absolute url of the object
+     */
+    String getUrl(Map<String, Object> object) {
+        String apiVersion = String.valueOf(object.get("apiVersion"));
+        String kind = String.valueOf(object.get("kind"));
+        String namespacePath = CLUSTER_SCOPED_KINDS.contains(kind) ? "/" : "/namespaces/" + getNamespace(object) +
+                "/";
+        return masterUrl + (apiVersion.contains("/") ? "apis/" : "api/") + apiVersion + namespacePath +
+                getPlural(kind) + "/" + getName(object);
+    }
+
+    static String getPlural(String kind) {
+        if (PLURALS.containsKey(kind)) {
+            return PLURALS.get(kind);
+        }
+        String lower = kind.toLowerCase(Locale.getDefault());
+        if (lower.endsWith("s")) {
+            return lower + "es";
+        }
+        if (lower.endsWith("y")) {
+            return lower.substring(0, lower.length() - 1) + "ies";
+        }
+        return lower + "s";
+    }
+
+    private String getNamespace(Map<String, Object> object) {
+        @SuppressWarnings("unchecked")
+        Map<String, Object> metadata = (Map<String, Object>) object.get("metadata");
+        Object objectNamespace = metadata == null ? null : metadata.get("namespace");
+        return objectNamespace == null ? namespace : String.valueOf(objectNamespace);
+    }
+
+    private static String getName(Map<String, Object> object) {
+        @SuppressWarnings("unchecked")
+        Map<String, Object> metadata = (Map<String, Object>) object.get("metadata");
+        return metadata == null ? null : String.valueOf(metadata.get("name"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> getAnnotations(Map<String, Object> object) {
+        Map<String, Object> metadata = (Map<String, Object>) object.get("metadata");
+        if (metadata == null || metadata.get("annotations") == null) {
+            return Collections.emptyMap();
+        }
+        return (Map<String, Object>) metadata.get("annotations");
+    }
+
+    String getHash(Map<String, Object> object) throws KubernetesPluginException {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest(mapper.writeValueAsBytes(object));
+            StringBuilder hex = new StringBuilder();
+            for (int i = 0; i < 8; i++) {
+                hex.append(String.format(Locale.ROOT, "%02x", hash[i]));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException | IOException e) {
+            throw new KubernetesPluginException("unable to hash " + object.get("kind") + " '" + getName(object) +
+                    "'", e);
+        }
+    }
+
+    private static void await(List<Future<Void>> futures) throws KubernetesPluginException {
+        for (Future<Void> future : futures) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new KubernetesPluginException("interrupted while deploying artifacts", e);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof KubernetesPluginException) {
+                    throw (KubernetesPluginException) e.getCause();
+                }
+                throw new KubernetesPluginException("error while deploying artifacts", e.getCause());
+            }
+        }
+    }
+
+    public int getApplied() {
+        return applied.get();
+    }
+
+    public int getUnchanged() {
+        return unchanged.get();
+    }
+}
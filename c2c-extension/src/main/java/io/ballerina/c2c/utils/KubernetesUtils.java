@@ -18,6 +18,7 @@
 
 package io.ballerina.c2c.utils;
 
+import com.moandjiezana.toml.Toml;
 import io.ballerina.c2c.exceptions.KubernetesPluginException;
 import io.ballerina.c2c.models.DeploymentModel;
 import io.ballerina.c2c.models.EnvVarValueModel;
@@ -30,12 +31,19 @@ import io.fabric8.kubernetes.api.model.EnvVar;
 import io.fabric8.kubernetes.api.model.EnvVarBuilder;
 import io.fabric8.kubernetes.api.model.EnvVarSource;
 import io.fabric8.kubernetes.api.model.EnvVarSourceBuilder;
+import io.fabric8.kubernetes.api.model.NodeAffinity;
+import io.fabric8.kubernetes.api.model.NodeAffinityBuilder;
+import io.fabric8.kubernetes.api.model.NodeSelectorRequirement;
+import io.fabric8.kubernetes.api.model.NodeSelectorRequirementBuilder;
 import io.fabric8.kubernetes.api.model.ObjectFieldSelector;
 import io.fabric8.kubernetes.api.model.ObjectFieldSelectorBuilder;
+import io.fabric8.kubernetes.api.model.Quantity;
 import io.fabric8.kubernetes.api.model.ResourceFieldSelector;
 import io.fabric8.kubernetes.api.model.ResourceFieldSelectorBuilder;
 import io.fabric8.kubernetes.api.model.SecretKeySelector;
 import io.fabric8.kubernetes.api.model.SecretKeySelectorBuilder;
+import io.fabric8.kubernetes.api.model.Toleration;
+import io.fabric8.kubernetes.api.model.TolerationBuilder;
 import org.apache.commons.io.FileUtils;
 import org.ballerinalang.model.tree.AnnotationAttachmentNode;
 import org.ballerinalang.model.tree.IdentifierNode;
@@ -57,14 +65,24 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
+import static io.ballerina.c2c.KubernetesConstants.BALLERINA_HOME;
+import static io.ballerina.c2c.KubernetesConstants.BALLERINA_RUNTIME;
+import static io.ballerina.c2c.KubernetesConstants.CLOUD_CONFIG_IMMUTABLE;
 import static io.ballerina.c2c.KubernetesConstants.YAML;
 import static org.ballerinax.docker.generator.utils.DockerGenUtils.extractJarName;
 
@@ -76,6 +94,10 @@ public class KubernetesUtils {
 
     private static final PrintStream ERR = System.err;
     private static final PrintStream OUT = System.out;
+    private static final Pattern QUANTITY_PATTERN = Pattern.compile(
+            "([+-]?(?:[0-9]+(?:\\.[0-9]*)?|\\.[0-9]+))([KMGTPE]i|[numkMGTPE]|[eE][+-]?[0-9]+)?");
+    private static final String BINARY_SUFFIXES = "KMGTPE";
+    private static final String DECIMAL_SUFFIXES = "numkMGTPE";
 
     /**
      * Write content to a File. Create the required directories if they don't not exists.
@@ -180,6 +202,15 @@ public class KubernetesUtils {
         ERR.println("error [k8s plugin]: " + msg);
     }
 
+    /**
+     * Prints a Warning message.
+     *
+     * @param msg message to be printed
+     */
+    public static void printWarning(String msg) {
+        ERR.println("warning [k8s plugin]: " + msg);
+    }
+
     /**
      * Prints an Instruction message.
      *
@@ -308,6 +339,249 @@ public class KubernetesUtils {
         return name.substring(0, Math.min(name.length(), 15));
     }
 
+    /**
+     * Returns the number of cores of a cpu quantity.
+     *
+     * @param cpu cpu quantity such as 500m or 2
+     * @return number of cores
+     * @throws NumberFormatException if the quantity does not follow the Kubernetes quantity format
+     */
+    public static double getCpuCores(Quantity cpu) {
+        return parseQuantity(cpu);
+    }
+
+    /**
+     * Returns the number of bytes of a memory or storage quantity.
+     *
+     * @param quantity quantity such as 256Mi, 1G or 129e6
+     * @return number of bytes
+     * @throws NumberFormatException if the quantity does not follow the Kubernetes quantity format
+     */
+    public static double getBytes(Quantity quantity) {
+        return parseQuantity(quantity);
+    }
+
+    /**
+     * Returns the numeric value of a quantity, accepting binary suffixes (Ki to Ei), decimal suffixes (n to E) and
+     * decimal exponents such as 129e6.
+     */
+    private static double parseQuantity(Quantity quantity) {
+        String value = (quantity.getAmount() + (quantity.getFormat() == null ? "" : quantity.getFormat())).trim();
+        Matcher matcher = QUANTITY_PATTERN.matcher(value);
+        if (!matcher.matches()) {
+            throw new NumberFormatException("invalid quantity '" + value + "'");
+        }
+        double number = Double.parseDouble(matcher.group(1));
+        String suffix = matcher.group(2);
+        if (suffix == null) {
+            return number;
+        }
+        if (suffix.endsWith("i")) {
+            return number * Math.pow(2, 10 * (BINARY_SUFFIXES.indexOf(suffix.charAt(0)) + 1));
+        }
+        if (suffix.length() > 1) {
+            // decimal exponent such as e6 or E-3
+            return number * Math.pow(10, Integer.parseInt(suffix.substring(1)));
+        }
+        int index = DECIMAL_SUFFIXES.indexOf(suffix.charAt(0));
+        return number * Math.pow(10, index < 3 ? (index - 3) * 3 : (index - 2) * 3);
+    }
+
+    /**
+     * Returns true if config maps and secrets are generated as immutable objects with content hashed names.
+     *
+     * @param ballerinaCloud Ballerina.cloud toml, may be null
+     * @return true if immutable is set under [cloud.config]
+     */
+    public static boolean isImmutableConfig(Toml ballerinaCloud) {
+        return ballerinaCloud != null && ballerinaCloud.getBoolean(CLOUD_CONFIG_IMMUTABLE, false);
+    }
+
+    /**
+     * Returns the name of a generated config map or secret. When immutable config is enabled the name is suffixed
+     * with a hash of the data, so that a change in the data creates a new object and rolls the pods.
+     *
+     * @param name           name of the config map or secret model
+     * @param data           data of the config map or secret
+     * @param ballerinaCloud Ballerina.cloud toml, may be null
+     * @return object name
+     * @throws KubernetesPluginException if the hash cannot be computed
+     */
+    public static String getConfigObjectName(String name, Map<String, String> data, Toml ballerinaCloud)
+            throws KubernetesPluginException {
+        if (!isImmutableConfig(ballerinaCloud)) {
+            return name;
+        }
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            if (data != null) {
+                for (Map.Entry<String, String> entry : new TreeMap<>(data).entrySet()) {
+                    digest.update(entry.getKey().getBytes(StandardCharsets.UTF_8));
+                    digest.update((byte) 0);
+                    digest.update(String.valueOf(entry.getValue()).getBytes(StandardCharsets.UTF_8));
+                    digest.update((byte) 0);
+                }
+            }
+            byte[] hash = digest.digest();
+            StringBuilder hex = new StringBuilder(name).append('-');
+            for (int i = 0; i < 5; i++) {
+                hex.append(String.format(Locale.ROOT, "%02x", hash[i]));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new KubernetesPluginException("error while computing the content hash of " + name, e);
+        }
+    }
+
+    /**
+     * Resolve a config file listed in Ballerina.cloud for a config map or secret. Relative paths are resolved against
+     * the source root.
+     *
+     * @param configToml table with name, file and mount_path
+     * @param tableName  name of the Ballerina.cloud table, used in error messages
+     * @return path of the config file
+     * @throws KubernetesPluginException if a key is missing or the mount path hides the ballerina installation
+     */
+    public static Path getConfigFilePath(Toml configToml, String tableName) throws KubernetesPluginException {
+        String name = configToml.getString("name");
+        String file = configToml.getString("file");
+        String mountPath = configToml.getString("mount_path");
+        if (isBlank(name) || isBlank(file) || isBlank(mountPath)) {
+            throw new KubernetesPluginException("name, file and mount_path are required for " + tableName);
+        }
+        Path normalizedMountPath = Paths.get(mountPath).normalize();
+        if (normalizedMountPath.equals(Paths.get(BALLERINA_HOME)) ||
+                normalizedMountPath.equals(Paths.get(BALLERINA_RUNTIME))) {
+            throw new KubernetesPluginException("mount_path of " + tableName + " entry " + name +
+                    " cannot be " + mountPath);
+        }
+        Path filePath = Paths.get(file);
+        if (!filePath.isAbsolute()) {
+            filePath = KubernetesContext.getInstance().getDataHolder().getSourceRoot().resolve(filePath).normalize();
+        }
+        return filePath;
+    }
+
+    /**
+     * Build node affinity from the required and preferred node selector terms of a Ballerina.cloud table.
+     *
+     * @param affinityToml table with required and preferred arrays of key, operator, values and weight
+     * @return node affinity or null if no terms are defined
+     * @throws KubernetesPluginException if a term is invalid
+     */
+    public static NodeAffinity getNodeAffinity(Toml affinityToml) throws KubernetesPluginException {
+        if (affinityToml == null) {
+            return null;
+        }
+        List<Toml> required = affinityToml.getTables("required");
+        List<Toml> preferred = affinityToml.getTables("preferred");
+        if (required == null && preferred == null) {
+            return null;
+        }
+        NodeAffinityBuilder nodeAffinityBuilder = new NodeAffinityBuilder();
+        if (required != null) {
+            List<NodeSelectorRequirement> expressions = new ArrayList<>();
+            for (Toml term : required) {
+                expressions.add(getNodeSelectorRequirement(term));
+            }
+            // All required expressions belong to a single term so that they are ANDed.
+            nodeAffinityBuilder.withNewRequiredDuringSchedulingIgnoredDuringExecution()
+                    .addNewNodeSelectorTerm()
+                    .withMatchExpressions(expressions)
+                    .endNodeSelectorTerm()
+                    .endRequiredDuringSchedulingIgnoredDuringExecution();
+        }
+        if (preferred != null) {
+            for (Toml term : preferred) {
+                long weight = term.getLong("weight", 1L);
+                if (weight < 1 || weight > 100) {
+                    throw new KubernetesPluginException("node affinity weight must be between 1 and 100. Found " +
+                            weight);
+                }
+                nodeAffinityBuilder.addNewPreferredDuringSchedulingIgnoredDuringExecution()
+                        .withWeight(Math.toIntExact(weight))
+                        .withNewPreference()
+                        .withMatchExpressions(getNodeSelectorRequirement(term))
+                        .endPreference()
+                        .endPreferredDuringSchedulingIgnoredDuringExecution();
+            }
+        }
+        return nodeAffinityBuilder.build();
+    }
+
+    private static NodeSelectorRequirement getNodeSelectorRequirement(Toml term) throws KubernetesPluginException {
+        String key = term.getString("key");
+        String operator = term.getString("operator", "In");
+        List<String> values = term.getList("values", Collections.emptyList());
+        if (isBlank(key)) {
+            throw new KubernetesPluginException("node affinity key is required");
+        }
+        if (!Arrays.asList("In", "NotIn", "Exists", "DoesNotExist", "Gt", "Lt").contains(operator)) {
+            throw new KubernetesPluginException("invalid node affinity operator '" + operator + "' for key " + key);
+        }
+        boolean valuesAllowed = !"Exists".equals(operator) && !"DoesNotExist".equals(operator);
+        if (valuesAllowed == values.isEmpty()) {
+            throw new KubernetesPluginException("node affinity operator " + operator + " for key " + key +
+                    (valuesAllowed ? " requires values" : " does not accept values"));
+        }
+        if ("Gt".equals(operator) || "Lt".equals(operator)) {
+            if (values.size() != 1) {
+                throw new KubernetesPluginException("node affinity operator " + operator + " for key " + key +
+                        " requires exactly one value");
+            }
+            try {
+                Long.parseLong(values.get(0));
+            } catch (NumberFormatException e) {
+                throw new KubernetesPluginException("node affinity operator " + operator + " for key " + key +
+                        " requires an integer value. Found '" + values.get(0) + "'");
+            }
+        }
+        return new NodeSelectorRequirementBuilder()
+                .withKey(key)
+                .withOperator(operator)
+                .withValues(values)
+                .build();
+    }
+
+    /**
+     * Build pod tolerations from Ballerina.cloud tables.
+     *
+     * @param tolerationTomls tables with key, operator, value, effect and toleration_seconds
+     * @return list of tolerations
+     * @throws KubernetesPluginException if the operator or effect is invalid
+     */
+    public static List<Toleration> getTolerations(List<Toml> tolerationTomls) throws KubernetesPluginException {
+        List<Toleration> tolerations = new ArrayList<>();
+        if (tolerationTomls == null) {
+            return tolerations;
+        }
+        for (Toml tolerationToml : tolerationTomls) {
+            String value = tolerationToml.getString("value");
+            String operator = tolerationToml.getString("operator", value == null ? "Exists" : "Equal");
+            String effect = tolerationToml.getString("effect");
+            if (!Arrays.asList("Equal", "Exists").contains(operator)) {
+                throw new KubernetesPluginException("invalid toleration operator '" + operator +
+                        "'. Allowed values are Equal and Exists");
+            }
+            if ("Exists".equals(operator) && !isBlank(value)) {
+                throw new KubernetesPluginException("toleration operator Exists does not accept a value. Found '" +
+                        value + "'");
+            }
+            if (effect != null && !Arrays.asList("NoSchedule", "PreferNoSchedule", "NoExecute").contains(effect)) {
+                throw new KubernetesPluginException("invalid toleration effect '" + effect +
+                        "'. Allowed values are NoSchedule, PreferNoSchedule and NoExecute");
+            }
+            tolerations.add(new TolerationBuilder()
+                    .withKey(tolerationToml.getString("key"))
+                    .withOperator(operator)
+                    .withValue(value)
+                    .withEffect(effect)
+                    .withTolerationSeconds(tolerationToml.getLong("toleration_seconds"))
+                    .build());
+        }
+        return tolerations;
+    }
+
     /**
      * Get a list of environment variables.
      *
@@ -0,0 +1,572 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.utils;
+
+import com.moandjiezana.toml.Toml;
+import io.ballerina.c2c.exceptions.KubernetesPluginException;
+import org.yaml.snakeyaml.Yaml;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+
+/**
+ * Validates generated manifests against the Kubernetes OpenAPI definitions bundled with the extension.
+ * The resolved definitions are cached on disk in Java serialized form, so only the first build parses the json.
+ * Fields missing from the bundled definitions are reported as warnings since the definitions only cover the fields
+ * the extension generates.
+ */
+public class ManifestValidator {
+
+    public static final String CLOUD_VALIDATION = "cloud.validation";
+    public static final String DEFAULT_KUBERNETES_VERSION = "1.21";
+    private static final String SCHEMA_RESOURCE = "/kubernetes/openapi.json";
+    private static final String REF_PREFIX = "#/definitions/";
+    private static final int MAX_ERRORS = 20;
+    private static final PrintStream ERR = System.err;
+    private static final Pattern DNS_LABEL = Pattern.compile("[a-z0-9]([-a-z0-9]*[a-z0-9])?");
+    private static final Pattern DNS_SUBDOMAIN = Pattern.compile(
+            "[a-z0-9]([-a-z0-9]*[a-z0-9])?(\\.[a-z0-9]([-a-z0-9]*[a-z0-9])?)*");
+    private static final Pattern IANA_SVC_NAME = Pattern.compile("[a-z0-9]([a-z0-9-]*[a-z0-9])?");
+    private static final Pattern QUANTITY = Pattern.compile(
+            "[+-]?([0-9]+(\\.[0-9]*)?|\\.[0-9]+)([numkMGTPE]|[KMGTPE]i|[eE][+-]?[0-9]+)?");
+
+    // Only the schema classes and the collections they hold may be read back from the cache file.
+    private static final ObjectInputFilter CACHE_FILTER = ObjectInputFilter.Config.createFilter(
+            ManifestValidator.class.getName() + "$*;java.util.HashMap;java.util.LinkedHashMap;java.util.HashSet;" +
+                    "java.util.ArrayList;java.util.Map$Entry;java.lang.String;java.lang.Object;!*");
+
+    private static final Map<Path, Schema> CACHED_SCHEMAS = new HashMap<>();
+
+    private final int targetMinor;
+    private final String targetVersion;
+    private final Schema schema;
+    private final List<String> warnings = new ArrayList<>();
+
+    public ManifestValidator(String kubernetesVersion) throws KubernetesPluginException {
+        this(kubernetesVersion, Paths.get(System.getProperty("user.home"), ".ballerina", "c2c", "schema-cache"));
+    }
+
+    public ManifestValidator(String kubernetesVersion, Path cacheDir) throws KubernetesPluginException {
+        this.targetVersion = kubernetesVersion;
+        this.targetMinor = getMinor(kubernetesVersion);
+        this.schema = getSchema(cacheDir);
+    }
+
+    ManifestValidator(String kubernetesVersion, String schemaJson) throws KubernetesPluginException {
+        this.targetVersion = kubernetesVersion;
+        this.targetMinor = getMinor(kubernetesVersion);
+        this.schema = parseSchema(schemaJson);
+    }
+
+    /**
+     * Returns true unless validation is disabled under [cloud.validation] in Ballerina.cloud.
+     *
+     * @param ballerinaCloud Ballerina.cloud toml, may be null
+     * @return true if generated manifests should be validated
+     */
+    public static boolean isEnabled(Toml ballerinaCloud) {
+        if (ballerinaCloud == null || ballerinaCloud.getTable(CLOUD_VALIDATION) == null) {
+            return true;
+        }
+        return ballerinaCloud.getTable(CLOUD_VALIDATION).getBoolean("enable", true);
+    }
+
+    /**
+     * Returns the Kubernetes version to validate against.
+     *
+     * @param ballerinaCloud Ballerina.cloud toml, may be null
+     * @return target Kubernetes version such as 1.21
+     */
+    public static String getKubernetesVersion(Toml ballerinaCloud) {
+        if (ballerinaCloud == null || ballerinaCloud.getTable(CLOUD_VALIDATION) == null) {
+            return DEFAULT_KUBERNETES_VERSION;
+        }
+        return ballerinaCloud.getTable(CLOUD_VALIDATION).getString("kubernetes_version", DEFAULT_KUBERNETES_VERSION);
+    }
+
+    private static int getMinor(String version) throws KubernetesPluginException {
+        String[] parts = version.trim().replaceFirst("^v", "").split("\\.");
+        try {
+            if (parts.length >= 2 && Integer.parseInt(parts[0]) == 1) {
+                return Integer.parseInt(parts[1]);
+            }
+        } catch (NumberFormatException ignored) {
+            // fall through to the error below.
+        }
+        throw new KubernetesPluginException("invalid kubernetes_version '" + version + "' in [" + CLOUD_VALIDATION +
+                "]. Use the form 1.<minor>, e.g. " + DEFAULT_KUBERNETES_VERSION);
+    }
+
+    /**
+     * Validate every yaml file in the given directory.
+     *
+     * @param artifactDir directory holding the generated manifests
+     * @throws KubernetesPluginException if a manifest does not conform to the target Kubernetes version
+     */
+    public void validateDirectory(Path artifactDir) throws KubernetesPluginException {
+        if (!Files.isDirectory(artifactDir)) {
+            return;
+        }
+        List<String> errors = new ArrayList<>();
+        warnings.clear();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(artifactDir, "*.yaml")) {
+            for (Path file : files) {
+                String content = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+                errors.addAll(validate(content, String.valueOf(file.getFileName())));
+            }
+        } catch (IOException e) {
+            throw new KubernetesPluginException("error while reading generated manifests for validation", e);
+        }
+        for (String warning : warnings) {
+            KubernetesUtils.printWarning(warning);
+        }
+        if (!errors.isEmpty()) {
+            StringBuilder message = new StringBuilder("generated manifests are not valid for Kubernetes ")
+                    .append(targetVersion).append(':');
+            for (String error : errors.subList(0, Math.min(errors.size(), MAX_ERRORS))) {
+                message.append("\n\t").append(error);
+            }
+            if (errors.size() > MAX_ERRORS) {
+                message.append("\n\t... and ").append(errors.size() - MAX_ERRORS).append(" more");
+            }
+            throw new KubernetesPluginException(message.toString());
+        }
+    }
+
+    /**
+     * Validate the documents in a multi document yaml string.
+     *
+     * @param content  yaml content
+     * @param fileName file name used in error messages
+     * @return list of violations, empty if all documents are valid. Unknown fields are added to the warnings.
+     */
+    public List<String> validate(String content, String fileName) {
+        List<String> errors = new ArrayList<>();
+        for (Object document : new Yaml().loadAll(content)) {
+            if (!(document instanceof Map)) {
+                continue;
+            }
+            Map<?, ?> resource = (Map<?, ?>) document;
+            String apiVersion = String.valueOf(resource.get("apiVersion"));
+            String kind = String.valueOf(resource.get("kind"));
+            String location = fileName + ": " + kind + " " + getName(resource);
+            List<KindSchema> kinds = schema.kinds.get(kind);
+            if (kinds == null) {
+                continue;
+            }
+            KindSchema match = null;
+            for (KindSchema kindSchema : kinds) {
+                if (kindSchema.apiVersion.equals(apiVersion)) {
+                    match = kindSchema;
+                }
+            }
+            if (match == null) {
+                if (schema.groups.contains(getGroup(apiVersion))) {
+                    errors.add(location + ": " + apiVersion + " is not a known api version for " + kind);
+                }
+                continue;
+            }
+            if (match.since > targetMinor || (match.removed > 0 && match.removed <= targetMinor)) {
+                errors.add(location + ": " + apiVersion + " " + kind + " is not served by Kubernetes " +
+                        targetVersion + servedRange(match.since, match.removed));
+                continue;
+            }
+            validateNode(match.node, resource, location + ": ", errors);
+        }
+        return errors;
+    }
+
+    private void validateNode(SchemaNode node, Object value, String path, List<String> errors) {
+        if (value == null) {
+            return;
+        }
+        if (node.since > targetMinor) {
+            errors.add(path + " requires Kubernetes 1." + node.since);
+            return;
+        }
+        switch (node.type) {
+            case "object":
+                if (!(value instanceof Map)) {
+                    errors.add(path + " must be an object");
+                    return;
+                }
+                for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                    String key = String.valueOf(entry.getKey());
+                    String childPath = path.endsWith(": ") ? path + key : path + "." + key;
+                    if (node.properties != null) {
+                        SchemaNode child = node.properties.get(key);
+                        if (child == null) {
+                            warnings.add(childPath + " is not a known field");
+                        } else {
+                            validateNode(child, entry.getValue(), childPath, errors);
+                        }
+                    } else if (node.additionalProperties != null) {
+                        validateNode(node.additionalProperties, entry.getValue(), childPath, errors);
+                    }
+                }
+                if (node.required != null) {
+                    for (String required : node.required) {
+                        if (((Map<?, ?>) value).get(required) == null) {
+                            errors.add((path.endsWith(": ") ? path : path + ".") + required + " is required");
+                        }
+                    }
+                }
+                return;
+            case "array":
+                if (!(value instanceof List)) {
+                    errors.add(path + " must be an array");
+                    return;
+                }
+                List<?> items = (List<?>) value;
+                for (int i = 0; i < items.size(); i++) {
+                    validateNode(node.items, items.get(i), path + "[" + i + "]", errors);
+                }
+                return;
+            case "integer":
+                if (!(value instanceof Integer || value instanceof Long)) {
+                    errors.add(path + " must be an integer");
+                }
+                return;
+            case "boolean":
+                if (!(value instanceof Boolean)) {
+                    errors.add(path + " must be a boolean");
+                }
+                return;
+            case "string":
+                validateString(node, value, path, errors);
+                return;
+            default:
+                // untyped nodes accept any value.
+        }
+    }
+
+    private void validateString(SchemaNode node, Object value, String path, List<String> errors) {
+        if (value instanceof Number && (node.intOrString || "quantity".equals(node.format))) {
+            return;
+        }
+        if (!(value instanceof String)) {
+            errors.add(path + " must be a string");
+            return;
+        }
+        String text = (String) value;
+        if (node.enumValues != null && !node.enumValues.contains(text)) {
+            errors.add(path + " must be one of " + node.enumValues + " but was '" + text + "'");
+            return;
+        }
+        if (node.format == null || (node.intOrString && text.endsWith("%"))) {
+            return;
+        }
+        switch (node.format) {
+            case "dns-label":
+                if (text.length() > 63 || !DNS_LABEL.matcher(text).matches()) {
+                    errors.add(path + " '" + text + "' must be a lowercase RFC 1123 label of at most 63 characters");
+                }
+                break;
+            case "dns-subdomain":
+                if (text.length() > 253 || !DNS_SUBDOMAIN.matcher(text).matches()) {
+                    errors.add(path + " '" + text + "' must be a lowercase RFC 1123 subdomain");
+                }
+                break;
+            case "iana-svc-name":
+                if (text.length() > 15 || !IANA_SVC_NAME.matcher(text).matches() || text.contains("--")) {
+                    errors.add(path + " '" + text + "' must be an IANA service name of at most 15 characters");
+                }
+                break;
+            case "quantity":
+                if (!QUANTITY.matcher(text).matches()) {
+                    errors.add(path + " '" + text + "' is not a valid quantity");
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    private static String getName(Map<?, ?> resource) {
+        Object metadata = resource.get("metadata");
+        if (metadata instanceof Map) {
+            return String.valueOf(((Map<?, ?>) metadata).get("name"));
+        }
+        return "";
+    }
+
+    private static String getGroup(String apiVersion) {
+        int index = apiVersion.indexOf('/');
+        return index < 0 ? "" : apiVersion.substring(0, index);
+    }
+
+    private static String servedRange(int since, int removed) {
+        if (removed > 0 && since > 0) {
+            return " (served from 1." + since + " until 1." + (removed - 1) + ")";
+        } else if (removed > 0) {
+            return " (removed in 1." + removed + ")";
+        }
+        return " (served from 1." + since + ")";
+    }
+
+    /**
+     * Returns the warnings reported by the validations done so far.
+     *
+     * @return fields that are not in the bundled definitions
+     */
+    public List<String> getWarnings() {
+        return warnings;
+    }
+
+    /**
+     * Returns the schema for the given cache directory. The in-memory copy is keyed by directory so that a
+     * validator created for a new directory still writes its on-disk cache.
+     */
+    private static synchronized Schema getSchema(Path cacheDir) throws KubernetesPluginException {
+        Path cacheKey = cacheDir.toAbsolutePath().normalize();
+        Schema cachedSchema = CACHED_SCHEMAS.get(cacheKey);
+        if (cachedSchema != null) {
+            return cachedSchema;
+        }
+        byte[] content;
+        try (InputStream inputStream = ManifestValidator.class.getResourceAsStream(SCHEMA_RESOURCE)) {
+            if (inputStream == null) {
+                throw new KubernetesPluginException("unable to find bundled kubernetes schema " + SCHEMA_RESOURCE);
+            }
+            content = readAll(inputStream);
+        } catch (IOException e) {
+            throw new KubernetesPluginException("error while reading bundled kubernetes schema", e);
+        }
+        Path cacheFile = cacheDir.resolve("openapi-" + sha256(content) + ".bin");
+        if (Files.isRegularFile(cacheFile)) {
+            try (ObjectInputStream inputStream = new ObjectInputStream(Files.newInputStream(cacheFile))) {
+                inputStream.setObjectInputFilter(CACHE_FILTER);
+                cachedSchema = (Schema) inputStream.readObject();
+                CACHED_SCHEMAS.put(cacheKey, cachedSchema);
+                return cachedSchema;
+            } catch (IOException | ClassNotFoundException | ClassCastException e) {
+                // a stale or corrupted cache is rebuilt below.
+            }
+        }
+        cachedSchema = parseSchema(new String(content, StandardCharsets.UTF_8));
+        CACHED_SCHEMAS.put(cacheKey, cachedSchema);
+        try {
+            Files.createDirectories(cacheDir);
+            Path tempFile = Files.createTempFile(cacheDir, "openapi", ".tmp");
+            try (OutputStream outputStream = Files.newOutputStream(tempFile);
+                 ObjectOutputStream objectOutputStream = new ObjectOutputStream(outputStream)) {
+                objectOutputStream.writeObject(cachedSchema);
+            }
+            Files.move(tempFile, cacheFile, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            ERR.println("warning: unable to cache kubernetes schema at " + cacheDir + ": " + e.getMessage());
+        }
+        return cachedSchema;
+    }
+
+    private static byte[] readAll(InputStream inputStream) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        int read;
+        while ((read = inputStream.read(buffer)) != -1) {
+            outputStream.write(buffer, 0, read);
+        }
+        return outputStream.toByteArray();
+    }
+
+    private static String sha256(byte[] content) throws KubernetesPluginException {
+        try {
+            StringBuilder hash = new StringBuilder();
+            for (byte b : MessageDigest.getInstance("SHA-256").digest(content)) {
+                hash.append(String.format("%02x", b));
+            }
+            return hash.substring(0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new KubernetesPluginException("unable to hash bundled kubernetes schema", e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Schema parseSchema(String json) {
+        Map<String, Object> document = new Yaml().load(json);
+        Map<String, Map<String, Object>> definitions = (Map<String, Map<String, Object>>) document.get("definitions");
+        Schema schema = new Schema();
+        Map<String, SchemaNode> resolved = new HashMap<>();
+        for (Map.Entry<String, Map<String, Object>> definition : definitions.entrySet()) {
+            List<Map<String, Object>> gvks =
+                    (List<Map<String, Object>>) definition.getValue().get("x-kubernetes-group-version-kind");
+            if (gvks == null) {
+                continue;
+            }
+            SchemaNode node = resolve(definition.getValue(), definitions, resolved, new TreeSet<>());
+            for (Map<String, Object> gvk : gvks) {
+                String group = String.valueOf(gvk.get("group"));
+                String version = String.valueOf(gvk.get("version"));
+                KindSchema kindSchema = new KindSchema();
+                kindSchema.apiVersion = group.isEmpty() ? version : group + "/" + version;
+                kindSchema.since = toMinor(gvk.get("x-kubernetes-since"));
+                kindSchema.removed = toMinor(gvk.get("x-kubernetes-removed"));
+                kindSchema.node = node;
+                schema.kinds.computeIfAbsent(String.valueOf(gvk.get("kind")), k -> new ArrayList<>()).add(kindSchema);
+                schema.groups.add(group);
+            }
+        }
+        return schema;
+    }
+
+    /**
+     * Resolve a definition and the definitions it references.
+     *
+     * @param definition  definition to resolve
+     * @param definitions all definitions of the document
+     * @param resolved    definitions resolved so far, by name
+     * @param resolving   names of the definitions being resolved, used to stop on recursive references
+     * @return resolved schema node
+     */
+    @SuppressWarnings("unchecked")
+    private static SchemaNode resolve(Map<String, Object> definition, Map<String, Map<String, Object>> definitions,
+                                      Map<String, SchemaNode> resolved, Set<String> resolving) {
+        Object ref = definition.get("$ref");
+        if (ref != null) {
+            String name = String.valueOf(ref).substring(REF_PREFIX.length());
+            SchemaNode node = resolved.get(name);
+            if (node == null) {
+                if (definitions.get(name) == null || resolving.contains(name)) {
+                    // A recursive or unknown reference accepts any value.
+                    return new SchemaNode();
+                }
+                resolving.add(name);
+                node = resolve(definitions.get(name), definitions, resolved, resolving);
+                resolving.remove(name);
+                resolved.put(name, node);
+            }
+            int since = toMinor(definition.get("x-kubernetes-since"));
+            if (since == 0) {
+                return node;
+            }
+            SchemaNode copy = node.copy();
+            copy.since = since;
+            return copy;
+        }
+        SchemaNode node = new SchemaNode();
+        node.type = definition.containsKey("type") ? String.valueOf(definition.get("type")) : "";
+        node.format = (String) definition.get("format");
+        node.since = toMinor(definition.get("x-kubernetes-since"));
+        node.intOrString = Boolean.TRUE.equals(definition.get("x-kubernetes-int-or-string"));
+        if (definition.get("enum") != null) {
+            node.enumValues = new ArrayList<>((List<String>) definition.get("enum"));
+        }
+        if (definition.get("required") != null) {
+            node.required = new ArrayList<>((List<String>) definition.get("required"));
+        }
+        Map<String, Map<String, Object>> properties = (Map<String, Map<String, Object>>) definition.get("properties");
+        if (properties != null) {
+            node.properties = new LinkedHashMap<>();
+            for (Map.Entry<String, Map<String, Object>> property : properties.entrySet()) {
+                node.properties.put(property.getKey(), resolve(property.getValue(), definitions, resolved,
+                        resolving));
+            }
+        }
+        if (definition.get("items") instanceof Map) {
+            node.items = resolve((Map<String, Object>) definition.get("items"), definitions, resolved, resolving);
+        }
+        if (definition.get("additionalProperties") instanceof Map) {
+            node.additionalProperties = resolve((Map<String, Object>) definition.get("additionalProperties"),
+                    definitions, resolved, resolving);
+        }
+        return node;
+    }
+
+    private static int toMinor(Object version) {
+        if (version == null) {
+            return 0;
+        }
+        String[] parts = String.valueOf(version).split("\\.");
+        return parts.length < 2 ? 0 : Integer.parseInt(parts[1]);
+    }
+
+    /**
+     * Resolved definitions indexed by kind.
+     */
+    private static class Schema implements Serializable {
+        private static final long serialVersionUID = 1L;
+        private final Map<String, List<KindSchema>> kinds = new HashMap<>();
+        private final Set<String> groups = new HashSet<>();
+    }
+
+    /**
+     * Definition of a kind for one api version.
+     */
+    private static class KindSchema implements Serializable {
+        private static final long serialVersionUID = 1L;
+        private String apiVersion;
+        private int since;
+        private int removed;
+        private SchemaNode node;
+    }
+
+    /**
+     * Schema of a single value with all references resolved.
+     */
+    private static class SchemaNode implements Serializable {
+        private static final long serialVersionUID = 1L;
+        private String type = "";
+        private String format;
+        private int since;
+        private boolean intOrString;
+        private List<String> enumValues;
+        private List<String> required;
+        private Map<String, SchemaNode> properties;
+        private SchemaNode items;
+        private SchemaNode additionalProperties;
+
+        private SchemaNode copy() {
+            SchemaNode copy = new SchemaNode();
+            copy.type = type;
+            copy.format = format;
+            copy.since = since;
+            copy.intOrString = intOrString;
+            copy.enumValues = enumValues;
+            copy.required = required;
+            copy.properties = properties;
+            copy.items = items;
+            copy.additionalProperties = additionalProperties;
+            return copy;
+        }
+    }
+}
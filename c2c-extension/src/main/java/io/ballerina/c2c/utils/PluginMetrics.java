@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.utils;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Locale;
+
+/**
+ * Records the time and memory spent in the plugin for a module when C2C_BENCHMARK_REPORT names a file. Each data
+ * holder keeps its own totals, and one csv line is appended per module: module, plugin time in milliseconds, bytes
+ * allocated by the plugin and peak heap of the compiler.
+ */
+public class PluginMetrics {
+
+    public static final String BENCHMARK_REPORT_ENV = "C2C_BENCHMARK_REPORT";
+    private static final String REPORT = System.getenv(BENCHMARK_REPORT_ENV);
+    private long elapsedNanos;
+    private long allocatedBytes;
+
+    public static boolean isEnabled() {
+        return REPORT != null && !REPORT.isEmpty();
+    }
+
+    /**
+     * Start measuring a plugin phase on the current thread.
+     *
+     * @return the start of the phase, or null if metrics are disabled
+     */
+    public static Sample start() {
+        if (!isEnabled()) {
+            return null;
+        }
+        return new Sample(System.nanoTime(), getAllocatedBytes());
+    }
+
+    /**
+     * Stop measuring a plugin phase and add it to the totals of the module.
+     *
+     * @param sample start of the phase returned by {@link #start()}
+     */
+    public void stop(Sample sample) {
+        if (sample == null) {
+            return;
+        }
+        elapsedNanos += System.nanoTime() - sample.nanos;
+        allocatedBytes += Math.max(0, getAllocatedBytes() - sample.allocatedBytes);
+    }
+
+    /**
+     * Append the totals of the module to the report.
+     *
+     * @param module module name
+     */
+    public void report(String module) {
+        if (!isEnabled()) {
+            return;
+        }
+        long peakHeap = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP && pool.getPeakUsage() != null) {
+                peakHeap += pool.getPeakUsage().getUsed();
+            }
+        }
+        String line = String.format(Locale.ROOT, "%s,%.3f,%d,%d%n", module, elapsedNanos / 1_000_000.0,
+                allocatedBytes, peakHeap);
+        try {
+            Path report = Paths.get(REPORT);
+            Files.write(report, line.getBytes(StandardCharsets.UTF_8), StandardOpenOption.CREATE,
+                    StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            KubernetesUtils.printError("unable to write benchmark report: " + e.getMessage());
+        }
+    }
+
+    private static long getAllocatedBytes() {
+        ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        if (threadMXBean instanceof com.sun.management.ThreadMXBean) {
+            return ((com.sun.management.ThreadMXBean) threadMXBean)
+                    .getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return 0;
+    }
+
+    /**
+     * Start of a measured plugin phase.
+     */
+    public static class Sample {
+        private final long nanos;
+        private final long allocatedBytes;
+
+        private Sample(long nanos, long allocatedBytes) {
+            this.nanos = nanos;
+            this.allocatedBytes = allocatedBytes;
+        }
+    }
+}
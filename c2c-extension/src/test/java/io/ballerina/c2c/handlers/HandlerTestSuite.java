@@ -25,6 +25,7 @@ import io.ballerina.c2c.models.KubernetesDataHolder;
 import io.ballerina.c2c.utils.KubernetesUtils;
 import org.ballerinalang.model.elements.PackageID;
 import org.testng.annotations.AfterClass;
+import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeSuite;
 import org.wso2.ballerinalang.compiler.util.Name;
 import org.wso2.ballerinalang.compiler.util.Names;
@@ -57,6 +58,17 @@ public class HandlerTestSuite {
         dataHolder.setJarPath(resourcesDirectory.toAbsolutePath().resolve("hello.jar"));
     }
 
+    /**
+     * Artifacts are appended to existing files, so each test starts from an empty output directory.
+     *
+     * @throws KubernetesPluginException if the artifacts cannot be deleted
+     */
+    @AfterMethod
+    public void clearTestArtifacts() throws KubernetesPluginException {
+        KubernetesUtils.deleteDirectory(dataHolder.getK8sArtifactOutputPath());
+        dataHolder.setJobModel(null);
+    }
+
     @AfterClass
     public void clearArtifacts() throws KubernetesPluginException {
         KubernetesUtils.deleteDirectory(dataHolder.getK8sArtifactOutputPath());
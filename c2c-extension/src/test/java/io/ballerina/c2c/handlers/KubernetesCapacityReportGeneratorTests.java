@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.handlers;
+
+import com.moandjiezana.toml.Toml;
+import io.ballerina.c2c.KubernetesConstants;
+import io.ballerina.c2c.exceptions.KubernetesPluginException;
+import io.ballerina.c2c.models.DeploymentModel;
+import io.ballerina.c2c.models.PodAutoscalerModel;
+import io.fabric8.kubernetes.api.model.Quantity;
+import io.fabric8.kubernetes.api.model.ResourceRequirementsBuilder;
+import org.apache.commons.io.FileUtils;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+
+/**
+ * Test the capacity report of generated workloads.
+ */
+public class KubernetesCapacityReportGeneratorTests extends HandlerTestSuite {
+
+    private DeploymentModel getDeploymentModel() {
+        DeploymentModel deploymentModel = new DeploymentModel();
+        deploymentModel.setName("hello" + KubernetesConstants.DEPLOYMENT_POSTFIX);
+        deploymentModel.setReplicas(2);
+        deploymentModel.setSingleYAML(false);
+        PodAutoscalerModel podAutoscalerModel = new PodAutoscalerModel();
+        podAutoscalerModel.setMinReplicas(2);
+        podAutoscalerModel.setMaxReplicas(5);
+        deploymentModel.setPodAutoscalerModel(podAutoscalerModel);
+        return deploymentModel;
+    }
+
+    private File getReport() {
+        return dataHolder.getK8sArtifactOutputPath().getParent().resolve(CapacityReportHandler.REPORT_FILE)
+                .toFile();
+    }
+
+    @Test
+    public void testPendingAtPeak() throws IOException, KubernetesPluginException {
+        dataHolder.setDeploymentModel(getDeploymentModel());
+        dataHolder.setBallerinaCloud(new Toml().read("[cloud.capacity]\n" +
+                "[[cloud.capacity.node_shapes]]\n" +
+                "name=\"small\"\n" +
+                "cpu=\"500m\"\n" +
+                "memory=\"1Gi\"\n" +
+                "count=2\n"));
+        try {
+            new CapacityReportHandler().createArtifacts();
+            Assert.assertTrue(getReport().exists());
+            String report = FileUtils.readFileToString(getReport(), StandardCharsets.UTF_8);
+            // 5 pods of 200m at the autoscaler maximum, 2 fit on each node.
+            Assert.assertTrue(report.contains("hello-deployment"));
+            Assert.assertTrue(report.contains("2 nodes used of 2, cpu 80%"));
+            Assert.assertTrue(report.contains("PENDING hello-deployment"));
+            Assert.assertFalse(report.contains("UNSCHEDULABLE"));
+        } finally {
+            dataHolder.setBallerinaCloud(null);
+            FileUtils.deleteQuietly(getReport());
+        }
+    }
+
+    @Test(expectedExceptions = KubernetesPluginException.class,
+            expectedExceptionsMessageRegExp = "workloads can never be scheduled.*hello-deployment")
+    public void testUnschedulable() throws KubernetesPluginException {
+        dataHolder.setDeploymentModel(getDeploymentModel());
+        dataHolder.setBallerinaCloud(new Toml().read("[cloud.capacity]\n" +
+                "fail_on_unschedulable=true\n" +
+                "[[cloud.capacity.node_shapes]]\n" +
+                "name=\"tiny\"\n" +
+                "cpu=\"100m\"\n" +
+                "memory=\"1Gi\"\n"));
+        try {
+            new CapacityReportHandler().createArtifacts();
+        } finally {
+            dataHolder.setBallerinaCloud(null);
+            FileUtils.deleteQuietly(getReport());
+        }
+    }
+
+    @Test
+    public void testBinPacking() {
+        CapacityReportHandler.Workload api = new CapacityReportHandler.Workload("api", 6,
+                new ResourceRequirementsBuilder()
+                        .addToRequests("cpu", new Quantity("1500m"))
+                        .addToRequests("memory", new Quantity("1Gi"))
+                        .build());
+        CapacityReportHandler.Workload worker = new CapacityReportHandler.Workload("worker", 4,
+                new ResourceRequirementsBuilder()
+                        .addToLimits("cpu", new Quantity("500m"))
+                        .addToLimits("memory", new Quantity("512Mi"))
+                        .build());
+        CapacityReportHandler.NodeShape reserved = new CapacityReportHandler.NodeShape("reserved", 4000,
+                8 * Math.pow(2, 30), 110, 1);
+        CapacityReportHandler.NodeShape spot = new CapacityReportHandler.NodeShape("spot", 2000,
+                4 * Math.pow(2, 30), 110, -1);
+        CapacityReportHandler.Packing packing = CapacityReportHandler.pack(Arrays.asList(api, worker),
+                Arrays.asList(reserved, spot));
+        // the reserved node takes 2 api pods and 2 workers, which default their requests to the limits. The other
+        // api pods need a spot node each and the last 2 workers fill the free space on them.
+        Assert.assertEquals(packing.getPlaced(), 10);
+        Assert.assertEquals(packing.getNodeCount("reserved"), 1);
+        Assert.assertEquals(packing.getNodeCount("spot"), 4);
+        Assert.assertEquals(packing.getPending(), Collections.emptyList());
+        Assert.assertEquals(packing.getUnschedulable(), Collections.emptyList());
+    }
+}
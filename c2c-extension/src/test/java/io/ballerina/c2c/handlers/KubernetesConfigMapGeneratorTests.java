@@ -18,8 +18,10 @@
 
 package io.ballerina.c2c.handlers;
 
+import com.moandjiezana.toml.Toml;
 import io.ballerina.c2c.exceptions.KubernetesPluginException;
 import io.ballerina.c2c.models.ConfigMapModel;
+import io.ballerina.c2c.utils.KubernetesUtils;
 import io.ballerina.c2c.utils.Utils;
 import io.fabric8.kubernetes.api.model.ConfigMap;
 import org.testng.Assert;
@@ -27,6 +29,10 @@ import org.testng.annotations.Test;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
@@ -67,6 +73,75 @@ public class KubernetesConfigMapGeneratorTests extends HandlerTestSuite {
         }
     }
 
+    @Test
+    public void testImmutableConfigMapGenerate() throws IOException, KubernetesPluginException {
+        Toml ballerinaCloud = new Toml().read("[cloud.config]\nimmutable=true\n");
+        ConfigMapModel configMapModel = new ConfigMapModel();
+        configMapModel.setName("immutable-config");
+        configMapModel.setMountPath(mountPath);
+        Map<String, String> data = new HashMap<>();
+        data.put("hello", "world");
+        configMapModel.setData(data);
+        Set<ConfigMapModel> previous = new HashSet<>(dataHolder.getConfigMapModelSet());
+        dataHolder.getConfigMapModelSet().clear();
+        dataHolder.addConfigMaps(Collections.singleton(configMapModel));
+        dataHolder.setBallerinaCloud(ballerinaCloud);
+        try {
+            new ConfigMapHandler().createArtifacts();
+            File tempFile = dataHolder.getK8sArtifactOutputPath().resolve("hello_config_map.yaml").toFile();
+            ConfigMap configMap = Utils.loadYaml(tempFile);
+            String name = configMap.getMetadata().getName();
+            Assert.assertTrue(name.matches("immutable-config-[0-9a-f]{10}"), name);
+            Assert.assertEquals(configMap.getAdditionalProperties().get("immutable"), true);
+            Assert.assertEquals(KubernetesUtils.getConfigObjectName("immutable-config", data, ballerinaCloud), name);
+            Assert.assertNotEquals(KubernetesUtils.getConfigObjectName("immutable-config",
+                    Collections.singletonMap("hello", "there"), ballerinaCloud), name);
+            Assert.assertEquals(KubernetesUtils.getConfigObjectName("immutable-config", data, null),
+                    "immutable-config");
+        } finally {
+            dataHolder.setBallerinaCloud(null);
+            dataHolder.getConfigMapModelSet().clear();
+            dataHolder.addConfigMaps(previous);
+        }
+    }
+
+    @Test
+    public void testConfigMapFromCloudFile() throws IOException, KubernetesPluginException {
+        Path configFile = Files.createTempFile("app", ".properties");
+        Files.write(configFile, "greeting=hello\n".getBytes(StandardCharsets.UTF_8));
+        Set<ConfigMapModel> previous = new HashSet<>(dataHolder.getConfigMapModelSet());
+        dataHolder.getConfigMapModelSet().clear();
+        dataHolder.setBallerinaCloud(new Toml().read("[[cloud.config.maps]]\nname = \"app-config\"\n" +
+                "file = \"" + configFile.toAbsolutePath().toString().replace("\\", "/") + "\"\n" +
+                "mount_path = \"/home/ballerina/conf\"\n"));
+        try {
+            new ConfigMapHandler().createArtifacts();
+            File tempFile = dataHolder.getK8sArtifactOutputPath().resolve("hello_config_map.yaml").toFile();
+            ConfigMap configMap = Utils.loadYaml(tempFile);
+            Assert.assertEquals(configMap.getMetadata().getName(), "app-config");
+            Assert.assertEquals(configMap.getData().get(configFile.getFileName().toString()), "greeting=hello\n");
+            ConfigMapModel configMapModel = dataHolder.getConfigMapModelSet().iterator().next();
+            Assert.assertEquals(configMapModel.getMountPath(), "/home/ballerina/conf");
+        } finally {
+            dataHolder.setBallerinaCloud(null);
+            dataHolder.getConfigMapModelSet().clear();
+            dataHolder.addConfigMaps(previous);
+            Files.deleteIfExists(configFile);
+        }
+    }
+
+    @Test(expectedExceptions = KubernetesPluginException.class,
+            expectedExceptionsMessageRegExp = "name, file and mount_path are required for cloud.config.maps")
+    public void testConfigMapWithoutMountPath() throws KubernetesPluginException {
+        dataHolder.setBallerinaCloud(new Toml().read("[[cloud.config.maps]]\nname = \"app-config\"\n" +
+                "file = \"app.properties\"\n"));
+        try {
+            new ConfigMapHandler().createArtifacts();
+        } finally {
+            dataHolder.setBallerinaCloud(null);
+        }
+    }
+
     private void assertGeneratedYAML(File yamlFile) throws IOException {
         ConfigMap configMap = Utils.loadYaml(yamlFile);
         Assert.assertEquals(this.configMapName, configMap.getMetadata().getName());
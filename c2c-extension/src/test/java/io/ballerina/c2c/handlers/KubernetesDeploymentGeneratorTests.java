@@ -18,22 +18,34 @@
 
 package io.ballerina.c2c.handlers;
 
+import com.moandjiezana.toml.Toml;
 import io.ballerina.c2c.KubernetesConstants;
 import io.ballerina.c2c.exceptions.KubernetesPluginException;
+import io.ballerina.c2c.models.ConfigMapModel;
 import io.ballerina.c2c.models.DeploymentModel;
+import io.ballerina.c2c.models.SecretModel;
+import io.ballerina.c2c.utils.KubernetesUtils;
 import io.ballerina.c2c.utils.Utils;
 import io.fabric8.kubernetes.api.model.Container;
 import io.fabric8.kubernetes.api.model.ContainerPortBuilder;
 import io.fabric8.kubernetes.api.model.EnvVar;
 import io.fabric8.kubernetes.api.model.EnvVarBuilder;
+import io.fabric8.kubernetes.api.model.NodeAffinity;
+import io.fabric8.kubernetes.api.model.PodSpec;
+import io.fabric8.kubernetes.api.model.ResourceRequirements;
+import io.fabric8.kubernetes.api.model.Volume;
 import io.fabric8.kubernetes.api.model.apps.Deployment;
+import io.fabric8.kubernetes.api.model.apps.RollingUpdateDeployment;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Test deployment generation.
@@ -79,6 +91,346 @@ public class KubernetesDeploymentGeneratorTests extends HandlerTestSuite {
         }
     }
 
+    @Test
+    public void testGuaranteedQosGeneration() throws IOException, KubernetesPluginException {
+        DeploymentModel deploymentModel = new DeploymentModel();
+        deploymentModel.setName(deploymentName);
+        deploymentModel.addLabel(KubernetesConstants.KUBERNETES_SELECTOR_KEY, selector);
+        deploymentModel.addPort(new ContainerPortBuilder().withContainerPort(9090).build());
+        deploymentModel.setImage(imageName);
+        deploymentModel.setSingleYAML(false);
+        dataHolder.setDeploymentModel(deploymentModel);
+        dataHolder.setBallerinaCloud(new Toml().read("[cloud.deployment]\n" +
+                "max_cpu=\"1500m\"\n" +
+                "max_memory=\"512Mi\"\n" +
+                "qos=\"guaranteed\"\n" +
+                "priority_class_name=\"latency-critical\"\n"));
+        try {
+            new DeploymentHandler().createArtifacts();
+        } finally {
+            dataHolder.setBallerinaCloud(null);
+        }
+        File tempFile = dataHolder.getK8sArtifactOutputPath().resolve("hello_deployment.yaml").toFile();
+        Assert.assertTrue(tempFile.exists());
+        Deployment deployment = Utils.loadYaml(tempFile);
+        Assert.assertEquals(deployment.getSpec().getTemplate().getSpec().getPriorityClassName(), "latency-critical");
+        ResourceRequirements resources = deployment.getSpec().getTemplate().getSpec().getContainers().get(0)
+                .getResources();
+        Assert.assertEquals(resources.getLimits().get("cpu").getAmount(), "2");
+        Assert.assertEquals(resources.getRequests().get("cpu").getAmount(), "2");
+        Assert.assertEquals(resources.getRequests().get("memory"), resources.getLimits().get("memory"));
+        tempFile.deleteOnExit();
+    }
+
+    @Test
+    public void testNodeAffinityGeneration() throws IOException, KubernetesPluginException {
+        DeploymentModel deploymentModel = new DeploymentModel();
+        deploymentModel.setName(deploymentName);
+        deploymentModel.addLabel(KubernetesConstants.KUBERNETES_SELECTOR_KEY, selector);
+        deploymentModel.addPort(new ContainerPortBuilder().withContainerPort(9090).build());
+        deploymentModel.setImage(imageName);
+        deploymentModel.setSingleYAML(false);
+        deploymentModel.setReplicas(2);
+        dataHolder.setDeploymentModel(deploymentModel);
+        dataHolder.setBallerinaCloud(new Toml().read("[[cloud.deployment.affinity.required]]\n" +
+                "key=\"kubernetes.io/arch\"\n" +
+                "values=[\"amd64\"]\n" +
+                "[[cloud.deployment.affinity.preferred]]\n" +
+                "key=\"node.kubernetes.io/instance-type\"\n" +
+                "operator=\"In\"\n" +
+                "values=[\"c5.xlarge\"]\n" +
+                "weight=80\n" +
+                "[[cloud.deployment.tolerations]]\n" +
+                "key=\"dedicated\"\n" +
+                "value=\"compute\"\n" +
+                "effect=\"NoSchedule\"\n"));
+        try {
+            new DeploymentHandler().createArtifacts();
+        } finally {
+            dataHolder.setBallerinaCloud(null);
+        }
+        File tempFile = dataHolder.getK8sArtifactOutputPath().resolve("hello_deployment.yaml").toFile();
+        Assert.assertTrue(tempFile.exists());
+        Deployment deployment = Utils.loadYaml(tempFile);
+        PodSpec podSpec = deployment.getSpec().getTemplate().getSpec();
+        NodeAffinity nodeAffinity = podSpec.getAffinity().getNodeAffinity();
+        Assert.assertEquals(nodeAffinity.getRequiredDuringSchedulingIgnoredDuringExecution().getNodeSelectorTerms()
+                .get(0).getMatchExpressions().get(0).getOperator(), "In");
+        Assert.assertEquals(nodeAffinity.getPreferredDuringSchedulingIgnoredDuringExecution().get(0).getWeight()
+                .intValue(), 80);
+        // Node affinity is merged with the default replica anti-affinity.
+        Assert.assertNotNull(podSpec.getAffinity().getPodAntiAffinity());
+        Assert.assertEquals(podSpec.getTolerations().size(), 1);
+        Assert.assertEquals(podSpec.getTolerations().get(0).getOperator(), "Equal");
+        tempFile.deleteOnExit();
+    }
+
+    @Test
+    public void testRollingUpdateStrategyGeneration() throws IOException, KubernetesPluginException {
+        DeploymentModel deploymentModel = new DeploymentModel();
+        deploymentModel.setName(deploymentName);
+        deploymentModel.addLabel(KubernetesConstants.KUBERNETES_SELECTOR_KEY, selector);
+        deploymentModel.addPort(new ContainerPortBuilder().withContainerPort(9090).build());
+        deploymentModel.setImage(imageName);
+        deploymentModel.setSingleYAML(false);
+        dataHolder.setDeploymentModel(deploymentModel);
+        dataHolder.setBallerinaCloud(new Toml().read("[cloud.deployment]\n" +
+                "replicas=8\n" +
+                "[cloud.deployment.strategy]\n" +
+                "max_unavailable=\"10%\"\n" +
+                "min_ready_seconds=10\n" +
+                "revision_history_limit=3\n"));
+        try {
+            new DeploymentHandler().createArtifacts();
+        } finally {
+            dataHolder.setBallerinaCloud(null);
+        }
+        File tempFile = dataHolder.getK8sArtifactOutputPath().resolve("hello_deployment.yaml").toFile();
+        Assert.assertTrue(tempFile.exists());
+        Deployment deployment = Utils.loadYaml(tempFile);
+        Assert.assertEquals(deployment.getSpec().getStrategy().getType(), "RollingUpdate");
+        RollingUpdateDeployment rollingUpdate = deployment.getSpec().getStrategy().getRollingUpdate();
+        Assert.assertEquals(rollingUpdate.getMaxSurge().getStrVal(), "25%");
+        Assert.assertEquals(rollingUpdate.getMaxUnavailable().getStrVal(), "10%");
+        Assert.assertEquals(deployment.getSpec().getMinReadySeconds().intValue(), 10);
+        Assert.assertEquals(deployment.getSpec().getRevisionHistoryLimit().intValue(), 3);
+        Assert.assertNull(deployment.getSpec().getProgressDeadlineSeconds());
+        tempFile.deleteOnExit();
+    }
+
+    @Test(expectedExceptions = KubernetesPluginException.class,
+            expectedExceptionsMessageRegExp = ".*strategy.max_surge and max_unavailable cannot both be 0")
+    public void testZeroPercentageStrategy() throws KubernetesPluginException {
+        generateWithStrategy("max_surge=\"0%\"\nmax_unavailable=\"0%\"\n");
+    }
+
+    @Test(expectedExceptions = KubernetesPluginException.class,
+            expectedExceptionsMessageRegExp = ".*strategy.max_surge and max_unavailable cannot both be 0")
+    public void testMixedZeroStrategy() throws KubernetesPluginException {
+        generateWithStrategy("max_surge=0\nmax_unavailable=\"0%\"\n");
+    }
+
+    @Test(expectedExceptions = KubernetesPluginException.class,
+            expectedExceptionsMessageRegExp = "cloud.deployment.strategy.max_surge must be between 0 and .*")
+    public void testNegativeStrategy() throws KubernetesPluginException {
+        generateWithStrategy("max_surge=-1\n");
+    }
+
+    @Test(expectedExceptions = KubernetesPluginException.class,
+            expectedExceptionsMessageRegExp = "cloud.deployment.strategy.max_unavailable cannot be more than 100%.*")
+    public void testStrategyPercentageAbove100() throws KubernetesPluginException {
+        generateWithStrategy("max_unavailable=\"150%\"\n");
+    }
+
+    @Test(expectedExceptions = KubernetesPluginException.class,
+            expectedExceptionsMessageRegExp = "cloud.deployment.strategy.revision_history_limit must be between 0 .*")
+    public void testStrategyOutOfRange() throws KubernetesPluginException {
+        generateWithStrategy("revision_history_limit=3000000000\n");
+    }
+
+    @Test(expectedExceptions = KubernetesPluginException.class,
+            expectedExceptionsMessageRegExp = "cloud.deployment.strategy.min_ready_seconds must be between 0 .*")
+    public void testNegativeMinReadySeconds() throws KubernetesPluginException {
+        generateWithStrategy("min_ready_seconds=-5\n");
+    }
+
+    private void generateWithStrategy(String strategyToml) throws KubernetesPluginException {
+        DeploymentModel deploymentModel = new DeploymentModel();
+        deploymentModel.setName(deploymentName);
+        deploymentModel.addPort(new ContainerPortBuilder().withContainerPort(9090).build());
+        deploymentModel.setImage(imageName);
+        dataHolder.setDeploymentModel(deploymentModel);
+        dataHolder.setBallerinaCloud(new Toml().read("[cloud.deployment.strategy]\n" + strategyToml));
+        try {
+            new DeploymentHandler().createArtifacts();
+        } finally {
+            dataHolder.setBallerinaCloud(null);
+        }
+    }
+
+    @Test
+    public void testImmutableConfigVolumes() throws IOException, KubernetesPluginException {
+        DeploymentModel deploymentModel = new DeploymentModel();
+        deploymentModel.setName(deploymentName);
+        deploymentModel.addLabel(KubernetesConstants.KUBERNETES_SELECTOR_KEY, selector);
+        deploymentModel.addPort(new ContainerPortBuilder().withContainerPort(9090).build());
+        deploymentModel.setImage(imageName);
+        deploymentModel.setSingleYAML(false);
+        dataHolder.setDeploymentModel(deploymentModel);
+        SecretModel secretModel = new SecretModel();
+        secretModel.setName("hello-secret");
+        secretModel.setMountPath("/home/secrets");
+        secretModel.setData(Collections.singletonMap("password", "c2VjcmV0"));
+        ConfigMapModel configMapModel = new ConfigMapModel();
+        configMapModel.setName("hello-config");
+        configMapModel.setMountPath("/home/config");
+        configMapModel.setData(Collections.singletonMap("greeting", "hello"));
+        Set<SecretModel> previousSecrets = new HashSet<>(dataHolder.getSecretModelSet());
+        Set<ConfigMapModel> previousConfigMaps = new HashSet<>(dataHolder.getConfigMapModelSet());
+        dataHolder.getSecretModelSet().clear();
+        dataHolder.getConfigMapModelSet().clear();
+        dataHolder.addSecrets(Collections.singleton(secretModel));
+        dataHolder.addConfigMaps(Collections.singleton(configMapModel));
+        Toml ballerinaCloud = new Toml().read("[cloud.config]\nimmutable=true\n");
+        dataHolder.setBallerinaCloud(ballerinaCloud);
+        try {
+            new DeploymentHandler().createArtifacts();
+        } finally {
+            dataHolder.setBallerinaCloud(null);
+            dataHolder.getSecretModelSet().clear();
+            dataHolder.getConfigMapModelSet().clear();
+            dataHolder.addSecrets(previousSecrets);
+            dataHolder.addConfigMaps(previousConfigMaps);
+        }
+        File tempFile = dataHolder.getK8sArtifactOutputPath().resolve("hello_deployment.yaml").toFile();
+        Deployment deployment = Utils.loadYaml(tempFile);
+        Map<String, Volume> volumes = new HashMap<>();
+        deployment.getSpec().getTemplate().getSpec().getVolumes()
+                .forEach(volume -> volumes.put(volume.getName(), volume));
+        // volume names stay stable while the referenced objects carry the content hash.
+        String secretName = volumes.get("hello-secret-volume").getSecret().getSecretName();
+        Assert.assertTrue(secretName.matches("hello-secret-[0-9a-f]{10}"), secretName);
+        Assert.assertEquals(secretName, KubernetesUtils.getConfigObjectName("hello-secret", secretModel.getData(),
+                ballerinaCloud));
+        String configMapName = volumes.get("hello-config-volume").getConfigMap().getName();
+        Assert.assertTrue(configMapName.matches("hello-config-[0-9a-f]{10}"), configMapName);
+        Assert.assertEquals(configMapName, KubernetesUtils.getConfigObjectName("hello-config",
+                configMapModel.getData(), ballerinaCloud));
+    }
+
+    @Test
+    public void testEmptyDirVolumeGeneration() throws IOException, KubernetesPluginException {
+        DeploymentModel deploymentModel = new DeploymentModel();
+        deploymentModel.setName(deploymentName);
+        deploymentModel.addLabel(KubernetesConstants.KUBERNETES_SELECTOR_KEY, selector);
+        deploymentModel.addPort(new ContainerPortBuilder().withContainerPort(9090).build());
+        deploymentModel.setImage(imageName);
+        deploymentModel.setSingleYAML(false);
+        dataHolder.setDeploymentModel(deploymentModel);
+        dataHolder.setBallerinaCloud(new Toml().read("[cloud.deployment]\n" +
+                "min_ephemeral_storage=\"1Gi\"\n" +
+                "max_ephemeral_storage=\"2Gi\"\n" +
+                "[[cloud.deployment.empty_dirs]]\n" +
+                "name=\"uploads\"\n" +
+                "mount_path=\"/tmp/uploads\"\n" +
+                "medium=\"memory\"\n" +
+                "size_limit=\"64Mi\"\n" +
+                "[[cloud.deployment.empty_dirs]]\n" +
+                "name=\"reports\"\n" +
+                "mount_path=\"/tmp/reports\"\n"));
+        try {
+            new DeploymentHandler().createArtifacts();
+        } finally {
+            dataHolder.setBallerinaCloud(null);
+        }
+        File tempFile = dataHolder.getK8sArtifactOutputPath().resolve("hello_deployment.yaml").toFile();
+        Assert.assertTrue(tempFile.exists());
+        Deployment deployment = Utils.loadYaml(tempFile);
+        PodSpec podSpec = deployment.getSpec().getTemplate().getSpec();
+        Map<String, Volume> volumes = new HashMap<>();
+        podSpec.getVolumes().forEach(volume -> volumes.put(volume.getName(), volume));
+        Volume uploads = volumes.get("uploads-volume");
+        Assert.assertEquals(uploads.getEmptyDir().getMedium(), "Memory");
+        Assert.assertEquals(uploads.getEmptyDir().getSizeLimit().getAmount(), "64");
+        Assert.assertNull(volumes.get("reports-volume").getEmptyDir().getMedium());
+        Container container = podSpec.getContainers().get(0);
+        Assert.assertTrue(container.getVolumeMounts().stream()
+                .anyMatch(volumeMount -> "/tmp/uploads".equals(volumeMount.getMountPath())));
+        Assert.assertEquals(container.getResources().getRequests().get(KubernetesConstants.EPHEMERAL_STORAGE)
+                .getAmount(), "1");
+        Assert.assertEquals(container.getResources().getLimits().get(KubernetesConstants.EPHEMERAL_STORAGE)
+                .getAmount(), "2");
+        tempFile.deleteOnExit();
+    }
+
+    @Test
+    public void testSpreadWithAutoscaling() throws IOException, KubernetesPluginException {
+        DeploymentModel deploymentModel = new DeploymentModel();
+        deploymentModel.setName(deploymentName);
+        deploymentModel.addLabel(KubernetesConstants.KUBERNETES_SELECTOR_KEY, selector);
+        deploymentModel.addPort(new ContainerPortBuilder().withContainerPort(9090).build());
+        deploymentModel.setImage(imageName);
+        deploymentModel.setSingleYAML(false);
+        dataHolder.setDeploymentModel(deploymentModel);
+        dataHolder.setBallerinaCloud(new Toml().read("[cloud.deployment.autoscaling]\n" +
+                "max_replicas=4\n" +
+                "[cloud.deployment.spread]\n" +
+                "when_unsatisfiable=\"DoNotSchedule\"\n" +
+                "anti_affinity_weight=50\n"));
+        try {
+            new DeploymentHandler().createArtifacts();
+        } finally {
+            dataHolder.setBallerinaCloud(null);
+        }
+        File tempFile = dataHolder.getK8sArtifactOutputPath().resolve("hello_deployment.yaml").toFile();
+        Deployment deployment = Utils.loadYaml(tempFile);
+        PodSpec podSpec = deployment.getSpec().getTemplate().getSpec();
+        Assert.assertEquals(deployment.getSpec().getReplicas().intValue(), 1);
+        Assert.assertEquals(podSpec.getTopologySpreadConstraints().size(), 2);
+        Assert.assertEquals(podSpec.getTopologySpreadConstraints().get(0).getWhenUnsatisfiable(), "DoNotSchedule");
+        Assert.assertEquals(podSpec.getAffinity().getPodAntiAffinity()
+                .getPreferredDuringSchedulingIgnoredDuringExecution().get(0).getWeight().intValue(), 50);
+        tempFile.deleteOnExit();
+    }
+
+    @Test(expectedExceptions = KubernetesPluginException.class,
+            expectedExceptionsMessageRegExp = "invalid when_unsatisfiable.*")
+    public void testInvalidWhenUnsatisfiable() throws KubernetesPluginException {
+        generateWithSpread("when_unsatisfiable=\"Never\"\n");
+    }
+
+    @Test(expectedExceptions = KubernetesPluginException.class,
+            expectedExceptionsMessageRegExp = "anti_affinity_weight must be between 1 and 100.*")
+    public void testInvalidAntiAffinityWeight() throws KubernetesPluginException {
+        generateWithSpread("anti_affinity_weight=500\n");
+    }
+
+    private void generateWithSpread(String spreadToml) throws KubernetesPluginException {
+        DeploymentModel deploymentModel = new DeploymentModel();
+        deploymentModel.setName(deploymentName);
+        deploymentModel.addPort(new ContainerPortBuilder().withContainerPort(9090).build());
+        deploymentModel.setImage(imageName);
+        deploymentModel.setReplicas(2);
+        dataHolder.setDeploymentModel(deploymentModel);
+        dataHolder.setBallerinaCloud(new Toml().read("[cloud.deployment.spread]\n" + spreadToml));
+        try {
+            new DeploymentHandler().createArtifacts();
+        } finally {
+            dataHolder.setBallerinaCloud(null);
+        }
+    }
+
+    @Test(expectedExceptions = KubernetesPluginException.class)
+    public void testInvalidQos() throws KubernetesPluginException {
+        DeploymentModel deploymentModel = new DeploymentModel();
+        deploymentModel.setName(deploymentName);
+        deploymentModel.addPort(new ContainerPortBuilder().withContainerPort(9090).build());
+        deploymentModel.setImage(imageName);
+        dataHolder.setDeploymentModel(deploymentModel);
+        dataHolder.setBallerinaCloud(new Toml().read("[cloud.deployment]\nqos=\"platinum\"\n"));
+        try {
+            new DeploymentHandler().createArtifacts();
+        } finally {
+            dataHolder.setBallerinaCloud(null);
+        }
+    }
+
+    @Test(expectedExceptions = KubernetesPluginException.class,
+            expectedExceptionsMessageRegExp = "guaranteed qos needs a cpu quantity.*invalid quantity 'two'")
+    public void testGuaranteedQosInvalidCpu() throws KubernetesPluginException {
+        DeploymentModel deploymentModel = new DeploymentModel();
+        deploymentModel.setName(deploymentName);
+        deploymentModel.addPort(new ContainerPortBuilder().withContainerPort(9090).build());
+        deploymentModel.setImage(imageName);
+        dataHolder.setDeploymentModel(deploymentModel);
+        dataHolder.setBallerinaCloud(new Toml().read("[cloud.deployment]\nmax_cpu=\"two\"\nqos=\"guaranteed\"\n"));
+        try {
+            new DeploymentHandler().createArtifacts();
+        } finally {
+            dataHolder.setBallerinaCloud(null);
+        }
+    }
+
     private void testGeneratedYAML(File yamlFile) throws IOException {
         Deployment deployment = Utils.loadYaml(yamlFile);
         Assert.assertEquals(deploymentName, deployment.getMetadata().getName());
@@ -92,5 +444,13 @@ public class KubernetesDeploymentGeneratorTests extends HandlerTestSuite {
         Assert.assertEquals(imagePullPolicy, container.getImagePullPolicy());
         Assert.assertEquals(3, container.getPorts().size());
         Assert.assertEquals(1, container.getEnv().size());
+        Assert.assertEquals(2, deployment.getSpec().getTemplate().getSpec().getTopologySpreadConstraints().size());
+        Assert.assertEquals(KubernetesConstants.TOPOLOGY_ZONE_KEY, deployment.getSpec().getTemplate().getSpec()
+                .getTopologySpreadConstraints().get(0).getTopologyKey());
+        Assert.assertEquals(1, deployment.getSpec().getTemplate().getSpec().getAffinity().getPodAntiAffinity()
+                .getPreferredDuringSchedulingIgnoredDuringExecution().size());
+        Assert.assertEquals("25%", deployment.getSpec().getStrategy().getRollingUpdate().getMaxSurge().getStrVal());
+        Assert.assertEquals(0, deployment.getSpec().getStrategy().getRollingUpdate().getMaxUnavailable().getIntVal()
+                .intValue());
     }
 }
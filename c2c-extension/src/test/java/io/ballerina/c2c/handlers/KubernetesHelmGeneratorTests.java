@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.handlers;
+
+import com.moandjiezana.toml.Toml;
+import io.ballerina.c2c.KubernetesConstants;
+import io.ballerina.c2c.exceptions.KubernetesPluginException;
+import io.ballerina.c2c.models.DeploymentModel;
+import io.ballerina.c2c.models.PodAutoscalerModel;
+import io.ballerina.c2c.models.ServiceModel;
+import io.fabric8.kubernetes.api.model.ContainerPortBuilder;
+import org.apache.commons.io.FileUtils;
+import org.ballerinax.docker.generator.models.DockerModel;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Test helm chart generation.
+ */
+public class KubernetesHelmGeneratorTests extends HandlerTestSuite {
+
+    @Test
+    public void testHelmChartGeneration() throws IOException, KubernetesPluginException {
+        DeploymentModel deploymentModel = new DeploymentModel();
+        deploymentModel.setName("hello" + KubernetesConstants.DEPLOYMENT_POSTFIX);
+        deploymentModel.addLabel(KubernetesConstants.KUBERNETES_SELECTOR_KEY, "hello");
+        deploymentModel.addPort(new ContainerPortBuilder().withContainerPort(9090).build());
+        deploymentModel.setImage("hello:latest");
+        deploymentModel.setReplicas(3);
+        deploymentModel.setSingleYAML(false);
+        PodAutoscalerModel podAutoscalerModel = new PodAutoscalerModel();
+        podAutoscalerModel.setMinReplicas(3);
+        podAutoscalerModel.setMaxReplicas(6);
+        dataHolder.setPodAutoscalerModel(podAutoscalerModel);
+        dataHolder.setDeploymentModel(deploymentModel);
+        dataHolder.setBallerinaCloud(new Toml().read("[container.image]\n" +
+                "repository=\"example.io\"\n" +
+                "name=\"hello\"\n" +
+                "tag=\"1.2.0\"\n" +
+                "[cloud.deployment.probes.liveness]\n" +
+                "path=\"/health\"\n" +
+                "[cloud.helm]\n" +
+                "version=\"1.0.0\"\n" +
+                "jvm_options=\"-XX:MaxRAMPercentage=75.0\"\n"));
+        try {
+            new DeploymentHandler().createArtifacts();
+            new HPAHandler().createArtifacts();
+            new HelmChartHandler().createArtifacts();
+        } finally {
+            dataHolder.setBallerinaCloud(null);
+            dataHolder.setPodAutoscalerModel(null);
+            dataHolder.setDockerModel(new DockerModel());
+        }
+        Path chartDir = dataHolder.getK8sArtifactOutputPath().resolve("hello");
+        String chart = read(chartDir.resolve("Chart.yaml").toFile());
+        Assert.assertTrue(chart.contains("name: hello"));
+        Assert.assertTrue(chart.contains("version: 1.0.0"));
+        Assert.assertTrue(chart.contains("appVersion: 1.2.0"));
+
+        String values = read(chartDir.resolve("values.yaml").toFile());
+        Assert.assertTrue(values.contains("replicaCount: 3"));
+        Assert.assertTrue(values.contains("image: example.io/hello:1.2.0"));
+        Assert.assertTrue(values.contains("cpu: 500m"));
+        Assert.assertTrue(values.contains("memory: 256Mi"));
+        Assert.assertTrue(values.contains("initialDelaySeconds: 30"));
+        Assert.assertTrue(values.contains("jvmOptions: -XX:MaxRAMPercentage=75.0"));
+        Assert.assertTrue(values.contains("maxReplicas: 6"));
+
+        String deployment = read(chartDir.resolve("templates").resolve("hello_deployment.yaml").toFile());
+        Assert.assertTrue(deployment.contains("replicas: {{ .Values.replicaCount }}"));
+        Assert.assertTrue(deployment.contains("image: {{ .Values.image | quote }}"));
+        Assert.assertTrue(deployment.contains("cpu: {{ .Values.resources.limits.cpu | quote }}"));
+        Assert.assertTrue(deployment.contains(
+                "initialDelaySeconds: {{ .Values.probes.liveness.initialDelaySeconds }}"));
+        Assert.assertTrue(deployment.contains("value: {{ .Values.jvmOptions | quote }}"));
+        Assert.assertFalse(deployment.contains("HELM_VALUE"));
+        String hpa = read(chartDir.resolve("templates").resolve("hello_hpa.yaml").toFile());
+        Assert.assertTrue(hpa.contains("maxReplicas: {{ .Values.autoscaling.maxReplicas }}"));
+        Assert.assertTrue(hpa.contains("averageUtilization: {{ .Values.autoscaling.targetCPUUtilizationPercentage }}"));
+    }
+
+    @Test
+    public void testKnativeHelmChartGeneration() throws IOException, KubernetesPluginException {
+        DeploymentModel deploymentModel = new DeploymentModel();
+        deploymentModel.setName("hello" + KubernetesConstants.DEPLOYMENT_POSTFIX);
+        deploymentModel.addLabel(KubernetesConstants.KUBERNETES_SELECTOR_KEY, "hello");
+        deploymentModel.setImage("hello:latest");
+        deploymentModel.setSingleYAML(false);
+        dataHolder.setDeploymentModel(deploymentModel);
+        ServiceModel serviceModel = new ServiceModel();
+        serviceModel.setName("hello-svc");
+        serviceModel.setTargetPort(9090);
+        serviceModel.setProtocol("http");
+        dataHolder.addBListenerToK8sServiceMap("helloEP", serviceModel);
+        dataHolder.setBallerinaCloud(new Toml().read("[cloud.deployment.knative]\n" +
+                "container_concurrency=50\n" +
+                "[cloud.deployment.autoscaling]\n" +
+                "min_replicas=1\n" +
+                "max_replicas=8\n" +
+                "[cloud.helm]\n" +
+                "name=\"hello-knative\"\n"));
+        try {
+            new KnativeHandler().createArtifacts();
+            new HelmChartHandler().createArtifacts();
+        } finally {
+            dataHolder.setBallerinaCloud(null);
+            dataHolder.getBListenerToK8sServiceMap().remove("helloEP");
+            dataHolder.setDockerModel(new DockerModel());
+        }
+        Path chartDir = dataHolder.getK8sArtifactOutputPath().resolve("hello-knative");
+        String values = read(chartDir.resolve("values.yaml").toFile());
+        Assert.assertTrue(values.contains("minReplicas: 1"));
+        Assert.assertTrue(values.contains("maxReplicas: 8"));
+        Assert.assertTrue(values.contains("containerConcurrency: 50"));
+
+        String service = read(chartDir.resolve("templates").resolve("hello_knative_svc.yaml").toFile());
+        Assert.assertTrue(service.contains(
+                "autoscaling.knative.dev/minScale: {{ .Values.autoscaling.minReplicas | quote }}"));
+        Assert.assertTrue(service.contains(
+                "autoscaling.knative.dev/maxScale: {{ .Values.autoscaling.maxReplicas | quote }}"));
+        Assert.assertTrue(service.contains("containerConcurrency: {{ .Values.containerConcurrency }}"));
+        Assert.assertTrue(service.contains("image: {{ .Values.image | quote }}"));
+        Files.delete(dataHolder.getK8sArtifactOutputPath().resolve("hello_knative_svc.yaml"));
+    }
+
+    @Test
+    public void testTemplateDelimitersEscaped() throws IOException, KubernetesPluginException {
+        DeploymentModel deploymentModel = new DeploymentModel();
+        deploymentModel.setName("hello" + KubernetesConstants.DEPLOYMENT_POSTFIX);
+        deploymentModel.setImage("hello:latest");
+        dataHolder.setDeploymentModel(deploymentModel);
+        Path configMapFile = dataHolder.getK8sArtifactOutputPath().resolve("hello_template_cm.yaml");
+        Files.write(configMapFile, ("apiVersion: v1\n" +
+                "kind: ConfigMap\n" +
+                "metadata:\n" +
+                "  name: hello-template\n" +
+                "data:\n" +
+                "  greeting: Hello {{ .Name }}\n").getBytes(StandardCharsets.UTF_8));
+        dataHolder.setBallerinaCloud(new Toml().read("[cloud.helm]\n" +
+                "name=\"hello-escaped\"\n"));
+        try {
+            new HelmChartHandler().createArtifacts();
+        } finally {
+            dataHolder.setBallerinaCloud(null);
+            Files.delete(configMapFile);
+        }
+        String template = FileUtils.readFileToString(dataHolder.getK8sArtifactOutputPath().resolve("hello-escaped")
+                .resolve("templates").resolve("hello_template_cm.yaml").toFile(), StandardCharsets.UTF_8);
+        Assert.assertTrue(template.contains("Hello {{ \"{{\" }} .Name {{ \"}}\" }}"), template);
+    }
+
+    private String read(File file) throws IOException {
+        Assert.assertTrue(file.exists(), file.getName());
+        return FileUtils.readFileToString(file, StandardCharsets.UTF_8).replace("\"", "");
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.handlers;
+
+import com.moandjiezana.toml.Toml;
+import io.ballerina.c2c.exceptions.KubernetesPluginException;
+import io.ballerina.c2c.models.ServiceModel;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Test istio destination rule and virtual service generation.
+ */
+public class KubernetesIstioGeneratorTests extends HandlerTestSuite {
+
+    @Test
+    public void testIstioGeneration() throws KubernetesPluginException, IOException {
+        ServiceModel serviceModel = new ServiceModel();
+        serviceModel.setName("hello-svc");
+        serviceModel.setPort(9090);
+        dataHolder.addBListenerToK8sServiceMap("helloEP", serviceModel);
+        dataHolder.getDeploymentModel().setSingleYAML(false);
+        dataHolder.setBallerinaCloud(new Toml().read("[cloud.istio.destination_rule]\n" +
+                "http2_max_requests=1000\n" +
+                "max_requests_per_connection=10\n" +
+                "max_connections=100\n" +
+                "load_balancer=\"least_conn\"\n" +
+                "[cloud.istio.destination_rule.outlier_detection]\n" +
+                "consecutive_errors=3\n" +
+                "[cloud.istio.virtual_service]\n" +
+                "timeout=5\n" +
+                "retries=2\n"));
+        try {
+            new IstioHandler().createArtifacts();
+        } finally {
+            dataHolder.setBallerinaCloud(null);
+            dataHolder.getBListenerToK8sServiceMap().remove("helloEP");
+        }
+        Path drFile = dataHolder.getK8sArtifactOutputPath().resolve("hello_istio_destination_rule.yaml");
+        Path vsFile = dataHolder.getK8sArtifactOutputPath().resolve("hello_istio_virtual_service.yaml");
+        Assert.assertTrue(Files.exists(drFile));
+        Assert.assertTrue(Files.exists(vsFile));
+        String drContent = new String(Files.readAllBytes(drFile), StandardCharsets.UTF_8);
+        Assert.assertTrue(drContent.contains("http2MaxRequests: 1000"));
+        Assert.assertTrue(drContent.contains("LEAST_CONN"));
+        String vsContent = new String(Files.readAllBytes(vsFile), StandardCharsets.UTF_8);
+        Assert.assertTrue(vsContent.contains("attempts: 2"));
+        drFile.toFile().deleteOnExit();
+        vsFile.toFile().deleteOnExit();
+    }
+
+    @Test(expectedExceptions = KubernetesPluginException.class,
+            expectedExceptionsMessageRegExp = "invalid load_balancer 'least_connection'.*least_conn.*")
+    public void testInvalidLoadBalancer() throws KubernetesPluginException {
+        ServiceModel serviceModel = new ServiceModel();
+        serviceModel.setName("hello-svc");
+        serviceModel.setPort(9090);
+        dataHolder.addBListenerToK8sServiceMap("helloEP", serviceModel);
+        dataHolder.setBallerinaCloud(new Toml().read("[cloud.istio.destination_rule]\n" +
+                "load_balancer=\"least_connection\"\n"));
+        try {
+            new IstioHandler().createArtifacts();
+        } finally {
+            dataHolder.setBallerinaCloud(null);
+            dataHolder.getBListenerToK8sServiceMap().remove("helloEP");
+        }
+    }
+}
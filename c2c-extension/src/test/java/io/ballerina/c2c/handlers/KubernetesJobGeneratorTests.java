@@ -18,12 +18,16 @@
 
 package io.ballerina.c2c.handlers;
 
+import com.moandjiezana.toml.Toml;
 import io.ballerina.c2c.KubernetesConstants;
 import io.ballerina.c2c.exceptions.KubernetesPluginException;
 import io.ballerina.c2c.models.EnvVarValueModel;
 import io.ballerina.c2c.models.JobModel;
 import io.ballerina.c2c.utils.Utils;
 import io.fabric8.kubernetes.api.model.Container;
+import io.fabric8.kubernetes.api.model.EnvVar;
+import io.fabric8.kubernetes.api.model.batch.CronJob;
+import io.fabric8.kubernetes.api.model.batch.CronJobSpec;
 import io.fabric8.kubernetes.api.model.batch.Job;
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -72,6 +76,195 @@ public class KubernetesJobGeneratorTests extends HandlerTestSuite {
         }
     }
 
+    @Test
+    public void testIndexedJobGeneration() throws IOException, KubernetesPluginException {
+        JobModel jobModel = new JobModel();
+        jobModel.setName(jobName);
+        jobModel.setImage(imageName);
+        jobModel.setSingleYAML(false);
+        dataHolder.setJobModel(jobModel);
+        dataHolder.setBallerinaCloud(new Toml().read("[cloud.job]\ncompletion_mode=\"Indexed\"\n" +
+                "completions=4\nparallelism=2\nbackoff_limit=3"));
+        try {
+            new JobHandler().createArtifacts();
+            File tempFile = dataHolder.getK8sArtifactOutputPath().resolve("hello_job.yaml").toFile();
+            Assert.assertTrue(tempFile.exists());
+            Job job = Utils.loadYaml(tempFile);
+            Assert.assertEquals(job.getSpec().getParallelism().intValue(), 2);
+            Assert.assertEquals(job.getSpec().getCompletions().intValue(), 4);
+            Assert.assertEquals(job.getSpec().getBackoffLimit().intValue(), 3);
+            Assert.assertNull(job.getSpec().getActiveDeadlineSeconds());
+            Assert.assertEquals(job.getSpec().getAdditionalProperties().get("completionMode"), "Indexed");
+            Container container = job.getSpec().getTemplate().getSpec().getContainers().get(0);
+            Map<String, EnvVar> envVars = new HashMap<>();
+            container.getEnv().forEach(envVar -> envVars.put(envVar.getName(), envVar));
+            Assert.assertEquals(envVars.get(KubernetesConstants.JOB_COMPLETION_INDEX_ENV).getValueFrom()
+                            .getFieldRef().getFieldPath(),
+                    "metadata.annotations['" + KubernetesConstants.JOB_COMPLETION_INDEX_ANNOTATION + "']");
+            Assert.assertEquals(envVars.get(KubernetesConstants.JOB_COMPLETIONS_ENV).getValue(), "4");
+            tempFile.deleteOnExit();
+        } finally {
+            dataHolder.setBallerinaCloud(null);
+        }
+    }
+
+    @Test(expectedExceptions = KubernetesPluginException.class)
+    public void testIndexedJobWithoutCompletions() throws KubernetesPluginException {
+        JobModel jobModel = new JobModel();
+        jobModel.setName(jobName);
+        jobModel.setImage(imageName);
+        jobModel.setCompletionMode(KubernetesConstants.CompletionMode.Indexed.name());
+        dataHolder.setJobModel(jobModel);
+        new JobHandler().createArtifacts();
+    }
+
+    @Test(expectedExceptions = KubernetesPluginException.class,
+            expectedExceptionsMessageRegExp = "invalid completion mode 'indexed'.*")
+    public void testInvalidCompletionMode() throws KubernetesPluginException {
+        JobModel jobModel = new JobModel();
+        jobModel.setName(jobName);
+        jobModel.setImage(imageName);
+        dataHolder.setJobModel(jobModel);
+        dataHolder.setBallerinaCloud(new Toml().read("[cloud.job]\ncompletion_mode=\"indexed\"\ncompletions=4"));
+        try {
+            new JobHandler().createArtifacts();
+        } finally {
+            dataHolder.setBallerinaCloud(null);
+        }
+    }
+
+    @Test
+    public void testIndexedCronJobGeneration() throws IOException, KubernetesPluginException {
+        JobModel jobModel = new JobModel();
+        jobModel.setName(jobName);
+        jobModel.setImage(imageName);
+        jobModel.setSchedule("0 * * * *");
+        jobModel.setSingleYAML(false);
+        dataHolder.setJobModel(jobModel);
+        dataHolder.setBallerinaCloud(new Toml().read("[cloud.job]\ncompletion_mode=\"Indexed\"\ncompletions=3"));
+        try {
+            new JobHandler().createArtifacts();
+            File tempFile = dataHolder.getK8sArtifactOutputPath().resolve("hello_job.yaml").toFile();
+            CronJob cronJob = Utils.loadYaml(tempFile);
+            Assert.assertEquals(cronJob.getSpec().getJobTemplate().getSpec().getAdditionalProperties()
+                    .get("completionMode"), "Indexed");
+            tempFile.deleteOnExit();
+        } finally {
+            dataHolder.setBallerinaCloud(null);
+        }
+    }
+
+    @Test
+    public void testCronJobGeneration() throws IOException, KubernetesPluginException {
+        JobModel jobModel = new JobModel();
+        jobModel.setName(jobName);
+        jobModel.setImage(imageName);
+        jobModel.setSchedule("*/5 * * * *");
+        jobModel.setSingleYAML(false);
+        jobModel.getNodeSelector().put("disktype", "ssd");
+        jobModel.getImagePullSecrets().add("regcred");
+        dataHolder.setJobModel(jobModel);
+        dataHolder.setBallerinaCloud(new Toml().read("[cloud.job]\nconcurrency_policy=\"Forbid\"\n" +
+                "starting_deadline_seconds=120\nsuccessful_jobs_history_limit=1\nfailed_jobs_history_limit=2\n" +
+                "ttl_seconds_after_finished=600\n[[cloud.job.tolerations]]\nkey=\"batch\"\neffect=\"NoSchedule\""));
+        try {
+            new JobHandler().createArtifacts();
+            File tempFile = dataHolder.getK8sArtifactOutputPath().resolve("hello_job.yaml").toFile();
+            Assert.assertTrue(tempFile.exists());
+            CronJob cronJob = Utils.loadYaml(tempFile);
+            CronJobSpec spec = cronJob.getSpec();
+            Assert.assertEquals(spec.getSchedule(), "*/5 * * * *");
+            Assert.assertEquals(spec.getConcurrencyPolicy(), "Forbid");
+            Assert.assertEquals(spec.getStartingDeadlineSeconds().longValue(), 120L);
+            Assert.assertEquals(spec.getSuccessfulJobsHistoryLimit().intValue(), 1);
+            Assert.assertEquals(spec.getFailedJobsHistoryLimit().intValue(), 2);
+            Assert.assertEquals(spec.getJobTemplate().getSpec().getTtlSecondsAfterFinished().intValue(), 600);
+            Assert.assertEquals(spec.getJobTemplate().getSpec().getTemplate().getSpec().getNodeSelector()
+                    .get("disktype"), "ssd");
+            Assert.assertEquals(spec.getJobTemplate().getSpec().getTemplate().getSpec().getImagePullSecrets()
+                    .get(0).getName(), "regcred");
+            Assert.assertEquals(spec.getJobTemplate().getSpec().getTemplate().getSpec().getTolerations().get(0)
+                    .getOperator(), "Exists");
+            tempFile.deleteOnExit();
+        } finally {
+            dataHolder.setBallerinaCloud(null);
+        }
+    }
+
+    @Test(expectedExceptions = KubernetesPluginException.class)
+    public void testNodeAffinityWithoutValues() throws KubernetesPluginException {
+        JobModel jobModel = new JobModel();
+        jobModel.setName(jobName);
+        jobModel.setImage(imageName);
+        dataHolder.setJobModel(jobModel);
+        dataHolder.setBallerinaCloud(new Toml().read("[[cloud.job.affinity.required]]\n" +
+                "key=\"kubernetes.io/arch\"\noperator=\"NotIn\"\n"));
+        try {
+            new JobHandler().createArtifacts();
+        } finally {
+            dataHolder.setBallerinaCloud(null);
+        }
+    }
+
+    @Test(expectedExceptions = KubernetesPluginException.class,
+            expectedExceptionsMessageRegExp = "node affinity operator Gt for key cpu-count requires exactly one value")
+    public void testNodeAffinityGtWithMultipleValues() throws KubernetesPluginException {
+        generateWithCloud("[[cloud.job.affinity.required]]\n" +
+                "key=\"cpu-count\"\noperator=\"Gt\"\nvalues=[\"2\", \"4\"]\n");
+    }
+
+    @Test(expectedExceptions = KubernetesPluginException.class,
+            expectedExceptionsMessageRegExp = "node affinity operator Lt for key cpu-count requires an integer.*")
+    public void testNodeAffinityLtWithNonIntegerValue() throws KubernetesPluginException {
+        generateWithCloud("[[cloud.job.affinity.required]]\n" +
+                "key=\"cpu-count\"\noperator=\"Lt\"\nvalues=[\"four\"]\n");
+    }
+
+    @Test(expectedExceptions = KubernetesPluginException.class,
+            expectedExceptionsMessageRegExp = "invalid toleration operator 'Matches'.*")
+    public void testInvalidTolerationOperator() throws KubernetesPluginException {
+        generateWithCloud("[[cloud.job.tolerations]]\n" +
+                "key=\"batch\"\noperator=\"Matches\"\nvalue=\"true\"\n");
+    }
+
+    @Test(expectedExceptions = KubernetesPluginException.class,
+            expectedExceptionsMessageRegExp = "invalid toleration effect 'NoRun'.*")
+    public void testInvalidTolerationEffect() throws KubernetesPluginException {
+        generateWithCloud("[[cloud.job.tolerations]]\n" +
+                "key=\"batch\"\neffect=\"NoRun\"\n");
+    }
+
+    @Test(expectedExceptions = KubernetesPluginException.class,
+            expectedExceptionsMessageRegExp = "toleration operator Exists does not accept a value.*")
+    public void testExistsTolerationWithValue() throws KubernetesPluginException {
+        generateWithCloud("[[cloud.job.tolerations]]\n" +
+                "key=\"batch\"\noperator=\"Exists\"\nvalue=\"true\"\n");
+    }
+
+    private void generateWithCloud(String cloudToml) throws KubernetesPluginException {
+        JobModel jobModel = new JobModel();
+        jobModel.setName(jobName);
+        jobModel.setImage(imageName);
+        dataHolder.setJobModel(jobModel);
+        dataHolder.setBallerinaCloud(new Toml().read(cloudToml));
+        try {
+            new JobHandler().createArtifacts();
+        } finally {
+            dataHolder.setBallerinaCloud(null);
+        }
+    }
+
+    @Test(expectedExceptions = KubernetesPluginException.class)
+    public void testInvalidConcurrencyPolicy() throws KubernetesPluginException {
+        JobModel jobModel = new JobModel();
+        jobModel.setName(jobName);
+        jobModel.setImage(imageName);
+        jobModel.setSchedule("*/5 * * * *");
+        jobModel.setConcurrencyPolicy("Queue");
+        dataHolder.setJobModel(jobModel);
+        new JobHandler().createArtifacts();
+    }
+
     private void assertGeneratedYAML(File yamlFile) throws IOException {
         Job job = Utils.loadYaml(yamlFile);
         Assert.assertEquals(jobName, job.getMetadata().getName());
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.handlers;
+
+import com.moandjiezana.toml.Toml;
+import io.ballerina.c2c.KubernetesConstants;
+import io.ballerina.c2c.exceptions.KubernetesPluginException;
+import io.ballerina.c2c.models.DeploymentModel;
+import io.ballerina.c2c.models.JobModel;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Test KEDA scaled object and scaled job generation.
+ */
+public class KubernetesKedaGeneratorTests extends HandlerTestSuite {
+
+    @Test
+    public void testScaledObjectGeneration() throws KubernetesPluginException, IOException {
+        dataHolder.addBListenerToModuleMap("consumerEP", "kafka");
+        DeploymentModel deploymentModel = new DeploymentModel();
+        deploymentModel.setName("hello" + KubernetesConstants.DEPLOYMENT_POSTFIX);
+        deploymentModel.addLabel(KubernetesConstants.KUBERNETES_SELECTOR_KEY, "hello");
+        deploymentModel.setSingleYAML(false);
+        dataHolder.setDeploymentModel(deploymentModel);
+        dataHolder.setBallerinaCloud(new Toml().read("[cloud.keda]\n" +
+                "threshold=50\n" +
+                "max_replicas=8\n" +
+                "[cloud.keda.metadata]\n" +
+                "bootstrapServers=\"kafka:9092\"\n" +
+                "topic=\"orders\"\n"));
+        try {
+            Assert.assertTrue(KedaHandler.isEnabled(dataHolder));
+            new KedaHandler().createArtifacts();
+        } finally {
+            dataHolder.setBallerinaCloud(null);
+            dataHolder.getBListenerToModuleMap().remove("consumerEP");
+        }
+        Path scaledObjectFile = dataHolder.getK8sArtifactOutputPath().resolve("hello_keda_scaled_object.yaml");
+        Assert.assertTrue(Files.exists(scaledObjectFile));
+        // Scalar quoting depends on the yaml writer, so compare unquoted.
+        String content = new String(Files.readAllBytes(scaledObjectFile), StandardCharsets.UTF_8).replace("\"", "");
+        Assert.assertTrue(content.contains("kind: ScaledObject"));
+        Assert.assertTrue(content.contains("name: hello-deployment"));
+        Assert.assertTrue(content.contains("type: kafka"));
+        Assert.assertTrue(content.contains("lagThreshold: 50"));
+        Assert.assertTrue(content.contains("topic: orders"));
+        Assert.assertTrue(content.contains("minReplicaCount: 0"));
+        Assert.assertTrue(content.contains("maxReplicaCount: 8"));
+        scaledObjectFile.toFile().deleteOnExit();
+    }
+
+    @Test
+    public void testScaledJobGeneration() throws KubernetesPluginException, IOException {
+        JobModel jobModel = new JobModel();
+        jobModel.setName("hello" + KubernetesConstants.JOB_POSTFIX);
+        jobModel.setImage("hello:latest");
+        jobModel.setSingleYAML(false);
+        dataHolder.setJobModel(jobModel);
+        dataHolder.setBallerinaCloud(new Toml().read("[cloud.keda]\n" +
+                "type=\"rabbitmq\"\n" +
+                "threshold=20\n" +
+                "[cloud.keda.metadata]\n" +
+                "queueName=\"tasks\"\n"));
+        try {
+            new JobHandler().createArtifacts();
+        } finally {
+            dataHolder.setBallerinaCloud(null);
+        }
+        Path scaledJobFile = dataHolder.getK8sArtifactOutputPath().resolve("hello_keda_scaled_job.yaml");
+        Assert.assertTrue(Files.exists(scaledJobFile));
+        String content = new String(Files.readAllBytes(scaledJobFile), StandardCharsets.UTF_8).replace("\"", "");
+        Assert.assertTrue(content.contains("kind: ScaledJob"));
+        Assert.assertTrue(content.contains("jobTargetRef:"));
+        Assert.assertTrue(content.contains("mode: QueueLength"));
+        Assert.assertTrue(content.contains("value: 20"));
+        Assert.assertTrue(content.contains("queueName: tasks"));
+        scaledJobFile.toFile().deleteOnExit();
+    }
+
+    @Test(expectedExceptions = KubernetesPluginException.class)
+    public void testUnknownScaler() throws KubernetesPluginException {
+        DeploymentModel deploymentModel = new DeploymentModel();
+        deploymentModel.setName("hello" + KubernetesConstants.DEPLOYMENT_POSTFIX);
+        dataHolder.setDeploymentModel(deploymentModel);
+        dataHolder.setBallerinaCloud(new Toml().read("[cloud.keda]\nthreshold=5\n"));
+        try {
+            new KedaHandler().createArtifacts();
+        } finally {
+            dataHolder.setBallerinaCloud(null);
+        }
+    }
+}
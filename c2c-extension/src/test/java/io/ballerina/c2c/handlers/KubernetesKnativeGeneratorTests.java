@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.handlers;
+
+import com.moandjiezana.toml.Toml;
+import io.ballerina.c2c.KubernetesConstants;
+import io.ballerina.c2c.exceptions.KubernetesPluginException;
+import io.ballerina.c2c.models.DeploymentModel;
+import io.ballerina.c2c.models.ServiceModel;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.yaml.snakeyaml.Yaml;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Test knative service generation.
+ */
+public class KubernetesKnativeGeneratorTests extends HandlerTestSuite {
+
+    @Test
+    public void testKnativeServiceGeneration() throws KubernetesPluginException, IOException {
+        DeploymentModel deploymentModel = new DeploymentModel();
+        deploymentModel.setName("hello-deployment");
+        deploymentModel.setImage("hello:latest");
+        deploymentModel.addLabel(KubernetesConstants.KUBERNETES_SELECTOR_KEY, "hello");
+        deploymentModel.setSingleYAML(false);
+        dataHolder.setDeploymentModel(deploymentModel);
+        ServiceModel serviceModel = new ServiceModel();
+        serviceModel.setName("hello-svc");
+        serviceModel.setTargetPort(9090);
+        serviceModel.setProtocol("http");
+        dataHolder.addBListenerToK8sServiceMap("helloEP", serviceModel);
+        dataHolder.setBallerinaCloud(new Toml().read("[cloud.deployment.knative]\n" +
+                "container_concurrency=50\n" +
+                "[cloud.deployment.autoscaling]\n" +
+                "max_replicas=8\n"));
+        try {
+            Assert.assertTrue(KnativeHandler.isEnabled(dataHolder));
+            new KnativeHandler().createArtifacts();
+        } finally {
+            dataHolder.setBallerinaCloud(null);
+            dataHolder.getBListenerToK8sServiceMap().remove("helloEP");
+        }
+        Path serviceFile = dataHolder.getK8sArtifactOutputPath().resolve("hello_knative_svc.yaml");
+        Assert.assertTrue(Files.exists(serviceFile));
+        String content = new String(Files.readAllBytes(serviceFile), StandardCharsets.UTF_8);
+        Assert.assertTrue(content.contains("containerConcurrency: 50"));
+        Assert.assertTrue(content.contains("autoscaling.knative.dev/target: \"35\""));
+        Assert.assertTrue(content.contains("autoscaling.knative.dev/minScale: \"0\""));
+        Assert.assertTrue(content.contains("autoscaling.knative.dev/maxScale: \"8\""));
+        Assert.assertFalse(content.contains("preStop"));
+        serviceFile.toFile().deleteOnExit();
+    }
+
+    @Test
+    public void testKnativeAutoscalingAnnotations() throws KubernetesPluginException, IOException {
+        Map<String, Object> annotations = generateAnnotations("[cloud.deployment.knative]\n" +
+                "scale_to_zero_grace_period=\"90s\"\n" +
+                "[cloud.deployment.autoscaling]\n" +
+                "min_replicas=2\n" +
+                "max_replicas=4\n");
+        Assert.assertEquals(annotations.keySet(), new HashSet<>(Arrays.asList(
+                "autoscaling.knative.dev/class",
+                "autoscaling.knative.dev/metric",
+                "autoscaling.knative.dev/target",
+                "autoscaling.knative.dev/minScale",
+                "autoscaling.knative.dev/maxScale",
+                "autoscaling.knative.dev/scale-to-zero-pod-retention-period")));
+        // An explicit minimum disables the default scale to zero.
+        Assert.assertEquals(annotations.get("autoscaling.knative.dev/minScale"), "2");
+        Assert.assertEquals(annotations.get("autoscaling.knative.dev/scale-to-zero-pod-retention-period"), "90s");
+
+        annotations = generateAnnotations("[cloud.deployment.knative]\n" +
+                "scale_to_zero=true\n" +
+                "[cloud.deployment.autoscaling]\n" +
+                "min_replicas=2\n");
+        Assert.assertEquals(annotations.get("autoscaling.knative.dev/minScale"), "0");
+        // Knative does not cap the pods when no maximum is configured.
+        Assert.assertFalse(annotations.containsKey("autoscaling.knative.dev/maxScale"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testKnativeScheduling() throws KubernetesPluginException, IOException {
+        Map<String, Object> template = generateTemplate("[cloud.deployment]\n" +
+                "priority_class_name=\"critical\"\n" +
+                "[cloud.deployment.knative]\n" +
+                "container_concurrency=10\n" +
+                "[[cloud.deployment.affinity.required]]\n" +
+                "key=\"kubernetes.io/arch\"\n" +
+                "values=[\"amd64\"]\n" +
+                "[[cloud.deployment.tolerations]]\n" +
+                "key=\"dedicated\"\n" +
+                "value=\"compute\"\n" +
+                "effect=\"NoSchedule\"\n");
+        Map<String, Object> spec = (Map<String, Object>) template.get("spec");
+        Assert.assertEquals(spec.get("priorityClassName"), "critical");
+        Map<String, Object> affinity = (Map<String, Object>) spec.get("affinity");
+        Assert.assertNotNull(affinity.get("nodeAffinity"));
+        List<Map<String, Object>> tolerations = (List<Map<String, Object>>) spec.get("tolerations");
+        Assert.assertEquals(tolerations.size(), 1);
+        Assert.assertEquals(tolerations.get(0).get("key"), "dedicated");
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> generateAnnotations(String ballerinaCloud) throws KubernetesPluginException,
+            IOException {
+        Map<String, Object> template = generateTemplate(ballerinaCloud);
+        return (Map<String, Object>) ((Map<String, Object>) template.get("metadata")).get("annotations");
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> generateTemplate(String ballerinaCloud) throws KubernetesPluginException,
+            IOException {
+        DeploymentModel deploymentModel = new DeploymentModel();
+        deploymentModel.setName("hello-deployment");
+        deploymentModel.setImage("hello:latest");
+        deploymentModel.addLabel(KubernetesConstants.KUBERNETES_SELECTOR_KEY, "hello");
+        deploymentModel.setSingleYAML(false);
+        dataHolder.setDeploymentModel(deploymentModel);
+        ServiceModel serviceModel = new ServiceModel();
+        serviceModel.setName("hello-svc");
+        serviceModel.setTargetPort(9090);
+        serviceModel.setProtocol("http");
+        dataHolder.addBListenerToK8sServiceMap("helloEP", serviceModel);
+        dataHolder.setBallerinaCloud(new Toml().read(ballerinaCloud));
+        try {
+            new KnativeHandler().createArtifacts();
+        } finally {
+            dataHolder.setBallerinaCloud(null);
+            dataHolder.getBListenerToK8sServiceMap().remove("helloEP");
+        }
+        Path serviceFile = dataHolder.getK8sArtifactOutputPath().resolve("hello_knative_svc.yaml");
+        Map<String, Object> service = new Yaml().load(new String(Files.readAllBytes(serviceFile),
+                StandardCharsets.UTF_8));
+        Files.delete(serviceFile);
+        return (Map<String, Object>) ((Map<String, Object>) service.get("spec")).get("template");
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.handlers;
+
+import com.moandjiezana.toml.Toml;
+import io.ballerina.c2c.KubernetesConstants;
+import io.ballerina.c2c.exceptions.KubernetesPluginException;
+import io.ballerina.c2c.models.DeploymentModel;
+import io.fabric8.kubernetes.api.model.ContainerPortBuilder;
+import org.apache.commons.io.FileUtils;
+import org.ballerinax.docker.generator.models.DockerModel;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+/**
+ * Test kustomize base and profile overlay generation.
+ */
+public class KubernetesKustomizeGeneratorTests extends HandlerTestSuite {
+
+    private static final String BALLERINA_CLOUD = "[cloud.deployment]\n" +
+            "replicas=2\n" +
+            "max_cpu=\"1000m\"\n" +
+            "[profile.dev.cloud.deployment]\n" +
+            "replicas=1\n" +
+            "max_memory=\"128Mi\"\n" +
+            "[profile.prod]\n" +
+            "namespace=\"prod\"\n" +
+            "[profile.prod.cloud.deployment]\n" +
+            "qos=\"guaranteed\"\n" +
+            "[profile.prod.cloud.deployment.autoscaling]\n" +
+            "min_replicas=10\n" +
+            "max_replicas=100\n";
+
+    @Test
+    public void testProfileMerge() throws KubernetesPluginException {
+        Toml dev = KustomizeHandler.getProfile(new Toml().read(BALLERINA_CLOUD), "dev");
+        Assert.assertEquals(dev.getLong("cloud.deployment.replicas").longValue(), 1L);
+        Assert.assertEquals(dev.getString("cloud.deployment.max_cpu"), "1000m");
+        Assert.assertEquals(dev.getString("cloud.deployment.max_memory"), "128Mi");
+        Assert.assertNull(dev.getTable(KustomizeHandler.PROFILE));
+    }
+
+    @Test(expectedExceptions = KubernetesPluginException.class,
+            expectedExceptionsMessageRegExp = "profile 'staging' is not defined in Ballerina.cloud")
+    public void testUnknownProfile() throws KubernetesPluginException {
+        KustomizeHandler.getProfile(new Toml().read(BALLERINA_CLOUD), "staging");
+    }
+
+    @Test
+    public void testKustomizeGeneration() throws IOException, KubernetesPluginException {
+        DeploymentModel deploymentModel = new DeploymentModel();
+        deploymentModel.setName("hello" + KubernetesConstants.DEPLOYMENT_POSTFIX);
+        deploymentModel.addLabel(KubernetesConstants.KUBERNETES_SELECTOR_KEY, "hello");
+        deploymentModel.addPort(new ContainerPortBuilder().withContainerPort(9090).build());
+        deploymentModel.setImage("hello:latest");
+        deploymentModel.setSingleYAML(false);
+        dataHolder.setDeploymentModel(deploymentModel);
+        dataHolder.setBallerinaCloud(new Toml().read(BALLERINA_CLOUD));
+        try {
+            new DeploymentHandler().createArtifacts();
+            new KustomizeHandler().createArtifacts();
+        } finally {
+            dataHolder.setBallerinaCloud(null);
+            dataHolder.setDockerModel(new DockerModel());
+        }
+        Path kustomizeDir = dataHolder.getK8sArtifactOutputPath().resolve("kustomize");
+        Assert.assertTrue(kustomizeDir.resolve("base").resolve("hello_deployment.yaml").toFile().exists());
+        Assert.assertTrue(read(kustomizeDir.resolve("base").resolve("kustomization.yaml").toFile())
+                .contains("- hello_deployment.yaml"));
+
+        Path devDir = kustomizeDir.resolve("overlays").resolve("dev");
+        String devKustomization = read(devDir.resolve("kustomization.yaml").toFile());
+        Assert.assertTrue(devKustomization.contains("- ../../base"));
+        Assert.assertTrue(devKustomization.contains("- deployment_patch.yaml"));
+        Assert.assertFalse(devKustomization.contains("namespace"));
+        String devPatch = read(devDir.resolve("deployment_patch.yaml").toFile());
+        Assert.assertTrue(devPatch.contains("name: hello-deployment"));
+        Assert.assertTrue(devPatch.contains("replicas: 1"));
+        Assert.assertTrue(devPatch.contains("memory: 128Mi"));
+        Assert.assertTrue(devPatch.contains("cpu: 1000m"));
+        Assert.assertFalse(devDir.resolve("hpa.yaml").toFile().exists());
+
+        Path prodDir = kustomizeDir.resolve("overlays").resolve("prod");
+        String prodKustomization = read(prodDir.resolve("kustomization.yaml").toFile());
+        Assert.assertTrue(prodKustomization.contains("namespace: prod"));
+        Assert.assertTrue(prodKustomization.contains("- hpa.yaml"));
+        Assert.assertTrue(prodKustomization.contains("profile: prod"));
+        String prodPatch = read(prodDir.resolve("deployment_patch.yaml").toFile());
+        Assert.assertFalse(prodPatch.contains("replicas"));
+        Assert.assertFalse(prodPatch.contains("1000m"));
+        String hpa = read(prodDir.resolve("hpa.yaml").toFile());
+        Assert.assertTrue(hpa.contains("minReplicas: 10"));
+        Assert.assertTrue(hpa.contains("maxReplicas: 100"));
+        Assert.assertTrue(hpa.contains("name: hello-deployment"));
+    }
+
+    private String read(File file) throws IOException {
+        Assert.assertTrue(file.exists(), file.getName());
+        return FileUtils.readFileToString(file, StandardCharsets.UTF_8).replace("\"", "");
+    }
+}
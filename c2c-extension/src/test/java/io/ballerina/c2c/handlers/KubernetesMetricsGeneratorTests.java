@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.handlers;
+
+import com.moandjiezana.toml.Toml;
+import io.ballerina.c2c.KubernetesConstants;
+import io.ballerina.c2c.exceptions.KubernetesPluginException;
+import io.ballerina.c2c.models.DeploymentModel;
+import io.ballerina.c2c.utils.Utils;
+import io.fabric8.kubernetes.api.model.Service;
+import io.fabric8.kubernetes.api.model.ServicePort;
+import io.fabric8.kubernetes.api.model.apps.Deployment;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.yaml.snakeyaml.Yaml;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Test metrics scrape wiring.
+ */
+public class KubernetesMetricsGeneratorTests extends HandlerTestSuite {
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testMetricsGeneration() throws KubernetesPluginException, IOException {
+        DeploymentModel deploymentModel = new DeploymentModel();
+        deploymentModel.setName("MyDeployment");
+        deploymentModel.setImage("hello:latest");
+        deploymentModel.addLabel(KubernetesConstants.KUBERNETES_SELECTOR_KEY, "hello");
+        deploymentModel.setSingleYAML(false);
+        dataHolder.setDeploymentModel(deploymentModel);
+        dataHolder.setBallerinaCloud(new Toml().read("[cloud.deployment.metrics]\n" +
+                "port=9898\n" +
+                "path=\"/stats\"\n" +
+                "interval=\"15s\"\n" +
+                "service_monitor=true\n"));
+        try {
+            new MetricsHandler().createArtifacts();
+            new DeploymentHandler().createArtifacts();
+        } finally {
+            dataHolder.setBallerinaCloud(null);
+        }
+        Assert.assertEquals(deploymentModel.getPorts().size(), 1);
+        Assert.assertEquals(deploymentModel.getPorts().get(0).getContainerPort().intValue(), 9898);
+        Assert.assertTrue(deploymentModel.getCommandArgs().contains("prometheus.port=9898"));
+
+        // the pod template carries the prometheus scrape annotations.
+        File deploymentFile = dataHolder.getK8sArtifactOutputPath().resolve("hello_deployment.yaml").toFile();
+        Deployment deployment = Utils.loadYaml(deploymentFile);
+        Map<String, String> podAnnotations = deployment.getSpec().getTemplate().getMetadata().getAnnotations();
+        Assert.assertEquals(podAnnotations.get("prometheus.io/scrape"), "true");
+        Assert.assertEquals(podAnnotations.get("prometheus.io/port"), "9898");
+        Assert.assertEquals(podAnnotations.get("prometheus.io/path"), "/stats");
+
+        // the metrics service exposes the named port of the pods.
+        File serviceFile = dataHolder.getK8sArtifactOutputPath().resolve("hello_svc.yaml").toFile();
+        Service service = Utils.loadYaml(serviceFile);
+        Assert.assertEquals(service.getMetadata().getLabels().get(KubernetesConstants.METRICS_PORT_NAME), "true");
+        ServicePort servicePort = service.getSpec().getPorts().get(0);
+        Assert.assertEquals(servicePort.getName(), KubernetesConstants.METRICS_PORT_NAME);
+        Assert.assertEquals(servicePort.getPort().intValue(), 9898);
+        Assert.assertEquals(servicePort.getTargetPort().getIntVal().intValue(), 9898);
+        Assert.assertEquals(service.getSpec().getSelector().get(KubernetesConstants.KUBERNETES_SELECTOR_KEY),
+                "hello");
+
+        // the service monitor selects the metrics service and scrapes the configured path.
+        File monitorFile = dataHolder.getK8sArtifactOutputPath().resolve("hello_service_monitor.yaml").toFile();
+        Map<String, Object> monitor = new Yaml().load(new String(Files.readAllBytes(monitorFile.toPath()),
+                StandardCharsets.UTF_8));
+        Assert.assertEquals(monitor.get("kind"), "ServiceMonitor");
+        Map<String, Object> spec = (Map<String, Object>) monitor.get("spec");
+        Map<String, Object> matchLabels = (Map<String, Object>) ((Map<String, Object>) spec.get("selector"))
+                .get("matchLabels");
+        Assert.assertEquals(matchLabels.get(KubernetesConstants.KUBERNETES_SELECTOR_KEY), "hello");
+        Assert.assertEquals(matchLabels.get(KubernetesConstants.METRICS_PORT_NAME), "true");
+        Map<String, Object> endpoint = ((List<Map<String, Object>>) spec.get("endpoints")).get(0);
+        Assert.assertEquals(endpoint.get("port"), KubernetesConstants.METRICS_PORT_NAME);
+        Assert.assertEquals(endpoint.get("path"), "/stats");
+        Assert.assertEquals(endpoint.get("interval"), "15s");
+        deploymentFile.deleteOnExit();
+        serviceFile.deleteOnExit();
+        monitorFile.deleteOnExit();
+    }
+}
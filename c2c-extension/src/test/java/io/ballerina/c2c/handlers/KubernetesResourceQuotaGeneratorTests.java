@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.handlers;
+
+import com.moandjiezana.toml.Toml;
+import io.ballerina.c2c.KubernetesConstants;
+import io.ballerina.c2c.exceptions.KubernetesPluginException;
+import io.ballerina.c2c.models.DeploymentModel;
+import io.ballerina.c2c.models.PodAutoscalerModel;
+import io.ballerina.c2c.models.ResourceQuotaModel;
+import io.fabric8.kubernetes.api.model.DeploymentStrategyBuilder;
+import io.fabric8.kubernetes.api.model.IntOrString;
+import io.fabric8.kubernetes.api.model.LimitRange;
+import io.fabric8.kubernetes.api.model.Quantity;
+import io.fabric8.kubernetes.api.model.ResourceQuota;
+import io.fabric8.kubernetes.client.utils.Serialization;
+import org.apache.commons.io.FileUtils;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * Test kubernetes resource quota and limit range generation.
+ */
+public class KubernetesResourceQuotaGeneratorTests extends HandlerTestSuite {
+
+    private DeploymentModel getDeploymentModel() {
+        DeploymentModel deploymentModel = new DeploymentModel();
+        deploymentModel.setName("hello" + KubernetesConstants.DEPLOYMENT_POSTFIX);
+        deploymentModel.setReplicas(2);
+        deploymentModel.setSingleYAML(false);
+        deploymentModel.setStrategy(new DeploymentStrategyBuilder()
+                .withType(KubernetesConstants.DeploymentStrategyType.RollingUpdate.name())
+                .withNewRollingUpdate()
+                .withMaxSurge(new IntOrString(1))
+                .withMaxUnavailable(new IntOrString(0))
+                .endRollingUpdate()
+                .build());
+        PodAutoscalerModel podAutoscalerModel = new PodAutoscalerModel();
+        podAutoscalerModel.setMinReplicas(2);
+        podAutoscalerModel.setMaxReplicas(4);
+        deploymentModel.setPodAutoscalerModel(podAutoscalerModel);
+        return deploymentModel;
+    }
+
+    @Test
+    public void testResourceQuotaGeneration() throws IOException, KubernetesPluginException {
+        dataHolder.setDeploymentModel(getDeploymentModel());
+        dataHolder.setResourceQuotaModel(new ResourceQuotaModel());
+        try {
+            new ResourceQuotaHandler().createArtifacts();
+            File yamlFile = dataHolder.getK8sArtifactOutputPath().resolve("hello_resource_quota.yaml").toFile();
+            Assert.assertTrue(yamlFile.exists());
+            String[] documents = FileUtils.readFileToString(yamlFile, StandardCharsets.UTF_8).split("(?m)^---\\s*$");
+            ResourceQuota resourceQuota = Serialization.unmarshal(documents[1], ResourceQuota.class);
+            Assert.assertEquals(resourceQuota.getMetadata().getName(), "hello-quota");
+            // 4 replicas at the autoscaler maximum plus 1 pod of rolling update surge.
+            Map<String, Quantity> hard = resourceQuota.getSpec().getHard();
+            Assert.assertEquals(hard.get("pods").getAmount(), "5");
+            Assert.assertEquals(hard.get("limits.cpu").getAmount(), "2500");
+            Assert.assertEquals(hard.get("limits.memory").getAmount(), "1280");
+            Assert.assertEquals(hard.get("requests.cpu").getAmount(), "1000");
+            Assert.assertEquals(hard.get("requests.memory").getAmount(), "500");
+
+            LimitRange limitRange = Serialization.unmarshal(documents[2], LimitRange.class);
+            Assert.assertEquals(limitRange.getMetadata().getName(), "hello-limit-range");
+            Assert.assertEquals(limitRange.getSpec().getLimits().get(0).getType(), "Container");
+            Assert.assertEquals(limitRange.getSpec().getLimits().get(0).getDefault().get("cpu").getAmount(), "500");
+            Assert.assertEquals(limitRange.getSpec().getLimits().get(0).getDefaultRequest().get("memory")
+                    .getAmount(), "100");
+        } finally {
+            dataHolder.setResourceQuotaModel(null);
+        }
+    }
+
+    @Test
+    public void testResourceQuotaFromToml() throws IOException, KubernetesPluginException {
+        dataHolder.setDeploymentModel(getDeploymentModel());
+        dataHolder.setBallerinaCloud(new Toml().read("[cloud.resource_quota]\n" +
+                "name=\"team-quota\"\n" +
+                "limit_range=false\n" +
+                "[cloud.resource_quota.hard]\n" +
+                "pods=\"20\"\n"));
+        try {
+            new ResourceQuotaHandler().createArtifacts();
+            File yamlFile = dataHolder.getK8sArtifactOutputPath().resolve("hello_resource_quota.yaml").toFile();
+            ResourceQuota resourceQuota = Serialization.unmarshal(FileUtils.readFileToString(yamlFile,
+                    StandardCharsets.UTF_8), ResourceQuota.class);
+            Assert.assertEquals(resourceQuota.getMetadata().getName(), "team-quota");
+            Map<String, Quantity> hard = resourceQuota.getSpec().getHard();
+            Assert.assertEquals(hard.get("pods").getAmount(), "20");
+            Assert.assertEquals(hard.get("limits.cpu").getAmount(), "2500");
+            Assert.assertEquals(hard.get("limits.memory").getAmount(), "1280");
+            Assert.assertFalse(FileUtils.readFileToString(yamlFile, StandardCharsets.UTF_8).contains("LimitRange"));
+        } finally {
+            dataHolder.setBallerinaCloud(null);
+        }
+    }
+
+    @Test
+    public void testResourceQuotaWithQuotedKey() throws IOException, KubernetesPluginException {
+        dataHolder.setDeploymentModel(getDeploymentModel());
+        dataHolder.setBallerinaCloud(new Toml().read("[cloud.resource_quota]\n" +
+                "limit_range=false\n" +
+                "[cloud.resource_quota.hard]\n" +
+                "\"limits.cpu\"=\"4\"\n"));
+        try {
+            new ResourceQuotaHandler().createArtifacts();
+            File yamlFile = dataHolder.getK8sArtifactOutputPath().resolve("hello_resource_quota.yaml").toFile();
+            ResourceQuota resourceQuota = Serialization.unmarshal(FileUtils.readFileToString(yamlFile,
+                    StandardCharsets.UTF_8), ResourceQuota.class);
+            Map<String, Quantity> hard = resourceQuota.getSpec().getHard();
+            Assert.assertEquals(hard.get("limits.cpu").getAmount(), "4");
+            Assert.assertFalse(hard.containsKey("\"limits.cpu\""));
+        } finally {
+            dataHolder.setBallerinaCloud(null);
+        }
+    }
+
+    @Test(expectedExceptions = KubernetesPluginException.class,
+            expectedExceptionsMessageRegExp = "max_surge must be an integer or a percentage.*")
+    public void testInvalidSurgePercentage() throws KubernetesPluginException {
+        DeploymentModel deploymentModel = getDeploymentModel();
+        deploymentModel.getStrategy().getRollingUpdate().setMaxSurge(new IntOrString("a quarter"));
+        dataHolder.setDeploymentModel(deploymentModel);
+        dataHolder.setResourceQuotaModel(new ResourceQuotaModel());
+        try {
+            new ResourceQuotaHandler().createArtifacts();
+        } finally {
+            dataHolder.setResourceQuotaModel(null);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.handlers;
+
+import com.moandjiezana.toml.Toml;
+import io.ballerina.c2c.exceptions.KubernetesPluginException;
+import io.ballerina.c2c.models.SecretModel;
+import io.ballerina.c2c.utils.KubernetesUtils;
+import io.ballerina.c2c.utils.Utils;
+import io.fabric8.kubernetes.api.model.Secret;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Test secret generation.
+ */
+public class KubernetesSecretGeneratorTests extends HandlerTestSuite {
+
+    @Test
+    public void testSecretGenerate() throws IOException, KubernetesPluginException {
+        Secret secret = generate(null);
+        Assert.assertEquals(secret.getMetadata().getName(), "hello-secret");
+        Assert.assertEquals(secret.getData().get("password"), "c2VjcmV0");
+        Assert.assertNull(secret.getAdditionalProperties().get("immutable"));
+    }
+
+    @Test
+    public void testImmutableSecretGenerate() throws IOException, KubernetesPluginException {
+        Toml ballerinaCloud = new Toml().read("[cloud.config]\nimmutable=true\n");
+        Secret secret = generate(ballerinaCloud);
+        String name = secret.getMetadata().getName();
+        Assert.assertTrue(name.matches("hello-secret-[0-9a-f]{10}"), name);
+        Assert.assertEquals(name, KubernetesUtils.getConfigObjectName("hello-secret", secret.getData(),
+                ballerinaCloud));
+        Assert.assertEquals(secret.getAdditionalProperties().get("immutable"), true);
+    }
+
+    private Secret generate(Toml ballerinaCloud) throws IOException, KubernetesPluginException {
+        SecretModel secretModel = new SecretModel();
+        secretModel.setName("hello-secret");
+        secretModel.setMountPath("/home/secrets");
+        Map<String, String> data = Collections.singletonMap("password", "c2VjcmV0");
+        secretModel.setData(data);
+        Set<SecretModel> previous = new HashSet<>(dataHolder.getSecretModelSet());
+        dataHolder.getSecretModelSet().clear();
+        dataHolder.addSecrets(Collections.singleton(secretModel));
+        dataHolder.setBallerinaCloud(ballerinaCloud);
+        try {
+            new SecretHandler().createArtifacts();
+        } finally {
+            dataHolder.setBallerinaCloud(null);
+            dataHolder.getSecretModelSet().clear();
+            dataHolder.addSecrets(previous);
+        }
+        File secretFile = dataHolder.getK8sArtifactOutputPath().resolve("hello_secret.yaml").toFile();
+        Assert.assertTrue(secretFile.exists());
+        return Utils.loadYaml(secretFile);
+    }
+}
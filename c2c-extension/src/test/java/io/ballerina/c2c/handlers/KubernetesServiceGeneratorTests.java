@@ -18,6 +18,7 @@
 
 package io.ballerina.c2c.handlers;
 
+import com.moandjiezana.toml.Toml;
 import io.ballerina.c2c.KubernetesConstants;
 import io.ballerina.c2c.exceptions.KubernetesPluginException;
 import io.ballerina.c2c.models.ServiceModel;
@@ -28,6 +29,8 @@ import org.testng.annotations.Test;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -67,6 +70,108 @@ public class KubernetesServiceGeneratorTests extends HandlerTestSuite {
         }
     }
 
+    @Test
+    public void testHeadlessGrpcServiceGeneration() throws IOException, KubernetesPluginException {
+        ServiceModel serviceModel = new ServiceModel();
+        serviceModel.setName(serviceName);
+        serviceModel.setPort(port);
+        serviceModel.setProtocol("grpc");
+        dataHolder.getBListenerToK8sServiceMap().clear();
+        dataHolder.addBListenerToK8sServiceMap("GrpcService", serviceModel);
+        dataHolder.setBallerinaCloud(new Toml().read("[cloud.service]\nheadless=true\n"));
+        try {
+            new ServiceHandler().createArtifacts();
+        } finally {
+            dataHolder.setBallerinaCloud(null);
+            dataHolder.getBListenerToK8sServiceMap().remove("GrpcService");
+        }
+        File tempFile = dataHolder.getK8sArtifactOutputPath().resolve("hello_svc.yaml").toFile();
+        Assert.assertTrue(tempFile.exists());
+        Service service = Utils.loadYaml(tempFile);
+        Assert.assertEquals(service.getSpec().getClusterIP(), KubernetesConstants.CLUSTER_IP_NONE);
+        Assert.assertEquals(service.getSpec().getPorts().get(0).getAdditionalProperties().get("appProtocol"), "grpc");
+        tempFile.deleteOnExit();
+    }
+
+    @Test
+    public void testMultiListenerServiceGeneration() throws IOException, KubernetesPluginException {
+        dataHolder.getBListenerToK8sServiceMap().clear();
+        dataHolder.addBListenerToK8sServiceMap("helloEP", getServiceModel("helloep-svc", "http", 9090));
+        dataHolder.addBListenerToK8sServiceMap("adminEP", getServiceModel("adminep-svc", "http", 9091));
+        try {
+            new ServiceHandler().createArtifacts();
+        } finally {
+            dataHolder.getBListenerToK8sServiceMap().clear();
+        }
+        File tempFile = dataHolder.getK8sArtifactOutputPath().resolve("hello_svc.yaml").toFile();
+        Assert.assertTrue(tempFile.exists());
+        Service service = Utils.loadYaml(tempFile);
+        Assert.assertEquals(service.getMetadata().getName(), "hello" + KubernetesConstants.SVC_POSTFIX);
+        Assert.assertEquals(service.getSpec().getPorts().size(), 2);
+        Assert.assertEquals(service.getSpec().getPorts().get(0).getName(), "http-helloep-sv");
+        Assert.assertEquals(service.getSpec().getPorts().get(1).getName(), "http-adminep-sv");
+        tempFile.deleteOnExit();
+    }
+
+    @Test
+    public void testSplitListenerServiceGeneration() throws IOException, KubernetesPluginException {
+        dataHolder.getBListenerToK8sServiceMap().clear();
+        dataHolder.addBListenerToK8sServiceMap("helloEP", getServiceModel("helloep-svc", "http", 9090));
+        dataHolder.addBListenerToK8sServiceMap("adminEP", getServiceModel("adminep-svc", "http", 9091));
+        dataHolder.setBallerinaCloud(new Toml().read("[cloud.service]\nsplit=true\n"));
+        try {
+            new ServiceHandler().createArtifacts();
+        } finally {
+            dataHolder.setBallerinaCloud(null);
+            dataHolder.getBListenerToK8sServiceMap().clear();
+        }
+        File tempFile = dataHolder.getK8sArtifactOutputPath().resolve("hello_svc.yaml").toFile();
+        Assert.assertTrue(tempFile.exists());
+        String content = new String(Files.readAllBytes(tempFile.toPath()), StandardCharsets.UTF_8).replace("\"", "");
+        Assert.assertTrue(content.contains("name: helloep-svc"));
+        Assert.assertTrue(content.contains("name: adminep-svc"));
+        tempFile.deleteOnExit();
+    }
+
+    @Test(expectedExceptions = KubernetesPluginException.class)
+    public void testMultiListenerPortClash() throws KubernetesPluginException {
+        dataHolder.getBListenerToK8sServiceMap().clear();
+        dataHolder.addBListenerToK8sServiceMap("helloEP", getServiceModel("helloep-svc", "http", 9090));
+        dataHolder.addBListenerToK8sServiceMap("grpcEP", getServiceModel("grpcep-svc", "grpc", 9090));
+        try {
+            new ServiceHandler().createArtifacts();
+        } finally {
+            dataHolder.getBListenerToK8sServiceMap().clear();
+        }
+    }
+
+    private ServiceModel getServiceModel(String name, String protocol, int port) {
+        ServiceModel serviceModel = new ServiceModel();
+        serviceModel.setName(name);
+        serviceModel.setProtocol(protocol);
+        serviceModel.setPort(port);
+        serviceModel.setTargetPort(port);
+        return serviceModel;
+    }
+
+    @Test(expectedExceptions = KubernetesPluginException.class)
+    public void testHeadlessNodePortService() throws KubernetesPluginException {
+        ServiceModel serviceModel = new ServiceModel();
+        serviceModel.setName(serviceName);
+        serviceModel.setPort(port);
+        serviceModel.setProtocol("http2");
+        serviceModel.setServiceType(serviceType);
+        dataHolder.getBListenerToK8sServiceMap().clear();
+        dataHolder.addBListenerToK8sServiceMap("Http2Service", serviceModel);
+        dataHolder.setBallerinaCloud(new Toml().read("[cloud.service]\nheadless=true\n"));
+        try {
+            new ServiceHandler().createArtifacts();
+        } finally {
+            dataHolder.setBallerinaCloud(null);
+            dataHolder.getBListenerToK8sServiceMap().remove("Http2Service");
+        }
+    }
+
     private void assertGeneratedYAML(File yamlFile) throws IOException {
         Service service = Utils.loadYaml(yamlFile);
         Assert.assertEquals(serviceName, service.getMetadata().getName());
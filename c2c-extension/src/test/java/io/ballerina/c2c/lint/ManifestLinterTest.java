@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.lint;
+
+import com.moandjiezana.toml.Toml;
+import io.ballerina.c2c.exceptions.KubernetesPluginException;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Test performance lint rules over generated manifests.
+ */
+public class ManifestLinterTest {
+
+    private static final String DEPLOYMENT = "apiVersion: apps/v1\n" +
+            "kind: Deployment\n" +
+            "metadata:\n" +
+            "  name: hello-deployment\n" +
+            "spec:\n" +
+            "  replicas: 1\n" +
+            "  template:\n" +
+            "    spec:\n" +
+            "      containers:\n" +
+            "      - name: hello\n" +
+            "        image: hello:latest\n" +
+            "        imagePullPolicy: IfNotPresent\n" +
+            "        resources:\n" +
+            "          requests:\n" +
+            "            memory: 100Mi\n" +
+            "          limits:\n" +
+            "            cpu: 500m\n" +
+            "            memory: 1Gi\n" +
+            "        livenessProbe:\n" +
+            "          initialDelaySeconds: 0\n" +
+            "          periodSeconds: 5\n" +
+            "        lifecycle:\n" +
+            "          preStop:\n" +
+            "            exec:\n" +
+            "              command: [sh, -c, sleep 40]\n";
+    private static final String HPA = "apiVersion: autoscaling/v1\n" +
+            "kind: HorizontalPodAutoscaler\n" +
+            "metadata:\n" +
+            "  name: hello-hpa\n" +
+            "spec:\n" +
+            "  minReplicas: 2\n" +
+            "  maxReplicas: 2\n" +
+            "  targetCPUUtilizationPercentage: 50\n" +
+            "  scaleTargetRef:\n" +
+            "    apiVersion: apps/v1\n" +
+            "    kind: Deployment\n" +
+            "    name: hello-deployment\n";
+
+    private static List<String> check(LintRule rule, String yaml, String config) {
+        return rule.check(ManifestLinter.parse(yaml), new Toml().read(config));
+    }
+
+    @Test
+    public void testRules() {
+        Assert.assertEquals(check(new MissingLimitsRule(), DEPLOYMENT, "").size(), 0);
+        Assert.assertEquals(check(new RequestLimitRatioRule(), DEPLOYMENT, "").size(), 1);
+        Assert.assertEquals(check(new RequestLimitRatioRule(), DEPLOYMENT, "max_ratio = 20.0").size(), 0);
+        Assert.assertEquals(check(new LivenessProbeStartupRule(), DEPLOYMENT, "").size(), 1);
+        Assert.assertEquals(check(new LivenessProbeStartupRule(), DEPLOYMENT, "startup_seconds = 10").size(), 0);
+        Assert.assertEquals(check(new SingleReplicaRule(), DEPLOYMENT, "").size(), 1);
+        Assert.assertEquals(check(new SingleReplicaRule(), DEPLOYMENT + "---\n" + HPA, "").size(), 0);
+        Assert.assertEquals(check(new LatestImageRule(), DEPLOYMENT, "").size(), 1);
+        Assert.assertEquals(check(new PreStopSleepRule(), DEPLOYMENT, "").size(), 1);
+        Assert.assertEquals(check(new HpaFixedReplicasRule(), HPA, "").size(), 1);
+        Assert.assertEquals(check(new HpaCpuWithoutRequestRule(), DEPLOYMENT + "---\n" + HPA, "").size(), 1);
+    }
+
+    @Test
+    public void testSingleReplicaTargets() {
+        String labelledDeployment = DEPLOYMENT.replace("  template:\n", "  template:\n" +
+                "    metadata:\n" +
+                "      labels:\n" +
+                "        app: hello\n");
+        String pdb = "apiVersion: policy/v1\n" +
+                "kind: PodDisruptionBudget\n" +
+                "metadata:\n" +
+                "  name: hello-pdb\n" +
+                "spec:\n" +
+                "  minAvailable: 1\n" +
+                "  selector:\n" +
+                "    matchLabels:\n" +
+                "      app: hello\n";
+        SingleReplicaRule rule = new SingleReplicaRule();
+        Assert.assertEquals(check(rule, labelledDeployment + "---\n" + pdb, "").size(), 0);
+        // a budget for other pods does not protect this deployment.
+        Assert.assertEquals(check(rule, labelledDeployment + "---\n" + pdb.replace("app: hello", "app: other"), "")
+                .size(), 1);
+        // an autoscaler with the same name for another kind does not scale this deployment.
+        Assert.assertEquals(check(rule, DEPLOYMENT + "---\n" + HPA.replace("kind: Deployment", "kind: StatefulSet"),
+                "").size(), 1);
+    }
+
+    @Test
+    public void testMalformedQuantityIsSkipped() {
+        String deployment = DEPLOYMENT.replace("cpu: 500m", "cpu: lots");
+        Assert.assertEquals(check(new RequestLimitRatioRule(), deployment, "").size(), 1);
+        Assert.assertEquals(check(new RequestLimitRatioRule(), deployment.replace("memory: 1Gi", "memory: 1Gx"), "")
+                .size(), 0);
+    }
+
+    @Test
+    public void testImageTags() {
+        Assert.assertTrue(LatestImageRule.isLatest("hello"));
+        Assert.assertTrue(LatestImageRule.isLatest("localhost:5000/hello:latest"));
+        Assert.assertFalse(LatestImageRule.isLatest("localhost:5000/hello"));
+        Assert.assertFalse(LatestImageRule.isLatest("hello:1.0.0"));
+        Assert.assertFalse(LatestImageRule.isLatest("hello@sha256:abc"));
+    }
+
+    @Test
+    public void testSeverityConfiguration() throws KubernetesPluginException {
+        List<Map<String, Object>> objects = ManifestLinter.parse(DEPLOYMENT + "---\n" + HPA);
+        Toml ballerinaCloud = new Toml().read("[cloud.lint.rules.prestop_exceeds_grace]\n" +
+                "severity = \"off\"\n" +
+                "[cloud.lint.rules.hpa_cpu_without_request]\n" +
+                "severity = \"warning\"\n");
+        Assert.assertEquals(new ManifestLinter(ballerinaCloud).check(objects).size(), 0);
+        Assert.assertEquals(new ManifestLinter(null).check(objects).size(), 2);
+        Toml failOnWarning = new Toml().read("[cloud.lint]\nfail_on_warning = true\n");
+        List<String> errors = new ManifestLinter(failOnWarning, Collections.singletonList(new LatestImageRule()))
+                .check(objects);
+        Assert.assertEquals(errors.size(), 1);
+        Assert.assertTrue(errors.get(0).startsWith("[latest_if_not_present]"));
+        Assert.assertFalse(ManifestLinter.isEnabled(new Toml().read("[cloud.lint]\nenable = false\n")));
+    }
+
+    @Test(expectedExceptions = KubernetesPluginException.class)
+    public void testErrorFailsBuild() throws KubernetesPluginException, IOException {
+        Path artifactDir = Files.createTempDirectory("c2c-lint-");
+        Files.write(artifactDir.resolve("hello.yaml"), DEPLOYMENT.getBytes(StandardCharsets.UTF_8));
+        new ManifestLinter(null).lintDirectory(artifactDir);
+    }
+
+    @Test(expectedExceptions = KubernetesPluginException.class)
+    public void testInvalidSeverity() throws KubernetesPluginException {
+        Toml ballerinaCloud = new Toml().read("[cloud.lint.rules.single_replica]\nseverity = \"fatal\"\n");
+        new ManifestLinter(ballerinaCloud).check(ManifestLinter.parse(DEPLOYMENT));
+    }
+}
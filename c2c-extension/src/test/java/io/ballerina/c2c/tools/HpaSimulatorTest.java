@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.tools;
+
+import io.ballerina.c2c.exceptions.KubernetesPluginException;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+
+/**
+ * Test the offline HPA control loop simulation.
+ */
+public class HpaSimulatorTest {
+
+    private static final String MANIFEST = "apiVersion: apps/v1\n" +
+            "kind: Deployment\n" +
+            "metadata:\n" +
+            "  name: hello-deployment\n" +
+            "spec:\n" +
+            "  template:\n" +
+            "    spec:\n" +
+            "      containers:\n" +
+            "      - name: hello\n" +
+            "        resources:\n" +
+            "          requests:\n" +
+            "            cpu: 500m\n" +
+            "---\n" +
+            "apiVersion: autoscaling/v2beta2\n" +
+            "kind: HorizontalPodAutoscaler\n" +
+            "metadata:\n" +
+            "  name: hello-hpa\n" +
+            "spec:\n" +
+            "  minReplicas: 1\n" +
+            "  maxReplicas: 10\n" +
+            "  metrics:\n" +
+            "  - type: Resource\n" +
+            "    resource:\n" +
+            "      name: cpu\n" +
+            "      target:\n" +
+            "        type: Utilization\n" +
+            "        averageUtilization: 50\n";
+
+    @Test
+    public void testParseManifest() throws KubernetesPluginException {
+        HpaSimulator.Autoscaler autoscaler = HpaSimulator.Autoscaler.parse(MANIFEST);
+        Assert.assertEquals(autoscaler.getMinReplicas(), 1);
+        Assert.assertEquals(autoscaler.getMaxReplicas(), 10);
+        Assert.assertEquals(autoscaler.getCpuTarget(), 50);
+        Assert.assertEquals(autoscaler.getCpuRequestMillis(), 500.0);
+    }
+
+    @Test
+    public void testParseTrace() throws KubernetesPluginException {
+        double[] load = HpaSimulator.parseTrace(Arrays.asList("second,rps", "0,10", "3,20", "5,0"));
+        Assert.assertEquals(load.length, 6);
+        Assert.assertEquals(load[2], 10.0);
+        Assert.assertEquals(load[3], 20.0);
+        Assert.assertEquals(load[5], 0.0);
+    }
+
+    @Test
+    public void testScaleUpAndDown() throws KubernetesPluginException {
+        HpaSimulator.Autoscaler autoscaler = HpaSimulator.Autoscaler.parse(MANIFEST);
+        HpaSimulator.CapacityModel capacity = new HpaSimulator.CapacityModel(100, 4, 20, 30);
+        double[] load = HpaSimulator.parseTrace(Arrays.asList("0,50", "300,400", "900,50", "1800,50"));
+        HpaSimulator.Result result = HpaSimulator.simulate(autoscaler, capacity, load);
+        // 400 req/s at 4m per request needs 7 pods of 500m to stay under 50%.
+        Assert.assertEquals(result.getPeakReplicas(), 7);
+        // pods are saturated until the new replicas are ready.
+        Assert.assertTrue(result.getViolationSeconds() > 0 && result.getViolationSeconds() < 120);
+        Assert.assertTrue(result.toCsv().contains("\n1260,50.0,2,2,"));
+        Assert.assertTrue(result.toCsv().endsWith("\n1800,50.0,1,1,44.0,false\n"));
+    }
+
+    @Test
+    public void testScaleDownStabilization() throws KubernetesPluginException {
+        HpaSimulator.Autoscaler autoscaler = HpaSimulator.Autoscaler.parse(MANIFEST + "  behavior:\n" +
+                "    scaleDown:\n" +
+                "      stabilizationWindowSeconds: 0\n");
+        HpaSimulator.CapacityModel capacity = new HpaSimulator.CapacityModel(100, 4, 20, 30);
+        double[] load = HpaSimulator.parseTrace(Arrays.asList("0,50", "300,400", "900,50", "1200,50"));
+        HpaSimulator.Result result = HpaSimulator.simulate(autoscaler, capacity, load);
+        // without a stabilization window the replicas drop at the first sync after the load drops.
+        Assert.assertTrue(result.toCsv().contains("\n900,50.0,2,7,"));
+    }
+
+    @Test(expectedExceptions = KubernetesPluginException.class)
+    public void testMissingTrace() throws KubernetesPluginException {
+        HpaSimulator.parseArgs(new String[]{"--manifest", "hello.yaml", "--pod-capacity", "100"});
+    }
+
+    @Test(expectedExceptions = KubernetesPluginException.class,
+            expectedExceptionsMessageRegExp = "--pod-capacity must be a positive number. Found 0")
+    public void testInvalidPodCapacity() throws KubernetesPluginException {
+        HpaSimulator.parseArgs(new String[]{"--manifest", "hello.yaml", "--trace", "trace.csv", "--pod-capacity",
+                "0"});
+    }
+
+    @Test(expectedExceptions = KubernetesPluginException.class,
+            expectedExceptionsMessageRegExp = "--startup must be an integer of at least 1. Found ten")
+    public void testInvalidStartup() throws KubernetesPluginException {
+        HpaSimulator.parseArgs(new String[]{"--manifest", "hello.yaml", "--trace", "trace.csv", "--pod-capacity",
+                "100", "--startup", "ten"});
+    }
+
+    @Test(expectedExceptions = KubernetesPluginException.class,
+            expectedExceptionsMessageRegExp = "--min-replicas must not be greater than --max-replicas")
+    public void testMinReplicasAboveMax() throws KubernetesPluginException {
+        HpaSimulator.parseArgs(new String[]{"--manifest", "hello.yaml", "--trace", "trace.csv", "--pod-capacity",
+                "100", "--min-replicas", "5", "--max-replicas", "2"});
+    }
+
+    @Test(expectedExceptions = KubernetesPluginException.class,
+            expectedExceptionsMessageRegExp = "invalid trace line 3: 3,abc.*")
+    public void testInvalidTraceRow() throws KubernetesPluginException {
+        HpaSimulator.parseTrace(Arrays.asList("second,rps", "0,10", "3,abc"));
+    }
+
+    @Test(expectedExceptions = KubernetesPluginException.class,
+            expectedExceptionsMessageRegExp = "invalid trace line 2: 5,-1.*")
+    public void testNegativeTraceRate() throws KubernetesPluginException {
+        HpaSimulator.parseTrace(Arrays.asList("0,10", "5,-1"));
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.tools;
+
+import io.ballerina.c2c.exceptions.KubernetesPluginException;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+
+/**
+ * Test resource recommendations derived from load steps.
+ */
+public class ResourceRecommenderTest {
+
+    private LoadStepResult step(int concurrency, double throughput, double p99, double cpu, long rssMi) {
+        LoadStepResult result = new LoadStepResult(concurrency);
+        result.setRequests(1000);
+        result.setThroughput(throughput);
+        result.setP99LatencyMillis(p99);
+        result.setAvgCpuCores(cpu);
+        result.setPeakCpuCores(cpu * 1.1);
+        result.setPeakRssBytes(rssMi * 1024 * 1024);
+        return result;
+    }
+
+    @Test
+    public void testRecommendation() throws KubernetesPluginException {
+        ResourceRecommender.Recommendation recommendation = ResourceRecommender.recommend(Arrays.asList(
+                step(1, 100, 20, 0.1, 120),
+                step(4, 380, 40, 0.4, 140),
+                step(16, 600, 900, 0.9, 200)), 500, 1500);
+        // 16 workers breaks the SLO, so concurrency 4 is the knee.
+        Assert.assertEquals(recommendation.getMinCpuMillis(), 400);
+        Assert.assertEquals(recommendation.getMaxCpuMillis(), 550);
+        Assert.assertEquals(recommendation.getMinMemoryMi(), 144);
+        Assert.assertEquals(recommendation.getMaxMemoryMi(), 256);
+        Assert.assertEquals(recommendation.getCpuTarget(), 50);
+        Assert.assertEquals(recommendation.getMaxReplicas(), 4);
+        Assert.assertTrue(recommendation.toToml().contains("min_cpu=\"400m\""));
+    }
+
+    @Test(expectedExceptions = KubernetesPluginException.class,
+            expectedExceptionsMessageRegExp = "no load step meets the p99 objective of 500.0 ms.*concurrency 1.*")
+    public void testNoStepMeetsSlo() throws KubernetesPluginException {
+        ResourceRecommender.recommend(Arrays.asList(step(1, 100, 700, 0.1, 120), step(4, 380, 900, 0.4, 140)),
+                500, 0);
+    }
+
+    @Test(expectedExceptions = KubernetesPluginException.class,
+            expectedExceptionsMessageRegExp = "--jmx-port must be an integer between 1 and 65535. Found jmx")
+    public void testInvalidJmxPort() throws KubernetesPluginException {
+        ResourceRecommender.parseArgs(new String[]{"--jar", "hello.jar", "--jmx-port", "jmx"});
+    }
+
+    @Test(expectedExceptions = KubernetesPluginException.class,
+            expectedExceptionsMessageRegExp = "--steps must be a comma separated list .* Found 1,two")
+    public void testInvalidSteps() throws KubernetesPluginException {
+        ResourceRecommender.parseArgs(new String[]{"--jar", "hello.jar", "--steps", "1,two"});
+    }
+
+    @Test(expectedExceptions = KubernetesPluginException.class,
+            expectedExceptionsMessageRegExp = "--slo-p99 must be greater than 0. Found 0")
+    public void testInvalidSlo() throws KubernetesPluginException {
+        ResourceRecommender.parseArgs(new String[]{"--jar", "hello.jar", "--slo-p99", "0"});
+    }
+
+    @Test(expectedExceptions = KubernetesPluginException.class,
+            expectedExceptionsMessageRegExp = "--peak-rps must be a non-negative number. Found lots")
+    public void testInvalidPeakRps() throws KubernetesPluginException {
+        ResourceRecommender.parseArgs(new String[]{"--jar", "hello.jar", "--peak-rps", "lots"});
+    }
+
+    @Test(expectedExceptions = KubernetesPluginException.class)
+    public void testMissingJar() throws KubernetesPluginException {
+        ResourceRecommender.parseArgs(new String[]{"--port", "9090"});
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.utils;
+
+import io.ballerina.c2c.exceptions.KubernetesPluginException;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.api.model.apps.DeploymentBuilder;
+import io.fabric8.kubernetes.client.server.mock.KubernetesServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.apache.commons.io.FileUtils;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.yaml.snakeyaml.Yaml;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test direct deploy of generated manifests against the mock Kubernetes API server.
+ */
+public class KubernetesDeployerTest {
+
+    private static final String CONFIG_MAP = "apiVersion: v1\n" +
+            "kind: ConfigMap\n" +
+            "metadata:\n" +
+            "  name: hello-config\n" +
+            "data:\n" +
+            "  greeting: hello\n";
+    private static final String DEPLOYMENT = "apiVersion: apps/v1\n" +
+            "kind: Deployment\n" +
+            "metadata:\n" +
+            "  name: hello-deployment\n" +
+            "spec:\n" +
+            "  replicas: 2\n";
+    private static final String HPA = "apiVersion: autoscaling/v1\n" +
+            "kind: HorizontalPodAutoscaler\n" +
+            "metadata:\n" +
+            "  name: hello-hpa\n" +
+            "spec:\n" +
+            "  maxReplicas: 4\n";
+    private static final String APPLY_QUERY = "?fieldManager=" + KubernetesDeployer.FIELD_MANAGER + "&force=true";
+    private static final String CONFIG_MAP_PATH = "/api/v1/namespaces/test/configmaps/hello-config";
+    private static final String DEPLOYMENT_PATH = "/apis/apps/v1/namespaces/test/deployments/hello-deployment";
+    private static final String HPA_PATH = "/apis/autoscaling/v1/namespaces/test/horizontalpodautoscalers/hello-hpa";
+
+    private KubernetesServer server;
+    private Path artifactDir;
+
+    @BeforeMethod
+    public void setUp() throws IOException {
+        server = new KubernetesServer(true, false);
+        server.before();
+        artifactDir = Files.createTempDirectory("c2c-deploy-");
+    }
+
+    @Test
+    public void testOrderedApply() throws IOException, KubernetesPluginException, InterruptedException {
+        Files.write(artifactDir.resolve("hello_world.yaml"), (HPA + "---\n" + DEPLOYMENT + "---\n" + CONFIG_MAP)
+                .getBytes(StandardCharsets.UTF_8));
+        server.expect().patch().withPath(CONFIG_MAP_PATH + APPLY_QUERY).andReturn(200, "{}").once();
+        server.expect().patch().withPath(DEPLOYMENT_PATH + APPLY_QUERY).andReturn(200, "{}").once();
+        server.expect().patch().withPath(HPA_PATH + APPLY_QUERY).andReturn(200, "{}").once();
+        server.expect().get().withPath(DEPLOYMENT_PATH).andReturn(404, "").once();
+        server.expect().get().withPath(DEPLOYMENT_PATH).andReturn(200, new DeploymentBuilder()
+                .withNewMetadata().withName("hello-deployment").withGeneration(1L).endMetadata()
+                .withNewSpec().withReplicas(2).endSpec()
+                .withNewStatus().withObservedGeneration(1L).withReplicas(2).withUpdatedReplicas(2)
+                .withAvailableReplicas(2).endStatus()
+                .build()).always();
+
+        KubernetesDeployer deployer = new KubernetesDeployer(server.getClient().getConfiguration(), "test", 10, 4);
+        deployer.deploy(artifactDir);
+        Assert.assertEquals(deployer.getApplied(), 3);
+        Assert.assertEquals(deployer.getUnchanged(), 0);
+
+        List<String> patches = new ArrayList<>();
+        RecordedRequest request;
+        while ((request = server.getMockServer().takeRequest(100, TimeUnit.MILLISECONDS)) != null) {
+            if ("PATCH".equals(request.getMethod())) {
+                Assert.assertEquals(request.getHeader("Content-Type"), "application/apply-patch+yaml");
+                patches.add(request.getPath());
+            }
+        }
+        Assert.assertEquals(patches.size(), 3);
+        Assert.assertEquals(patches.get(0), CONFIG_MAP_PATH + APPLY_QUERY);
+        Assert.assertEquals(patches.get(1), DEPLOYMENT_PATH + APPLY_QUERY);
+        Assert.assertEquals(patches.get(2), HPA_PATH + APPLY_QUERY);
+    }
+
+    @Test
+    public void testUnchangedObjectIsSkipped() throws IOException, KubernetesPluginException {
+        Files.write(artifactDir.resolve("hello_world.yaml"), CONFIG_MAP.getBytes(StandardCharsets.UTF_8));
+        KubernetesDeployer deployer = new KubernetesDeployer(server.getClient().getConfiguration(), "test", 10, 4);
+        @SuppressWarnings("unchecked")
+        Map<String, Object> configMap = (Map<String, Object>) new Yaml().load(CONFIG_MAP);
+        server.expect().get().withPath(CONFIG_MAP_PATH).andReturn(200, new ConfigMapBuilder()
+                .withNewMetadata().withName("hello-config")
+                .addToAnnotations(KubernetesDeployer.HASH_ANNOTATION, deployer.getHash(configMap)).endMetadata()
+                .addToData("greeting", "hello")
+                .build()).always();
+
+        deployer.deploy(artifactDir);
+        Assert.assertEquals(deployer.getApplied(), 0);
+        Assert.assertEquals(deployer.getUnchanged(), 1);
+    }
+
+    @Test(expectedExceptions = KubernetesPluginException.class,
+            expectedExceptionsMessageRegExp = "unable to apply ConfigMap 'hello-config': 422.*")
+    public void testRejectedObject() throws IOException, KubernetesPluginException {
+        Files.write(artifactDir.resolve("hello_world.yaml"), CONFIG_MAP.getBytes(StandardCharsets.UTF_8));
+        server.expect().patch().withPath(CONFIG_MAP_PATH + APPLY_QUERY).andReturn(422, "invalid").once();
+        new KubernetesDeployer(server.getClient().getConfiguration(), "test", 10, 4).deploy(artifactDir);
+    }
+
+    @Test
+    public void testPlural() {
+        Assert.assertEquals(KubernetesDeployer.getPlural("Deployment"), "deployments");
+        Assert.assertEquals(KubernetesDeployer.getPlural("Ingress"), "ingresses");
+        Assert.assertEquals(KubernetesDeployer.getPlural("NetworkPolicy"), "networkpolicies");
+        Assert.assertEquals(KubernetesDeployer.getPlural("ResourceQuota"), "resourcequotas");
+    }
+
+    @Test
+    public void testClusterScopedUrl() throws KubernetesPluginException {
+        KubernetesDeployer deployer = new KubernetesDeployer(server.getClient().getConfiguration(), "test", 10, 4);
+        String masterUrl = server.getClient().getConfiguration().getMasterUrl().replaceAll("/$", "");
+        @SuppressWarnings("unchecked")
+        Map<String, Object> namespace = (Map<String, Object>) new Yaml().load("apiVersion: v1\n" +
+                "kind: Namespace\n" +
+                "metadata:\n" +
+                "  name: hello\n");
+        Assert.assertEquals(deployer.getUrl(namespace), masterUrl + "/api/v1/namespaces/hello");
+        @SuppressWarnings("unchecked")
+        Map<String, Object> clusterRole = (Map<String, Object>) new Yaml().load(
+                "apiVersion: rbac.authorization.k8s.io/v1\n" +
+                "kind: ClusterRole\n" +
+                "metadata:\n" +
+                "  name: hello-reader\n");
+        Assert.assertEquals(deployer.getUrl(clusterRole), masterUrl +
+                "/apis/rbac.authorization.k8s.io/v1/clusterroles/hello-reader");
+        @SuppressWarnings("unchecked")
+        Map<String, Object> configMap = (Map<String, Object>) new Yaml().load(CONFIG_MAP);
+        Assert.assertEquals(deployer.getUrl(configMap), masterUrl + CONFIG_MAP_PATH);
+    }
+
+    @Test(expectedExceptions = KubernetesPluginException.class,
+            expectedExceptionsMessageRegExp = "parallelism in \\[cloud.deploy\\] must be at least 1.*")
+    public void testInvalidParallelism() throws KubernetesPluginException {
+        new KubernetesDeployer(server.getClient().getConfiguration(), "test", 10, 0);
+    }
+
+    @AfterMethod
+    public void tearDown() throws IOException {
+        server.after();
+        FileUtils.deleteDirectory(artifactDir.toFile());
+    }
+}
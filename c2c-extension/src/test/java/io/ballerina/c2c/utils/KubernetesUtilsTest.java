@@ -19,6 +19,7 @@
 package io.ballerina.c2c.utils;
 
 import io.ballerina.c2c.exceptions.KubernetesPluginException;
+import io.fabric8.kubernetes.api.model.Quantity;
 import org.apache.commons.io.FileUtils;
 import org.ballerinax.docker.generator.utils.DockerGenUtils;
 import org.testng.Assert;
@@ -131,6 +132,23 @@ public class KubernetesUtilsTest {
         FileUtils.deleteQuietly(destinationDir.toFile());
     }
 
+    @Test
+    public void quantityTest() {
+        Assert.assertEquals(KubernetesUtils.getCpuCores(new Quantity("500m")), 0.5);
+        Assert.assertEquals(KubernetesUtils.getCpuCores(new Quantity("2")), 2.0);
+        Assert.assertEquals(KubernetesUtils.getBytes(new Quantity("256Mi")), Math.pow(2, 28));
+        Assert.assertEquals(KubernetesUtils.getBytes(new Quantity("1Ei")), Math.pow(2, 60));
+        Assert.assertEquals(KubernetesUtils.getBytes(new Quantity("1E")), 1e18);
+        Assert.assertEquals(KubernetesUtils.getBytes(new Quantity("129e6")), 129e6);
+        Assert.assertEquals(KubernetesUtils.getBytes(new Quantity("1E3")), 1000.0);
+        Assert.assertEquals(KubernetesUtils.getBytes(new Quantity("1500m")), 1.5);
+    }
+
+    @Test(expectedExceptions = NumberFormatException.class, expectedExceptionsMessageRegExp = "invalid quantity.*")
+    public void invalidQuantityTest() {
+        KubernetesUtils.getBytes(new Quantity("1Xi"));
+    }
+
     @AfterClass
     public void cleanUp() {
         FileUtils.deleteQuietly(tempDirectory.toFile());
@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.c2c.utils;
+
+import io.ballerina.c2c.exceptions.KubernetesPluginException;
+import org.apache.commons.io.FileUtils;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Test validation of generated manifests against the bundled Kubernetes schemas.
+ */
+public class ManifestValidatorTest {
+
+    private static final String SERVICE = "apiVersion: v1\n" +
+            "kind: Service\n" +
+            "metadata:\n" +
+            "  name: hello-svc\n" +
+            "spec:\n" +
+            "  type: ClusterIP\n" +
+            "  ports:\n" +
+            "  - name: grpc-helloep\n" +
+            "    port: 9090\n" +
+            "    targetPort: 9090\n" +
+            "    appProtocol: grpc\n";
+    private static final String CRON_JOB = "apiVersion: batch/v1beta1\n" +
+            "kind: CronJob\n" +
+            "metadata:\n" +
+            "  name: hello-job\n" +
+            "spec:\n" +
+            "  schedule: '* * * * *'\n" +
+            "  jobTemplate:\n" +
+            "    spec:\n" +
+            "      template:\n" +
+            "        spec:\n" +
+            "          containers:\n" +
+            "          - name: hello-job\n" +
+            "            image: hello:latest\n";
+
+    private Path cacheDir;
+
+    @BeforeClass
+    public void setUp() throws IOException {
+        cacheDir = Files.createTempDirectory("c2c-schema-cache-");
+    }
+
+    @Test
+    public void testValidManifests() throws KubernetesPluginException {
+        String deployment = "apiVersion: apps/v1\n" +
+                "kind: Deployment\n" +
+                "metadata:\n" +
+                "  name: hello-deployment\n" +
+                "spec:\n" +
+                "  replicas: 2\n" +
+                "  selector:\n" +
+                "    matchLabels:\n" +
+                "      app: hello\n" +
+                "  strategy:\n" +
+                "    rollingUpdate:\n" +
+                "      maxSurge: 25%\n" +
+                "      maxUnavailable: 0\n" +
+                "  template:\n" +
+                "    spec:\n" +
+                "      containers:\n" +
+                "      - name: hello-deployment\n" +
+                "        image: hello:latest\n" +
+                "        resources:\n" +
+                "          limits:\n" +
+                "            cpu: 500m\n" +
+                "            memory: 256Mi\n";
+        String scaledObject = "apiVersion: keda.sh/v1alpha1\n" +
+                "kind: ScaledObject\n" +
+                "metadata:\n" +
+                "  name: hello-scaled-object\n" +
+                "spec:\n" +
+                "  anything: true\n";
+        ManifestValidator validator = new ManifestValidator("1.21", cacheDir);
+        List<String> errors = validator.validate(deployment + "---\n" + SERVICE + "---\n" + scaledObject, "hello.yaml");
+        Assert.assertTrue(errors.isEmpty(), errors.toString());
+    }
+
+    @Test
+    public void testSchemaCache() throws IOException, KubernetesPluginException {
+        Path schemaCacheDir = Files.createTempDirectory("c2c-schema-cache-");
+        try {
+            new ManifestValidator("1.21", schemaCacheDir);
+            Assert.assertEquals(FileUtils.listFiles(schemaCacheDir.toFile(), new String[]{"bin"}, false).size(), 1);
+            // A second validator reads the cached schema without writing another file.
+            Assert.assertTrue(new ManifestValidator("1.21", schemaCacheDir).validate(SERVICE, "hello.yaml")
+                    .isEmpty());
+            Assert.assertEquals(FileUtils.listFiles(schemaCacheDir.toFile(), null, false).size(), 1);
+        } finally {
+            KubernetesUtils.deleteDirectory(schemaCacheDir);
+        }
+    }
+
+    @Test
+    public void testInvalidFields() throws KubernetesPluginException {
+        String service = SERVICE.replace("ClusterIP", "Internal").replace("hello-svc", "Hello_svc")
+                + "  unknownField: 1\n";
+        ManifestValidator validator = new ManifestValidator("1.21", cacheDir);
+        List<String> errors = validator.validate(service, "hello.yaml");
+        Assert.assertEquals(errors.size(), 2, errors.toString());
+        Assert.assertTrue(errors.get(0).contains("metadata.name 'Hello_svc'"));
+        Assert.assertTrue(errors.get(1).contains("spec.type must be one of"));
+        // The bundled definitions are trimmed, so unknown fields are only warnings.
+        Assert.assertEquals(validator.getWarnings().size(), 1, validator.getWarnings().toString());
+        Assert.assertTrue(validator.getWarnings().get(0).contains("spec.unknownField is not a known field"));
+    }
+
+    @Test
+    public void testRejectedSchemaCache() throws IOException, KubernetesPluginException {
+        Path schemaCacheDir = Files.createTempDirectory("c2c-schema-cache-");
+        Path tamperedCacheDir = Files.createTempDirectory("c2c-schema-cache-");
+        try {
+            new ManifestValidator("1.21", schemaCacheDir);
+            Path cacheFile = FileUtils.listFiles(schemaCacheDir.toFile(), new String[]{"bin"}, false).iterator()
+                    .next().toPath();
+            Path tamperedFile = tamperedCacheDir.resolve(cacheFile.getFileName());
+            try (ObjectOutputStream outputStream = new ObjectOutputStream(Files.newOutputStream(tamperedFile))) {
+                outputStream.writeObject(new Date());
+            }
+            long tamperedSize = Files.size(tamperedFile);
+            // The filter rejects classes outside the schema, so the cache is rebuilt from the bundled json.
+            Assert.assertTrue(new ManifestValidator("1.21", tamperedCacheDir).validate(SERVICE, "hello.yaml")
+                    .isEmpty());
+            Assert.assertTrue(Files.size(tamperedFile) > tamperedSize);
+        } finally {
+            KubernetesUtils.deleteDirectory(schemaCacheDir);
+            KubernetesUtils.deleteDirectory(tamperedCacheDir);
+        }
+    }
+
+    @Test
+    public void testRecursiveReference() throws KubernetesPluginException {
+        String schema = "{\"definitions\": {\"io.k8s.Tree\": {\"type\": \"object\", \"properties\": {" +
+                "\"kind\": {\"type\": \"string\"}, \"apiVersion\": {\"type\": \"string\"}, " +
+                "\"name\": {\"type\": \"string\"}, \"child\": {\"$ref\": \"#/definitions/io.k8s.Tree\"}}, " +
+                "\"x-kubernetes-group-version-kind\": [{\"group\": \"\", \"kind\": \"Tree\", " +
+                "\"version\": \"v1\"}]}}}";
+        ManifestValidator validator = new ManifestValidator("1.21", schema);
+        List<String> errors = validator.validate("apiVersion: v1\nkind: Tree\nname: 1\nchild:\n  child:\n" +
+                "    name: leaf\n", "tree.yaml");
+        Assert.assertEquals(errors.size(), 1, errors.toString());
+        Assert.assertTrue(errors.get(0).contains("name must be a string"));
+    }
+
+    @Test
+    public void testTargetVersion() throws KubernetesPluginException {
+        List<String> errors = new ManifestValidator("1.17", cacheDir).validate(SERVICE, "hello.yaml");
+        Assert.assertEquals(errors.size(), 1, errors.toString());
+        Assert.assertTrue(errors.get(0).contains("spec.ports[0].appProtocol requires Kubernetes 1.18"));
+
+        Assert.assertTrue(new ManifestValidator("1.24", cacheDir).validate(CRON_JOB, "hello.yaml").isEmpty());
+        errors = new ManifestValidator("1.25", cacheDir).validate(CRON_JOB, "hello.yaml");
+        Assert.assertEquals(errors.size(), 1, errors.toString());
+        Assert.assertTrue(errors.get(0).contains("batch/v1beta1 CronJob is not served by Kubernetes 1.25"));
+    }
+
+    @Test(expectedExceptions = KubernetesPluginException.class,
+            expectedExceptionsMessageRegExp = ".*invalid kubernetes_version 'latest'.*")
+    public void testInvalidTargetVersion() throws KubernetesPluginException {
+        new ManifestValidator("latest", cacheDir);
+    }
+
+    @AfterClass
+    public void cleanUp() throws KubernetesPluginException {
+        KubernetesUtils.deleteDirectory(cacheDir);
+    }
+}